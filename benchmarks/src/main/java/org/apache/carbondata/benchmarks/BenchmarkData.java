@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.benchmarks;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.ColumnType;
+import org.apache.carbondata.core.datastore.TableSpec;
+import org.apache.carbondata.core.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
+import org.apache.carbondata.core.datastore.chunk.impl.FixedLengthDimensionColumnPage;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageDecoder;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageEncoder;
+import org.apache.carbondata.core.datastore.page.encoding.DefaultEncodingFactory;
+import org.apache.carbondata.core.datastore.page.encoding.EncodedColumnPage;
+import org.apache.carbondata.core.datastore.page.statistics.PrimitivePageStatsCollector;
+import org.apache.carbondata.core.keygenerator.KeyGenException;
+import org.apache.carbondata.core.keygenerator.KeyGenerator;
+import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.encoder.Encoding;
+import org.apache.carbondata.core.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.core.util.DataTypeUtil;
+import org.apache.carbondata.format.DataChunk2;
+
+/**
+ * Generates the synthetic data used by the benchmarks. All values are derived from a seeded
+ * random, so the same parameters give the same page in every run and on every machine.
+ */
+public final class BenchmarkData {
+
+  /**
+   * seed of all generated data
+   */
+  public static final long SEED = 20180501L;
+
+  /**
+   * offset added to the generated long values, so that they do not fit in a smaller type
+   * unless the cardinality is low
+   */
+  private static final long LONG_BASE = 1L << 40;
+
+  private BenchmarkData() {
+  }
+
+  /**
+   * @param name data type name as given in a benchmark parameter, e.g. INT or DECIMAL
+   */
+  public static DataType dataType(String name) {
+    return DataTypeUtil.valueOf(name);
+  }
+
+  /**
+   * Returns `rows` ordinals in range [0, cardinality), or -1 for a null row. Roughly
+   * `nullRatio` of the rows are null.
+   */
+  public static int[] ordinals(int rows, int cardinality, double nullRatio, long seed) {
+    Random random = new Random(seed);
+    int[] ordinals = new int[rows];
+    for (int i = 0; i < rows; i++) {
+      if (nullRatio > 0 && random.nextDouble() < nullRatio) {
+        ordinals[i] = -1;
+      } else {
+        ordinals[i] = random.nextInt(cardinality);
+      }
+    }
+    return ordinals;
+  }
+
+  /**
+   * Returns the value of the given ordinal for a measure of `dataType`, null for ordinal -1
+   */
+  public static Object value(DataType dataType, int ordinal) {
+    if (ordinal < 0) {
+      return null;
+    }
+    if (dataType == DataTypes.SHORT) {
+      return (short) ordinal;
+    } else if (dataType == DataTypes.INT) {
+      return ordinal;
+    } else if (dataType == DataTypes.LONG) {
+      return LONG_BASE + ordinal;
+    } else if (dataType == DataTypes.DOUBLE) {
+      return ordinal * 0.25;
+    } else if (DataTypes.isDecimal(dataType)) {
+      return BigDecimal.valueOf(ordinal, 2);
+    } else {
+      throw new IllegalArgumentException("unsupported data type: " + dataType);
+    }
+  }
+
+  /**
+   * Returns the values of all ordinals for a measure of `dataType`
+   */
+  public static Object[] values(DataType dataType, int[] ordinals) {
+    Object[] values = new Object[ordinals.length];
+    for (int i = 0; i < ordinals.length; i++) {
+      values[i] = value(dataType, ordinals[i]);
+    }
+    return values;
+  }
+
+  /**
+   * Creates a measure page filled with `values`, with statistics collected as in data load
+   */
+  public static ColumnPage newMeasurePage(DataType dataType, Object[] values)
+      throws MemoryException {
+    TableSpec.ColumnSpec spec =
+        TableSpec.ColumnSpec.newInstance("measure", dataType, ColumnType.MEASURE);
+    ColumnPage page = ColumnPage.newPage(spec, dataType, values.length);
+    page.setStatsCollector(PrimitivePageStatsCollector.newInstance(dataType));
+    for (int i = 0; i < values.length; i++) {
+      page.putData(i, values[i]);
+    }
+    return page;
+  }
+
+  /**
+   * Creates a measure page filled with `values` and passes it through encoding and decoding,
+   * so the returned page is the same kind of page the V3 measure reader gives to a query
+   */
+  public static ColumnPage newDecodedMeasurePage(DataType dataType, Object[] values)
+      throws IOException, MemoryException {
+    ColumnPage page = newMeasurePage(dataType, values);
+    try {
+      ColumnPageEncoder encoder =
+          DefaultEncodingFactory.getInstance().createEncoder(page.getColumnSpec(), page);
+      EncodedColumnPage encodedPage = encoder.encode(page);
+      DataChunk2 pageMetadata = encodedPage.getPageMetadata();
+      ColumnPageDecoder decoder = DefaultEncodingFactory.getInstance()
+          .createDecoder(pageMetadata.getEncoders(), pageMetadata.getEncoder_meta());
+      ByteBuffer encodedData = encodedPage.getEncodedData();
+      ColumnPage decodedPage = decoder.decode(encodedData, 0, encodedData.remaining());
+      decodedPage.setNullBits((BitSet) page.getNullBits().clone());
+      return decodedPage;
+    } finally {
+      page.freeMemory();
+    }
+  }
+
+  /**
+   * Returns `count` distinct ordinals in range [0, cardinality)
+   */
+  public static int[] distinctOrdinals(int count, int cardinality, long seed) {
+    count = Math.min(count, cardinality);
+    int[] all = new int[cardinality];
+    for (int i = 0; i < cardinality; i++) {
+      all[i] = i;
+    }
+    Random random = new Random(seed);
+    // partial Fisher-Yates shuffle of the first `count` slots
+    for (int i = 0; i < count; i++) {
+      int j = i + random.nextInt(cardinality - i);
+      int tmp = all[i];
+      all[i] = all[j];
+      all[j] = tmp;
+    }
+    int[] result = new int[count];
+    System.arraycopy(all, 0, result, 0, count);
+    return result;
+  }
+
+  /**
+   * Returns the dictionary surrogate key of an ordinal, the null member for ordinal -1
+   */
+  public static int surrogate(int ordinal) {
+    if (ordinal < 0) {
+      return CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY;
+    }
+    // surrogate 1 is the null member, so the values start from 2
+    return ordinal + 2;
+  }
+
+  /**
+   * Creates the properties of a segment with one dictionary dimension of the given cardinality
+   * followed by one measure of `measureType`
+   */
+  public static SegmentProperties segmentProperties(int cardinality, DataType measureType) {
+    List<ColumnSchema> columns = new ArrayList<>();
+    columns.add(dictionaryDimensionSchema("dim"));
+    columns.add(measureSchema("measure", measureType));
+    return new SegmentProperties(columns, new int[] { cardinality + 2 });
+  }
+
+  /**
+   * Creates the page of the first dictionary dimension of `segmentProperties` holding the
+   * surrogate keys of `ordinals`
+   */
+  public static DimensionColumnPage newDictionaryPage(SegmentProperties segmentProperties,
+      int[] ordinals) throws KeyGenException {
+    KeyGenerator keyGenerator = segmentProperties.getDimensionKeyGenerator();
+    int keySize = segmentProperties.getDimensionColumnsValueSize()[0];
+    byte[] data = new byte[ordinals.length * keySize];
+    int[] keys = new int[1];
+    for (int i = 0; i < ordinals.length; i++) {
+      keys[0] = surrogate(ordinals[i]);
+      System.arraycopy(keyGenerator.generateKey(keys), 0, data, i * keySize, keySize);
+    }
+    return new FixedLengthDimensionColumnPage(data, null, null, ordinals.length, keySize);
+  }
+
+  /**
+   * Creates the schema of a dictionary dimension
+   */
+  public static ColumnSchema dictionaryDimensionSchema(String name) {
+    ColumnSchema column = newColumnSchema(name, DataTypes.STRING);
+    column.setDimensionColumn(true);
+    List<Encoding> encodings = new ArrayList<>();
+    encodings.add(Encoding.DICTIONARY);
+    column.setEncodingList(encodings);
+    return column;
+  }
+
+  /**
+   * Creates the schema of a measure
+   */
+  public static ColumnSchema measureSchema(String name, DataType dataType) {
+    ColumnSchema column = newColumnSchema(name, dataType);
+    column.setDimensionColumn(false);
+    column.setEncodingList(new ArrayList<Encoding>());
+    if (DataTypes.isDecimal(dataType)) {
+      column.setPrecision(10);
+      column.setScale(2);
+    }
+    return column;
+  }
+
+  private static ColumnSchema newColumnSchema(String name, DataType dataType) {
+    ColumnSchema column = new ColumnSchema();
+    column.setColumnName(name);
+    column.setColumnUniqueId(UUID.nameUUIDFromBytes(
+        name.getBytes(CarbonCommonConstants.DEFAULT_CHARSET_CLASS)).toString());
+    column.setDataType(dataType);
+    column.setColumnar(true);
+    column.setNumberOfChild(0);
+    return column;
+  }
+}
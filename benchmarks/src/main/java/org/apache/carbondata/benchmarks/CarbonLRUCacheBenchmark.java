@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.core.cache.Cacheable;
+import org.apache.carbondata.core.cache.CarbonLRUCache;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of CarbonLRUCache with many concurrent query threads looking up entries, for
+ * different values of carbon.lru.cache.concurrency.level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(32)
+@Fork(1)
+public class CarbonLRUCacheBenchmark {
+
+  @Param({"1", "16", "64"})
+  public int concurrencyLevel;
+
+  @Param({"1000"})
+  public int entryCount;
+
+  /**
+   * size of one entry in bytes
+   */
+  @Param({"1024"})
+  public int entrySize;
+
+  /**
+   * percentage of operations which replace an entry instead of reading it
+   */
+  @Param({"0", "10"})
+  public int replacePercent;
+
+  private CarbonLRUCache cache;
+
+  private String[] keys;
+
+  private Cacheable[] values;
+
+  @Setup
+  public void setup() {
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL,
+            String.valueOf(concurrencyLevel));
+    // big enough for all entries, so nothing is evicted but the size is still accounted
+    long cacheSizeInMB = Math.max(1, 2L * entryCount * entrySize / (1024 * 1024));
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_MAX_DRIVER_LRU_CACHE_SIZE,
+            String.valueOf(cacheSizeInMB));
+    cache = new CarbonLRUCache(CarbonCommonConstants.CARBON_MAX_DRIVER_LRU_CACHE_SIZE,
+        CarbonCommonConstants.CARBON_MAX_LRU_CACHE_SIZE_DEFAULT);
+    keys = new String[entryCount];
+    values = new Cacheable[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      keys[i] = "default_table_" + i + "_segment_" + (i % 10);
+      values[i] = new Entry(entrySize);
+      cache.put(keys[i], values[i], entrySize);
+    }
+  }
+
+  /**
+   * Random generator of each benchmark thread
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private Random random;
+
+    @Setup
+    public void setup() {
+      random = new Random(BenchmarkData.SEED + Thread.currentThread().getId());
+    }
+  }
+
+  @Benchmark
+  public Cacheable access(ThreadState state) {
+    int index = state.random.nextInt(entryCount);
+    if (replacePercent > 0 && state.random.nextInt(100) < replacePercent) {
+      // as done when an entry is invalidated and loaded again
+      cache.remove(keys[index]);
+      cache.put(keys[index], values[index], entrySize);
+      return values[index];
+    }
+    return cache.get(keys[index]);
+  }
+
+  /**
+   * Cache entry of a fixed size
+   */
+  private static class Entry implements Cacheable {
+
+    private long memorySize;
+
+    Entry(long memorySize) {
+      this.memorySize = memorySize;
+    }
+
+    @Override
+    public long getFileTimeStamp() {
+      return 0;
+    }
+
+    @Override
+    public int getAccessCount() {
+      return 0;
+    }
+
+    @Override
+    public long getMemorySize() {
+      return memorySize;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageDecoder;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageEncoder;
+import org.apache.carbondata.core.datastore.page.encoding.DefaultEncodingFactory;
+import org.apache.carbondata.core.datastore.page.encoding.EncodedColumnPage;
+import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.format.DataChunk2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding and decoding of a measure ColumnPage with the codec chosen by
+ * DefaultEncodingFactory, as done by the data load and by the V3 readers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnPageEncodingBenchmark {
+
+  @Param({"INT", "LONG", "DOUBLE", "DECIMAL"})
+  public String dataType;
+
+  @Param({"10", "1000", "100000"})
+  public int cardinality;
+
+  @Param({"0", "0.1"})
+  public double nullRatio;
+
+  @Param({"32000"})
+  public int pageSize;
+
+  private ColumnPage page;
+
+  private ColumnPageEncoder encoder;
+
+  private ColumnPageDecoder decoder;
+
+  private ByteBuffer encodedData;
+
+  @Setup
+  public void setup() throws IOException, MemoryException {
+    DataType type = BenchmarkData.dataType(dataType);
+    int[] ordinals = BenchmarkData.ordinals(pageSize, cardinality, nullRatio, BenchmarkData.SEED);
+    page = BenchmarkData.newMeasurePage(type, BenchmarkData.values(type, ordinals));
+    encoder = DefaultEncodingFactory.getInstance().createEncoder(page.getColumnSpec(), page);
+    EncodedColumnPage encodedPage = encoder.encode(page);
+    DataChunk2 pageMetadata = encodedPage.getPageMetadata();
+    decoder = DefaultEncodingFactory.getInstance()
+        .createDecoder(pageMetadata.getEncoders(), pageMetadata.getEncoder_meta());
+    encodedData = encodedPage.getEncodedData();
+  }
+
+  @TearDown
+  public void tearDown() {
+    page.freeMemory();
+  }
+
+  @Benchmark
+  public EncodedColumnPage encode() throws IOException, MemoryException {
+    return encoder.encode(page);
+  }
+
+  @Benchmark
+  public int decode() throws IOException, MemoryException {
+    ColumnPage decodedPage = decoder.decode(encodedData, 0, encodedData.remaining());
+    int pageSize = decodedPage.getPageSize();
+    decodedPage.freeMemory();
+    return pageSize;
+  }
+}
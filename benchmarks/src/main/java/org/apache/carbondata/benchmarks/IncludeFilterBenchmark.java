@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.core.datastore.FileReader;
+import org.apache.carbondata.core.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
+import org.apache.carbondata.core.datastore.chunk.impl.DimensionRawColumnChunk;
+import org.apache.carbondata.core.datastore.chunk.impl.MeasureRawColumnChunk;
+import org.apache.carbondata.core.datastore.chunk.reader.DimensionColumnChunkReader;
+import org.apache.carbondata.core.datastore.chunk.reader.MeasureColumnChunkReader;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonDimension;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonMeasure;
+import org.apache.carbondata.core.scan.expression.exception.FilterUnsupportedException;
+import org.apache.carbondata.core.scan.filter.ColumnFilterInfo;
+import org.apache.carbondata.core.scan.filter.executer.FilterExecuter;
+import org.apache.carbondata.core.scan.filter.executer.IncludeFilterExecuterImpl;
+import org.apache.carbondata.core.scan.filter.resolver.resolverinfo.DimColumnResolvedFilterInfo;
+import org.apache.carbondata.core.scan.filter.resolver.resolverinfo.MeasureColumnResolvedFilterInfo;
+import org.apache.carbondata.core.scan.processor.RawBlockletColumnChunks;
+import org.apache.carbondata.core.util.BitSetGroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * IN filter on one column of a blocklet with IncludeFilterExecuterImpl.applyFilter. Data type
+ * STRING runs the filter on a dictionary dimension, any other type on a measure of that type.
+ * The pages are decoded during setup, so only the filter itself is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncludeFilterBenchmark {
+
+  @Param({"STRING", "INT", "LONG", "DOUBLE", "DECIMAL"})
+  public String dataType;
+
+  @Param({"100", "100000"})
+  public int cardinality;
+
+  @Param({"0", "0.1"})
+  public double nullRatio;
+
+  @Param({"32000"})
+  public int pageSize;
+
+  @Param({"1", "10", "500"})
+  public int filterValueCount;
+
+  /**
+   * number of pages in the blocklet
+   */
+  @Param({"4"})
+  public int pageCount;
+
+  private FilterExecuter filterExecuter;
+
+  private RawBlockletColumnChunks rawBlockletColumnChunks;
+
+  private ColumnPage[] measurePages;
+
+  @Setup
+  public void setup() throws Exception {
+    DataType type = BenchmarkData.dataType(dataType);
+    boolean isDimension = type == DataTypes.STRING;
+    DataType measureType = isDimension ? DataTypes.INT : type;
+    SegmentProperties segmentProperties =
+        BenchmarkData.segmentProperties(cardinality, measureType);
+    int[] filterOrdinals =
+        BenchmarkData.distinctOrdinals(filterValueCount, cardinality, BenchmarkData.SEED);
+    rawBlockletColumnChunks = RawBlockletColumnChunks.newInstance(1, 1, null, null);
+    int[] rowCount = new int[pageCount];
+    Arrays.fill(rowCount, pageSize);
+    if (isDimension) {
+      final DimensionColumnPage[] pages = new DimensionColumnPage[pageCount];
+      for (int i = 0; i < pageCount; i++) {
+        pages[i] = BenchmarkData.newDictionaryPage(segmentProperties,
+            BenchmarkData.ordinals(pageSize, cardinality, nullRatio, BenchmarkData.SEED + i));
+      }
+      DimensionRawColumnChunk rawColumnChunk =
+          new DimensionRawColumnChunk(0, null, 0, 0, new InMemoryDimensionReader(pages));
+      rawColumnChunk.setPagesCount(pageCount);
+      rawColumnChunk.setRowCount(rowCount);
+      rawColumnChunk.decodeAllColumnPages();
+      rawBlockletColumnChunks.getDimensionRawColumnChunks()[0] = rawColumnChunk;
+      filterExecuter = newDimensionFilter(segmentProperties, filterOrdinals);
+    } else {
+      measurePages = new ColumnPage[pageCount];
+      for (int i = 0; i < pageCount; i++) {
+        int[] ordinals =
+            BenchmarkData.ordinals(pageSize, cardinality, nullRatio, BenchmarkData.SEED + i);
+        measurePages[i] =
+            BenchmarkData.newDecodedMeasurePage(type, BenchmarkData.values(type, ordinals));
+      }
+      MeasureRawColumnChunk rawColumnChunk =
+          new MeasureRawColumnChunk(0, null, 0, 0, new InMemoryMeasureReader(measurePages));
+      rawColumnChunk.setPagesCount(pageCount);
+      rawColumnChunk.setRowCount(rowCount);
+      rawColumnChunk.decodeAllColumnPages();
+      rawBlockletColumnChunks.getMeasureRawColumnChunks()[0] = rawColumnChunk;
+      filterExecuter = newMeasureFilter(segmentProperties, type, filterOrdinals);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (measurePages != null) {
+      for (ColumnPage page : measurePages) {
+        page.freeMemory();
+      }
+    }
+  }
+
+  @Benchmark
+  public BitSetGroup applyFilter() throws FilterUnsupportedException, IOException {
+    return filterExecuter.applyFilter(rawBlockletColumnChunks, false);
+  }
+
+  private static FilterExecuter newDimensionFilter(SegmentProperties segmentProperties,
+      int[] filterOrdinals) {
+    CarbonDimension dimension = segmentProperties.getDimensions().get(0);
+    int[] surrogates = new int[filterOrdinals.length];
+    for (int i = 0; i < filterOrdinals.length; i++) {
+      surrogates[i] = BenchmarkData.surrogate(filterOrdinals[i]);
+    }
+    Arrays.sort(surrogates);
+    List<Integer> filterList = new ArrayList<>(surrogates.length);
+    for (int surrogate : surrogates) {
+      filterList.add(surrogate);
+    }
+    ColumnFilterInfo filterValues = new ColumnFilterInfo();
+    filterValues.setIncludeFilter(true);
+    filterValues.setFilterList(filterList);
+    DimColumnResolvedFilterInfo resolvedFilterInfo = new DimColumnResolvedFilterInfo();
+    resolvedFilterInfo.setDimension(dimension);
+    resolvedFilterInfo.setColumnIndex(dimension.getOrdinal());
+    resolvedFilterInfo.setFilterValues(filterValues);
+    return new IncludeFilterExecuterImpl(resolvedFilterInfo, null, segmentProperties, false);
+  }
+
+  private static FilterExecuter newMeasureFilter(SegmentProperties segmentProperties,
+      DataType dataType, int[] filterOrdinals) {
+    CarbonMeasure measure = segmentProperties.getMeasures().get(0);
+    List<Object> filterList = new ArrayList<>(filterOrdinals.length);
+    for (int ordinal : filterOrdinals) {
+      filterList.add(BenchmarkData.value(dataType, ordinal));
+    }
+    ColumnFilterInfo filterValues = new ColumnFilterInfo();
+    filterValues.setIncludeFilter(true);
+    filterValues.setMeasuresFilterValuesList(filterList);
+    MeasureColumnResolvedFilterInfo resolvedFilterInfo = new MeasureColumnResolvedFilterInfo();
+    resolvedFilterInfo.setMeasure(measure);
+    resolvedFilterInfo.setColumnIndex(measure.getOrdinal());
+    resolvedFilterInfo.setType(dataType);
+    resolvedFilterInfo.setFilterValues(filterValues);
+    return new IncludeFilterExecuterImpl(null, resolvedFilterInfo, segmentProperties, true);
+  }
+
+  /**
+   * Reader giving out pages which are already in memory
+   */
+  private static class InMemoryDimensionReader implements DimensionColumnChunkReader {
+
+    private DimensionColumnPage[] pages;
+
+    InMemoryDimensionReader(DimensionColumnPage[] pages) {
+      this.pages = pages;
+    }
+
+    @Override
+    public DimensionRawColumnChunk[] readRawDimensionChunks(FileReader fileReader,
+        int[][] columnIndexRange) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DimensionRawColumnChunk readRawDimensionChunk(FileReader fileReader,
+        int columnIndex) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DimensionColumnPage decodeColumnPage(DimensionRawColumnChunk dimensionRawColumnChunk,
+        int pageNumber) {
+      return pages[pageNumber];
+    }
+  }
+
+  /**
+   * Reader giving out pages which are already in memory
+   */
+  private static class InMemoryMeasureReader implements MeasureColumnChunkReader {
+
+    private ColumnPage[] pages;
+
+    InMemoryMeasureReader(ColumnPage[] pages) {
+      this.pages = pages;
+    }
+
+    @Override
+    public MeasureRawColumnChunk[] readRawMeasureChunks(FileReader fileReader,
+        int[][] columnIndexRange) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MeasureRawColumnChunk readRawMeasureChunk(FileReader fileReader, int columnIndex) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ColumnPage decodeColumnPage(MeasureRawColumnChunk measureRawColumnChunk,
+        int pageNumber) {
+      return pages[pageNumber];
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.memory.IntPointerBuffer;
+import org.apache.carbondata.core.memory.MemoryBlock;
+import org.apache.carbondata.core.memory.UnsafeMemoryManager;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.util.ThreadLocalTaskInfo;
+import org.apache.carbondata.processing.loading.sort.unsafe.UnsafeCarbonRowPage;
+import org.apache.carbondata.processing.loading.sort.unsafe.comparator.UnsafeRowComparator;
+import org.apache.carbondata.processing.loading.sort.unsafe.comparator.UnsafeRowComparatorForNormalDims;
+import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeCarbonRow;
+import org.apache.carbondata.processing.loading.sort.unsafe.sort.TimSort;
+import org.apache.carbondata.processing.loading.sort.unsafe.sort.UnsafeIntSortDataFormat;
+import org.apache.carbondata.processing.sort.sortdata.SortParameters;
+import org.apache.carbondata.processing.sort.sortdata.TableFieldStat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorting of one UnsafeCarbonRowPage as done by UnsafeSortDataRows before the page is spilled
+ * or kept for the in-memory merge. The rows have two dimensions and one measure, the first
+ * dimension is the sort column. Its type is set by `sortColumn`: DICTIONARY sorts on the
+ * surrogate key, NO_DICTIONARY on the byte array of a string.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UnsafeSortDataRowsBenchmark {
+
+  @Param({"DICTIONARY", "NO_DICTIONARY"})
+  public String sortColumn;
+
+  @Param({"LONG", "DOUBLE"})
+  public String dataType;
+
+  @Param({"100", "100000"})
+  public int cardinality;
+
+  @Param({"0", "0.1"})
+  public double nullRatio;
+
+  @Param({"100000", "1000000"})
+  public int pageSize;
+
+  /**
+   * upper bound of the size of one row in the page
+   */
+  private static final int MAX_ROW_SIZE = 64;
+
+  private UnsafeCarbonRowPage page;
+
+  private TimSort<UnsafeCarbonRow, IntPointerBuffer> timSort;
+
+  private Comparator<UnsafeCarbonRow> comparator;
+
+  /**
+   * row pointers in the order the rows were added
+   */
+  private int[] unsortedPointers;
+
+  /**
+   * sort key prefixes of the rows in {@link #unsortedPointers}
+   */
+  private long[] unsortedPrefixes;
+
+  @Setup
+  public void setup() throws Exception {
+    boolean isNoDictionarySort = "NO_DICTIONARY".equals(sortColumn);
+    DataType measureType = BenchmarkData.dataType(dataType);
+    SortParameters parameters = new SortParameters();
+    parameters.setDimColCount(2);
+    parameters.setNoDictionaryCount(1);
+    parameters.setComplexDimColCount(0);
+    parameters.setMeasureColCount(1);
+    parameters.setMeasureDataType(new DataType[] { measureType });
+    parameters.setNoDictionaryDimnesionColumn(new boolean[] { isNoDictionarySort,
+        !isNoDictionarySort });
+    parameters.setNumberOfSortColumns(1);
+    parameters.setNoDictionarySortColumn(new boolean[] { isNoDictionarySort });
+    parameters.setNumberOfNoDictSortColumns(isNoDictionarySort ? 1 : 0);
+
+    long taskId = ThreadLocalTaskInfo.getCarbonTaskInfo().getTaskId();
+    MemoryBlock memoryBlock =
+        UnsafeMemoryManager.allocateMemoryWithRetry(taskId, (long) pageSize * MAX_ROW_SIZE);
+    page = new UnsafeCarbonRowPage(new TableFieldStat(parameters), memoryBlock, false, taskId);
+    int[] sortOrdinals =
+        BenchmarkData.ordinals(pageSize, cardinality, nullRatio, BenchmarkData.SEED);
+    int[] otherOrdinals =
+        BenchmarkData.ordinals(pageSize, cardinality, nullRatio, BenchmarkData.SEED + 1);
+    ByteBuffer rowBuffer = ByteBuffer.allocate(MAX_ROW_SIZE * 2);
+    for (int i = 0; i < pageSize; i++) {
+      Object[] row = new Object[3];
+      if (isNoDictionarySort) {
+        row[0] = noDictionaryValue(sortOrdinals[i]);
+        row[1] = BenchmarkData.surrogate(otherOrdinals[i]);
+      } else {
+        row[0] = BenchmarkData.surrogate(sortOrdinals[i]);
+        row[1] = noDictionaryValue(otherOrdinals[i]);
+      }
+      row[2] = BenchmarkData.value(measureType, otherOrdinals[i]);
+      page.addRow(row, rowBuffer);
+    }
+    IntPointerBuffer buffer = page.getBuffer();
+    unsortedPointers = new int[buffer.getActualSize()];
+    unsortedPrefixes = new long[buffer.getActualSize()];
+    for (int i = 0; i < unsortedPointers.length; i++) {
+      unsortedPointers[i] = buffer.get(i);
+      unsortedPrefixes[i] = buffer.getPrefix(i);
+    }
+    timSort = new TimSort<>(new UnsafeIntSortDataFormat(page));
+    if (isNoDictionarySort) {
+      comparator = new UnsafeRowComparator(page);
+    } else {
+      comparator = new UnsafeRowComparatorForNormalDims(page);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void resetOrder() {
+    IntPointerBuffer buffer = page.getBuffer();
+    for (int i = 0; i < unsortedPointers.length; i++) {
+      buffer.set(i, unsortedPointers[i]);
+      buffer.setPrefix(i, unsortedPrefixes[i]);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    page.freeMemory();
+  }
+
+  @Benchmark
+  public IntPointerBuffer sort() {
+    IntPointerBuffer buffer = page.getBuffer();
+    timSort.sort(buffer, 0, buffer.getActualSize(), comparator);
+    return buffer;
+  }
+
+  /**
+   * Returns the no dictionary value of an ordinal. The values share a common prefix, as
+   * generated keys like ids or codes usually do.
+   */
+  private static byte[] noDictionaryValue(int ordinal) {
+    if (ordinal < 0) {
+      return CarbonCommonConstants.MEMBER_DEFAULT_VAL_ARRAY;
+    }
+    return ("customer_" + ordinal).getBytes(CarbonCommonConstants.DEFAULT_CHARSET_CLASS);
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.benchmarks;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.core.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.scan.collector.impl.DictionaryBasedVectorResultCollector;
+import org.apache.carbondata.core.scan.executor.infos.BlockExecutionInfo;
+import org.apache.carbondata.core.scan.executor.infos.DimensionInfo;
+import org.apache.carbondata.core.scan.executor.infos.KeyStructureInfo;
+import org.apache.carbondata.core.scan.executor.infos.MeasureInfo;
+import org.apache.carbondata.core.scan.filter.GenericQueryType;
+import org.apache.carbondata.core.scan.model.ProjectionDimension;
+import org.apache.carbondata.core.scan.model.ProjectionMeasure;
+import org.apache.carbondata.core.scan.result.BlockletScannedResult;
+import org.apache.carbondata.core.scan.result.impl.NonFilterQueryScannedResult;
+import org.apache.carbondata.core.scan.result.vector.CarbonColumnVector;
+import org.apache.carbondata.core.scan.result.vector.CarbonColumnarBatch;
+import org.apache.carbondata.core.scan.result.vector.impl.CarbonColumnVectorImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filling of columnar batches from a scanned blocklet with DictionaryBasedVectorResultCollector,
+ * for a projection of one dictionary dimension and one measure of `dataType`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorResultCollectorBenchmark {
+
+  @Param({"INT", "LONG", "DOUBLE", "DECIMAL"})
+  public String dataType;
+
+  @Param({"100", "100000"})
+  public int cardinality;
+
+  @Param({"0", "0.1"})
+  public double nullRatio;
+
+  @Param({"32000"})
+  public int pageSize;
+
+  /**
+   * number of pages in the blocklet
+   */
+  @Param({"4"})
+  public int pageCount;
+
+  /**
+   * number of rows of a columnar batch, as used by the vector reader
+   */
+  @Param({"4096"})
+  public int batchSize;
+
+  private BlockExecutionInfo executionInfo;
+
+  private DictionaryBasedVectorResultCollector collector;
+
+  private DimensionColumnPage[] dimensionPages;
+
+  private ColumnPage[] measurePages;
+
+  private CarbonColumnarBatch columnarBatch;
+
+  @Setup
+  public void setup() throws Exception {
+    DataType type = BenchmarkData.dataType(dataType);
+    SegmentProperties segmentProperties = BenchmarkData.segmentProperties(cardinality, type);
+    dimensionPages = new DimensionColumnPage[pageCount];
+    measurePages = new ColumnPage[pageCount];
+    for (int i = 0; i < pageCount; i++) {
+      int[] ordinals =
+          BenchmarkData.ordinals(pageSize, cardinality, nullRatio, BenchmarkData.SEED + i);
+      dimensionPages[i] = BenchmarkData.newDictionaryPage(segmentProperties, ordinals);
+      measurePages[i] =
+          BenchmarkData.newDecodedMeasurePage(type, BenchmarkData.values(type, ordinals));
+    }
+    executionInfo = newExecutionInfo(segmentProperties, type);
+    collector = new DictionaryBasedVectorResultCollector(executionInfo);
+    CarbonColumnVector[] vectors = new CarbonColumnVector[] {
+        new CarbonColumnVectorImpl(batchSize, DataTypes.INT),
+        new CarbonColumnVectorImpl(batchSize, type) };
+    columnarBatch = new CarbonColumnarBatch(vectors, batchSize, new boolean[batchSize]);
+  }
+
+  @TearDown
+  public void tearDown() {
+    for (ColumnPage page : measurePages) {
+      page.freeMemory();
+    }
+  }
+
+  /**
+   * Fills all rows of the blocklet into the columnar batch, one batch after another
+   */
+  @Benchmark
+  public int collectBlocklet() {
+    BlockletScannedResult scannedResult = new NonFilterQueryScannedResult(executionInfo);
+    scannedResult.setDimensionColumnPages(new DimensionColumnPage[][] { dimensionPages });
+    scannedResult.setMeasureColumnPages(new ColumnPage[][] { measurePages });
+    int[] rowCount = new int[pageCount];
+    Arrays.fill(rowCount, pageSize);
+    scannedResult.setPageFilteredRowCount(rowCount);
+    int rows = 0;
+    while (scannedResult.getCurrentPageCounter() < scannedResult.numberOfpages()) {
+      columnarBatch.reset();
+      collector.collectResultInColumnarBatch(scannedResult, columnarBatch);
+      rows += columnarBatch.getActualSize();
+    }
+    return rows;
+  }
+
+  private static BlockExecutionInfo newExecutionInfo(SegmentProperties segmentProperties,
+      DataType measureType) {
+    ProjectionDimension projectionDimension =
+        new ProjectionDimension(segmentProperties.getDimensions().get(0));
+    projectionDimension.setOrdinal(0);
+    ProjectionMeasure projectionMeasure =
+        new ProjectionMeasure(segmentProperties.getMeasures().get(0));
+    projectionMeasure.setOrdinal(1);
+
+    DimensionInfo dimensionInfo = new DimensionInfo(new boolean[] { true }, new Object[1]);
+    dimensionInfo.dataType = new DataType[] { DataTypes.STRING, measureType };
+    MeasureInfo measureInfo = new MeasureInfo();
+    measureInfo.setMeasureExists(new boolean[] { true });
+    measureInfo.setMeasureOrdinals(new int[] { 0 });
+    measureInfo.setMeasureDataTypes(new DataType[] { measureType });
+    measureInfo.setDefaultValues(new Object[1]);
+
+    BlockExecutionInfo executionInfo = new BlockExecutionInfo();
+    executionInfo.setProjectionDimensions(new ProjectionDimension[] { projectionDimension });
+    executionInfo.setProjectionMeasures(new ProjectionMeasure[] { projectionMeasure });
+    executionInfo.setDimensionInfo(dimensionInfo);
+    executionInfo.setMeasureInfo(measureInfo);
+    executionInfo.setFixedLengthKeySize(
+        segmentProperties.getDimensionKeyGenerator().getKeySizeInBytes());
+    executionInfo.setDictionaryColumnChunkIndex(new int[] { 0 });
+    executionInfo.setNoDictionaryColumnChunkIndexes(new int[0]);
+    // the dimension is not in a column group, so no key structure is needed
+    executionInfo.setColumnGroupToKeyStructureInfo(new HashMap<Integer, KeyStructureInfo>());
+    executionInfo.setComplexDimensionInfoMap(new HashMap<Integer, GenericQueryType>());
+    executionInfo.setComplexColumnParentBlockIndexes(new int[0]);
+    executionInfo.setVectorBatchCollector(true);
+    return executionInfo;
+  }
+}
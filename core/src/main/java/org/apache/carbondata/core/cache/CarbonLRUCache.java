@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
@@ -29,7 +30,11 @@ import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.util.CarbonProperties;
 
 /**
- * class which manages the lru cache
+ * class which manages the lru cache.
+ * Entries are kept in one or more access ordered segments, each guarded by its own lock, so
+ * that lookups of keys in different segments do not contend with each other. Size accounting
+ * is global across the segments, eviction takes the least recently used entries of one segment
+ * after another.
  */
 public final class CarbonLRUCache {
   /**
@@ -42,10 +47,10 @@ public final class CarbonLRUCache {
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(CarbonLRUCache.class.getName());
   /**
-   * Map that will contain key as table unique name and value as cache Holder
-   * object
+   * Segments of the cache, each segment is a map that will contain key as table unique name and
+   * value as cache Holder object
    */
-  private Map<String, Cacheable> lruCacheMap;
+  private Map<String, Cacheable>[] lruCacheSegments;
   /**
    * lruCacheSize
    */
@@ -53,7 +58,15 @@ public final class CarbonLRUCache {
   /**
    * totalSize size of the cache
    */
-  private long currentSize;
+  private AtomicLong currentSize = new AtomicLong();
+  /**
+   * lock to make the size check and eviction for adding an entry atomic
+   */
+  private final Object evictionLock = new Object();
+  /**
+   * segment to start the next eviction from, guarded by evictionLock
+   */
+  private int nextEvictionSegment;
 
   /**
    * @param propertyName        property name to take the size configured
@@ -80,50 +93,100 @@ public final class CarbonLRUCache {
   /**
    * initialize lru cache
    */
+  @SuppressWarnings("unchecked")
   private void initCache() {
-    lruCacheMap =
-        new LinkedHashMap<String, Cacheable>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE, 1.0f,
-            true);
+    int concurrencyLevel = getConcurrencyLevel();
+    lruCacheSegments = new Map[concurrencyLevel];
+    int segmentSize = Math.max(1, CarbonCommonConstants.DEFAULT_COLLECTION_SIZE / concurrencyLevel);
+    for (int i = 0; i < concurrencyLevel; i++) {
+      lruCacheSegments[i] = new LinkedHashMap<String, Cacheable>(segmentSize, 1.0f, true);
+    }
+  }
+
+  private int getConcurrencyLevel() {
+    int concurrencyLevel;
+    try {
+      concurrencyLevel = Integer.parseInt(CarbonProperties.getInstance()
+          .getProperty(CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL,
+              CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL_DEFAULT));
+    } catch (NumberFormatException e) {
+      concurrencyLevel = -1;
+    }
+    if (concurrencyLevel <= 0
+        || concurrencyLevel > CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL_MAX) {
+      LOGGER.warn("The value of '" + CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL
+          + "' is invalid. Using the default value "
+          + CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL_DEFAULT);
+      concurrencyLevel =
+          Integer.parseInt(CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL_DEFAULT);
+    }
+    return concurrencyLevel;
+  }
+
+  /**
+   * This method will return the segment which holds the given key
+   */
+  private Map<String, Cacheable> getSegment(String key) {
+    if (lruCacheSegments.length == 1) {
+      return lruCacheSegments[0];
+    }
+    int hash = key.hashCode();
+    // spread the higher bits as the keys are mostly paths with common prefix
+    hash ^= (hash >>> 16);
+    return lruCacheSegments[(hash & Integer.MAX_VALUE) % lruCacheSegments.length];
   }
 
   /**
    * This method will give the list of all the keys that can be deleted from
-   * the level LRU cache
+   * the level LRU cache. The segments are visited in turn, starting after the segment which
+   * was evicted from last, and each segment is walked in least recently used order only as far
+   * as needed, so the entries are neither copied nor sorted. The order is least recently used
+   * within a segment and approximate across the segments.
    */
   private List<String> getKeysToBeRemoved(long size) {
     List<String> toBeDeletedKeys =
         new ArrayList<String>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
     long removedSize = 0;
-    for (Entry<String, Cacheable> entry : lruCacheMap.entrySet()) {
-      String key = entry.getKey();
-      Cacheable cacheInfo = entry.getValue();
-      long memorySize = cacheInfo.getMemorySize();
-      if (canBeRemoved(cacheInfo)) {
-        removedSize = removedSize + memorySize;
-        toBeDeletedKeys.add(key);
-        // check if after removing the current file size, required
-        // size when added to current size is sufficient to load a
-        // level or not
-        if (lruCacheMemorySize >= (currentSize - memorySize + size)) {
-          toBeDeletedKeys.clear();
-          toBeDeletedKeys.add(key);
-          removedSize = memorySize;
-          break;
-        }
-        // check if after removing the added size/removed size,
-        // required size when added to current size is sufficient to
-        // load a level or not
-        else if (lruCacheMemorySize >= (currentSize - removedSize + size)) {
-          break;
+    long currentSize = this.currentSize.get();
+    int numberOfSegments = lruCacheSegments.length;
+    for (int i = 0; i < numberOfSegments; i++) {
+      int segmentIndex = (nextEvictionSegment + i) % numberOfSegments;
+      Map<String, Cacheable> segment = lruCacheSegments[segmentIndex];
+      synchronized (segment) {
+        for (Entry<String, Cacheable> entry : segment.entrySet()) {
+          String key = entry.getKey();
+          Cacheable cacheInfo = entry.getValue();
+          long memorySize = cacheInfo.getMemorySize();
+          if (canBeRemoved(cacheInfo)) {
+            removedSize = removedSize + memorySize;
+            toBeDeletedKeys.add(key);
+            // check if after removing the current file size, required
+            // size when added to current size is sufficient to load a
+            // level or not
+            if (lruCacheMemorySize >= (currentSize - memorySize + size)) {
+              toBeDeletedKeys.clear();
+              toBeDeletedKeys.add(key);
+              removedSize = memorySize;
+              break;
+            }
+            // check if after removing the added size/removed size,
+            // required size when added to current size is sufficient to
+            // load a level or not
+            else if (lruCacheMemorySize >= (currentSize - removedSize + size)) {
+              break;
+            }
+          }
         }
       }
+      if (lruCacheMemorySize >= (currentSize - removedSize + size)) {
+        nextEvictionSegment = (segmentIndex + 1) % numberOfSegments;
+        return toBeDeletedKeys;
+      }
     }
     // this case will come when iteration is complete over the keys but
     // still size is not sufficient for level file to be loaded, then we
     // will not delete any of the keys
-    if ((currentSize - removedSize + size) > lruCacheMemorySize) {
-      toBeDeletedKeys.clear();
-    }
+    toBeDeletedKeys.clear();
     return toBeDeletedKeys;
   }
 
@@ -142,23 +205,22 @@ public final class CarbonLRUCache {
    * @param key
    */
   public void remove(String key) {
-    synchronized (lruCacheMap) {
-      removeKey(key);
+    Map<String, Cacheable> segment = getSegment(key);
+    synchronized (segment) {
+      removeKey(segment, key);
     }
   }
 
   /**
-   * This method will remove the key from lru cache
+   * This method will remove the key from lru cache, caller should hold the lock of the segment
    *
+   * @param segment
    * @param key
    */
-  private void removeKey(String key) {
-    Cacheable cacheable = lruCacheMap.get(key);
-    if (null != cacheable) {
-      currentSize = currentSize - cacheable.getMemorySize();
-    }
-    Cacheable remove = lruCacheMap.remove(key);
+  private void removeKey(Map<String, Cacheable> segment, String key) {
+    Cacheable remove = segment.remove(key);
     if (null != remove) {
+      currentSize.addAndGet(-remove.getMemorySize());
       LOGGER.info("Removed entry from InMemory lru cache :: " + key);
     }
   }
@@ -173,26 +235,24 @@ public final class CarbonLRUCache {
   public boolean put(String columnIdentifier, Cacheable cacheInfo, long requiredSize) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Required size for entry " + columnIdentifier + " :: " + requiredSize
-          + " Current cache size :: " + currentSize);
+          + " Current cache size :: " + currentSize.get());
     }
     boolean columnKeyAddedSuccessfully = false;
     if (isLRUCacheSizeConfigured()) {
-      synchronized (lruCacheMap) {
+      synchronized (evictionLock) {
         if (freeMemorySizeForAddingCache(requiredSize)) {
-          currentSize = currentSize + requiredSize;
+          currentSize.addAndGet(requiredSize);
           addEntryToLRUCacheMap(columnIdentifier, cacheInfo);
           columnKeyAddedSuccessfully = true;
         } else {
           LOGGER.error(
               "Size not available. Entry cannot be added to lru cache :: " + columnIdentifier
                   + " .Required Size = " + requiredSize + " Size available " + (lruCacheMemorySize
-                  - currentSize));
+                  - currentSize.get()));
         }
       }
     } else {
-      synchronized (lruCacheMap) {
-        addEntryToLRUCacheMap(columnIdentifier, cacheInfo);
-      }
+      addEntryToLRUCacheMap(columnIdentifier, cacheInfo);
       columnKeyAddedSuccessfully = true;
     }
     return columnKeyAddedSuccessfully;
@@ -207,18 +267,18 @@ public final class CarbonLRUCache {
   public boolean tryPut(String columnIdentifier, long requiredSize) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("checking Required size for entry " + columnIdentifier + " :: " + requiredSize
-          + " Current cache size :: " + currentSize);
+          + " Current cache size :: " + currentSize.get());
     }
     boolean columnKeyCanBeAdded = false;
     if (isLRUCacheSizeConfigured()) {
-      synchronized (lruCacheMap) {
+      synchronized (evictionLock) {
         if (freeMemorySizeForAddingCache(requiredSize)) {
           columnKeyCanBeAdded = true;
         } else {
           LOGGER.error(
               "Size check failed.Size not available. Entry cannot be added to lru cache :: "
                   + columnIdentifier + " .Required Size = " + requiredSize + " Size available " + (
-                  lruCacheMemorySize - currentSize));
+                  lruCacheMemorySize - currentSize.get()));
         }
       }
     } else {
@@ -234,8 +294,11 @@ public final class CarbonLRUCache {
    * @param cacheInfo
    */
   private void addEntryToLRUCacheMap(String columnIdentifier, Cacheable cacheInfo) {
-    if (null == lruCacheMap.get(columnIdentifier)) {
-      lruCacheMap.put(columnIdentifier, cacheInfo);
+    Map<String, Cacheable> segment = getSegment(columnIdentifier);
+    synchronized (segment) {
+      if (null == segment.get(columnIdentifier)) {
+        segment.put(columnIdentifier, cacheInfo);
+      }
     }
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Added entry to InMemory lru cache :: " + columnIdentifier);
@@ -266,7 +329,7 @@ public final class CarbonLRUCache {
       // get the keys that can be removed from memory
       List<String> keysToBeRemoved = getKeysToBeRemoved(requiredSize);
       for (String cacheKey : keysToBeRemoved) {
-        removeKey(cacheKey);
+        remove(cacheKey);
       }
       // after removing the keys check again if required size is available
       if (isSizeAvailableToLoadColumnDictionary(requiredSize)) {
@@ -283,7 +346,7 @@ public final class CarbonLRUCache {
    * @return
    */
   private boolean isSizeAvailableToLoadColumnDictionary(long requiredSize) {
-    return lruCacheMemorySize >= (currentSize + requiredSize);
+    return lruCacheMemorySize >= (currentSize.get() + requiredSize);
   }
 
   /**
@@ -291,8 +354,9 @@ public final class CarbonLRUCache {
    * @return
    */
   public Cacheable get(String key) {
-    synchronized (lruCacheMap) {
-      return lruCacheMap.get(key);
+    Map<String, Cacheable> segment = getSegment(key);
+    synchronized (segment) {
+      return segment.get(key);
     }
   }
 
@@ -300,8 +364,10 @@ public final class CarbonLRUCache {
    * This method will empty the level cache
    */
   public void clear() {
-    synchronized (lruCacheMap) {
-      lruCacheMap.clear();
+    for (Map<String, Cacheable> segment : lruCacheSegments) {
+      synchronized (segment) {
+        segment.clear();
+      }
     }
   }
 }
@@ -599,7 +599,8 @@ public final class CarbonCommonConstants {
       "carbon.lock.retry.timeout.sec";
 
   /**
-   * compressor for writing/reading carbondata file
+   * compressor for writing carbondata file, supported values are snappy, zstd and lz4.
+   * Readers use the compressor recorded in the file, so it can be changed between loads
    */
   @CarbonProperty
   public static final String COMPRESSOR = "carbon.column.compressor";
@@ -681,6 +682,22 @@ public final class CarbonCommonConstants {
    * max lru cache size default value in MB
    */
   public static final String CARBON_MAX_LRU_CACHE_SIZE_DEFAULT = "-1";
+  /**
+   * number of independently locked segments of the lru cache. Entries are distributed to the
+   * segments by key hash, so concurrent lookups of different keys do not contend on one lock.
+   * LRU order is exact inside a segment and approximate across segments.
+   */
+  @CarbonProperty
+  public static final String CARBON_LRU_CACHE_CONCURRENCY_LEVEL =
+      "carbon.lru.cache.concurrency.level";
+  /**
+   * default lru cache concurrency level, one segment keeps the exact LRU behaviour
+   */
+  public static final String CARBON_LRU_CACHE_CONCURRENCY_LEVEL_DEFAULT = "1";
+  /**
+   * max lru cache concurrency level
+   */
+  public static final int CARBON_LRU_CACHE_CONCURRENCY_LEVEL_MAX = 256;
 
   /**
    * CARBON_PREFETCH_BUFFERSIZE
@@ -887,6 +904,8 @@ public final class CarbonCommonConstants {
   public static final String COLUMN_PROPERTIES = "columnproperties";
   // table block size in MB
   public static final String TABLE_BLOCKSIZE = "table_blocksize";
+  // table property name of the compressor for column pages, overrides carbon.column.compressor
+  public static final String TABLE_COLUMN_COMPRESSOR = "column_compressor";
   // set in column level to disable inverted index
   public static final String NO_INVERTED_INDEX = "no_inverted_index";
   // table property name of major compaction size
@@ -1645,6 +1664,37 @@ public final class CarbonCommonConstants {
 
   public static final String CARBON_SEARCH_MODE_SCAN_THREAD_DEFAULT = "-1";
 
+  /**
+   * Number of threads in the process wide pools used to scan and prefetch the blocklets of all
+   * the queries running in an executor. Default value -1 means twice the number of available
+   * processors.
+   */
+  @CarbonProperty
+  public static final String CARBON_QUERY_SCAN_THREADS = "carbon.query.scan.threads";
+
+  public static final String CARBON_QUERY_SCAN_THREADS_DEFAULT = "-1";
+
+  /**
+   * Max number of scan tasks one query can run in parallel in the shared scan pools, remaining
+   * tasks of the query wait till its running tasks finish. Default value -1 means half of
+   * carbon.query.scan.threads.
+   */
+  @CarbonProperty
+  public static final String CARBON_QUERY_SCAN_TASKS_PER_QUERY =
+      "carbon.query.scan.tasks.per.query";
+
+  public static final String CARBON_QUERY_SCAN_TASKS_PER_QUERY_DEFAULT = "-1";
+
+  /**
+   * idle time after which the threads of the shared scan pools are released
+   */
+  public static final long CARBON_QUERY_SCAN_THREAD_KEEP_ALIVE_SECONDS = 60L;
+
+  /**
+   * time to wait for the running scan tasks when the shared scan pools are shutdown
+   */
+  public static final long CARBON_QUERY_SCAN_SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
   /*
    * whether to enable prefetch for rowbatch to enhance row reconstruction during compaction
    */
@@ -1666,6 +1716,164 @@ public final class CarbonCommonConstants {
    */
   public static final String CARBON_LUCENE_COMPRESSION_MODE_DEFAULT = "speed";
 
+  /**
+   * number of threads used in driver to prune the segments of a table in parallel. Each segment
+   * is pruned as an independent task. Default value is 1, which means segments are pruned
+   * sequentially in the query thread.
+   */
+  @CarbonProperty
+  public static final String CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING =
+      "carbon.max.driver.threads.for.segment.pruning";
+
+  public static final String CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING_DEFAULT = "1";
+
+  /**
+   * max value for the number of driver threads used to prune the segments
+   */
+  public static final int CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING_MAX = 128;
+
+  /**
+   * whether local carbondata files are read through memory mapped buffers instead of
+   * positional reads into heap buffers
+   */
+  @CarbonProperty
+  public static final String CARBON_LOCAL_FILE_READER_MMAP_ENABLE =
+      "carbon.local.file.reader.mmap.enable";
+
+  public static final String CARBON_LOCAL_FILE_READER_MMAP_ENABLE_DEFAULT = "false";
+
+  /**
+   * size of each region of a file mapped by the memory mapped reader. A read which does not fit
+   * in an existing region maps a new region starting at the read offset.
+   */
+  @CarbonProperty
+  public static final String CARBON_MMAP_WINDOW_SIZE_IN_MB = "carbon.mmap.window.size.in.mb";
+
+  public static final String CARBON_MMAP_WINDOW_SIZE_IN_MB_DEFAULT = "64";
+
+  public static final int CARBON_MMAP_WINDOW_SIZE_IN_MB_MIN = 1;
+
+  public static final int CARBON_MMAP_WINDOW_SIZE_IN_MB_MAX = 1024;
+
+  /**
+   * column chunks of a blocklet which are not more than this many KB apart in the file are read
+   * together in one read, the bytes between them are read and skipped
+   */
+  @CarbonProperty
+  public static final String CARBON_COLUMN_READ_MAX_GAP_IN_KB =
+      "carbon.column.read.max.gap.in.kb";
+
+  public static final String CARBON_COLUMN_READ_MAX_GAP_IN_KB_DEFAULT = "256";
+
+  /**
+   * max size of one read when column chunks of a blocklet are read together
+   */
+  @CarbonProperty
+  public static final String CARBON_COLUMN_READ_MAX_SIZE_IN_MB =
+      "carbon.column.read.max.size.in.mb";
+
+  public static final String CARBON_COLUMN_READ_MAX_SIZE_IN_MB_DEFAULT = "32";
+
+  public static final int CARBON_COLUMN_READ_MAX_SIZE_IN_MB_MAX = 1024;
+
+  /**
+   * number of blocklets a query reads ahead of the blocklet it is scanning
+   */
+  @CarbonProperty
+  public static final String CARBON_QUERY_PREFETCH_BLOCKLET_COUNT =
+      "carbon.query.prefetch.blocklet.count";
+
+  public static final String CARBON_QUERY_PREFETCH_BLOCKLET_COUNT_DEFAULT = "1";
+
+  public static final int CARBON_QUERY_PREFETCH_BLOCKLET_COUNT_MAX = 16;
+
+  /**
+   * max size of the blocklets a query has read ahead and not yet scanned, it is further limited
+   * by the free unsafe working memory
+   */
+  @CarbonProperty
+  public static final String CARBON_QUERY_PREFETCH_MAX_SIZE_IN_MB =
+      "carbon.query.prefetch.max.size.in.mb";
+
+  public static final String CARBON_QUERY_PREFETCH_MAX_SIZE_IN_MB_DEFAULT = "128";
+
+  /**
+   * number of key ranges the final merge of the unsafe local sort is split into, every range
+   * is merged and written in parallel
+   */
+  @CarbonProperty
+  public static final String CARBON_LOAD_SORT_FINAL_MERGE_PARALLELISM =
+      "carbon.load.sort.final.merge.parallelism";
+
+  public static final String CARBON_LOAD_SORT_FINAL_MERGE_PARALLELISM_DEFAULT = "1";
+
+  public static final int CARBON_LOAD_SORT_FINAL_MERGE_PARALLELISM_MAX = 32;
+
+  /**
+   * max size of the encoded pages of a data load task which wait to be written to the
+   * carbondata file, it is further limited by the free unsafe working memory
+   */
+  @CarbonProperty
+  public static final String CARBON_LOAD_PAGE_QUEUE_MAX_SIZE_IN_MB =
+      "carbon.load.page.queue.max.size.in.mb";
+
+  public static final String CARBON_LOAD_PAGE_QUEUE_MAX_SIZE_IN_MB_DEFAULT = "64";
+
+  /**
+   * min number of columns of a table from which the columns of a page are encoded in parallel
+   * during data load, 0 disables the parallel encoding
+   */
+  @CarbonProperty
+  public static final String CARBON_LOAD_PAGE_ENCODE_PARALLEL_MIN_COLUMNS =
+      "carbon.load.page.encode.parallel.min.columns";
+
+  public static final String CARBON_LOAD_PAGE_ENCODE_PARALLEL_MIN_COLUMNS_DEFAULT = "64";
+
+  /**
+   * max number of distinct values of a no dictionary string column page up to which the page
+   * is encoded with a page local dictionary, 0 disables the page local dictionary
+   */
+  @CarbonProperty
+  public static final String CARBON_LOAD_PAGE_LOCAL_DICTIONARY_THRESHOLD =
+      "carbon.load.page.local.dictionary.threshold";
+
+  public static final String CARBON_LOAD_PAGE_LOCAL_DICTIONARY_THRESHOLD_DEFAULT = "0";
+
+  /**
+   * max value of carbon.load.page.local.dictionary.threshold
+   */
+  public static final int CARBON_LOAD_PAGE_LOCAL_DICTIONARY_THRESHOLD_MAX = 65536;
+
+  /**
+   * whether to cache the parsed table status files in the process, a cached file is used only
+   * if its last modified time and size are not changed. Off by default as every read still
+   * copies the cached details
+   */
+  @CarbonProperty
+  public static final String CARBON_ENABLE_TABLE_STATUS_CACHE =
+      "carbon.enable.tablestatus.cache";
+
+  public static final String CARBON_ENABLE_TABLE_STATUS_CACHE_DEFAULT = "false";
+
+  /**
+   * whether a table status write only appends the changed segments to the table status log,
+   * instead of writing all the segments to the table status file
+   */
+  @CarbonProperty
+  public static final String CARBON_ENABLE_TABLE_STATUS_LOG = "carbon.enable.tablestatus.log";
+
+  public static final String CARBON_ENABLE_TABLE_STATUS_LOG_DEFAULT = "false";
+
+  /**
+   * number of entries in the table status log after which the table status file is written
+   * again as a checkpoint with all the segments
+   */
+  @CarbonProperty
+  public static final String CARBON_TABLE_STATUS_LOG_CHECKPOINT_INTERVAL =
+      "carbon.tablestatus.log.checkpoint.interval";
+
+  public static final String CARBON_TABLE_STATUS_LOG_CHECKPOINT_INTERVAL_DEFAULT = "100";
+
   private CarbonCommonConstants() {
   }
 }
@@ -140,6 +140,25 @@ public final class CarbonLoadOptionConstants {
       = "carbon.load.directWriteHdfs.enabled";
   public static final String ENABLE_CARBON_LOAD_DIRECT_WRITE_HDFS_DEFAULT = "false";
 
+  /**
+   * whether to write the fact data files to the store while they are written, in parts of
+   * `carbon.load.pipelinedWriteStore.partSizeInMB`, instead of writing them to the local temp
+   * location and copying them to the store afterwards. It is ignored if the fact data is
+   * directly written to HDFS.
+   */
+  @CarbonProperty
+  public static final String ENABLE_CARBON_LOAD_PIPELINED_WRITE_STORE
+      = "carbon.load.pipelinedWriteStore.enabled";
+  public static final String ENABLE_CARBON_LOAD_PIPELINED_WRITE_STORE_DEFAULT = "false";
+
+  /**
+   * size of the parts in which the fact data files are written to the store
+   */
+  @CarbonProperty
+  public static final String CARBON_LOAD_PIPELINED_WRITE_STORE_PART_SIZE_IN_MB
+      = "carbon.load.pipelinedWriteStore.partSizeInMB";
+  public static final String CARBON_LOAD_PIPELINED_WRITE_STORE_PART_SIZE_IN_MB_DEFAULT = "8";
+
   /**
    * If the sort memory is insufficient, spill inmemory pages to disk.
    * The total amount of pages is at most the specified percentage of total sort memory. Default
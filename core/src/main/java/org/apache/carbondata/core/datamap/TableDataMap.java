@@ -19,6 +19,11 @@ package org.apache.carbondata.core.datamap;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.carbondata.common.annotations.InterfaceAudience;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
@@ -33,10 +38,16 @@ import org.apache.carbondata.core.indexstore.BlockletDetailsFetcher;
 import org.apache.carbondata.core.indexstore.ExtendedBlocklet;
 import org.apache.carbondata.core.indexstore.PartitionSpec;
 import org.apache.carbondata.core.indexstore.SegmentPropertiesFetcher;
+import org.apache.carbondata.core.indexstore.blockletindex.BlockletDataMapFactory;
 import org.apache.carbondata.core.metadata.AbsoluteTableIdentifier;
 import org.apache.carbondata.core.metadata.schema.table.DataMapSchema;
 import org.apache.carbondata.core.readcommitter.ReadCommittedScope;
 import org.apache.carbondata.core.scan.filter.resolver.FilterResolverIntf;
+import org.apache.carbondata.core.stats.QueryStatistic;
+import org.apache.carbondata.core.stats.QueryStatisticsConstants;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.core.util.CarbonThreadFactory;
+import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory;
 import org.apache.carbondata.events.Event;
 import org.apache.carbondata.events.OperationContext;
 import org.apache.carbondata.events.OperationEventListener;
@@ -62,6 +73,16 @@ public final class TableDataMap extends OperationEventListener {
 
   private SegmentPropertiesFetcher segmentPropertiesFetcher;
 
+  /**
+   * Pool shared by all the tables to prune the segments in parallel. It is created on first
+   * use with carbon.max.driver.threads.for.segment.pruning threads.
+   */
+  private static final class PruningPoolHolder {
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(
+        CarbonProperties.getInstance().getNumberOfThreadsForSegmentPruning(),
+        new CarbonThreadFactory("DataMapPruningPool", true));
+  }
+
   /**
    * It is called to initialize and load the required table datamap metadata.
    */
@@ -85,29 +106,86 @@ public final class TableDataMap extends OperationEventListener {
    */
   public List<ExtendedBlocklet> prune(List<Segment> segments, FilterResolverIntf filterExp,
       List<PartitionSpec> partitions, ReadCommittedScope readCommittedScope) throws IOException {
-    List<ExtendedBlocklet> blocklets = new ArrayList<>();
-    SegmentProperties segmentProperties;
-    for (Segment segment : segments) {
-      List<Blocklet> pruneBlocklets = new ArrayList<>();
-      // if filter is not passed then return all the blocklets
-      if (filterExp == null) {
-        pruneBlocklets = blockletDetailsFetcher.getAllBlocklets(segment, partitions,
-            readCommittedScope);
-      } else {
-        List<DataMap> dataMaps = dataMapFactory.getDataMaps(segment, readCommittedScope);
-        segmentProperties = segmentPropertiesFetcher.getSegmentProperties(segment,
-            readCommittedScope);
-        for (DataMap dataMap : dataMaps) {
-          pruneBlocklets.addAll(dataMap.prune(filterExp, segmentProperties, partitions));
-        }
+    long startTime = System.currentTimeMillis();
+    int numOfThreads = Math.min(segments.size(),
+        CarbonProperties.getInstance().getNumberOfThreadsForSegmentPruning());
+    List<ExtendedBlocklet> blocklets;
+    // only the blocklet datamap is safe to be loaded and pruned by several threads
+    if (numOfThreads > 1 && dataMapFactory instanceof BlockletDataMapFactory) {
+      blocklets = pruneMultiThread(segments, filterExp, partitions, readCommittedScope);
+    } else {
+      blocklets = new ArrayList<>();
+      for (Segment segment : segments) {
+        blocklets.addAll(pruneSegment(segment, filterExp, partitions, readCommittedScope));
       }
-      blocklets.addAll(addSegmentId(
-          blockletDetailsFetcher.getExtendedBlocklets(pruneBlocklets, segment, readCommittedScope),
-          segment.getSegmentNo()));
     }
+    QueryStatistic statistic = new QueryStatistic();
+    statistic.addFixedTimeStatistic(QueryStatisticsConstants.PRUNE_SEGMENT
+        + segments.size() + " segment(s) : ", System.currentTimeMillis() - startTime);
+    CarbonTimeStatisticsFactory.createDriverRecorder().recordStatistics(statistic);
     return blocklets;
   }
 
+  /**
+   * Prune the segments of the blocklet datamap in parallel, each segment is submitted as an
+   * independent task. Other datamap factories are not safe to be called from several threads.
+   * Result is collected in the order of the passed segments, so it is same as the sequential
+   * pruning.
+   */
+  private List<ExtendedBlocklet> pruneMultiThread(List<Segment> segments,
+      final FilterResolverIntf filterExp, final List<PartitionSpec> partitions,
+      final ReadCommittedScope readCommittedScope) throws IOException {
+    ExecutorService executorService = PruningPoolHolder.POOL;
+    List<Future<List<ExtendedBlocklet>>> futures = new ArrayList<>(segments.size());
+    try {
+      for (final Segment segment : segments) {
+        futures.add(executorService.submit(new Callable<List<ExtendedBlocklet>>() {
+          @Override public List<ExtendedBlocklet> call() throws Exception {
+            return pruneSegment(segment, filterExp, partitions, readCommittedScope);
+          }
+        }));
+      }
+      List<ExtendedBlocklet> blocklets = new ArrayList<>();
+      for (Future<List<ExtendedBlocklet>> future : futures) {
+        blocklets.addAll(future.get());
+      }
+      return blocklets;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } finally {
+      // the pool is shared, so only cancel the tasks of this prune which are not yet done
+      for (Future<List<ExtendedBlocklet>> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private List<ExtendedBlocklet> pruneSegment(Segment segment, FilterResolverIntf filterExp,
+      List<PartitionSpec> partitions, ReadCommittedScope readCommittedScope) throws IOException {
+    List<Blocklet> pruneBlocklets = new ArrayList<>();
+    // if filter is not passed then return all the blocklets
+    if (filterExp == null) {
+      pruneBlocklets = blockletDetailsFetcher.getAllBlocklets(segment, partitions,
+          readCommittedScope);
+    } else {
+      List<DataMap> dataMaps = dataMapFactory.getDataMaps(segment, readCommittedScope);
+      SegmentProperties segmentProperties =
+          segmentPropertiesFetcher.getSegmentProperties(segment, readCommittedScope);
+      for (DataMap dataMap : dataMaps) {
+        pruneBlocklets.addAll(dataMap.prune(filterExp, segmentProperties, partitions));
+      }
+    }
+    return addSegmentId(
+        blockletDetailsFetcher.getExtendedBlocklets(pruneBlocklets, segment, readCommittedScope),
+        segment.getSegmentNo());
+  }
+
   private List<ExtendedBlocklet> addSegmentId(List<ExtendedBlocklet> pruneBlocklets,
       String segmentId) {
     for (ExtendedBlocklet blocklet : pruneBlocklets) {
@@ -22,6 +22,7 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.util.List;
 
+import org.apache.carbondata.core.datastore.compression.CompressorFactory;
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.datatype.DataTypes;
 import org.apache.carbondata.core.metadata.datatype.DecimalType;
@@ -41,8 +42,13 @@ public class TableSpec {
 
   private CarbonTable carbonTable;
 
+  // compressor for the column pages of this table
+  private String columnCompressorName;
+
   public TableSpec(CarbonTable carbonTable) {
     this.carbonTable = carbonTable;
+    this.columnCompressorName = CompressorFactory.getInstance()
+        .getCompressorName(carbonTable.getTableInfo().getFactTable().getTableProperties());
     List<CarbonDimension> dimensions =
         carbonTable.getDimensionByTableName(carbonTable.getTableName());
     List<CarbonMeasure> measures =
@@ -124,6 +130,10 @@ public class TableSpec {
     return carbonTable;
   }
 
+  public String getColumnCompressorName() {
+    return columnCompressorName;
+  }
+
   public static class ColumnSpec implements Writable {
     // field name of this column
     private String fieldName;
@@ -252,12 +262,16 @@ public class TableSpec {
     }
   }
 
-  public class MeasureSpec extends ColumnSpec implements Writable {
+  public static class MeasureSpec extends ColumnSpec implements Writable {
 
     MeasureSpec(String fieldName, DataType dataType) {
       super(fieldName, dataType, ColumnType.MEASURE);
     }
 
+    public static MeasureSpec newInstance(String fieldName, DataType dataType) {
+      return new MeasureSpec(fieldName, dataType);
+    }
+
     @Override
     public void write(DataOutput out) throws IOException {
       super.write(out);
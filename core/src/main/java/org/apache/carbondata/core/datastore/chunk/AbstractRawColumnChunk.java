@@ -17,6 +17,8 @@
 package org.apache.carbondata.core.datastore.chunk;
 
 import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.apache.carbondata.format.DataChunk3;
 
@@ -120,4 +122,26 @@ public abstract class AbstractRawColumnChunk {
     this.dataChunkV3 = dataChunkV3;
   }
 
+  /**
+   * Return the size of the buffers read for the raw chunks. Chunks read in one read share the
+   * buffer, so it is counted once.
+   */
+  public static long getRawDataSize(AbstractRawColumnChunk[]... rawColumnChunksList) {
+    long size = 0;
+    Map<ByteBuffer, Boolean> rawDataBuffers = new IdentityHashMap<>();
+    for (AbstractRawColumnChunk[] rawColumnChunks : rawColumnChunksList) {
+      if (null == rawColumnChunks) {
+        continue;
+      }
+      for (AbstractRawColumnChunk rawColumnChunk : rawColumnChunks) {
+        // raw data is not present when the pages are read page by page
+        if (null != rawColumnChunk && null != rawColumnChunk.rawData
+            && null == rawDataBuffers.put(rawColumnChunk.rawData, Boolean.TRUE)) {
+          size += rawColumnChunk.rawData.limit();
+        }
+      }
+    }
+    return size;
+  }
+
 }
@@ -30,6 +30,11 @@ import org.apache.carbondata.core.scan.result.vector.ColumnVectorInfo;
  */
 public class FixedLengthDimensionColumnPage extends AbstractDimensionColumnPage {
 
+  /**
+   * buffer of the dictionary ids put to the vector in bulk
+   */
+  private int[] dictionaryIds = new int[0];
+
   /**
    * Constructor
    *
@@ -95,25 +100,29 @@ public class FixedLengthDimensionColumnPage extends AbstractDimensionColumnPage
     int vectorOffset = columnVectorInfo.vectorOffset;
     int len = columnVectorInfo.size + offset;
     CarbonColumnVector vector = columnVectorInfo.vector;
+    if (columnVectorInfo.directDictionaryGenerator == null) {
+      int[] ids = getDictionaryIds(columnVectorInfo.size);
+      for (int j = offset; j < len; j++) {
+        ids[j - offset] = dataChunkStore.getSurrogate(j);
+      }
+      vector.putInts(vectorOffset, columnVectorInfo.size, ids, 0);
+      return chunkIndex + 1;
+    }
     for (int j = offset; j < len; j++) {
       int dict = dataChunkStore.getSurrogate(j);
-      if (columnVectorInfo.directDictionaryGenerator == null) {
-        vector.putInt(vectorOffset++, dict);
+      Object valueFromSurrogate =
+          columnVectorInfo.directDictionaryGenerator.getValueFromSurrogate(dict);
+      if (valueFromSurrogate == null) {
+        vector.putNull(vectorOffset++);
       } else {
-        Object valueFromSurrogate =
-            columnVectorInfo.directDictionaryGenerator.getValueFromSurrogate(dict);
-        if (valueFromSurrogate == null) {
-          vector.putNull(vectorOffset++);
+        DataType dataType = columnVectorInfo.directDictionaryGenerator.getReturnType();
+        if (dataType == DataTypes.INT) {
+          vector.putInt(vectorOffset++, (int) valueFromSurrogate);
+        } else if (dataType == DataTypes.LONG) {
+          vector.putLong(vectorOffset++, (long) valueFromSurrogate);
         } else {
-          DataType dataType = columnVectorInfo.directDictionaryGenerator.getReturnType();
-          if (dataType == DataTypes.INT) {
-            vector.putInt(vectorOffset++, (int) valueFromSurrogate);
-          } else if (dataType == DataTypes.LONG) {
-            vector.putLong(vectorOffset++, (long) valueFromSurrogate);
-          } else {
-            throw new IllegalArgumentException("unsupported data type: " +
-                columnVectorInfo.directDictionaryGenerator.getReturnType());
-          }
+          throw new IllegalArgumentException("unsupported data type: " +
+              columnVectorInfo.directDictionaryGenerator.getReturnType());
         }
       }
     }
@@ -136,28 +145,39 @@ public class FixedLengthDimensionColumnPage extends AbstractDimensionColumnPage
     int vectorOffset = columnVectorInfo.vectorOffset;
     int len = columnVectorInfo.size + offset;
     CarbonColumnVector vector = columnVectorInfo.vector;
+    if (columnVectorInfo.directDictionaryGenerator == null) {
+      int[] ids = getDictionaryIds(columnVectorInfo.size);
+      for (int j = offset; j < len; j++) {
+        ids[j - offset] = dataChunkStore.getSurrogate(filteredRowId[j]);
+      }
+      vector.putInts(vectorOffset, columnVectorInfo.size, ids, 0);
+      return chunkIndex + 1;
+    }
     for (int j = offset; j < len; j++) {
       int dict = dataChunkStore.getSurrogate(filteredRowId[j]);
-      if (columnVectorInfo.directDictionaryGenerator == null) {
-        vector.putInt(vectorOffset++, dict);
+      Object valueFromSurrogate =
+          columnVectorInfo.directDictionaryGenerator.getValueFromSurrogate(dict);
+      if (valueFromSurrogate == null) {
+        vector.putNull(vectorOffset++);
       } else {
-        Object valueFromSurrogate =
-            columnVectorInfo.directDictionaryGenerator.getValueFromSurrogate(dict);
-        if (valueFromSurrogate == null) {
-          vector.putNull(vectorOffset++);
+        DataType dataType = columnVectorInfo.directDictionaryGenerator.getReturnType();
+        if (dataType == DataTypes.INT) {
+          vector.putInt(vectorOffset++, (int) valueFromSurrogate);
+        } else if (dataType == DataTypes.LONG) {
+          vector.putLong(vectorOffset++, (long) valueFromSurrogate);
         } else {
-          DataType dataType = columnVectorInfo.directDictionaryGenerator.getReturnType();
-          if (dataType == DataTypes.INT) {
-            vector.putInt(vectorOffset++, (int) valueFromSurrogate);
-          } else if (dataType == DataTypes.LONG) {
-            vector.putLong(vectorOffset++, (long) valueFromSurrogate);
-          } else {
-            throw new IllegalArgumentException("unsupported data type: " +
-                columnVectorInfo.directDictionaryGenerator.getReturnType());
-          }
+          throw new IllegalArgumentException("unsupported data type: " +
+              columnVectorInfo.directDictionaryGenerator.getReturnType());
         }
       }
     }
     return chunkIndex + 1;
   }
+
+  private int[] getDictionaryIds(int size) {
+    if (dictionaryIds.length < size) {
+      dictionaryIds = new int[size];
+    }
+    return dictionaryIds;
+  }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.chunk.impl;
+
+import java.util.BitSet;
+
+import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
+import org.apache.carbondata.core.datastore.chunk.store.DimensionDataChunkStore;
+import org.apache.carbondata.core.scan.executor.infos.KeyStructureInfo;
+import org.apache.carbondata.core.scan.result.vector.CarbonColumnVector;
+import org.apache.carbondata.core.scan.result.vector.ColumnVectorInfo;
+import org.apache.carbondata.core.util.CarbonUtil;
+
+/**
+ * No dictionary column page which is encoded with a page local dictionary, every row keeps
+ * the id of its value in the dictionary of the page
+ */
+public class LocalDictDimensionColumnPage implements DimensionColumnPage {
+
+  /**
+   * distinct values of the page, the row id in this page is the dictionary id
+   */
+  private VariableLengthDimensionColumnPage dictionaryPage;
+
+  private int dictionarySize;
+
+  private int[] dictionaryIds;
+
+  /**
+   * Constructor for this class
+   * @param dictionaryData LV encoded distinct values of the page
+   * @param dictionarySize number of distinct values
+   * @param dictionaryIds dictionary id of each row
+   */
+  public LocalDictDimensionColumnPage(byte[] dictionaryData, int dictionarySize,
+      int[] dictionaryIds) {
+    this.dictionaryPage =
+        new VariableLengthDimensionColumnPage(dictionaryData, null, null, dictionarySize);
+    this.dictionarySize = dictionarySize;
+    this.dictionaryIds = dictionaryIds;
+  }
+
+  @Override public int fillRawData(int rowId, int offset, byte[] data,
+      KeyStructureInfo restructuringInfo) {
+    // no required in this case because this column chunk is not the part if
+    // mdkey
+    return 0;
+  }
+
+  @Override public int fillSurrogateKey(int rowId, int chunkIndex, int[] outputSurrogateKey,
+      KeyStructureInfo restructuringInfo) {
+    return chunkIndex + 1;
+  }
+
+  @Override public int fillVector(ColumnVectorInfo[] vectorInfo, int chunkIndex,
+      KeyStructureInfo restructuringInfo) {
+    ColumnVectorInfo columnVectorInfo = vectorInfo[chunkIndex];
+    CarbonColumnVector vector = columnVectorInfo.vector;
+    DimensionDataChunkStore dictionaryStore = dictionaryPage.dataChunkStore;
+    int offset = columnVectorInfo.offset;
+    int vectorOffset = columnVectorInfo.vectorOffset;
+    int len = offset + columnVectorInfo.size;
+    for (int i = offset; i < len; i++) {
+      dictionaryStore.fillRow(dictionaryIds[i], vector, vectorOffset++);
+    }
+    return chunkIndex + 1;
+  }
+
+  @Override public int fillVector(int[] filteredRowId, ColumnVectorInfo[] vectorInfo,
+      int chunkIndex, KeyStructureInfo restructuringInfo) {
+    ColumnVectorInfo columnVectorInfo = vectorInfo[chunkIndex];
+    CarbonColumnVector vector = columnVectorInfo.vector;
+    DimensionDataChunkStore dictionaryStore = dictionaryPage.dataChunkStore;
+    int offset = columnVectorInfo.offset;
+    int vectorOffset = columnVectorInfo.vectorOffset;
+    int len = offset + columnVectorInfo.size;
+    for (int i = offset; i < len; i++) {
+      dictionaryStore.fillRow(dictionaryIds[filteredRowId[i]], vector, vectorOffset++);
+    }
+    return chunkIndex + 1;
+  }
+
+  @Override public byte[] getChunkData(int rowId) {
+    return dictionaryPage.getChunkData(dictionaryIds[rowId]);
+  }
+
+  @Override public int getInvertedIndex(int rowId) {
+    return rowId;
+  }
+
+  @Override public int getInvertedReverseIndex(int rowId) {
+    return rowId;
+  }
+
+  @Override public boolean isNoDicitionaryColumn() {
+    return true;
+  }
+
+  @Override public boolean isExplicitSorted() {
+    return false;
+  }
+
+  @Override public int compareTo(int rowId, byte[] compareValue) {
+    return dictionaryPage.compareTo(dictionaryIds[rowId], compareValue);
+  }
+
+  /**
+   * Below method will be used to get the rows whose value is one of the filter values, every
+   * value of the dictionary is compared only once
+   *
+   * @param filterValues sorted filter values
+   * @param candidateRows rows to check, null to check all rows of the page
+   * @return matching rows
+   */
+  public BitSet getRowsMatchingFilter(byte[][] filterValues, BitSet candidateRows) {
+    boolean[] isMatching = new boolean[dictionarySize];
+    boolean anyMatching = false;
+    for (int i = 0; i < dictionarySize; i++) {
+      isMatching[i] = CarbonUtil
+          .isFilterPresent(filterValues, dictionaryPage, 0, filterValues.length - 1, i) == 0;
+      anyMatching |= isMatching[i];
+    }
+    BitSet bitSet = new BitSet(dictionaryIds.length);
+    if (!anyMatching) {
+      return bitSet;
+    }
+    if (candidateRows == null) {
+      for (int i = 0; i < dictionaryIds.length; i++) {
+        if (isMatching[dictionaryIds[i]]) {
+          bitSet.set(i);
+        }
+      }
+    } else {
+      for (int i = candidateRows.nextSetBit(0); i >= 0; i = candidateRows.nextSetBit(i + 1)) {
+        if (isMatching[dictionaryIds[i]]) {
+          bitSet.set(i);
+        }
+      }
+    }
+    return bitSet;
+  }
+
+  @Override public void freeMemory() {
+    dictionaryPage.freeMemory();
+  }
+}
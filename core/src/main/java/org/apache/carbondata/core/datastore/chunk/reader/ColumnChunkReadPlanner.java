@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.chunk.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.carbondata.core.util.CarbonProperties;
+
+/**
+ * Plans the reads of the column chunks of a blocklet. Chunks which are near each other in the
+ * file are read together in one read, so a projection of many columns does a few large reads
+ * instead of one read per column, which matters on HDFS and S3 where each read is a seek.
+ *
+ * Two chunks are read together when the bytes between them are not more than the max gap and
+ * the read stays within the max read size. A chunk bigger than the max read size is read alone.
+ */
+public class ColumnChunkReadPlanner {
+
+  private final long maxGap;
+
+  private final long maxReadSize;
+
+  public ColumnChunkReadPlanner(long maxGap, long maxReadSize) {
+    this.maxGap = maxGap;
+    this.maxReadSize = maxReadSize;
+  }
+
+  /**
+   * Create the planner from carbon.column.read.max.gap.in.kb and
+   * carbon.column.read.max.size.in.mb
+   */
+  public static ColumnChunkReadPlanner create() {
+    CarbonProperties properties = CarbonProperties.getInstance();
+    return new ColumnChunkReadPlanner(properties.getColumnReadMaxGapInBytes(),
+        properties.getColumnReadMaxSizeInBytes());
+  }
+
+  /**
+   * Below method will be used to plan the reads of the given chunks
+   *
+   * @param offsets offset of each chunk in the file, in the order of the columns
+   * @param lengths length of each chunk
+   * @return reads covering all the chunks, each read covers the chunks from its start index
+   * to its end index
+   */
+  public List<CoalescedRead> plan(long[] offsets, int[] lengths) {
+    List<CoalescedRead> reads = new ArrayList<>();
+    if (offsets.length == 0) {
+      return reads;
+    }
+    int startIndex = 0;
+    long readStart = offsets[0];
+    long readEnd = offsets[0] + lengths[0];
+    for (int i = 1; i < offsets.length; i++) {
+      long gap = offsets[i] - readEnd;
+      long chunkEnd = offsets[i] + lengths[i];
+      if (gap >= 0 && gap <= maxGap && chunkEnd - readStart <= maxReadSize) {
+        readEnd = chunkEnd;
+      } else {
+        reads.add(new CoalescedRead(readStart, (int) (readEnd - readStart), startIndex, i - 1));
+        startIndex = i;
+        readStart = offsets[i];
+        readEnd = chunkEnd;
+      }
+    }
+    reads.add(new CoalescedRead(readStart, (int) (readEnd - readStart), startIndex,
+        offsets.length - 1));
+    return reads;
+  }
+
+  /**
+   * Below method will be used to get the column indexes of the column index ranges
+   *
+   * @param columnIndexRange ranges of column index, each one is {start, end}
+   * @return column indexes
+   */
+  public static int[] getColumnIndexes(int[][] columnIndexRange) {
+    int numberOfColumns = 0;
+    for (int[] range : columnIndexRange) {
+      numberOfColumns += range[1] - range[0] + 1;
+    }
+    int[] columnIndexes = new int[numberOfColumns];
+    int index = 0;
+    for (int[] range : columnIndexRange) {
+      for (int columnIndex = range[0]; columnIndex <= range[1]; columnIndex++) {
+        columnIndexes[index++] = columnIndex;
+      }
+    }
+    return columnIndexes;
+  }
+
+  /**
+   * One read of the plan
+   */
+  public static class CoalescedRead {
+
+    private final long offset;
+
+    private final int length;
+
+    private final int startIndex;
+
+    private final int endIndex;
+
+    CoalescedRead(long offset, int length, int startIndex, int endIndex) {
+      this.offset = offset;
+      this.length = length;
+      this.startIndex = startIndex;
+      this.endIndex = endIndex;
+    }
+
+    /**
+     * offset of the read in the file
+     */
+    public long getOffset() {
+      return offset;
+    }
+
+    public int getLength() {
+      return length;
+    }
+
+    /**
+     * index of the first chunk of the read in the planned chunks
+     */
+    public int getStartIndex() {
+      return startIndex;
+    }
+
+    /**
+     * index of the last chunk of the read in the planned chunks
+     */
+    public int getEndIndex() {
+      return endIndex;
+    }
+  }
+}
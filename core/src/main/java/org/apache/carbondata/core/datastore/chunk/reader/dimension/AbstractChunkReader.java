@@ -30,9 +30,11 @@ import org.apache.carbondata.core.util.CarbonProperties;
 public abstract class AbstractChunkReader implements DimensionColumnChunkReader {
 
   /**
-   * compressor will be used to uncompress the data
+   * compressor will be used to uncompress the data of V1 files, which are always written with
+   * snappy. V2 and V3 readers take the compressor from the chunk metadata of each page
    */
-  protected static final Compressor COMPRESSOR = CompressorFactory.getInstance().getCompressor();
+  protected static final Compressor COMPRESSOR =
+      CompressorFactory.getInstance().getCompressor(CarbonCommonConstants.DEFAULT_COMPRESSOR);
 
   /**
    * size of the each column value
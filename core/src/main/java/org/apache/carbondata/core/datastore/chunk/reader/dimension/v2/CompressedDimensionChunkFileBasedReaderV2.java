@@ -27,6 +27,8 @@ import org.apache.carbondata.core.datastore.chunk.impl.FixedLengthDimensionColum
 import org.apache.carbondata.core.datastore.chunk.impl.VariableLengthDimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.reader.dimension.AbstractChunkReaderV2V3Format;
 import org.apache.carbondata.core.datastore.columnar.UnBlockIndexer;
+import org.apache.carbondata.core.datastore.compression.Compressor;
+import org.apache.carbondata.core.datastore.compression.CompressorFactory;
 import org.apache.carbondata.core.metadata.blocklet.BlockletInfo;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.format.DataChunk2;
@@ -143,8 +145,10 @@ public class CompressedDimensionChunkFileBasedReaderV2 extends AbstractChunkRead
     }
 
     // first read the data and uncompressed it
-    dataPage = COMPRESSOR
-        .unCompressByte(rawData.array(), copySourcePoint, dimensionColumnChunk.data_page_length);
+    Compressor compressor =
+        CompressorFactory.getInstance().getCompressor(dimensionColumnChunk.getChunk_meta());
+    dataPage = compressor
+        .unCompressByte(rawData, copySourcePoint, dimensionColumnChunk.data_page_length);
     copySourcePoint += dimensionColumnChunk.data_page_length;
     // if row id block is present then read the row id chunk and uncompress it
     if (hasEncoding(dimensionColumnChunk.encoders, Encoding.INVERTED_INDEX)) {
@@ -16,13 +16,13 @@
  */
 package org.apache.carbondata.core.datastore.chunk.reader.dimension.v3;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
 import org.apache.carbondata.core.datastore.FileReader;
 import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.impl.DimensionRawColumnChunk;
+import org.apache.carbondata.core.datastore.chunk.reader.ColumnChunkReadPlanner;
 import org.apache.carbondata.core.memory.MemoryException;
 import org.apache.carbondata.core.metadata.blocklet.BlockletInfo;
 import org.apache.carbondata.core.util.CarbonUtil;
@@ -93,7 +93,8 @@ public class CompressedDimChunkFileBasedPageLevelReaderV3
           dimensionChunksLength.get(blockletColumnIndex));
     }
     // get the data chunk which will have all the details about the data pages
-    DataChunk3 dataChunk = CarbonUtil.readDataChunk3(new ByteArrayInputStream(buffer.array()));
+    DataChunk3 dataChunk = CarbonUtil.readDataChunk3(buffer, 0,
+        dimensionChunksLength.get(blockletColumnIndex));
     DimensionRawColumnChunk rawColumnChunk =
         getDimensionRawColumnChunk(fileReader, blockletColumnIndex, currentDimensionOffset, length,
             null, dataChunk);
@@ -101,6 +102,24 @@ public class CompressedDimChunkFileBasedPageLevelReaderV3
     return rawColumnChunk;
   }
 
+  /**
+   * Below method will be used to read the chunks of the column ranges. Only the chunk headers are
+   * read here, so the reads are not planned together, the pages are read when decoded
+   *
+   * @param fileReader       file reader to read the chunks from file
+   * @param columnIndexRange column index range to be read
+   * @return dimension column chunks
+   */
+  @Override public DimensionRawColumnChunk[] readRawDimensionChunks(FileReader fileReader,
+      int[][] columnIndexRange) throws IOException {
+    DimensionRawColumnChunk[] dataChunks =
+        new DimensionRawColumnChunk[dimensionChunksOffset.size()];
+    for (int columnIndex : ColumnChunkReadPlanner.getColumnIndexes(columnIndexRange)) {
+      dataChunks[columnIndex] = readRawDimensionChunk(fileReader, columnIndex);
+    }
+    return dataChunks;
+  }
+
   /**
    * Below method will be used to read the multiple dimension column data in group
    * and divide into dimension raw chunk object
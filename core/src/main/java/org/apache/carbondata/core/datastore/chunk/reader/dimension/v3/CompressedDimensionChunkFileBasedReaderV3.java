@@ -25,13 +25,17 @@ import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.impl.DimensionRawColumnChunk;
 import org.apache.carbondata.core.datastore.chunk.impl.FixedLengthDimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.impl.VariableLengthDimensionColumnPage;
+import org.apache.carbondata.core.datastore.chunk.reader.ColumnChunkReadPlanner;
 import org.apache.carbondata.core.datastore.chunk.reader.dimension.AbstractChunkReaderV2V3Format;
 import org.apache.carbondata.core.datastore.chunk.store.ColumnPageWrapper;
 import org.apache.carbondata.core.datastore.columnar.UnBlockIndexer;
+import org.apache.carbondata.core.datastore.compression.Compressor;
+import org.apache.carbondata.core.datastore.compression.CompressorFactory;
 import org.apache.carbondata.core.datastore.page.ColumnPage;
 import org.apache.carbondata.core.datastore.page.encoding.ColumnPageDecoder;
 import org.apache.carbondata.core.datastore.page.encoding.DefaultEncodingFactory;
 import org.apache.carbondata.core.datastore.page.encoding.EncodingFactory;
+import org.apache.carbondata.core.datastore.page.encoding.dimension.localdict.LocalDictDimensionCodec;
 import org.apache.carbondata.core.memory.MemoryException;
 import org.apache.carbondata.core.metadata.blocklet.BlockletInfo;
 import org.apache.carbondata.core.util.CarbonUtil;
@@ -62,10 +66,65 @@ public class CompressedDimensionChunkFileBasedReaderV3 extends AbstractChunkRead
    */
   private long lastDimensionOffsets;
 
+  /**
+   * planner to read the chunks of the projected columns in few reads
+   */
+  private ColumnChunkReadPlanner readPlanner;
+
   public CompressedDimensionChunkFileBasedReaderV3(BlockletInfo blockletInfo,
       int[] eachColumnValueSize, String filePath) {
     super(blockletInfo, eachColumnValueSize, filePath);
     lastDimensionOffsets = blockletInfo.getDimensionOffset();
+    readPlanner = ColumnChunkReadPlanner.create();
+  }
+
+  /**
+   * Below method will be used to read the dimension column chunks of the column ranges.
+   * Chunks which are near each other in the file are read in one read as planned by
+   * {@link ColumnChunkReadPlanner}, and each raw chunk refers to its part of the read buffer
+   *
+   * @param fileReader       file reader to read the chunks from file
+   * @param columnIndexRange column index range to be read
+   * @return dimension column chunks
+   */
+  @Override public DimensionRawColumnChunk[] readRawDimensionChunks(FileReader fileReader,
+      int[][] columnIndexRange) throws IOException {
+    DimensionRawColumnChunk[] dataChunks =
+        new DimensionRawColumnChunk[dimensionChunksOffset.size()];
+    int[] columnIndexes = ColumnChunkReadPlanner.getColumnIndexes(columnIndexRange);
+    long[] offsets = new long[columnIndexes.length];
+    int[] lengths = new int[columnIndexes.length];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      offsets[i] = dimensionChunksOffset.get(columnIndexes[i]);
+      lengths[i] = getChunkLength(columnIndexes[i]);
+    }
+    for (ColumnChunkReadPlanner.CoalescedRead read : readPlanner.plan(offsets, lengths)) {
+      ByteBuffer buffer;
+      // read the data from carbon data file
+      synchronized (fileReader) {
+        buffer = fileReader.readByteBuffer(filePath, read.getOffset(), read.getLength());
+      }
+      for (int i = read.getStartIndex(); i <= read.getEndIndex(); i++) {
+        int columnIndex = columnIndexes[i];
+        int offsetInBuffer = (int) (offsets[i] - read.getOffset());
+        DataChunk3 dataChunk = CarbonUtil
+            .readDataChunk3(buffer, offsetInBuffer, dimensionChunksLength.get(columnIndex));
+        dataChunks[columnIndex] = getDimensionRawColumnChunk(fileReader, columnIndex,
+            offsetInBuffer, lengths[i], buffer, dataChunk);
+      }
+    }
+    return dataChunks;
+  }
+
+  /**
+   * length of the chunk of the column, for last column it ends at the end of the dimensions
+   */
+  private int getChunkLength(int columnIndex) {
+    if (dimensionChunksOffset.size() - 1 == columnIndex) {
+      return (int) (lastDimensionOffsets - dimensionChunksOffset.get(columnIndex));
+    }
+    return (int) (dimensionChunksOffset.get(columnIndex + 1) - dimensionChunksOffset
+        .get(columnIndex));
   }
 
   /**
@@ -212,7 +271,7 @@ public class CompressedDimensionChunkFileBasedReaderV3 extends AbstractChunkRead
     List<Encoding> encodings = pageMetadata.getEncoders();
     List<ByteBuffer> encoderMetas = pageMetadata.getEncoder_meta();
     ColumnPageDecoder decoder = encodingFactory.createDecoder(encodings, encoderMetas);
-    return decoder.decode(pageData.array(), offset, pageMetadata.data_page_length);
+    return decoder.decode(pageData, offset, pageMetadata.data_page_length);
   }
 
   private boolean isEncodedWithMeta(DataChunk2 pageMetadata) {
@@ -241,12 +300,18 @@ public class CompressedDimensionChunkFileBasedReaderV3 extends AbstractChunkRead
   }
 
   private DimensionColumnPage decodeDimensionLegacy(DimensionRawColumnChunk rawColumnPage,
-      ByteBuffer pageData, DataChunk2 pageMetadata, int offset) {
+      ByteBuffer pageData, DataChunk2 pageMetadata, int offset) throws IOException {
     byte[] dataPage;
     int[] rlePage;
     int[] invertedIndexes = null;
     int[] invertedIndexesReverse = null;
-    dataPage = COMPRESSOR.unCompressByte(pageData.array(), offset, pageMetadata.data_page_length);
+    Compressor compressor =
+        CompressorFactory.getInstance().getCompressor(pageMetadata.getChunk_meta());
+    dataPage = compressor.unCompressByte(pageData, offset, pageMetadata.data_page_length);
+    // page of a no dictionary column which is encoded with a page local dictionary
+    if (hasEncoding(pageMetadata.encoders, Encoding.LOCAL_DICTIONARY)) {
+      return LocalDictDimensionCodec.decode(dataPage, pageMetadata.getNumberOfRowsInpage());
+    }
     offset += pageMetadata.data_page_length;
     // if row id block is present then read the row id chunk and uncompress it
     if (hasEncoding(pageMetadata.encoders, Encoding.INVERTED_INDEX)) {
@@ -25,6 +25,7 @@ import org.apache.carbondata.core.datastore.chunk.impl.MeasureRawColumnChunk;
 import org.apache.carbondata.core.datastore.compression.Compressor;
 import org.apache.carbondata.core.datastore.compression.CompressorFactory;
 import org.apache.carbondata.core.metadata.blocklet.BlockletInfo;
+import org.apache.carbondata.format.ChunkCompressionMeta;
 
 /**
  * Abstract class for V2, V3 format measure column reader
@@ -101,11 +102,13 @@ public abstract class AbstractMeasureChunkReaderV2V3Format extends AbstractMeasu
    * presence meta
    *
    * @param presentMetadataThrift
+   * @param chunkCompressionMeta compression meta of the page which has the presence meta
    * @return wrapper presence meta
    */
   protected BitSet getNullBitSet(
-      org.apache.carbondata.format.PresenceMeta presentMetadataThrift) {
-    Compressor compressor = CompressorFactory.getInstance().getCompressor();
+      org.apache.carbondata.format.PresenceMeta presentMetadataThrift,
+      ChunkCompressionMeta chunkCompressionMeta) {
+    Compressor compressor = CompressorFactory.getInstance().getCompressor(chunkCompressionMeta);
     return BitSet.valueOf(
         compressor.unCompressByte(presentMetadataThrift.getPresent_bit_stream()));
   }
@@ -125,7 +125,7 @@ public class CompressedMeasureChunkFileBasedReaderV2 extends AbstractMeasureChun
     copyPoint += measureColumnChunkLength.get(blockIndex);
 
     ColumnPage page = decodeMeasure(measureRawColumnChunk, measureColumnChunk, copyPoint);
-    page.setNullBits(getNullBitSet(measureColumnChunk.presence));
+    page.setNullBits(getNullBitSet(measureColumnChunk.presence, measureColumnChunk.chunk_meta));
     return page;
   }
 
@@ -137,7 +137,7 @@ public class CompressedMeasureChunkFileBasedReaderV2 extends AbstractMeasureChun
 
     ValueEncoderMeta meta = CarbonUtil.deserializeEncoderMetaV2(encodedMeta);
     ColumnPageDecoder codec = encodingFactory.createDecoderLegacy(meta);
-    byte[] rawData = measureRawColumnChunk.getRawData().array();
+    ByteBuffer rawData = measureRawColumnChunk.getRawData();
     return codec.decode(rawData, copyPoint, measureColumnChunk.data_page_length);
   }
 }
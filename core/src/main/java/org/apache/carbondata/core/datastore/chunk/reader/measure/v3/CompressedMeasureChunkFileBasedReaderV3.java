@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.apache.carbondata.core.datastore.FileReader;
 import org.apache.carbondata.core.datastore.chunk.impl.MeasureRawColumnChunk;
+import org.apache.carbondata.core.datastore.chunk.reader.ColumnChunkReadPlanner;
 import org.apache.carbondata.core.datastore.chunk.reader.measure.AbstractMeasureChunkReaderV2V3Format;
 import org.apache.carbondata.core.datastore.page.ColumnPage;
 import org.apache.carbondata.core.datastore.page.encoding.ColumnPageDecoder;
@@ -53,9 +54,64 @@ public class CompressedMeasureChunkFileBasedReaderV3 extends AbstractMeasureChun
    */
   private long measureOffsets;
 
+  /**
+   * planner to read the chunks of the projected columns in few reads
+   */
+  private ColumnChunkReadPlanner readPlanner;
+
   public CompressedMeasureChunkFileBasedReaderV3(BlockletInfo blockletInfo, String filePath) {
     super(blockletInfo, filePath);
     measureOffsets = blockletInfo.getMeasureOffsets();
+    readPlanner = ColumnChunkReadPlanner.create();
+  }
+
+  /**
+   * Below method will be used to read the measure column chunks of the column ranges.
+   * Chunks which are near each other in the file are read in one read as planned by
+   * {@link ColumnChunkReadPlanner}, and each raw chunk refers to its part of the read buffer
+   *
+   * @param fileReader       file reader to read the chunks from file
+   * @param columnIndexRange column index range to be read
+   * @return measure column chunks
+   */
+  @Override public MeasureRawColumnChunk[] readRawMeasureChunks(FileReader fileReader,
+      int[][] columnIndexRange) throws IOException {
+    MeasureRawColumnChunk[] dataChunks =
+        new MeasureRawColumnChunk[measureColumnChunkOffsets.size()];
+    int[] columnIndexes = ColumnChunkReadPlanner.getColumnIndexes(columnIndexRange);
+    long[] offsets = new long[columnIndexes.length];
+    int[] lengths = new int[columnIndexes.length];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      offsets[i] = measureColumnChunkOffsets.get(columnIndexes[i]);
+      lengths[i] = getChunkLength(columnIndexes[i]);
+    }
+    for (ColumnChunkReadPlanner.CoalescedRead read : readPlanner.plan(offsets, lengths)) {
+      ByteBuffer buffer;
+      // read the data from carbon data file
+      synchronized (fileReader) {
+        buffer = fileReader.readByteBuffer(filePath, read.getOffset(), read.getLength());
+      }
+      for (int i = read.getStartIndex(); i <= read.getEndIndex(); i++) {
+        int columnIndex = columnIndexes[i];
+        int offsetInBuffer = (int) (offsets[i] - read.getOffset());
+        DataChunk3 dataChunk = CarbonUtil
+            .readDataChunk3(buffer, offsetInBuffer, measureColumnChunkLength.get(columnIndex));
+        dataChunks[columnIndex] = getMeasureRawColumnChunk(fileReader, columnIndex,
+            offsetInBuffer, lengths[i], buffer, dataChunk);
+      }
+    }
+    return dataChunks;
+  }
+
+  /**
+   * length of the chunk of the column, for last column it ends at the end of the measures
+   */
+  private int getChunkLength(int columnIndex) {
+    if (measureColumnChunkOffsets.size() - 1 == columnIndex) {
+      return (int) (measureOffsets - measureColumnChunkOffsets.get(columnIndex));
+    }
+    return (int) (measureColumnChunkOffsets.get(columnIndex + 1) - measureColumnChunkOffsets
+        .get(columnIndex));
   }
 
   /**
@@ -198,7 +254,7 @@ public class CompressedMeasureChunkFileBasedReaderV3 extends AbstractMeasureChun
         measureColumnChunkLength.get(rawColumnChunk.getColumnIndex()) +
         dataChunk3.getPage_offset().get(pageNumber);
     ColumnPage decodedPage = decodeMeasure(pageMetadata, rawColumnChunk.getRawData(), offset);
-    decodedPage.setNullBits(getNullBitSet(pageMetadata.presence));
+    decodedPage.setNullBits(getNullBitSet(pageMetadata.presence, pageMetadata.chunk_meta));
     return decodedPage;
   }
 
@@ -210,7 +266,7 @@ public class CompressedMeasureChunkFileBasedReaderV3 extends AbstractMeasureChun
     List<Encoding> encodings = pageMetadata.getEncoders();
     List<ByteBuffer> encoderMetas = pageMetadata.getEncoder_meta();
     ColumnPageDecoder codec = encodingFactory.createDecoder(encodings, encoderMetas);
-    return codec.decode(pageData.array(), offset, pageMetadata.data_page_length);
+    return codec.decode(pageData, offset, pageMetadata.data_page_length);
   }
 
 }
@@ -16,12 +16,12 @@
  */
 package org.apache.carbondata.core.datastore.chunk.reader.measure.v3;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
 import org.apache.carbondata.core.datastore.FileReader;
 import org.apache.carbondata.core.datastore.chunk.impl.MeasureRawColumnChunk;
+import org.apache.carbondata.core.datastore.chunk.reader.ColumnChunkReadPlanner;
 import org.apache.carbondata.core.datastore.page.ColumnPage;
 import org.apache.carbondata.core.memory.MemoryException;
 import org.apache.carbondata.core.metadata.blocklet.BlockletInfo;
@@ -89,11 +89,30 @@ public class CompressedMsrChunkFileBasedPageLevelReaderV3
               measureColumnChunkLength.get(blockletColumnIndex));
     }
     // get the data chunk which will have all the details about the data pages
-    DataChunk3 dataChunk = CarbonUtil.readDataChunk3(new ByteArrayInputStream(buffer.array()));
+    DataChunk3 dataChunk = CarbonUtil.readDataChunk3(buffer, 0,
+        measureColumnChunkLength.get(blockletColumnIndex));
     return getMeasureRawColumnChunk(fileReader, blockletColumnIndex,
         measureColumnChunkOffsets.get(blockletColumnIndex), dataLength, null, dataChunk);
   }
 
+  /**
+   * Below method will be used to read the chunks of the column ranges. Only the chunk headers are
+   * read here, so the reads are not planned together, the pages are read when decoded
+   *
+   * @param fileReader       file reader to read the chunks from file
+   * @param columnIndexRange column index range to be read
+   * @return measure column chunks
+   */
+  @Override public MeasureRawColumnChunk[] readRawMeasureChunks(FileReader fileReader,
+      int[][] columnIndexRange) throws IOException {
+    MeasureRawColumnChunk[] dataChunks =
+        new MeasureRawColumnChunk[measureColumnChunkOffsets.size()];
+    for (int columnIndex : ColumnChunkReadPlanner.getColumnIndexes(columnIndexRange)) {
+      dataChunks[columnIndex] = readRawMeasureChunk(fileReader, columnIndex);
+    }
+    return dataChunks;
+  }
+
   /**
    * Below method will be used to read the multiple measure column data in group
    * and divide into measure raw chunk object
@@ -146,7 +165,7 @@ public class CompressedMsrChunkFileBasedPageLevelReaderV3
         .readByteBuffer(filePath, offset, pageMetadata.data_page_length);
 
     ColumnPage decodedPage = decodeMeasure(pageMetadata, buffer, 0);
-    decodedPage.setNullBits(getNullBitSet(pageMetadata.presence));
+    decodedPage.setNullBits(getNullBitSet(pageMetadata.presence, pageMetadata.chunk_meta));
     return decodedPage;
   }
 
@@ -18,7 +18,6 @@
 package org.apache.carbondata.core.datastore.columnar;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
@@ -39,44 +38,25 @@ public class BlockIndexerStorageForInt implements IndexStorage<int[]> {
 
   public BlockIndexerStorageForInt(byte[][] dataPage, boolean rleOnData, boolean isNoDictionary,
       boolean isSortRequired) {
-    ColumnWithRowId<Integer>[] dataWithRowId = createColumnWithRowId(dataPage, isNoDictionary);
+    int[] rowIds;
     if (isSortRequired) {
-      Arrays.sort(dataWithRowId);
-    }
-    int[] rowIds = extractDataAndReturnRowIds(dataWithRowId, dataPage);
-    rleEncodeOnRowId(rowIds);
-    if (rleOnData) {
-      rleEncodeOnData(dataWithRowId);
-    }
-  }
-
-  /**
-   * Create an object with each column array and respective rowId
-   */
-  private ColumnWithRowId<Integer>[] createColumnWithRowId(byte[][] dataPage,
-      boolean isNoDictionary) {
-    ColumnWithRowId<Integer>[] columnWithRowId = new ColumnWithRowId[dataPage.length];
-    if (isNoDictionary) {
-      for (int i = 0; i < columnWithRowId.length; i++) {
-        columnWithRowId[i] = new ColumnWithRowIdForHighCard<>(dataPage[i], i);
+      rowIds = RowIdSorter.sort(dataPage, isNoDictionary);
+      byte[][] sortedDataPage = new byte[dataPage.length][];
+      for (int i = 0; i < rowIds.length; i++) {
+        sortedDataPage[i] = dataPage[rowIds[i]];
       }
+      System.arraycopy(sortedDataPage, 0, dataPage, 0, dataPage.length);
     } else {
-      for (int i = 0; i < columnWithRowId.length; i++) {
-        columnWithRowId[i] = new ColumnWithRowId<>(dataPage[i], i);
+      rowIds = new int[dataPage.length];
+      for (int i = 0; i < rowIds.length; i++) {
+        rowIds[i] = i;
       }
     }
-    return columnWithRowId;
-  }
-
-  private int[] extractDataAndReturnRowIds(ColumnWithRowId<Integer>[] dataWithRowId,
-      byte[][] keyBlock) {
-    int[] rowId = new int[dataWithRowId.length];
-    for (int i = 0; i < rowId.length; i++) {
-      rowId[i] = dataWithRowId[i].getIndex();
-      keyBlock[i] = dataWithRowId[i].getColumn();
+    this.dataPage = dataPage;
+    rleEncodeOnRowId(rowIds);
+    if (rleOnData) {
+      rleEncodeOnData(dataPage);
     }
-    this.dataPage = keyBlock;
-    return rowId;
   }
 
   /**
@@ -180,18 +160,17 @@ public class BlockIndexerStorageForInt implements IndexStorage<int[]> {
     return dataPage;
   }
 
-  private void rleEncodeOnData(ColumnWithRowId[] dataWithRowId) {
-    byte[] prvKey = dataWithRowId[0].getColumn();
-    List<ColumnWithRowId> list =
-        new ArrayList<ColumnWithRowId>(CarbonCommonConstants.CONSTANT_SIZE_TEN);
-    list.add(dataWithRowId[0]);
+  private void rleEncodeOnData(byte[][] sortedDataPage) {
+    byte[] prvKey = sortedDataPage[0];
+    List<byte[]> list = new ArrayList<byte[]>(CarbonCommonConstants.CONSTANT_SIZE_TEN);
+    list.add(sortedDataPage[0]);
     int counter = 1;
     int start = 0;
     List<Integer> map = new ArrayList<Integer>(CarbonCommonConstants.CONSTANT_SIZE_TEN);
-    for (int i = 1; i < dataWithRowId.length; i++) {
-      if (ByteUtil.UnsafeComparer.INSTANCE.compareTo(prvKey, dataWithRowId[i].getColumn()) != 0) {
-        prvKey = dataWithRowId[i].getColumn();
-        list.add(dataWithRowId[i]);
+    for (int i = 1; i < sortedDataPage.length; i++) {
+      if (ByteUtil.UnsafeComparer.INSTANCE.compareTo(prvKey, sortedDataPage[i]) != 0) {
+        prvKey = sortedDataPage[i];
+        list.add(sortedDataPage[i]);
         map.add(start);
         map.add(counter);
         start += counter;
@@ -203,17 +182,17 @@ public class BlockIndexerStorageForInt implements IndexStorage<int[]> {
     map.add(start);
     map.add(counter);
     this.dataPage = convertToDataPage(list);
-    if (dataWithRowId.length == dataPage.length) {
+    if (sortedDataPage.length == dataPage.length) {
       dataRlePage = new int[0];
     } else {
       dataRlePage = convertToArray(map);
     }
   }
 
-  private byte[][] convertToDataPage(List<ColumnWithRowId> list) {
+  private byte[][] convertToDataPage(List<byte[]> list) {
     byte[][] shortArray = new byte[list.size()][];
     for (int i = 0; i < shortArray.length; i++) {
-      shortArray[i] = list.get(i).getColumn();
+      shortArray[i] = list.get(i);
       totalSize += shortArray[i].length;
     }
     return shortArray;
@@ -17,7 +17,6 @@
 package org.apache.carbondata.core.datastore.columnar;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
@@ -39,46 +38,25 @@ public class BlockIndexerStorageForShort implements IndexStorage<short[]> {
 
   public BlockIndexerStorageForShort(byte[][] dataPage, boolean rleOnData,
       boolean isNoDictionary, boolean isSortRequired) {
-    ColumnWithRowId<Short>[] dataWithRowId = createColumnWithRowId(dataPage, isNoDictionary);
+    short[] rowIds = new short[dataPage.length];
     if (isSortRequired) {
-      Arrays.sort(dataWithRowId);
-    }
-    short[] rowIds = extractDataAndReturnRowId(dataWithRowId, dataPage);
-    rleEncodeOnRowId(rowIds);
-    if (rleOnData) {
-      rleEncodeOnData(dataWithRowId);
-    }
-  }
-
-  /**
-   * Create an object with each column array and respective rowId
-   *
-   * @return
-   */
-  private ColumnWithRowId<Short>[] createColumnWithRowId(byte[][] dataPage,
-      boolean isNoDictionary) {
-    ColumnWithRowId<Short>[] columnWithIndexs = new ColumnWithRowId[dataPage.length];
-    if (isNoDictionary) {
-      for (short i = 0; i < columnWithIndexs.length; i++) {
-        columnWithIndexs[i] = new ColumnWithRowIdForHighCard<>(dataPage[i], i);
+      int[] sortedRowIds = RowIdSorter.sort(dataPage, isNoDictionary);
+      byte[][] sortedDataPage = new byte[dataPage.length][];
+      for (int i = 0; i < rowIds.length; i++) {
+        rowIds[i] = (short) sortedRowIds[i];
+        sortedDataPage[i] = dataPage[sortedRowIds[i]];
       }
+      System.arraycopy(sortedDataPage, 0, dataPage, 0, dataPage.length);
     } else {
-      for (short i = 0; i < columnWithIndexs.length; i++) {
-        columnWithIndexs[i] = new ColumnWithRowId<>(dataPage[i], i);
+      for (int i = 0; i < rowIds.length; i++) {
+        rowIds[i] = (short) i;
       }
     }
-    return columnWithIndexs;
-  }
-
-  private short[] extractDataAndReturnRowId(ColumnWithRowId<Short>[] dataWithRowId,
-      byte[][] dataPage) {
-    short[] indexes = new short[dataWithRowId.length];
-    for (int i = 0; i < indexes.length; i++) {
-      indexes[i] = dataWithRowId[i].getIndex();
-      dataPage[i] = dataWithRowId[i].getColumn();
-    }
     this.dataPage = dataPage;
-    return indexes;
+    rleEncodeOnRowId(rowIds);
+    if (rleOnData) {
+      rleEncodeOnData(dataPage);
+    }
   }
 
   /**
@@ -187,17 +165,17 @@ public class BlockIndexerStorageForShort implements IndexStorage<short[]> {
     return dataPage;
   }
 
-  private void rleEncodeOnData(ColumnWithRowId<Short>[] dataWithRowId) {
-    byte[] prvKey = dataWithRowId[0].getColumn();
-    List<ColumnWithRowId> list = new ArrayList<>(dataWithRowId.length / 2);
-    list.add(dataWithRowId[0]);
+  private void rleEncodeOnData(byte[][] sortedDataPage) {
+    byte[] prvKey = sortedDataPage[0];
+    List<byte[]> list = new ArrayList<>(sortedDataPage.length / 2);
+    list.add(sortedDataPage[0]);
     short counter = 1;
     short start = 0;
     List<Short> map = new ArrayList<Short>(CarbonCommonConstants.CONSTANT_SIZE_TEN);
-    for (int i = 1; i < dataWithRowId.length; i++) {
-      if (ByteUtil.UnsafeComparer.INSTANCE.compareTo(prvKey, dataWithRowId[i].getColumn()) != 0) {
-        prvKey = dataWithRowId[i].getColumn();
-        list.add(dataWithRowId[i]);
+    for (int i = 1; i < sortedDataPage.length; i++) {
+      if (ByteUtil.UnsafeComparer.INSTANCE.compareTo(prvKey, sortedDataPage[i]) != 0) {
+        prvKey = sortedDataPage[i];
+        list.add(sortedDataPage[i]);
         map.add(start);
         map.add(counter);
         start += counter;
@@ -210,29 +188,27 @@ public class BlockIndexerStorageForShort implements IndexStorage<short[]> {
     map.add(counter);
     // if rle is index size is more than 70% then rle wont give any benefit
     // so better to avoid rle index and write data as it is
-    boolean useRle = (((list.size() + map.size()) * 100) / dataWithRowId.length) < 70;
+    boolean useRle = (((list.size() + map.size()) * 100) / sortedDataPage.length) < 70;
     if (useRle) {
       this.dataPage = convertToDataPage(list);
       dataRlePage = convertToArray(map);
     } else {
-      this.dataPage = convertToDataPage(dataWithRowId);
+      this.dataPage = convertToDataPage(sortedDataPage);
       dataRlePage = new short[0];
     }
   }
 
-  private byte[][] convertToDataPage(ColumnWithRowId[] indexes) {
-    byte[][] shortArray = new byte[indexes.length][];
-    for (int i = 0; i < shortArray.length; i++) {
-      shortArray[i] = indexes[i].getColumn();
-      totalSize += shortArray[i].length;
+  private byte[][] convertToDataPage(byte[][] sortedDataPage) {
+    for (int i = 0; i < sortedDataPage.length; i++) {
+      totalSize += sortedDataPage[i].length;
     }
-    return shortArray;
+    return sortedDataPage;
   }
 
-  private byte[][] convertToDataPage(List<ColumnWithRowId> list) {
+  private byte[][] convertToDataPage(List<byte[]> list) {
     byte[][] shortArray = new byte[list.size()][];
     for (int i = 0; i < shortArray.length; i++) {
-      shortArray[i] = list.get(i).getColumn();
+      shortArray[i] = list.get(i);
       totalSize += shortArray[i].length;
     }
     return shortArray;
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.columnar;
+
+import org.apache.carbondata.core.util.ByteUtil.UnsafeComparer;
+
+/**
+ * Sorts the rows of a dimension page by their keys for the inverted index. It returns the row
+ * ids in the sorted order, rows with equal keys keep the order of their row ids, and it works
+ * on primitive arrays so that no object is created for each row of the page.
+ *
+ * Fixed length dictionary keys are converted to int, then they are sorted by counting sort if
+ * the key range of the page is not more than the number of rows, else by radix sort on the key
+ * bytes. Other keys are sorted by merge sort on the row ids.
+ */
+final class RowIdSorter {
+
+  /**
+   * max length of the dictionary key which can be converted to int
+   */
+  private static final int MAX_DICTIONARY_KEY_LENGTH = 4;
+
+  /**
+   * length of the array below which merge sort uses insertion sort
+   */
+  private static final int INSERTION_SORT_THRESHOLD = 7;
+
+  private RowIdSorter() {
+  }
+
+  /**
+   * @param dataPage       keys of the rows
+   * @param isNoDictionary true if the keys are no dictionary values with 2 bytes length prefix,
+   *                       which is not compared
+   * @return row ids in the order of their keys
+   */
+  static int[] sort(byte[][] dataPage, boolean isNoDictionary) {
+    if (!isNoDictionary && isFixedLengthDictionaryKey(dataPage)) {
+      return sortDictionaryKeys(dataPage);
+    }
+    int[] rowIds = new int[dataPage.length];
+    for (int i = 0; i < rowIds.length; i++) {
+      rowIds[i] = i;
+    }
+    mergeSort(dataPage, isNoDictionary ? 2 : 0, rowIds.clone(), rowIds, 0, rowIds.length);
+    return rowIds;
+  }
+
+  private static boolean isFixedLengthDictionaryKey(byte[][] dataPage) {
+    if (dataPage.length == 0 || dataPage[0].length > MAX_DICTIONARY_KEY_LENGTH) {
+      return false;
+    }
+    int keyLength = dataPage[0].length;
+    for (int i = 1; i < dataPage.length; i++) {
+      if (dataPage[i].length != keyLength) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int[] sortDictionaryKeys(byte[][] dataPage) {
+    int numRows = dataPage.length;
+    int keyLength = dataPage[0].length;
+    int[] keys = new int[numRows];
+    int maxKey = 0;
+    for (int i = 0; i < numRows; i++) {
+      byte[] data = dataPage[i];
+      int key = 0;
+      for (int j = 0; j < keyLength; j++) {
+        key = (key << 8) | (data[j] & 0xFF);
+      }
+      keys[i] = key;
+      maxKey = Math.max(maxKey, key);
+    }
+    // a 4 bytes key can be negative as int, radix sort compares it as unsigned
+    if (keyLength < MAX_DICTIONARY_KEY_LENGTH && maxKey < numRows) {
+      return countingSort(keys, maxKey);
+    }
+    return radixSort(keys, keyLength);
+  }
+
+  private static int[] countingSort(int[] keys, int maxKey) {
+    // starts[key] is the position of the first row of the key in the sorted order
+    int[] starts = new int[maxKey + 2];
+    for (int key : keys) {
+      starts[key + 1]++;
+    }
+    for (int i = 1; i < starts.length; i++) {
+      starts[i] += starts[i - 1];
+    }
+    int[] rowIds = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      rowIds[starts[keys[i]]++] = i;
+    }
+    return rowIds;
+  }
+
+  private static int[] radixSort(int[] keys, int keyLength) {
+    int numRows = keys.length;
+    int[] rowIds = new int[numRows];
+    for (int i = 0; i < numRows; i++) {
+      rowIds[i] = i;
+    }
+    int[] sortedKeys = new int[numRows];
+    int[] sortedRowIds = new int[numRows];
+    int[] starts = new int[257];
+    for (int shift = 0; shift < keyLength * 8; shift += 8) {
+      for (int i = 0; i < starts.length; i++) {
+        starts[i] = 0;
+      }
+      for (int key : keys) {
+        starts[((key >>> shift) & 0xFF) + 1]++;
+      }
+      if (starts[((keys[0] >>> shift) & 0xFF) + 1] == numRows) {
+        // all the keys have the same byte here
+        continue;
+      }
+      for (int i = 1; i < starts.length; i++) {
+        starts[i] += starts[i - 1];
+      }
+      for (int i = 0; i < numRows; i++) {
+        int position = starts[(keys[i] >>> shift) & 0xFF]++;
+        sortedKeys[position] = keys[i];
+        sortedRowIds[position] = rowIds[i];
+      }
+      int[] temp = keys;
+      keys = sortedKeys;
+      sortedKeys = temp;
+      temp = rowIds;
+      rowIds = sortedRowIds;
+      sortedRowIds = temp;
+    }
+    return rowIds;
+  }
+
+  /**
+   * Stable merge sort of the row ids in `dest[low, high)` by their keys, `src` must have the
+   * same row ids as `dest` in this range
+   */
+  private static void mergeSort(byte[][] dataPage, int offset, int[] src, int[] dest, int low,
+      int high) {
+    int length = high - low;
+    if (length < INSERTION_SORT_THRESHOLD) {
+      for (int i = low + 1; i < high; i++) {
+        for (int j = i; j > low && compare(dataPage, offset, dest[j - 1], dest[j]) > 0; j--) {
+          int temp = dest[j];
+          dest[j] = dest[j - 1];
+          dest[j - 1] = temp;
+        }
+      }
+      return;
+    }
+    int mid = (low + high) >>> 1;
+    mergeSort(dataPage, offset, dest, src, low, mid);
+    mergeSort(dataPage, offset, dest, src, mid, high);
+    if (compare(dataPage, offset, src[mid - 1], src[mid]) <= 0) {
+      System.arraycopy(src, low, dest, low, length);
+      return;
+    }
+    for (int i = low, p = low, q = mid; i < high; i++) {
+      if (q >= high || p < mid && compare(dataPage, offset, src[p], src[q]) <= 0) {
+        dest[i] = src[p++];
+      } else {
+        dest[i] = src[q++];
+      }
+    }
+  }
+
+  private static int compare(byte[][] dataPage, int offset, int rowId1, int rowId2) {
+    byte[] key1 = dataPage[rowId1];
+    byte[] key2 = dataPage[rowId2];
+    return UnsafeComparer.INSTANCE
+        .compareTo(key1, offset, key1.length - offset, key2, offset, key2.length - offset);
+  }
+}
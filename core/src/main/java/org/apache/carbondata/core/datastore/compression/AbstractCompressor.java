@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.compression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+import org.apache.carbondata.core.memory.CarbonUnsafe;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+
+/**
+ * Base class for compressors which only know how to compress a byte array. The primitive array
+ * methods lay the array out in native byte order before compression, which is the same layout
+ * an unsafe column page hands to {@link #rawCompress(long, int, long)}, so pages compressed
+ * through either path are read back by the same uncompress method. Uncompressing into page
+ * memory goes from address to address when the compressor supports it, so a page can be
+ * decoded without an intermediate heap array.
+ */
+public abstract class AbstractCompressor implements Compressor {
+
+  /**
+   * max size of the staging buffer of a thread. The buffer is not counted in the unsafe memory
+   * limits and lives as long as its thread, so larger compressed pages go through the heap
+   */
+  private static final int STAGING_BUFFER_MAX_SIZE = 1024 * 1024;
+
+  /**
+   * off-heap buffer per thread to stage compressed heap data for address based uncompression,
+   * it is freed by the garbage collector after its thread ends
+   */
+  private static final ThreadLocal<ByteBuffer> STAGING_BUFFER = new ThreadLocal<>();
+
+  @Override
+  public byte[] compressByte(byte[] unCompInput) {
+    return compressByte(unCompInput, unCompInput.length);
+  }
+
+  @Override
+  public byte[] unCompressByte(byte[] compInput) {
+    return unCompressByte(compInput, 0, compInput.length);
+  }
+
+  @Override
+  public byte[] unCompressByte(ByteBuffer compInput, int offset, int length)
+      throws IOException {
+    if (compInput.hasArray()) {
+      return unCompressByte(compInput.array(), compInput.arrayOffset() + offset, length);
+    }
+    byte[] output = new byte[unCompressedLength(compInput, offset, length)];
+    rawUncompress(compInput, offset, length, output, CarbonUnsafe.BYTE_ARRAY_OFFSET);
+    return output;
+  }
+
+  @Override
+  public byte[] compressShort(short[] unCompInput) {
+    ByteBuffer buffer = allocate(unCompInput.length * DataTypes.SHORT.getSizeInBytes());
+    buffer.asShortBuffer().put(unCompInput);
+    return compressByte(buffer.array());
+  }
+
+  @Override
+  public short[] unCompressShort(byte[] compInput) {
+    return unCompressShort(compInput, 0, compInput.length);
+  }
+
+  @Override
+  public short[] unCompressShort(byte[] compInput, int offset, int length) {
+    ShortBuffer buffer = wrap(unCompressByte(compInput, offset, length)).asShortBuffer();
+    short[] result = new short[buffer.remaining()];
+    buffer.get(result);
+    return result;
+  }
+
+  @Override
+  public byte[] compressInt(int[] unCompInput) {
+    ByteBuffer buffer = allocate(unCompInput.length * DataTypes.INT.getSizeInBytes());
+    buffer.asIntBuffer().put(unCompInput);
+    return compressByte(buffer.array());
+  }
+
+  @Override
+  public int[] unCompressInt(byte[] compInput) {
+    return unCompressInt(compInput, 0, compInput.length);
+  }
+
+  @Override
+  public int[] unCompressInt(byte[] compInput, int offset, int length) {
+    IntBuffer buffer = wrap(unCompressByte(compInput, offset, length)).asIntBuffer();
+    int[] result = new int[buffer.remaining()];
+    buffer.get(result);
+    return result;
+  }
+
+  @Override
+  public byte[] compressLong(long[] unCompInput) {
+    ByteBuffer buffer = allocate(unCompInput.length * DataTypes.LONG.getSizeInBytes());
+    buffer.asLongBuffer().put(unCompInput);
+    return compressByte(buffer.array());
+  }
+
+  @Override
+  public long[] unCompressLong(byte[] compInput) {
+    return unCompressLong(compInput, 0, compInput.length);
+  }
+
+  @Override
+  public long[] unCompressLong(byte[] compInput, int offset, int length) {
+    LongBuffer buffer = wrap(unCompressByte(compInput, offset, length)).asLongBuffer();
+    long[] result = new long[buffer.remaining()];
+    buffer.get(result);
+    return result;
+  }
+
+  @Override
+  public byte[] compressFloat(float[] unCompInput) {
+    ByteBuffer buffer = allocate(unCompInput.length * DataTypes.FLOAT.getSizeInBytes());
+    buffer.asFloatBuffer().put(unCompInput);
+    return compressByte(buffer.array());
+  }
+
+  @Override
+  public float[] unCompressFloat(byte[] compInput) {
+    return unCompressFloat(compInput, 0, compInput.length);
+  }
+
+  @Override
+  public float[] unCompressFloat(byte[] compInput, int offset, int length) {
+    FloatBuffer buffer = wrap(unCompressByte(compInput, offset, length)).asFloatBuffer();
+    float[] result = new float[buffer.remaining()];
+    buffer.get(result);
+    return result;
+  }
+
+  @Override
+  public byte[] compressDouble(double[] unCompInput) {
+    ByteBuffer buffer = allocate(unCompInput.length * DataTypes.DOUBLE.getSizeInBytes());
+    buffer.asDoubleBuffer().put(unCompInput);
+    return compressByte(buffer.array());
+  }
+
+  @Override
+  public double[] unCompressDouble(byte[] compInput) {
+    return unCompressDouble(compInput, 0, compInput.length);
+  }
+
+  @Override
+  public double[] unCompressDouble(byte[] compInput, int offset, int length) {
+    DoubleBuffer buffer = wrap(unCompressByte(compInput, offset, length)).asDoubleBuffer();
+    double[] result = new double[buffer.remaining()];
+    buffer.get(result);
+    return result;
+  }
+
+  /**
+   * Compressors which can uncompress from an off-heap address to an off-heap address override
+   * this and {@link #rawUncompress(long, int, long, int)}, others go through a heap copy
+   */
+  protected boolean supportsAddressUncompress() {
+    return false;
+  }
+
+  protected long rawUncompress(long inputAddress, int inputLength, long outputAddress,
+      int outputLength) throws IOException {
+    throw new UnsupportedOperationException(getName() + " can not uncompress from an address");
+  }
+
+  @Override
+  public long rawUncompress(ByteBuffer compInput, int offset, int length, Object outputBase,
+      long outputOffset) throws IOException {
+    if (outputBase == null && supportsAddressUncompress()
+        && (compInput.isDirect() || length <= STAGING_BUFFER_MAX_SIZE)) {
+      int outputLength = unCompressedLength(compInput, offset, length);
+      long inputAddress;
+      if (compInput.isDirect()) {
+        inputAddress = CarbonUnsafe.getDirectBufferAddress(compInput) + offset;
+      } else {
+        // stage the compressed bytes off-heap, they are much smaller than the uncompressed
+        // page which then goes straight to the output memory
+        ByteBuffer stagingBuffer = getStagingBuffer(length);
+        inputAddress = CarbonUnsafe.getDirectBufferAddress(stagingBuffer);
+        CarbonUnsafe.getUnsafe().copyMemory(compInput.array(),
+            CarbonUnsafe.BYTE_ARRAY_OFFSET + compInput.arrayOffset() + offset, null,
+            inputAddress, length);
+      }
+      return rawUncompress(inputAddress, length, outputOffset, outputLength);
+    }
+    byte[] uncompressed;
+    if (compInput.hasArray()) {
+      uncompressed = unCompressByte(compInput.array(), compInput.arrayOffset() + offset, length);
+    } else {
+      byte[] input = new byte[length];
+      ByteBuffer duplicate = compInput.duplicate();
+      duplicate.position(offset);
+      duplicate.get(input);
+      uncompressed = unCompressByte(input);
+    }
+    CarbonUnsafe.getUnsafe().copyMemory(uncompressed, CarbonUnsafe.BYTE_ARRAY_OFFSET,
+        outputBase, outputOffset, uncompressed.length);
+    return uncompressed.length;
+  }
+
+  private static ByteBuffer getStagingBuffer(int size) {
+    assert (size <= STAGING_BUFFER_MAX_SIZE);
+    ByteBuffer buffer = STAGING_BUFFER.get();
+    if (buffer == null || buffer.capacity() < size) {
+      // grow in powers of two up to the max size, so that a thread replaces its buffer only a
+      // few times
+      int capacity = Math.min(Integer.highestOneBit(Math.max(size - 1, 1)) << 1,
+          STAGING_BUFFER_MAX_SIZE);
+      buffer = ByteBuffer.allocateDirect(Math.max(capacity, size));
+      STAGING_BUFFER.set(buffer);
+    }
+    return buffer;
+  }
+
+  private static ByteBuffer allocate(int size) {
+    return ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+  }
+
+  private static ByteBuffer wrap(byte[] data) {
+    return ByteBuffer.wrap(data).order(ByteOrder.nativeOrder());
+  }
+}
@@ -18,6 +18,7 @@
 package org.apache.carbondata.core.datastore.compression;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 public interface Compressor {
 
@@ -31,6 +32,11 @@ public interface Compressor {
 
   byte[] unCompressByte(byte[] compInput, int offset, int length);
 
+  /**
+   * Uncompress length bytes at offset of compInput, which can be a heap or a direct buffer
+   */
+  byte[] unCompressByte(ByteBuffer compInput, int offset, int length) throws IOException;
+
   byte[] compressShort(short[] unCompInput);
 
   short[] unCompressShort(byte[] compInput);
@@ -65,5 +71,20 @@ public interface Compressor {
 
   long rawUncompress(byte[] input, byte[] output) throws IOException;
 
+  /**
+   * Return the length of the data after uncompressing length bytes at offset of compInput,
+   * compInput can be a heap or a direct buffer
+   */
+  int unCompressedLength(ByteBuffer compInput, int offset, int length) throws IOException;
+
+  /**
+   * Uncompress length bytes at offset of compInput into the memory at outputOffset of
+   * outputBase, using the same base and offset convention as Unsafe: outputBase is an array,
+   * or null when outputOffset is an off-heap address. The memory must hold at least
+   * unCompressedLength bytes. Return the number of bytes written
+   */
+  long rawUncompress(ByteBuffer compInput, int offset, int length, Object outputBase,
+      long outputOffset) throws IOException;
+
   int maxCompressedLength(int inputSize);
 }
@@ -17,25 +17,69 @@
 
 package org.apache.carbondata.core.datastore.compression;
 
+import java.util.Map;
+
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.format.ChunkCompressionMeta;
+import org.apache.carbondata.format.CompressionCodec;
 
 public class CompressorFactory {
 
   private static final CompressorFactory COMPRESSOR_FACTORY = new CompressorFactory();
 
-  private final Compressor snappyCompressor;
+  /**
+   * compressors supported by carbon, each one is created on first use so that a missing
+   * native library only fails the tables which actually use it
+   */
+  private enum SupportedCompressor {
+    SNAPPY("snappy", CompressionCodec.SNAPPY),
+    ZSTD("zstd", CompressionCodec.ZSTD),
+    LZ4("lz4", CompressionCodec.LZ4);
+
+    private final String name;
+
+    private final CompressionCodec codec;
+
+    private transient volatile Compressor compressor;
+
+    SupportedCompressor(String name, CompressionCodec codec) {
+      this.name = name;
+      this.codec = codec;
+    }
+
+    Compressor getCompressor() {
+      if (compressor == null) {
+        synchronized (this) {
+          if (compressor == null) {
+            compressor = newCompressor();
+          }
+        }
+      }
+      return compressor;
+    }
+
+    private Compressor newCompressor() {
+      switch (this) {
+        case ZSTD:
+          return new ZstdCompressor();
+        case LZ4:
+          return new Lz4Compressor();
+        default:
+          return new SnappyCompressor();
+      }
+    }
+  }
+
+  private final SupportedCompressor defaultCompressor;
 
   private CompressorFactory() {
     String compressorType = CarbonProperties.getInstance()
         .getProperty(CarbonCommonConstants.COMPRESSOR, CarbonCommonConstants.DEFAULT_COMPRESSOR);
-    switch (compressorType) {
-      case "snappy":
-        snappyCompressor = new SnappyCompressor();
-        break;
-      default:
-        throw new RuntimeException(
-            "Invalid compressor type provided! Please provide valid compressor type");
+    defaultCompressor = lookup(compressorType);
+    if (defaultCompressor == null) {
+      throw new RuntimeException(
+          "Invalid compressor type provided! Please provide valid compressor type");
     }
   }
 
@@ -43,16 +87,77 @@ public class CompressorFactory {
     return COMPRESSOR_FACTORY;
   }
 
+  /**
+   * Return the compressor configured by carbon.column.compressor
+   */
   public Compressor getCompressor() {
-    return getCompressor(CarbonCommonConstants.DEFAULT_COMPRESSOR);
+    return defaultCompressor.getCompressor();
   }
 
   public Compressor getCompressor(String name) {
-    if (name.equalsIgnoreCase("snappy")) {
-      return snappyCompressor;
-    } else {
+    SupportedCompressor supportedCompressor = lookup(name);
+    if (supportedCompressor == null) {
       throw new UnsupportedOperationException(name + " compressor is not supported");
     }
+    return supportedCompressor.getCompressor();
+  }
+
+  /**
+   * Return the compressor recorded in the chunk metadata of a page. Files written before the
+   * compressor became configurable are always snappy.
+   */
+  public Compressor getCompressor(ChunkCompressionMeta chunkCompressionMeta) {
+    if (chunkCompressionMeta == null || chunkCompressionMeta.getCompression_codec() == null) {
+      return SupportedCompressor.SNAPPY.getCompressor();
+    }
+    for (SupportedCompressor supportedCompressor : SupportedCompressor.values()) {
+      if (supportedCompressor.codec == chunkCompressionMeta.getCompression_codec()) {
+        return supportedCompressor.getCompressor();
+      }
+    }
+    throw new UnsupportedOperationException(
+        chunkCompressionMeta.getCompression_codec() + " compressor is not supported");
+  }
+
+  /**
+   * Return the thrift codec to record in chunk metadata for the compressor name
+   */
+  public CompressionCodec getCompressionCodec(String name) {
+    SupportedCompressor supportedCompressor = lookup(name);
+    if (supportedCompressor == null) {
+      throw new UnsupportedOperationException(name + " compressor is not supported");
+    }
+    return supportedCompressor.codec;
+  }
+
+  public boolean isSupported(String name) {
+    return lookup(name) != null;
+  }
+
+  /**
+   * Return the compressor name to use for a table, the table property takes precedence over
+   * the system level carbon.column.compressor
+   */
+  public String getCompressorName(Map<String, String> tableProperties) {
+    if (tableProperties != null) {
+      String tableCompressor = tableProperties.get(CarbonCommonConstants.TABLE_COLUMN_COMPRESSOR);
+      if (tableCompressor != null) {
+        return getCompressor(tableCompressor).getName();
+      }
+    }
+    return getCompressor().getName();
+  }
+
+  private static SupportedCompressor lookup(String name) {
+    if (name == null) {
+      return null;
+    }
+    for (SupportedCompressor supportedCompressor : SupportedCompressor.values()) {
+      if (supportedCompressor.name.equalsIgnoreCase(name.trim())) {
+        return supportedCompressor;
+      }
+    }
+    return null;
   }
 
 }
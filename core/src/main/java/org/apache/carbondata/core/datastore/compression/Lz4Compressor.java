@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.compression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.carbondata.core.memory.CarbonUnsafe;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Compressor backed by lz4-java. A raw lz4 block does not carry its decompressed size, so every
+ * compressed buffer is prefixed with the uncompressed length as a 4 byte int.
+ */
+public class Lz4Compressor extends AbstractCompressor {
+
+  private static final int LENGTH_HEADER_SIZE = 4;
+
+  private final LZ4Compressor compressor;
+
+  private final LZ4FastDecompressor decompressor;
+
+  public Lz4Compressor() {
+    LZ4Factory factory = LZ4Factory.fastestInstance();
+    compressor = factory.fastCompressor();
+    decompressor = factory.fastDecompressor();
+  }
+
+  @Override
+  public String getName() {
+    return "lz4";
+  }
+
+  @Override
+  public byte[] compressByte(byte[] unCompInput, int byteSize) {
+    byte[] output = new byte[maxCompressedLength(byteSize)];
+    writeLength(output, byteSize);
+    int compressedSize = compressor.compress(unCompInput, 0, byteSize, output,
+        LENGTH_HEADER_SIZE, output.length - LENGTH_HEADER_SIZE);
+    return Arrays.copyOf(output, LENGTH_HEADER_SIZE + compressedSize);
+  }
+
+  @Override
+  public byte[] unCompressByte(byte[] compInput, int offset, int length) {
+    byte[] output = new byte[readLength(compInput, offset)];
+    decompressor.decompress(compInput, offset + LENGTH_HEADER_SIZE, output, 0, output.length);
+    return output;
+  }
+
+  /**
+   * lz4-java has no address based API, so the off-heap input is copied to the heap once and
+   * the compressed result is copied back to the output address.
+   */
+  @Override
+  public long rawCompress(long inputAddress, int inputSize, long outputAddress) throws IOException {
+    byte[] input = new byte[inputSize];
+    CarbonUnsafe.getUnsafe().copyMemory(null, inputAddress, input,
+        CarbonUnsafe.BYTE_ARRAY_OFFSET, inputSize);
+    byte[] output = compressByte(input, inputSize);
+    CarbonUnsafe.getUnsafe().copyMemory(output, CarbonUnsafe.BYTE_ARRAY_OFFSET, null,
+        outputAddress, output.length);
+    return output.length;
+  }
+
+  @Override
+  public long rawUncompress(byte[] input, byte[] output) throws IOException {
+    int length = readLength(input, 0);
+    if (length > output.length) {
+      throw new IOException("output buffer is too small for lz4 data of length " + length);
+    }
+    decompressor.decompress(input, LENGTH_HEADER_SIZE, output, 0, length);
+    return length;
+  }
+
+  @Override
+  public int maxCompressedLength(int inputSize) {
+    return LENGTH_HEADER_SIZE + compressor.maxCompressedLength(inputSize);
+  }
+
+  @Override
+  public int unCompressedLength(ByteBuffer compInput, int offset, int length) {
+    return ((compInput.get(offset) & 0xFF) << 24) | ((compInput.get(offset + 1) & 0xFF) << 16)
+        | ((compInput.get(offset + 2) & 0xFF) << 8) | (compInput.get(offset + 3) & 0xFF);
+  }
+
+  private static void writeLength(byte[] output, int length) {
+    output[0] = (byte) (length >>> 24);
+    output[1] = (byte) (length >>> 16);
+    output[2] = (byte) (length >>> 8);
+    output[3] = (byte) length;
+  }
+
+  private static int readLength(byte[] input, int offset) {
+    return ((input[offset] & 0xFF) << 24) | ((input[offset + 1] & 0xFF) << 16)
+        | ((input[offset + 2] & 0xFF) << 8) | (input[offset + 3] & 0xFF);
+  }
+}
@@ -19,14 +19,16 @@ package org.apache.carbondata.core.datastore.compression;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.memory.CarbonUnsafe;
 
 import org.xerial.snappy.Snappy;
 import org.xerial.snappy.SnappyNative;
 
-public class SnappyCompressor implements Compressor {
+public class SnappyCompressor extends AbstractCompressor {
 
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(SnappyCompressor.class.getName());
@@ -245,4 +247,43 @@ public class SnappyCompressor implements Compressor {
   public int maxCompressedLength(int inputSize) {
     return snappyNative.maxCompressedLength(inputSize);
   }
+
+  @Override
+  public int unCompressedLength(ByteBuffer compInput, int offset, int length)
+      throws IOException {
+    if (compInput.isDirect()) {
+      long uncompressedLength = snappyNative.uncompressedLength(
+          CarbonUnsafe.getDirectBufferAddress(compInput) + offset, length);
+      if (uncompressedLength < 0 || uncompressedLength > Integer.MAX_VALUE) {
+        throw new IOException("invalid uncompressed length of snappy data: "
+            + uncompressedLength);
+      }
+      return (int) uncompressedLength;
+    }
+    return Snappy.uncompressedLength(compInput.array(), compInput.arrayOffset() + offset, length);
+  }
+
+  @Override
+  public long rawUncompress(ByteBuffer compInput, int offset, int length, Object outputBase,
+      long outputOffset) throws IOException {
+    if (outputBase != null && compInput.hasArray()) {
+      // on-heap page memory, snappy can write into the array directly
+      int outputArrayOffset = (int) (outputOffset
+          - CarbonUnsafe.getUnsafe().arrayBaseOffset(outputBase.getClass()));
+      return snappyNative.rawUncompress(compInput.array(), compInput.arrayOffset() + offset,
+          length, outputBase, outputArrayOffset);
+    }
+    return super.rawUncompress(compInput, offset, length, outputBase, outputOffset);
+  }
+
+  @Override
+  protected boolean supportsAddressUncompress() {
+    return true;
+  }
+
+  @Override
+  protected long rawUncompress(long inputAddress, int inputLength, long outputAddress,
+      int outputLength) throws IOException {
+    return snappyNative.rawUncompress(inputAddress, inputLength, outputAddress);
+  }
 }
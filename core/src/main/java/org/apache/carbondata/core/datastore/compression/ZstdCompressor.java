@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.compression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.carbondata.core.memory.CarbonUnsafe;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * Compressor backed by zstd-jni. Each compressed buffer is a single zstd frame which carries
+ * its decompressed size, so no extra header is written. zstd-jni 1.3.2 has no address based
+ * API, so off-heap pages are uncompressed through a heap array.
+ */
+public class ZstdCompressor extends AbstractCompressor {
+
+  /**
+   * level 1 keeps the write speed close to snappy while still giving a better ratio
+   */
+  private static final int COMPRESS_LEVEL = 1;
+
+  /**
+   * max size of a zstd frame header, which carries the decompressed size
+   */
+  private static final int FRAME_HEADER_SIZE_MAX = 18;
+
+  @Override
+  public String getName() {
+    return "zstd";
+  }
+
+  @Override
+  public byte[] compressByte(byte[] unCompInput, int byteSize) {
+    byte[] input = unCompInput;
+    if (byteSize != unCompInput.length) {
+      input = Arrays.copyOf(unCompInput, byteSize);
+    }
+    return Zstd.compress(input, COMPRESS_LEVEL);
+  }
+
+  @Override
+  public byte[] unCompressByte(byte[] compInput, int offset, int length) {
+    byte[] input = compInput;
+    if (offset != 0 || length != compInput.length) {
+      input = Arrays.copyOfRange(compInput, offset, offset + length);
+    }
+    long decompressedSize = Zstd.decompressedSize(input);
+    return Zstd.decompress(input, (int) decompressedSize);
+  }
+
+  /**
+   * zstd-jni 1.3.2 has no address based API, so the off-heap input is copied to the heap once
+   * and the compressed result is copied back to the output address.
+   */
+  @Override
+  public long rawCompress(long inputAddress, int inputSize, long outputAddress) throws IOException {
+    byte[] input = new byte[inputSize];
+    CarbonUnsafe.getUnsafe().copyMemory(null, inputAddress, input,
+        CarbonUnsafe.BYTE_ARRAY_OFFSET, inputSize);
+    byte[] output = new byte[maxCompressedLength(inputSize)];
+    long outSize = Zstd.compress(output, input, COMPRESS_LEVEL);
+    if (Zstd.isError(outSize)) {
+      throw new IOException("zstd compression failed: " + Zstd.getErrorName(outSize));
+    }
+    CarbonUnsafe.getUnsafe().copyMemory(output, CarbonUnsafe.BYTE_ARRAY_OFFSET, null,
+        outputAddress, outSize);
+    return outSize;
+  }
+
+  @Override
+  public long rawUncompress(byte[] input, byte[] output) throws IOException {
+    long outSize = Zstd.decompress(output, input);
+    if (Zstd.isError(outSize)) {
+      throw new IOException("zstd decompression failed: " + Zstd.getErrorName(outSize));
+    }
+    return outSize;
+  }
+
+  @Override
+  public int maxCompressedLength(int inputSize) {
+    return (int) Zstd.compressBound(inputSize);
+  }
+
+  @Override
+  public int unCompressedLength(ByteBuffer compInput, int offset, int length) {
+    // the decompressed size is in the frame header, so only the header is copied
+    byte[] frameHeader = new byte[Math.min(length, FRAME_HEADER_SIZE_MAX)];
+    ByteBuffer duplicate = compInput.duplicate();
+    duplicate.position(offset);
+    duplicate.get(frameHeader);
+    return (int) Zstd.decompressedSize(frameHeader);
+  }
+}
@@ -23,6 +23,7 @@ import org.apache.carbondata.core.datastore.filesystem.CarbonFile;
 import org.apache.carbondata.core.datastore.filesystem.HDFSCarbonFile;
 import org.apache.carbondata.core.datastore.filesystem.LocalCarbonFile;
 import org.apache.carbondata.core.datastore.filesystem.ViewFSCarbonFile;
+import org.apache.carbondata.core.util.CarbonProperties;
 
 import org.apache.hadoop.conf.Configuration;
 
@@ -31,6 +32,9 @@ public class DefaultFileTypeProvider implements FileTypeInerface {
   public FileReader getFileHolder(FileFactory.FileType fileType) {
     switch (fileType) {
       case LOCAL:
+        if (CarbonProperties.getInstance().isLocalFileReaderMmapEnabled()) {
+          return new MmapFileReaderImpl();
+        }
         return new FileReaderImpl();
       case HDFS:
       case ALLUXIO:
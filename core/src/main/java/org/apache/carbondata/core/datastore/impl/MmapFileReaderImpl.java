@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.impl;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.FileReader;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+/**
+ * FileReader for local files which maps the files into memory instead of reading them into
+ * heap buffers. readByteBuffer returns a slice of the mapped region, so the data is not copied
+ * till it is decoded.
+ *
+ * A file is mapped in regions of carbon.mmap.window.size.in.mb. {@link #finish()} only closes
+ * the files, a region is unmapped when it and all the buffers sliced from it are garbage
+ * collected. Unmapping it explicitly could crash the process if a decoded page still refers
+ * to a slice of it.
+ */
+public class MmapFileReaderImpl implements FileReader {
+
+  /**
+   * cache to hold filename and its mapped regions
+   */
+  private Map<String, MappedFile> fileNameAndMappedFileCache;
+
+  private int windowSize;
+
+  private boolean readPageByPage;
+
+  public MmapFileReaderImpl() {
+    this(CarbonProperties.getInstance().getMmapWindowSizeInBytes());
+  }
+
+  public MmapFileReaderImpl(int windowSize) {
+    this.fileNameAndMappedFileCache =
+        new HashMap<String, MappedFile>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
+    this.windowSize = windowSize;
+  }
+
+  @Override public ByteBuffer readByteBuffer(String filePath, long offset, int length)
+      throws IOException {
+    return updateCache(filePath).slice(offset, length);
+  }
+
+  @Override public byte[] readByteArray(String filePath, long offset, int length)
+      throws IOException {
+    byte[] data = new byte[length];
+    updateCache(filePath).slice(offset, length).get(data);
+    return data;
+  }
+
+  @Override public byte[] readByteArray(String filePath, int length) throws IOException {
+    MappedFile mappedFile = updateCache(filePath);
+    byte[] data = new byte[length];
+    mappedFile.slice(mappedFile.position, length).get(data);
+    mappedFile.position += length;
+    return data;
+  }
+
+  @Override public int readInt(String filePath, long offset) throws IOException {
+    return updateCache(filePath).slice(offset, CarbonCommonConstants.INT_SIZE_IN_BYTE).getInt();
+  }
+
+  @Override public int readInt(String filePath) throws IOException {
+    MappedFile mappedFile = updateCache(filePath);
+    int value =
+        mappedFile.slice(mappedFile.position, CarbonCommonConstants.INT_SIZE_IN_BYTE).getInt();
+    mappedFile.position += CarbonCommonConstants.INT_SIZE_IN_BYTE;
+    return value;
+  }
+
+  @Override public long readLong(String filePath, long offset) throws IOException {
+    return updateCache(filePath).slice(offset, CarbonCommonConstants.LONG_SIZE_IN_BYTE)
+        .getLong();
+  }
+
+  @Override public long readDouble(String filePath, long offset) throws IOException {
+    return readLong(filePath, offset);
+  }
+
+  /**
+   * This method will be used to close all the files currently present in the cache, their
+   * mapped regions are released by the garbage collector
+   */
+  @Override public void finish() throws IOException {
+    IOException exception = null;
+    for (MappedFile mappedFile : fileNameAndMappedFileCache.values()) {
+      try {
+        mappedFile.close();
+      } catch (IOException e) {
+        exception = e;
+      }
+    }
+    fileNameAndMappedFileCache.clear();
+    if (null != exception) {
+      throw exception;
+    }
+  }
+
+  @Override public void setReadPageByPage(boolean isReadPageByPage) {
+    this.readPageByPage = isReadPageByPage;
+  }
+
+  @Override public boolean isReadPageByPage() {
+    return readPageByPage;
+  }
+
+  private MappedFile updateCache(String filePath) throws IOException {
+    MappedFile mappedFile = fileNameAndMappedFileCache.get(filePath);
+    if (null == mappedFile) {
+      FileChannel channel = new FileInputStream(filePath).getChannel();
+      mappedFile = new MappedFile(filePath, channel, channel.size(), windowSize);
+      fileNameAndMappedFileCache.put(filePath, mappedFile);
+    }
+    return mappedFile;
+  }
+
+  /**
+   * Mapped regions of one file, keyed by their start offset in the file
+   */
+  private static class MappedFile {
+
+    private String filePath;
+
+    private FileChannel channel;
+
+    private long fileSize;
+
+    private int windowSize;
+
+    private TreeMap<Long, MappedByteBuffer> regions = new TreeMap<>();
+
+    /**
+     * position of the reads which do not pass an offset
+     */
+    private long position;
+
+    MappedFile(String filePath, FileChannel channel, long fileSize, int windowSize) {
+      this.filePath = filePath;
+      this.channel = channel;
+      this.fileSize = fileSize;
+      this.windowSize = windowSize;
+    }
+
+    /**
+     * Return a buffer of length bytes at offset of the file, it shares the memory of the
+     * mapped region
+     */
+    ByteBuffer slice(long offset, int length) throws IOException {
+      if (offset < 0 || length < 0 || offset + length > fileSize) {
+        throw new IOException("Can not read " + length + " bytes at offset " + offset + " of "
+            + filePath + ", file size is " + fileSize);
+      }
+      long regionStart;
+      MappedByteBuffer region;
+      Map.Entry<Long, MappedByteBuffer> entry = regions.floorEntry(offset);
+      if (null != entry && offset + length <= entry.getKey() + entry.getValue().capacity()) {
+        regionStart = entry.getKey();
+        region = entry.getValue();
+      } else {
+        // map a new region from the read offset, a read bigger than the window gets a region
+        // of its own size
+        regionStart = offset;
+        long regionSize = Math.min(Math.max(windowSize, length), fileSize - offset);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionSize);
+        // a smaller region at the same offset is replaced for lookup, it stays mapped while
+        // slices of it are in use
+        regions.put(regionStart, region);
+      }
+      ByteBuffer slice = region.duplicate();
+      int start = (int) (offset - regionStart);
+      slice.position(start);
+      slice.limit(start + length);
+      return slice.slice();
+    }
+
+    void close() throws IOException {
+      // the mapping stays valid after the channel is closed
+      regions.clear();
+      channel.close();
+    }
+  }
+}
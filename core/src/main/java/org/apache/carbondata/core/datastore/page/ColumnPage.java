@@ -19,6 +19,7 @@ package org.apache.carbondata.core.datastore.page;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.BitSet;
 
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
@@ -60,6 +61,9 @@ public abstract class ColumnPage {
   // statistics collector for this column page
   private ColumnPageStatsCollector statsCollector;
 
+  // name of the compressor used when this page is encoded
+  private String columnCompressorName;
+
   protected static final boolean unsafe = Boolean.parseBoolean(CarbonProperties.getInstance()
       .getProperty(CarbonCommonConstants.ENABLE_UNSAFE_COLUMN_PAGE,
           CarbonCommonConstants.ENABLE_UNSAFE_COLUMN_PAGE_DEFAULT));
@@ -114,6 +118,21 @@ public abstract class ColumnPage {
     this.statsCollector = statsCollector;
   }
 
+  /**
+   * Return the compressor name for encoding this page, it is the table level compressor when
+   * set by the loading flow, otherwise the one configured by carbon.column.compressor
+   */
+  public String getColumnCompressorName() {
+    if (columnCompressorName == null) {
+      return CompressorFactory.getInstance().getCompressor().getName();
+    }
+    return columnCompressorName;
+  }
+
+  public void setColumnCompressorName(String columnCompressorName) {
+    this.columnCompressorName = columnCompressorName;
+  }
+
   private static ColumnPage createDecimalPage(TableSpec.ColumnSpec columnSpec, DataType dataType,
       int pageSize) {
     if (unsafe) {
@@ -544,6 +563,83 @@ public abstract class ColumnPage {
    */
   public abstract double getDouble(int rowId);
 
+  /**
+   * Return true if getLongs and getDoubles can be used to read the values of this page in bulk
+   */
+  public boolean isBulkDecodeSupported() {
+    return false;
+  }
+
+  /**
+   * Bulk variant of getLong. Fill `output[0, size)` with the values of the rows
+   * [offset, offset + size), or of the rows `rowIds[offset, offset + size)` if rowIds is not
+   * null. The values are read in a tight loop for each stored data type, for the integral
+   * data types only.
+   */
+  public void getLongs(int[] rowIds, int offset, int size, long[] output) {
+    if (dataType == BYTE) {
+      if (null == rowIds) {
+        for (int i = 0; i < size; i++) {
+          output[i] = getByte(offset + i);
+        }
+      } else {
+        for (int i = 0; i < size; i++) {
+          output[i] = getByte(rowIds[offset + i]);
+        }
+      }
+    } else if (dataType == SHORT) {
+      if (null == rowIds) {
+        for (int i = 0; i < size; i++) {
+          output[i] = getShort(offset + i);
+        }
+      } else {
+        for (int i = 0; i < size; i++) {
+          output[i] = getShort(rowIds[offset + i]);
+        }
+      }
+    } else if (dataType == SHORT_INT) {
+      if (null == rowIds) {
+        for (int i = 0; i < size; i++) {
+          output[i] = getShortInt(offset + i);
+        }
+      } else {
+        for (int i = 0; i < size; i++) {
+          output[i] = getShortInt(rowIds[offset + i]);
+        }
+      }
+    } else if (dataType == INT) {
+      if (null == rowIds) {
+        for (int i = 0; i < size; i++) {
+          output[i] = getInt(offset + i);
+        }
+      } else {
+        for (int i = 0; i < size; i++) {
+          output[i] = getInt(rowIds[offset + i]);
+        }
+      }
+    } else if (dataType == LONG) {
+      if (null == rowIds) {
+        for (int i = 0; i < size; i++) {
+          output[i] = getLong(offset + i);
+        }
+      } else {
+        for (int i = 0; i < size; i++) {
+          output[i] = getLong(rowIds[offset + i]);
+        }
+      }
+    } else {
+      throw new UnsupportedOperationException("invalid data type: " + dataType);
+    }
+  }
+
+  /**
+   * Bulk variant of getDouble, see getLongs. `buffer` is used to hold intermediate values, its
+   * length must be at least `size`.
+   */
+  public void getDoubles(int[] rowIds, int offset, int size, long[] buffer, double[] output) {
+    throw new UnsupportedOperationException("invalid data type: " + dataType);
+  }
+
   /**
    * Get decimal value at rowId
    */
@@ -645,6 +741,56 @@ public abstract class ColumnPage {
     }
   }
 
+  /**
+   * Decompress data in [offset, offset + length) of a heap or direct buffer and create a column
+   * page using the decompressed data, except for decimal page. For unsafe page, fixed length
+   * data is decompressed straight into the page memory
+   */
+  public static ColumnPage decompress(ColumnPageEncoderMeta meta, ByteBuffer compressedData,
+      int offset, int length) throws MemoryException, IOException {
+    DataType storeDataType = meta.getStoreDataType();
+    if (unsafe && (storeDataType == DataTypes.BOOLEAN ||
+        storeDataType == DataTypes.BYTE ||
+        storeDataType == DataTypes.SHORT ||
+        storeDataType == DataTypes.SHORT_INT ||
+        storeDataType == DataTypes.INT ||
+        storeDataType == DataTypes.LONG ||
+        storeDataType == DataTypes.FLOAT ||
+        storeDataType == DataTypes.DOUBLE)) {
+      Compressor compressor =
+          CompressorFactory.getInstance().getCompressor(meta.getCompressorName());
+      return UnsafeFixLengthColumnPage.newUncompressedPage(meta.getColumnSpec(),
+          storeDataType == DataTypes.BOOLEAN ? BYTE : storeDataType, compressor,
+          compressedData, offset, length);
+    }
+    if (compressedData.hasArray()) {
+      return decompress(meta, compressedData.array(), compressedData.arrayOffset() + offset,
+          length);
+    }
+    return decompress(meta, copyToArray(compressedData, offset, length), 0, length);
+  }
+
+  /**
+   * Decompress data in [offset, offset + length) of a heap or direct buffer and create a
+   * decimal column page using the decompressed data
+   */
+  public static ColumnPage decompressDecimalPage(ColumnPageEncoderMeta meta,
+      ByteBuffer compressedData, int offset, int length) throws MemoryException {
+    if (compressedData.hasArray()) {
+      return decompressDecimalPage(meta, compressedData.array(),
+          compressedData.arrayOffset() + offset, length);
+    }
+    return decompressDecimalPage(meta, copyToArray(compressedData, offset, length), 0, length);
+  }
+
+  private static byte[] copyToArray(ByteBuffer buffer, int offset, int length) {
+    byte[] data = new byte[length];
+    ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(offset);
+    duplicate.get(data);
+    return data;
+  }
+
   /**
    * Decompress data and create a column page using the decompressed data,
    * except for decimal page
@@ -35,4 +35,8 @@ public interface ColumnPageValueConverter {
   double decodeDouble(long value);
   double decodeDouble(float value);
   double decodeDouble(double value);
+
+  // bulk variants of decoding, applied to the integral values read from the encoded page
+  void decodeLong(long[] values, int size);
+  void decodeDouble(long[] values, double[] output, int size);
 }
@@ -90,6 +90,29 @@ public class LazyColumnPage extends ColumnPage {
     }
   }
 
+  @Override
+  public boolean isBulkDecodeSupported() {
+    DataType dataType = columnPage.getDataType();
+    return !(columnPage instanceof DecimalColumnPage) && (dataType == DataTypes.BYTE
+        || dataType == DataTypes.SHORT || dataType == DataTypes.SHORT_INT
+        || dataType == DataTypes.INT || dataType == DataTypes.LONG);
+  }
+
+  @Override
+  public void getLongs(int[] rowIds, int offset, int size, long[] output) {
+    columnPage.getLongs(rowIds, offset, size, output);
+    // same as getLong, long values are stored without conversion
+    if (columnPage.getDataType() != DataTypes.LONG) {
+      converter.decodeLong(output, size);
+    }
+  }
+
+  @Override
+  public void getDoubles(int[] rowIds, int offset, int size, long[] buffer, double[] output) {
+    columnPage.getLongs(rowIds, offset, size, buffer);
+    converter.decodeDouble(buffer, output, size);
+  }
+
   @Override
   public float getFloat(int rowId) {
     throw new UnsupportedOperationException("internal error");
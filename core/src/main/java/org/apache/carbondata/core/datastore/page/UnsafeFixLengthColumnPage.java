@@ -19,6 +19,7 @@ package org.apache.carbondata.core.datastore.page;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 
 import org.apache.carbondata.core.datastore.TableSpec;
 import org.apache.carbondata.core.datastore.compression.Compressor;
@@ -77,6 +78,30 @@ public class UnsafeFixLengthColumnPage extends ColumnPage {
     }
   }
 
+  /**
+   * Create a page by uncompressing the input straight into the page memory, instead of going
+   * through a primitive array on heap
+   */
+  static ColumnPage newUncompressedPage(TableSpec.ColumnSpec columnSpec, DataType dataType,
+      Compressor compressor, ByteBuffer input, int offset, int length)
+      throws MemoryException, IOException {
+    int uncompressedLength = compressor.unCompressedLength(input, offset, length);
+    int pageSize;
+    if (dataType == DataTypes.SHORT_INT) {
+      pageSize = uncompressedLength / 3;
+    } else {
+      pageSize = uncompressedLength >> dataType.getSizeBits();
+    }
+    UnsafeFixLengthColumnPage page = new UnsafeFixLengthColumnPage(columnSpec, dataType, pageSize);
+    try {
+      compressor.rawUncompress(input, offset, length, page.baseAddress, page.baseOffset);
+    } catch (IOException | RuntimeException e) {
+      page.freeMemory();
+      throw e;
+    }
+    return page;
+  }
+
   @Override
   public void putByte(int rowId, byte value) {
     long offset = rowId << byteBits;
@@ -18,6 +18,7 @@
 package org.apache.carbondata.core.datastore.page.encoding;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.apache.carbondata.core.datastore.page.ColumnPage;
 import org.apache.carbondata.core.memory.MemoryException;
@@ -25,8 +26,9 @@ import org.apache.carbondata.core.memory.MemoryException;
 public interface ColumnPageDecoder {
 
   /**
-   * Apply decoding algorithm on input byte array and return decoded column page
+   * Apply decoding algorithm on [offset, offset + length) of input and return decoded column
+   * page, input can be a heap or direct buffer
    */
-  ColumnPage decode(byte[] input, int offset, int length) throws MemoryException, IOException;
+  ColumnPage decode(ByteBuffer input, int offset, int length) throws MemoryException, IOException;
 
 }
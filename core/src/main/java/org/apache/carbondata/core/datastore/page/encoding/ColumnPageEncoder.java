@@ -72,7 +72,8 @@ public abstract class ColumnPageEncoder {
   }
 
   private void fillBasicFields(ColumnPage inputPage, DataChunk2 dataChunk) {
-    dataChunk.setChunk_meta(CarbonMetadataUtil.getSnappyChunkCompressionMeta());
+    dataChunk.setChunk_meta(
+        CarbonMetadataUtil.getChunkCompressionMeta(inputPage.getColumnCompressorName()));
     dataChunk.setNumberOfRowsInpage(inputPage.getPageSize());
     dataChunk.setRowMajor(false);
   }
@@ -80,7 +81,8 @@ public abstract class ColumnPageEncoder {
   private void fillNullBitSet(ColumnPage inputPage, DataChunk2 dataChunk) {
     PresenceMeta presenceMeta = new PresenceMeta();
     presenceMeta.setPresent_bit_streamIsSet(true);
-    Compressor compressor = CompressorFactory.getInstance().getCompressor();
+    Compressor compressor =
+        CompressorFactory.getInstance().getCompressor(inputPage.getColumnCompressorName());
     presenceMeta.setPresent_bit_stream(
         compressor.compressByte(inputPage.getNullBits().toByteArray()));
     dataChunk.setPresence(presenceMeta);
@@ -134,23 +136,24 @@ public abstract class ColumnPageEncoder {
    * Apply encoding algorithm for complex column page and return the coded data
    * TODO: remove this interface after complex column page is unified with column page
    */
-  public static EncodedColumnPage[] encodeComplexColumn(ComplexColumnPage input)
-      throws IOException, MemoryException {
+  public static EncodedColumnPage[] encodeComplexColumn(ComplexColumnPage input,
+      String compressorName) throws IOException, MemoryException {
     EncodedColumnPage[] encodedPages = new EncodedColumnPage[input.getDepth()];
     int index = 0;
     Iterator<byte[][]> iterator = input.iterator();
     while (iterator.hasNext()) {
       byte[][] subColumnPage = iterator.next();
-      encodedPages[index++] = encodeChildColumn(subColumnPage);
+      encodedPages[index++] = encodeChildColumn(subColumnPage, compressorName);
     }
     return encodedPages;
   }
 
-  private static EncodedColumnPage encodeChildColumn(byte[][] data)
+  private static EncodedColumnPage encodeChildColumn(byte[][] data, String compressorName)
       throws IOException, MemoryException {
     TableSpec.ColumnSpec spec = TableSpec.ColumnSpec.newInstance("complex_inner_column",
         DataTypes.BYTE_ARRAY, ColumnType.COMPLEX);
     ColumnPage page = ColumnPage.wrapByteArrayPage(spec, data);
+    page.setColumnCompressorName(compressorName);
     ColumnPageEncoder encoder = new DirectCompressCodec(DataTypes.BYTE_ARRAY).createEncoder(null);
     return encoder.encode(page);
   }
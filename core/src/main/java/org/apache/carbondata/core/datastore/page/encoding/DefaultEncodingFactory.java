@@ -33,6 +33,8 @@ import org.apache.carbondata.core.datastore.page.encoding.dimension.legacy.Compl
 import org.apache.carbondata.core.datastore.page.encoding.dimension.legacy.DictDimensionIndexCodec;
 import org.apache.carbondata.core.datastore.page.encoding.dimension.legacy.DirectDictDimensionIndexCodec;
 import org.apache.carbondata.core.datastore.page.encoding.dimension.legacy.HighCardDictDimensionIndexCodec;
+import org.apache.carbondata.core.datastore.page.encoding.dimension.localdict.LocalDictDimensionCodec;
+import org.apache.carbondata.core.datastore.page.statistics.CardinalityStatsResult;
 import org.apache.carbondata.core.datastore.page.statistics.SimpleStatsResult;
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.datatype.DataTypes;
@@ -65,14 +67,15 @@ public class DefaultEncodingFactory extends EncodingFactory {
         return createEncoderForDimension((TableSpec.DimensionSpec) columnSpec, inputPage);
       } else {
         assert columnSpec instanceof TableSpec.DimensionSpec;
-        return createEncoderForDimensionLegacy((TableSpec.DimensionSpec) columnSpec);
+        return createEncoderForDimensionLegacy((TableSpec.DimensionSpec) columnSpec, inputPage);
       }
     }
   }
 
   private ColumnPageEncoder createEncoderForDimension(TableSpec.DimensionSpec columnSpec,
       ColumnPage inputPage) {
-    Compressor compressor = CompressorFactory.getInstance().getCompressor();
+    Compressor compressor =
+        CompressorFactory.getInstance().getCompressor(inputPage.getColumnCompressorName());
     switch (columnSpec.getColumnType()) {
       case GLOBAL_DICTIONARY:
       case DIRECT_DICTIONARY:
@@ -86,8 +89,10 @@ public class DefaultEncodingFactory extends EncodingFactory {
     }
   }
 
-  private ColumnPageEncoder createEncoderForDimensionLegacy(TableSpec.DimensionSpec dimensionSpec) {
-    Compressor compressor = CompressorFactory.getInstance().getCompressor();
+  private ColumnPageEncoder createEncoderForDimensionLegacy(TableSpec.DimensionSpec dimensionSpec,
+      ColumnPage inputPage) {
+    Compressor compressor =
+        CompressorFactory.getInstance().getCompressor(inputPage.getColumnCompressorName());
     switch (dimensionSpec.getColumnType()) {
       case GLOBAL_DICTIONARY:
         return new DictDimensionIndexCodec(
@@ -100,6 +105,9 @@ public class DefaultEncodingFactory extends EncodingFactory {
             dimensionSpec.isInSortColumns() && dimensionSpec.isDoInvertedIndex(),
             compressor).createEncoder(null);
       case PLAIN_VALUE:
+        if (isLocalDictionaryApplicable(dimensionSpec, inputPage)) {
+          return new LocalDictDimensionCodec(compressor).createEncoder(null);
+        }
         return new HighCardDictDimensionIndexCodec(
             dimensionSpec.isInSortColumns(),
             dimensionSpec.isInSortColumns() && dimensionSpec.isDoInvertedIndex(),
@@ -110,6 +118,24 @@ public class DefaultEncodingFactory extends EncodingFactory {
     }
   }
 
+  /**
+   * Whether the no dictionary column page has few enough distinct values to be encoded with a
+   * page local dictionary. The page needs to have at most half as many distinct values as rows
+   * and the column must not be stored with inverted index
+   */
+  private boolean isLocalDictionaryApplicable(TableSpec.DimensionSpec dimensionSpec,
+      ColumnPage inputPage) {
+    if (dimensionSpec.isInSortColumns() && dimensionSpec.isDoInvertedIndex()) {
+      return false;
+    }
+    SimpleStatsResult stats = inputPage.getStatistics();
+    if (!(stats instanceof CardinalityStatsResult)) {
+      return false;
+    }
+    int cardinality = ((CardinalityStatsResult) stats).getCardinality();
+    return cardinality > 0 && cardinality * 2 <= inputPage.getPageSize();
+  }
+
   private ColumnPageEncoder createEncoderForMeasure(ColumnPage columnPage) {
     SimpleStatsResult stats = columnPage.getStatistics();
     DataType dataType = stats.getDataType();
@@ -19,6 +19,7 @@ package org.apache.carbondata.core.datastore.page.encoding.adaptive;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -78,8 +79,6 @@ public class AdaptiveDeltaIntegralCodec extends AdaptiveCodec {
   @Override
   public ColumnPageEncoder createEncoder(Map<String, String> parameter) {
     return new ColumnPageEncoder() {
-      final Compressor compressor = CompressorFactory.getInstance().getCompressor();
-
       @Override
       protected byte[] encodeData(ColumnPage input) throws MemoryException, IOException {
         if (encodedPage != null) {
@@ -88,6 +87,8 @@ public class AdaptiveDeltaIntegralCodec extends AdaptiveCodec {
         encodedPage = ColumnPage.newPage(input.getColumnSpec(), targetDataType,
             input.getPageSize());
         input.convertValue(converter);
+        Compressor compressor =
+            CompressorFactory.getInstance().getCompressor(input.getColumnCompressorName());
         byte[] result = encodedPage.compress(compressor);
         encodedPage.freeMemory();
         return result;
@@ -96,7 +97,7 @@ public class AdaptiveDeltaIntegralCodec extends AdaptiveCodec {
       @Override
       protected ColumnPageEncoderMeta getEncoderMeta(ColumnPage inputPage) {
         return new ColumnPageEncoderMeta(inputPage.getColumnSpec(), targetDataType,
-            inputPage.getStatistics(), compressor.getName());
+            inputPage.getStatistics(), inputPage.getColumnCompressorName());
       }
 
       @Override
@@ -111,7 +112,7 @@ public class AdaptiveDeltaIntegralCodec extends AdaptiveCodec {
 
   @Override public ColumnPageDecoder createDecoder(final ColumnPageEncoderMeta meta) {
     return new ColumnPageDecoder() {
-      @Override public ColumnPage decode(byte[] input, int offset, int length)
+      @Override public ColumnPage decode(ByteBuffer input, int offset, int length)
           throws MemoryException, IOException {
         ColumnPage page = null;
         if (DataTypes.isDecimal(meta.getSchemaDataType())) {
@@ -257,5 +258,21 @@ public class AdaptiveDeltaIntegralCodec extends AdaptiveCodec {
       // this codec is for integer type only
       throw new RuntimeException("internal error");
     }
+
+    @Override
+    public void decodeLong(long[] values, int size) {
+      long max = AdaptiveDeltaIntegralCodec.this.max;
+      for (int i = 0; i < size; i++) {
+        values[i] = max - values[i];
+      }
+    }
+
+    @Override
+    public void decodeDouble(long[] values, double[] output, int size) {
+      long max = AdaptiveDeltaIntegralCodec.this.max;
+      for (int i = 0; i < size; i++) {
+        output[i] = max - values[i];
+      }
+    }
   };
 }
@@ -18,6 +18,7 @@
 package org.apache.carbondata.core.datastore.page.encoding.adaptive;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -65,7 +66,6 @@ public class AdaptiveFloatingCodec extends AdaptiveCodec {
 
   @Override
   public ColumnPageEncoder createEncoder(Map<String, String> parameter) {
-    final Compressor compressor = CompressorFactory.getInstance().getCompressor();
     return new ColumnPageEncoder() {
       @Override
       protected byte[] encodeData(ColumnPage input) throws MemoryException, IOException {
@@ -75,6 +75,8 @@ public class AdaptiveFloatingCodec extends AdaptiveCodec {
         encodedPage = ColumnPage.newPage(input.getColumnSpec(), targetDataType,
             input.getPageSize());
         input.convertValue(converter);
+        Compressor compressor =
+            CompressorFactory.getInstance().getCompressor(input.getColumnCompressorName());
         byte[] result = encodedPage.compress(compressor);
         encodedPage.freeMemory();
         return result;
@@ -90,7 +92,7 @@ public class AdaptiveFloatingCodec extends AdaptiveCodec {
       @Override
       protected ColumnPageEncoderMeta getEncoderMeta(ColumnPage inputPage) {
         return new ColumnPageEncoderMeta(inputPage.getColumnSpec(), targetDataType, stats,
-            compressor.getName());
+            inputPage.getColumnCompressorName());
       }
 
     };
@@ -100,7 +102,7 @@ public class AdaptiveFloatingCodec extends AdaptiveCodec {
   public ColumnPageDecoder createDecoder(final ColumnPageEncoderMeta meta) {
     return new ColumnPageDecoder() {
       @Override
-      public ColumnPage decode(byte[] input, int offset, int length)
+      public ColumnPage decode(ByteBuffer input, int offset, int length)
           throws MemoryException, IOException {
         ColumnPage page = ColumnPage.decompress(meta, input, offset, length);
         return LazyColumnPage.newPage(page, converter);
@@ -214,5 +216,18 @@ public class AdaptiveFloatingCodec extends AdaptiveCodec {
     public double decodeDouble(double value) {
       throw new RuntimeException("internal error: " + debugInfo());
     }
+
+    @Override
+    public void decodeLong(long[] values, int size) {
+      throw new RuntimeException("internal error: " + debugInfo());
+    }
+
+    @Override
+    public void decodeDouble(long[] values, double[] output, int size) {
+      double factor = AdaptiveFloatingCodec.this.factor;
+      for (int i = 0; i < size; i++) {
+        output[i] = values[i] / factor;
+      }
+    }
   };
 }
\ No newline at end of file
@@ -18,11 +18,11 @@
 package org.apache.carbondata.core.datastore.page.encoding.compress;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastore.compression.Compressor;
 import org.apache.carbondata.core.datastore.compression.CompressorFactory;
 import org.apache.carbondata.core.datastore.page.ColumnPage;
@@ -55,8 +55,7 @@ public class DirectCompressCodec implements ColumnPageCodec {
 
   @Override
   public ColumnPageEncoder createEncoder(Map<String, String> parameter) {
-    // TODO: make compressor configurable in create table
-    return new DirectCompressor(CarbonCommonConstants.DEFAULT_COMPRESSOR);
+    return new DirectCompressor();
   }
 
   @Override
@@ -66,14 +65,10 @@ public class DirectCompressCodec implements ColumnPageCodec {
 
   private static class DirectCompressor extends ColumnPageEncoder {
 
-    private Compressor compressor;
-
-    DirectCompressor(String compressorName) {
-      this.compressor = CompressorFactory.getInstance().getCompressor(compressorName);
-    }
-
     @Override
     protected byte[] encodeData(ColumnPage input) throws MemoryException, IOException {
+      Compressor compressor =
+          CompressorFactory.getInstance().getCompressor(input.getColumnCompressorName());
       return input.compress(compressor);
     }
 
@@ -87,7 +82,7 @@ public class DirectCompressCodec implements ColumnPageCodec {
     @Override
     protected ColumnPageEncoderMeta getEncoderMeta(ColumnPage inputPage) {
       return new ColumnPageEncoderMeta(inputPage.getColumnSpec(), inputPage.getDataType(),
-          inputPage.getStatistics(), compressor.getName());
+          inputPage.getStatistics(), inputPage.getColumnCompressorName());
     }
 
   }
@@ -101,7 +96,8 @@ public class DirectCompressCodec implements ColumnPageCodec {
     }
 
     @Override
-    public ColumnPage decode(byte[] input, int offset, int length) throws MemoryException {
+    public ColumnPage decode(ByteBuffer input, int offset, int length)
+        throws MemoryException, IOException {
       ColumnPage decodedPage;
       if (DataTypes.isDecimal(dataType)) {
         decodedPage = ColumnPage.decompressDecimalPage(meta, input, offset, length);
@@ -187,6 +183,18 @@ public class DirectCompressCodec implements ColumnPageCodec {
     public double decodeDouble(double value) {
       return value;
     }
+
+    @Override
+    public void decodeLong(long[] values, int size) {
+      // the values are stored without conversion
+    }
+
+    @Override
+    public void decodeDouble(long[] values, double[] output, int size) {
+      for (int i = 0; i < size; i++) {
+        output[i] = values[i];
+      }
+    }
   };
 
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.page.encoding.dimension.localdict;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.carbondata.core.datastore.chunk.impl.LocalDictDimensionColumnPage;
+import org.apache.carbondata.core.datastore.compression.Compressor;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageCodec;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageDecoder;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageEncoder;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageEncoderMeta;
+import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.util.ByteUtil;
+import org.apache.carbondata.format.DataChunk2;
+import org.apache.carbondata.format.Encoding;
+import org.apache.carbondata.format.SortState;
+
+/**
+ * Codec for a no dictionary string column page with few distinct values. The page is stored
+ * as a dictionary of its distinct values and the bit packed dictionary id of every row.
+ * Layout of the data before compression:
+ * [dictionary size: int][dictionary length: int][LV encoded values][bit width: byte][ids]
+ */
+public class LocalDictDimensionCodec implements ColumnPageCodec {
+
+  private Compressor compressor;
+
+  public LocalDictDimensionCodec(Compressor compressor) {
+    this.compressor = compressor;
+  }
+
+  @Override
+  public String getName() {
+    return "LocalDictDimensionCodec";
+  }
+
+  @Override
+  public ColumnPageEncoder createEncoder(Map<String, String> parameter) {
+    return new ColumnPageEncoder() {
+
+      @Override
+      protected byte[] encodeData(ColumnPage input) throws MemoryException, IOException {
+        byte[][] data = input.getByteArrayPage();
+        PageLocalDictionary dictionary = new PageLocalDictionary(data.length);
+        int[] ids = new int[data.length];
+        for (int i = 0; i < data.length; i++) {
+          ids[i] = dictionary.getOrAdd(data[i]);
+        }
+        byte[] dictionaryData = ByteUtil.flatten(dictionary.getValues());
+        int bitWidth = getBitWidth(dictionary.size());
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(dictionary.size());
+        out.writeInt(dictionaryData.length);
+        out.write(dictionaryData);
+        out.writeByte(bitWidth);
+        out.write(packIds(ids, bitWidth));
+        return compressor.compressByte(stream.toByteArray());
+      }
+
+      @Override
+      protected List<Encoding> getEncodingList() {
+        List<Encoding> encodings = new ArrayList<>();
+        encodings.add(Encoding.LOCAL_DICTIONARY);
+        return encodings;
+      }
+
+      @Override
+      protected ColumnPageEncoderMeta getEncoderMeta(ColumnPage inputPage) {
+        return null;
+      }
+
+      @Override
+      protected void fillLegacyFields(DataChunk2 dataChunk) throws IOException {
+        dataChunk.setSort_state(SortState.SORT_NATIVE);
+      }
+    };
+  }
+
+  @Override
+  public ColumnPageDecoder createDecoder(ColumnPageEncoderMeta meta) {
+    throw new UnsupportedOperationException("internal error");
+  }
+
+  /**
+   * Below method will be used to decode the uncompressed data of a page
+   *
+   * @param data uncompressed data written by the encoder of this codec
+   * @param numberOfRows number of rows in the page
+   * @return decoded page
+   */
+  public static LocalDictDimensionColumnPage decode(byte[] data, int numberOfRows) {
+    ByteBuffer buffer = ByteBuffer.wrap(data);
+    int dictionarySize = buffer.getInt();
+    byte[] dictionaryData = new byte[buffer.getInt()];
+    buffer.get(dictionaryData);
+    int bitWidth = buffer.get();
+    int[] ids = unpackIds(data, buffer.position(), numberOfRows, bitWidth);
+    return new LocalDictDimensionColumnPage(dictionaryData, dictionarySize, ids);
+  }
+
+  /**
+   * @return number of bits to store the ids of a dictionary of the given size
+   */
+  static int getBitWidth(int dictionarySize) {
+    return Math.max(1, 32 - Integer.numberOfLeadingZeros(dictionarySize - 1));
+  }
+
+  /**
+   * Pack the ids with bitWidth bits each, the most significant bit first
+   */
+  static byte[] packIds(int[] ids, int bitWidth) {
+    byte[] packed = new byte[(int) (((long) ids.length * bitWidth + 7) >>> 3)];
+    int position = 0;
+    long buffer = 0;
+    int bitsInBuffer = 0;
+    for (int id : ids) {
+      buffer = (buffer << bitWidth) | id;
+      bitsInBuffer += bitWidth;
+      while (bitsInBuffer >= 8) {
+        bitsInBuffer -= 8;
+        packed[position++] = (byte) (buffer >>> bitsInBuffer);
+      }
+    }
+    if (bitsInBuffer > 0) {
+      packed[position] = (byte) (buffer << (8 - bitsInBuffer));
+    }
+    return packed;
+  }
+
+  /**
+   * Unpack numberOfIds ids written by packIds starting from offset
+   */
+  static int[] unpackIds(byte[] packed, int offset, int numberOfIds, int bitWidth) {
+    int[] ids = new int[numberOfIds];
+    int mask = (int) ((1L << bitWidth) - 1);
+    int position = offset;
+    long buffer = 0;
+    int bitsInBuffer = 0;
+    for (int i = 0; i < numberOfIds; i++) {
+      while (bitsInBuffer < bitWidth) {
+        buffer = (buffer << 8) | (packed[position++] & 0xFF);
+        bitsInBuffer += 8;
+      }
+      bitsInBuffer -= bitWidth;
+      ids[i] = (int) (buffer >>> bitsInBuffer) & mask;
+    }
+    return ids;
+  }
+}
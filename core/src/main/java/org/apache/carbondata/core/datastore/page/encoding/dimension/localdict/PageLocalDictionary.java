@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.page.encoding.dimension.localdict;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary of the distinct values of one column page. The ids are given in the order in
+ * which the values are added, it uses open addressing so that no object is created per value.
+ */
+public class PageLocalDictionary {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int maxSize;
+
+  private byte[][] values;
+
+  /**
+   * id + 1 of the value in each slot, 0 for an empty slot
+   */
+  private int[] slots;
+
+  private int size;
+
+  public PageLocalDictionary(int maxSize) {
+    this.maxSize = maxSize;
+    this.values = new byte[Math.min(INITIAL_CAPACITY, Math.max(maxSize, 1))][];
+    this.slots = new int[INITIAL_CAPACITY * 2];
+  }
+
+  /**
+   * Return the id of the value, the value is added if it is not present yet.
+   * Returns -1 if the value is not present and the dictionary already has max size values
+   */
+  public int getOrAdd(byte[] value) {
+    int mask = slots.length - 1;
+    int slot = hash(value) & mask;
+    while (slots[slot] != 0) {
+      int id = slots[slot] - 1;
+      if (Arrays.equals(values[id], value)) {
+        return id;
+      }
+      slot = (slot + 1) & mask;
+    }
+    if (size == maxSize) {
+      return -1;
+    }
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.min(values.length * 2, maxSize));
+    }
+    values[size] = value;
+    slots[slot] = ++size;
+    // keep the load factor at most 0.5
+    if (size * 2 > slots.length) {
+      rehash();
+    }
+    return size - 1;
+  }
+
+  private void rehash() {
+    int[] newSlots = new int[slots.length * 2];
+    int mask = newSlots.length - 1;
+    for (int id = 0; id < size; id++) {
+      int slot = hash(values[id]) & mask;
+      while (newSlots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      newSlots[slot] = id + 1;
+    }
+    slots = newSlots;
+  }
+
+  private static int hash(byte[] value) {
+    int h = Arrays.hashCode(value);
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * @return number of distinct values
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return distinct values ordered by their id
+   */
+  public byte[][] getValues() {
+    return Arrays.copyOf(values, size);
+  }
+}
@@ -22,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -289,10 +290,20 @@ public class RLECodec implements ColumnPageCodec {
     }
 
     @Override
-    public ColumnPage decode(byte[] input, int offset, int length)
+    public ColumnPage decode(ByteBuffer input, int offset, int length)
         throws MemoryException, IOException {
       DataType dataType = columnSpec.getSchemaDataType();
-      DataInputStream in = new DataInputStream(new ByteArrayInputStream(input, offset, length));
+      DataInputStream in;
+      if (input.hasArray()) {
+        in = new DataInputStream(
+            new ByteArrayInputStream(input.array(), input.arrayOffset() + offset, length));
+      } else {
+        byte[] data = new byte[length];
+        ByteBuffer duplicate = input.duplicate();
+        duplicate.position(offset);
+        duplicate.get(data);
+        in = new DataInputStream(new ByteArrayInputStream(data));
+      }
       ColumnPage resultPage = ColumnPage.newPage(columnSpec, dataType, pageSize);
       if (dataType == DataTypes.BOOLEAN || dataType == DataTypes.BYTE) {
         decodeBytePage(in, resultPage);
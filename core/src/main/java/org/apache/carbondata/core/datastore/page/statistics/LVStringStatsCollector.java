@@ -19,6 +19,7 @@ package org.apache.carbondata.core.datastore.page.statistics;
 
 import java.math.BigDecimal;
 
+import org.apache.carbondata.core.datastore.page.encoding.dimension.localdict.PageLocalDictionary;
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.datatype.DataTypes;
 import org.apache.carbondata.core.util.ByteUtil;
@@ -27,12 +28,26 @@ public class LVStringStatsCollector implements ColumnPageStatsCollector {
 
   private byte[] min, max;
 
+  /**
+   * distinct values of the page, null if they are not counted or there are more than the max
+   */
+  private PageLocalDictionary dictionary;
+
   public static LVStringStatsCollector newInstance() {
-    return new LVStringStatsCollector();
+    return new LVStringStatsCollector(0);
   }
 
-  private LVStringStatsCollector() {
+  /**
+   * Create a collector which also counts the distinct values of the page, up to maxCardinality
+   */
+  public static LVStringStatsCollector newInstance(int maxCardinality) {
+    return new LVStringStatsCollector(maxCardinality);
+  }
 
+  private LVStringStatsCollector(int maxCardinality) {
+    if (maxCardinality > 0) {
+      dictionary = new PageLocalDictionary(maxCardinality);
+    }
   }
 
   @Override
@@ -72,6 +87,9 @@ public class LVStringStatsCollector implements ColumnPageStatsCollector {
 
   @Override
   public void update(byte[] value) {
+    if (dictionary != null && dictionary.getOrAdd(value) < 0) {
+      dictionary = null;
+    }
     // input value is LV encoded
     byte[] newValue = null;
     assert (value.length >= 2);
@@ -99,7 +117,8 @@ public class LVStringStatsCollector implements ColumnPageStatsCollector {
 
   @Override
   public SimpleStatsResult getPageStats() {
-    return new SimpleStatsResult() {
+    final int cardinality = dictionary != null ? dictionary.size() : -1;
+    return new CardinalityStatsResult() {
 
       @Override public Object getMin() {
         return min;
@@ -117,6 +136,10 @@ public class LVStringStatsCollector implements ColumnPageStatsCollector {
         return DataTypes.STRING;
       }
 
+      @Override public int getCardinality() {
+        return cardinality;
+      }
+
     };
   }
 }
@@ -177,6 +177,16 @@ public class UnsafeMemoryDMStore {
     return new UnsafeDataMapRow(schema, memoryBlock, pointers[index]);
   }
 
+  /**
+   * Point the passed row to the row at given index instead of creating a new one. The passed row
+   * must have been created from this store.
+   */
+  public UnsafeDataMapRow getUnsafeRow(int index, UnsafeDataMapRow reusableRow) {
+    assert (index < rowCount);
+    reusableRow.setPointer(pointers[index]);
+    return reusableRow;
+  }
+
   public void finishWriting() throws MemoryException {
     if (runningLength < allocatedSize) {
       MemoryBlock allocate =
@@ -47,6 +47,7 @@ import org.apache.carbondata.core.indexstore.PartitionSpec;
 import org.apache.carbondata.core.indexstore.UnsafeMemoryDMStore;
 import org.apache.carbondata.core.indexstore.row.DataMapRow;
 import org.apache.carbondata.core.indexstore.row.DataMapRowImpl;
+import org.apache.carbondata.core.indexstore.row.UnsafeDataMapRow;
 import org.apache.carbondata.core.indexstore.schema.CarbonRowSchema;
 import org.apache.carbondata.core.memory.MemoryException;
 import org.apache.carbondata.core.metadata.blocklet.BlockletInfo;
@@ -640,16 +641,20 @@ public class BlockletDataMap extends CoarseGrainDataMap implements Cacheable {
       int endIndex = unsafeMemoryDMStore.getRowCount();
       FilterExecuter filterExecuter =
           FilterUtil.getFilterExecuterTree(filterExp, segmentProperties, null);
+      // min/max are evaluated directly on the unsafe row using the same row instance and
+      // min/max holders for all blocklets, only the blocklets selected are converted to safe row
+      UnsafeDataMapRow unsafeRow = unsafeMemoryDMStore.getUnsafeRow(startIndex);
+      byte[][] maxValues = null;
+      byte[][] minValues = null;
       while (startIndex < endIndex) {
-        DataMapRow safeRow = unsafeMemoryDMStore.getUnsafeRow(startIndex).convertToSafeRow();
-        int blockletId = safeRow.getShort(BLOCKLET_ID_INDEX);
-        String filePath = new String(safeRow.getByteArray(FILE_PATH_INDEX),
-            CarbonCommonConstants.DEFAULT_CHARSET_CLASS);
-        boolean isValid =
-            addBlockBasedOnMinMaxValue(filterExecuter, getMinMaxValue(safeRow, MAX_VALUES_INDEX),
-                getMinMaxValue(safeRow, MIN_VALUES_INDEX), filePath, blockletId);
+        unsafeMemoryDMStore.getUnsafeRow(startIndex, unsafeRow);
+        int blockletId = unsafeRow.getShort(BLOCKLET_ID_INDEX);
+        maxValues = unsafeRow.getStructByteArrays(MAX_VALUES_INDEX, maxValues);
+        minValues = unsafeRow.getStructByteArrays(MIN_VALUES_INDEX, minValues);
+        boolean isValid = addBlockBasedOnMinMaxValue(filterExecuter, maxValues, minValues,
+            unsafeRow, blockletId);
         if (isValid) {
-          blocklets.add(createBlocklet(safeRow, blockletId));
+          blocklets.add(createBlocklet(unsafeRow.convertToSafeRow(), blockletId));
         }
         startIndex++;
       }
@@ -705,14 +710,16 @@ public class BlockletDataMap extends CoarseGrainDataMap implements Cacheable {
    * @param filterExecuter
    * @param maxValue
    * @param minValue
-   * @param filePath
+   * @param row row of the blocklet, file path is read from it only for implicit column filter
    * @param blockletId
    * @return
    */
   private boolean addBlockBasedOnMinMaxValue(FilterExecuter filterExecuter, byte[][] maxValue,
-      byte[][] minValue, String filePath, int blockletId) {
+      byte[][] minValue, DataMapRow row, int blockletId) {
     BitSet bitSet = null;
     if (filterExecuter instanceof ImplicitColumnFilterExecutor) {
+      String filePath = new String(row.getByteArray(FILE_PATH_INDEX),
+          CarbonCommonConstants.DEFAULT_CHARSET_CLASS);
       String uniqueBlockPath = filePath.substring(filePath.lastIndexOf("/Part") + 1);
       // this case will come in case of old store where index file does not contain the
       // blocklet information
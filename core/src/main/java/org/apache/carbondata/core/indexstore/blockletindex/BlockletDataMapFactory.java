@@ -18,9 +18,9 @@ package org.apache.carbondata.core.indexstore.blockletindex;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.carbondata.core.cache.Cache;
 import org.apache.carbondata.core.cache.CacheProvider;
@@ -67,8 +67,9 @@ public class BlockletDataMapFactory extends CoarseGrainDataMapFactory
 
   private AbsoluteTableIdentifier identifier;
 
-  // segmentId -> list of index file
-  private Map<String, List<TableBlockIndexUniqueIdentifier>> segmentMap = new HashMap<>();
+  // segmentId -> list of index file, segments can be pruned concurrently
+  private Map<String, List<TableBlockIndexUniqueIdentifier>> segmentMap =
+      new ConcurrentHashMap<>();
 
   private Cache<TableBlockIndexUniqueIdentifier, CoarseGrainDataMap> cache;
 
@@ -58,6 +58,54 @@ public class UnsafeDataMapRow extends DataMapRow {
     return data;
   }
 
+  /**
+   * Read all the byte array children of the struct at the given ordinal in a single pass over the
+   * unsafe memory. Arrays inside the passed holder are reused when their length matches, so
+   * repeated calls on rows of the same shape do not allocate.
+   *
+   * @param ordinal ordinal of the struct column
+   * @param reusableHolder holder returned by previous call, can be null
+   * @return holder filled with the children values
+   */
+  public byte[][] getStructByteArrays(int ordinal, byte[][] reusableHolder) {
+    CarbonRowSchema[] childSchemas =
+        ((CarbonRowSchema.StructCarbonRowSchema) schemas[ordinal]).getChildSchemas();
+    byte[][] holder = reusableHolder;
+    if (holder == null || holder.length != childSchemas.length) {
+      holder = new byte[childSchemas.length][];
+    }
+    long address = block.getBaseOffset() + pointer + getPosition(ordinal);
+    for (int i = 0; i < childSchemas.length; i++) {
+      int length;
+      switch (childSchemas[i].getSchemaType()) {
+        case FIXED:
+          length = childSchemas[i].getLength();
+          break;
+        case VARIABLE:
+          length = getUnsafe().getShort(block.getBaseObject(), address);
+          address += 2;
+          break;
+        default:
+          throw new UnsupportedOperationException(
+              "unsupported child schema type: " + childSchemas[i].getSchemaType());
+      }
+      if (holder[i] == null || holder[i].length != length) {
+        holder[i] = new byte[length];
+      }
+      getUnsafe().copyMemory(block.getBaseObject(), address, holder[i], BYTE_ARRAY_OFFSET, length);
+      address += length;
+    }
+    return holder;
+  }
+
+  /**
+   * Point this row to another row of the same memory block, so that a single instance can be
+   * used to iterate over all rows of a store.
+   */
+  public void setPointer(int pointer) {
+    this.pointer = pointer;
+  }
+
   @Override public int getLengthInBytes(int ordinal) {
     int length;
     int position = getPosition(ordinal);
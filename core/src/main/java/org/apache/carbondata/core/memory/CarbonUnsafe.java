@@ -18,6 +18,8 @@
 package org.apache.carbondata.core.memory;
 
 import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 import sun.misc.Unsafe;
@@ -37,6 +39,9 @@ public final class CarbonUnsafe {
 
   public static final int FLOAT_ARRAY_OFFSET;
 
+  // offset of the address field of java.nio.Buffer, used to get the address of direct buffers
+  private static final long BUFFER_ADDRESS_OFFSET;
+
   public static final boolean ISLITTLEENDIAN =
       ByteOrder.nativeOrder().equals(ByteOrder.LITTLE_ENDIAN);
 
@@ -57,6 +62,7 @@ public final class CarbonUnsafe {
       LONG_ARRAY_OFFSET = unsafe.arrayBaseOffset(long[].class);
       FLOAT_ARRAY_OFFSET = unsafe.arrayBaseOffset(float[].class);
       DOUBLE_ARRAY_OFFSET = unsafe.arrayBaseOffset(double[].class);
+      BUFFER_ADDRESS_OFFSET = getBufferAddressOffset();
     } else {
       BYTE_ARRAY_OFFSET = 0;
       SHORT_ARRAY_OFFSET = 0;
@@ -64,10 +70,29 @@ public final class CarbonUnsafe {
       LONG_ARRAY_OFFSET = 0;
       FLOAT_ARRAY_OFFSET = 0;
       DOUBLE_ARRAY_OFFSET = 0;
+      BUFFER_ADDRESS_OFFSET = -1;
+    }
+  }
+
+  private static long getBufferAddressOffset() {
+    try {
+      return unsafe.objectFieldOffset(Buffer.class.getDeclaredField("address"));
+    } catch (NoSuchFieldException e) {
+      return -1;
     }
   }
 
   public static Unsafe getUnsafe() {
     return unsafe;
   }
+
+  /**
+   * Return the off-heap address of the first byte of a direct buffer
+   */
+  public static long getDirectBufferAddress(ByteBuffer buffer) {
+    if (!buffer.isDirect() || BUFFER_ADDRESS_OFFSET < 0) {
+      throw new UnsupportedOperationException("address is not available for the buffer");
+    }
+    return unsafe.getLong(buffer, BUFFER_ADDRESS_OFFSET);
+  }
 }
@@ -34,6 +34,21 @@ public class IntPointerBuffer {
 
   private int[] pointerBlock;
 
+  /**
+   * Fixed width normalized prefix of the sort key of each row, kept next to its pointer so
+   * that most comparisons while sorting do not need to read the row itself. It is only
+   * needed until the rows are sorted.
+   * It takes 8 bytes of heap per row. For the buffer of a row page they are reserved from
+   * the sort memory, and when that memory is not available the page is sorted without
+   * prefixes, every row then has prefix 0 so the comparators always read the rows.
+   */
+  private long[] prefixBlock;
+
+  /**
+   * size of the prefixes reserved from the sort memory
+   */
+  private long reservedPrefixSize;
+
   private MemoryBlock pointerMemoryBlock;
 
   private long taskId;
@@ -42,12 +57,21 @@ public class IntPointerBuffer {
     // TODO can be configurable, it is initial size and it can grow automatically.
     this.length = 100000;
     pointerBlock = new int[length];
+    if (UnsafeSortMemoryManager.INSTANCE.reserveMemory(length * 8L)) {
+      prefixBlock = new long[length];
+      reservedPrefixSize = length * 8L;
+    }
     this.taskId = taskId;
   }
 
+  /**
+   * Buffer used by the sort itself to merge runs, it lives only while a page is sorted and its
+   * prefixes are not reserved from the sort memory
+   */
   public IntPointerBuffer(int length) {
     this.length = length;
     pointerBlock = new int[length];
+    prefixBlock = new long[length];
   }
 
   public void set(int rowId, int value) {
@@ -55,11 +79,34 @@ public class IntPointerBuffer {
   }
 
   public void set(int value) {
+    set(value, 0L);
+  }
+
+  public void set(int value, long prefix) {
     ensureMemory();
     pointerBlock[actualSize] = value;
+    if (prefixBlock != null) {
+      prefixBlock[actualSize] = prefix;
+    }
     actualSize++;
   }
 
+  public void setPrefix(int rowId, long prefix) {
+    if (prefixBlock != null) {
+      prefixBlock[rowId] = prefix;
+    }
+  }
+
+  /**
+   * Returns the sort key prefix at position {@code rowId}, 0 once the prefixes are released.
+   */
+  public long getPrefix(int rowId) {
+    if (prefixBlock == null) {
+      return 0L;
+    }
+    return prefixBlock[rowId];
+  }
+
   /**
    * Returns the value at position {@code rowId}.
    */
@@ -74,6 +121,8 @@ public class IntPointerBuffer {
   }
 
   public void loadToUnsafe() {
+    // rows are already sorted, so prefixes are not needed anymore
+    freePrefixes();
     try {
       pointerMemoryBlock =
           UnsafeSortMemoryManager.allocateMemoryWithRetry(this.taskId, pointerBlock.length * 4);
@@ -96,6 +145,10 @@ public class IntPointerBuffer {
     return pointerBlock;
   }
 
+  public long[] getPrefixBlock() {
+    return prefixBlock;
+  }
+
   private void ensureMemory() {
     if (actualSize >= length) {
       // Expand by quarter, may be we can correct the logic later
@@ -103,12 +156,44 @@ public class IntPointerBuffer {
       int[] memoryAddress = new int[localLength];
       System.arraycopy(pointerBlock, 0, memoryAddress, 0, length);
       pointerBlock = memoryAddress;
+      if (prefixBlock != null) {
+        growPrefixes(localLength);
+      }
       length = localLength;
     }
   }
 
+  private void growPrefixes(int localLength) {
+    long extraSize = (localLength - length) * 8L;
+    if (reservedPrefixSize > 0 && !UnsafeSortMemoryManager.INSTANCE.reserveMemory(extraSize)) {
+      // the rows added so far must not keep their prefixes either, otherwise they would be
+      // compared to the 0 prefix of the rows added after them
+      LOGGER.warn("Not enough memory for the sort key prefixes, sorting on the rows only");
+      freePrefixes();
+      return;
+    }
+    if (reservedPrefixSize > 0) {
+      reservedPrefixSize += extraSize;
+    }
+    long[] prefixes = new long[localLength];
+    System.arraycopy(prefixBlock, 0, prefixes, 0, length);
+    prefixBlock = prefixes;
+  }
+
+  /**
+   * Drops the sort key prefixes and gives their reserved memory back
+   */
+  public void freePrefixes() {
+    prefixBlock = null;
+    if (reservedPrefixSize > 0) {
+      UnsafeSortMemoryManager.INSTANCE.releaseReservedMemory(reservedPrefixSize);
+      reservedPrefixSize = 0;
+    }
+  }
+
   public void freeMemory() {
     pointerBlock = null;
+    freePrefixes();
     if (pointerMemoryBlock != null) {
       UnsafeSortMemoryManager.INSTANCE.freeMemory(this.taskId, pointerMemoryBlock);
     }
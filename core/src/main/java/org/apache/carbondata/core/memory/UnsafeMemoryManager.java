@@ -156,6 +156,13 @@ public class UnsafeMemoryManager {
     return totalMemory;
   }
 
+  /**
+   * Return the working memory which is not allocated now
+   */
+  public synchronized long getAvailableMemory() {
+    return Math.max(0, totalMemory - memoryUsed);
+  }
+
   /**
    * It tries to allocate memory of `size` bytes, keep retry until it allocates successfully.
    */
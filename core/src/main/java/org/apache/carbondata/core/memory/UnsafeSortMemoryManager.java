@@ -142,6 +142,35 @@ public class UnsafeSortMemoryManager {
     }
   }
 
+  /**
+   * Below method will be used to reserve memory for data which is kept outside of the
+   * memory blocks of this manager but is sized with the sort memory, like the sort key
+   * prefixes of a row page. It is given back with releaseReservedMemory
+   *
+   * @param size
+   * @return false if the memory is not available, then nothing is reserved
+   */
+  public synchronized boolean reserveMemory(long size) {
+    if (memoryUsed + size > totalMemory) {
+      return false;
+    }
+    memoryUsed += size;
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Reserved memory of size " + size + ". Total memory used " + memoryUsed
+          + "Bytes, left " + (totalMemory - memoryUsed) + "Bytes");
+    }
+    return true;
+  }
+
+  public synchronized void releaseReservedMemory(long size) {
+    memoryUsed -= size;
+    memoryUsed = memoryUsed < 0 ? 0 : memoryUsed;
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Releasing reserved memory of size: " + size
+          + ": Current available memory is: " + (totalMemory - memoryUsed));
+    }
+  }
+
   public synchronized void freeMemory(long taskId, MemoryBlock memoryBlock) {
     if (taskIdToMemoryBlockMap.containsKey(taskId)) {
       taskIdToMemoryBlockMap.get(taskId).remove(memoryBlock);
@@ -19,6 +19,7 @@ package org.apache.carbondata.core.scan.collector.impl;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.carbondata.core.keygenerator.directdictionary.DirectDictionaryKeyGeneratorFactory;
 import org.apache.carbondata.core.metadata.encoder.Encoding;
@@ -27,6 +28,7 @@ import org.apache.carbondata.core.scan.model.ProjectionDimension;
 import org.apache.carbondata.core.scan.model.ProjectionMeasure;
 import org.apache.carbondata.core.scan.result.BlockletScannedResult;
 import org.apache.carbondata.core.scan.result.vector.CarbonColumnarBatch;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
 import org.apache.carbondata.core.scan.result.vector.ColumnVectorInfo;
 import org.apache.carbondata.core.scan.result.vector.MeasureDataVectorProcessor;
 
@@ -106,6 +108,7 @@ public class DictionaryBasedVectorResultCollector extends AbstractScannedResultC
         dictInfoList.add(columnVectorInfo);
         columnVectorInfo.dimension = queryDimensions[i];
         columnVectorInfo.ordinal = queryDimensions[i].getDimension().getOrdinal();
+        columnVectorInfo.dictionary = getVectorDictionary(queryDimensions[i]);
         allColumnInfo[queryDimensions[i].getOrdinal()] = columnVectorInfo;
       }
     }
@@ -126,6 +129,19 @@ public class DictionaryBasedVectorResultCollector extends AbstractScannedResultC
     Arrays.sort(complexInfo);
   }
 
+  /**
+   * @return dictionary shared by the vectors of the dictionary dimension, null if the query does
+   * not fill the dictionary vectors
+   */
+  CarbonDictionary getVectorDictionary(ProjectionDimension dimension) {
+    Map<String, CarbonDictionary> dictionaries =
+        executionInfo.getColumnIdToVectorDictionaryMapping();
+    if (null == dictionaries) {
+      return null;
+    }
+    return dictionaries.get(dimension.getDimension().getColumnId());
+  }
+
   @Override
   public List<Object[]> collectResultInRow(BlockletScannedResult scannedResult, int batchSize) {
     throw new UnsupportedOperationException("collectResultInRow is not supported here");
@@ -187,6 +203,7 @@ public class DictionaryBasedVectorResultCollector extends AbstractScannedResultC
       if (null != allColumnInfo[i].dimension) {
         allColumnInfo[i].vector
             .setBlockDataType(dimensionInfo.dataType[i]);
+        allColumnInfo[i].vector.setDictionary(allColumnInfo[i].dictionary);
       }
     }
   }
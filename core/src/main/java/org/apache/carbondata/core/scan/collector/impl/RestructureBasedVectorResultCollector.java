@@ -64,6 +64,7 @@ public class RestructureBasedVectorResultCollector extends DictionaryBasedVector
           columnVectorInfo.directDictionaryGenerator = DirectDictionaryKeyGeneratorFactory
               .getDirectDictionaryGenerator(queryDimensions[i].getDimension().getDataType());
         }
+        columnVectorInfo.dictionary = getVectorDictionary(queryDimensions[i]);
         allColumnInfo[queryDimensions[i].getOrdinal()] = columnVectorInfo;
       }
     }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -34,6 +35,7 @@ import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.common.logging.impl.StandardLogService;
 import org.apache.carbondata.core.cache.CacheProvider;
 import org.apache.carbondata.core.cache.CacheType;
+import org.apache.carbondata.core.cache.dictionary.Dictionary;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.constants.CarbonV3DataFormatConstants;
 import org.apache.carbondata.core.datastore.BlockIndexStore;
@@ -66,6 +68,7 @@ import org.apache.carbondata.core.scan.filter.TableProvider;
 import org.apache.carbondata.core.scan.model.ProjectionDimension;
 import org.apache.carbondata.core.scan.model.ProjectionMeasure;
 import org.apache.carbondata.core.scan.model.QueryModel;
+import org.apache.carbondata.core.scan.result.vector.impl.CarbonDictionaryImpl;
 import org.apache.carbondata.core.stats.QueryStatistic;
 import org.apache.carbondata.core.stats.QueryStatisticsConstants;
 import org.apache.carbondata.core.util.CarbonProperties;
@@ -203,11 +206,26 @@ public abstract class AbstractQueryExecutor<E> implements QueryExecutor<E> {
             queryModel.getProjectionDimensions(),
             queryProperties.complexFilterDimension,
             queryModel.getAbsoluteTableIdentifier(),
-            tableProvider);
+            tableProvider,
+            queryModel.isDictionaryVector());
     queryStatistic
         .addStatistics(QueryStatisticsConstants.LOAD_DICTIONARY, System.currentTimeMillis());
     queryProperties.queryStatisticsRecorder.recordStatistics(queryStatistic);
     queryModel.setColumnToDictionaryMapping(queryProperties.columnToDictionaryMapping);
+    // one dictionary handle of each column is shared by all the vectors of the query
+    queryProperties.columnIdToVectorDictionaryMapping = new HashMap<>();
+    if (queryModel.isDictionaryVector()) {
+      for (ProjectionDimension dimension : queryModel.getProjectionDimensions()) {
+        if (QueryUtil.isVectorDictionaryColumn(dimension.getDimension())) {
+          String columnId = dimension.getDimension().getColumnId();
+          Dictionary dictionary = queryProperties.columnToDictionaryMapping.get(columnId);
+          if (null != dictionary) {
+            queryProperties.columnIdToVectorDictionaryMapping
+                .put(columnId, new CarbonDictionaryImpl(dictionary));
+          }
+        }
+      }
+    }
   }
 
   /**
@@ -333,6 +351,8 @@ public abstract class AbstractQueryExecutor<E> implements QueryExecutor<E> {
     blockExecutionInfo.setPrefetchBlocklet(!queryModel.isReadPageByPage());
     blockExecutionInfo
         .setTotalNumberOfMeasureToRead(segmentProperties.getMeasuresOrdinalToChunkMapping().size());
+    blockExecutionInfo.setColumnIdToVectorDictionaryMapping(
+        queryProperties.columnIdToVectorDictionaryMapping);
     blockExecutionInfo.setComplexDimensionInfoMap(QueryUtil
         .getComplexDimensionsMap(projectDimensions,
             segmentProperties.getDimensionOrdinalToChunkMapping(),
@@ -18,7 +18,6 @@ package org.apache.carbondata.core.scan.executor.impl;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 import org.apache.carbondata.common.CarbonIterator;
 import org.apache.carbondata.core.scan.executor.exception.QueryExecutionException;
@@ -37,7 +36,8 @@ public class DetailQueryExecutor extends AbstractQueryExecutor<RowBatch> {
   @Override
   public CarbonIterator<RowBatch> execute(QueryModel queryModel)
       throws QueryExecutionException, IOException {
-    this.setExecutorService(Executors.newCachedThreadPool());
+    this.setExecutorService(
+        QueryScanScheduler.getInstance().newQueryExecutorService(queryModel.getQueryId()));
     List<BlockExecutionInfo> blockExecutionInfoList = getBlockExecutionInfos(queryModel);
     this.queryIterator = new DetailQueryResultIterator(
         blockExecutionInfoList,
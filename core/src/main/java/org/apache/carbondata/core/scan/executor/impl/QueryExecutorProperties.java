@@ -26,6 +26,7 @@ import org.apache.carbondata.core.datastore.block.AbstractIndex;
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.schema.table.column.CarbonDimension;
 import org.apache.carbondata.core.metadata.schema.table.column.CarbonMeasure;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
 import org.apache.carbondata.core.stats.QueryStatisticsRecorder;
 
 /**
@@ -39,6 +40,12 @@ public class QueryExecutorProperties {
    */
   public Map<String, Dictionary> columnToDictionaryMapping;
 
+  /**
+   * dictionary set to the vectors of each projection dictionary column, only when the query
+   * fills the dictionary vectors
+   */
+  public Map<String, CarbonDictionary> columnIdToVectorDictionaryMapping;
+
   /**
    * Measure datatypes
    */
@@ -0,0 +1,386 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.carbondata.core.scan.executor.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.core.util.CarbonTaskInfo;
+import org.apache.carbondata.core.util.CarbonThreadFactory;
+import org.apache.carbondata.core.util.ThreadLocalTaskInfo;
+
+/**
+ * Process wide scheduler for the blocklet scan and prefetch tasks of all the queries running in
+ * this JVM. It holds two bounded thread pools, one for scanning the blocklets and one for reading
+ * the blocklets. A scan task waits for the read of its blocklet, keeping the reads in a separate
+ * pool makes sure that the reads can always progress even when all scan threads are waiting.
+ *
+ * Each query gets its own {@link QueryExecutorService} from {@link #newQueryExecutorService}.
+ * A query can run only a limited number of tasks in each pool at a time, rest of its tasks wait
+ * in the query's own queue, so one big query can not occupy all the threads of the executor.
+ * Shutting down the query executor service cancels only the tasks of that query.
+ */
+public final class QueryScanScheduler {
+
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(QueryScanScheduler.class.getName());
+
+  private static final QueryScanScheduler INSTANCE = new QueryScanScheduler();
+
+  private final ThreadPoolExecutor scanPool;
+
+  private final ThreadPoolExecutor ioPool;
+
+  /**
+   * max number of tasks a query can run in parallel in each pool
+   */
+  private final int tasksPerQuery;
+
+  /**
+   * number of tasks waiting in the query queues because the query quota is exhausted
+   */
+  private final AtomicInteger waitingTasks = new AtomicInteger();
+
+  private QueryScanScheduler() {
+    int numOfThreads = getNumberOfScanThreads();
+    tasksPerQuery = getTasksPerQuery(numOfThreads);
+    scanPool = createPool(numOfThreads, "QueryScanPool");
+    ioPool = createPool(numOfThreads, "QueryIOPool");
+    Runtime.getRuntime().addShutdownHook(new Thread() {
+      @Override public void run() {
+        shutdown();
+      }
+    });
+    LOGGER.info("Query scan scheduler started with " + numOfThreads
+        + " threads and maximum " + tasksPerQuery + " parallel tasks per query");
+  }
+
+  public static QueryScanScheduler getInstance() {
+    return INSTANCE;
+  }
+
+  private static ThreadPoolExecutor createPool(int numOfThreads, String name) {
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(numOfThreads, numOfThreads,
+        CarbonCommonConstants.CARBON_QUERY_SCAN_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), new CarbonThreadFactory(name, true));
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  private static int getNumberOfScanThreads() {
+    int defaultValue = Runtime.getRuntime().availableProcessors() * 2;
+    int numOfThreads = getIntProperty(CarbonCommonConstants.CARBON_QUERY_SCAN_THREADS,
+        CarbonCommonConstants.CARBON_QUERY_SCAN_THREADS_DEFAULT);
+    return numOfThreads > 0 ? numOfThreads : defaultValue;
+  }
+
+  private static int getTasksPerQuery(int numOfThreads) {
+    int tasksPerQuery = getIntProperty(CarbonCommonConstants.CARBON_QUERY_SCAN_TASKS_PER_QUERY,
+        CarbonCommonConstants.CARBON_QUERY_SCAN_TASKS_PER_QUERY_DEFAULT);
+    if (tasksPerQuery <= 0 || tasksPerQuery > numOfThreads) {
+      tasksPerQuery = Math.max(1, numOfThreads / 2);
+    }
+    return tasksPerQuery;
+  }
+
+  private static int getIntProperty(String key, String defaultValue) {
+    try {
+      return Integer.parseInt(CarbonProperties.getInstance().getProperty(key, defaultValue));
+    } catch (NumberFormatException e) {
+      LOGGER.warn("The value of '" + key + "' is invalid. Using the default value "
+          + defaultValue);
+      return Integer.parseInt(defaultValue);
+    }
+  }
+
+  /**
+   * Create the executor service to be used by one query
+   *
+   * @param queryId id of the query, used in logs
+   */
+  public QueryExecutorService newQueryExecutorService(String queryId) {
+    if (scanPool.isShutdown()) {
+      throw new RejectedExecutionException("Query scan scheduler is already shutdown");
+    }
+    return new QueryExecutorService(queryId);
+  }
+
+  /**
+   * Number of scan and read tasks which are submitted but not yet started, either waiting for
+   * a free thread or for the quota of their query
+   */
+  public int getQueueDepth() {
+    return scanPool.getQueue().size() + ioPool.getQueue().size() + waitingTasks.get();
+  }
+
+  /**
+   * Number of threads which are currently running a task
+   */
+  public int getActiveThreadCount() {
+    return scanPool.getActiveCount() + ioPool.getActiveCount();
+  }
+
+  /**
+   * Stop accepting new queries and wait for the running tasks to finish, tasks which do not
+   * finish in time are interrupted
+   */
+  public void shutdown() {
+    scanPool.shutdown();
+    ioPool.shutdown();
+    try {
+      long timeout = CarbonCommonConstants.CARBON_QUERY_SCAN_SHUTDOWN_TIMEOUT_SECONDS;
+      if (!scanPool.awaitTermination(timeout, TimeUnit.SECONDS)) {
+        scanPool.shutdownNow();
+      }
+      if (!ioPool.awaitTermination(timeout, TimeUnit.SECONDS)) {
+        ioPool.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      scanPool.shutdownNow();
+      ioPool.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Executor service of a query. Tasks submitted to it run in the scan pool, tasks submitted
+   * through {@link #submitIO(Callable)} run in the io pool.
+   */
+  public final class QueryExecutorService extends AbstractExecutorService {
+
+    private final String queryId;
+
+    private final QuotaExecutor scanExecutor;
+
+    private final QuotaExecutor ioExecutor;
+
+    private QueryExecutorService(String queryId) {
+      this.queryId = queryId;
+      // pool threads are shared, so the task info of the query is set on them for each task,
+      // it is required to account the unsafe memory used by the tasks to the query
+      CarbonTaskInfo taskInfo = ThreadLocalTaskInfo.getCarbonTaskInfo();
+      this.scanExecutor = new QuotaExecutor(scanPool, taskInfo);
+      this.ioExecutor = new QuotaExecutor(ioPool, taskInfo);
+    }
+
+    /**
+     * Submit a task which only reads data and does not wait for any other task
+     */
+    public <T> Future<T> submitIO(Callable<T> task) {
+      return ioExecutor.submit(task);
+    }
+
+    @Override public void execute(Runnable command) {
+      scanExecutor.execute(command);
+    }
+
+    @Override public void shutdown() {
+      scanExecutor.shutdown();
+      ioExecutor.shutdown();
+    }
+
+    @Override public List<Runnable> shutdownNow() {
+      List<Runnable> notStarted = scanExecutor.shutdownNow();
+      notStarted.addAll(ioExecutor.shutdownNow());
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Cancelled " + notStarted.size() + " not started tasks of query " + queryId
+            + ", scheduler queue depth is " + getQueueDepth());
+      }
+      return notStarted;
+    }
+
+    @Override public boolean isShutdown() {
+      return scanExecutor.isShutdown();
+    }
+
+    @Override public boolean isTerminated() {
+      return scanExecutor.isTerminated() && ioExecutor.isTerminated();
+    }
+
+    @Override public boolean awaitTermination(long timeout, TimeUnit unit)
+        throws InterruptedException {
+      long deadline = System.nanoTime() + unit.toNanos(timeout);
+      return scanExecutor.awaitTermination(timeout, unit) && ioExecutor
+          .awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Executor which runs the tasks of one query in a shared pool, keeping at most
+   * {@link #tasksPerQuery} of them in the pool at a time.
+   */
+  private final class QuotaExecutor extends AbstractExecutorService {
+
+    private final ThreadPoolExecutor pool;
+
+    private final CarbonTaskInfo taskInfo;
+
+    private final Queue<Runnable> waitingQueue = new LinkedList<>();
+
+    private final Set<Thread> runningThreads = new HashSet<>();
+
+    private int dispatchedTasks;
+
+    private boolean isShutdown;
+
+    private QuotaExecutor(ThreadPoolExecutor pool, CarbonTaskInfo taskInfo) {
+      this.pool = pool;
+      this.taskInfo = taskInfo;
+    }
+
+    @Override public void execute(Runnable command) {
+      synchronized (this) {
+        if (isShutdown) {
+          throw new RejectedExecutionException("Query is already finished");
+        }
+        if (dispatchedTasks >= tasksPerQuery) {
+          waitingQueue.add(command);
+          waitingTasks.incrementAndGet();
+          return;
+        }
+        dispatchedTasks++;
+      }
+      dispatch(command);
+    }
+
+    private void dispatch(final Runnable command) {
+      try {
+        pool.execute(new Runnable() {
+          @Override public void run() {
+            runTask(command);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        onTaskFinished();
+        throw e;
+      }
+    }
+
+    private void runTask(Runnable command) {
+      synchronized (this) {
+        if (isShutdown) {
+          // query is already finished, no need to start this task
+          cancel(command);
+          onTaskFinishedLocked();
+          return;
+        }
+        runningThreads.add(Thread.currentThread());
+      }
+      ThreadLocalTaskInfo.setCarbonTaskInfo(taskInfo);
+      try {
+        command.run();
+      } finally {
+        ThreadLocalTaskInfo.setCarbonTaskInfo(null);
+        synchronized (this) {
+          runningThreads.remove(Thread.currentThread());
+          // clear the interrupt raised by shutdownNow, so it does not leak to the next task
+          // running in this pool thread
+          Thread.interrupted();
+        }
+        onTaskFinished();
+      }
+    }
+
+    private void onTaskFinished() {
+      Runnable next;
+      synchronized (this) {
+        next = onTaskFinishedLocked();
+      }
+      if (next != null) {
+        dispatch(next);
+      }
+    }
+
+    private Runnable onTaskFinishedLocked() {
+      Runnable next = isShutdown ? null : waitingQueue.poll();
+      if (next != null) {
+        waitingTasks.decrementAndGet();
+      } else {
+        dispatchedTasks--;
+        if (dispatchedTasks == 0) {
+          notifyAll();
+        }
+      }
+      return next;
+    }
+
+    /**
+     * cancel the task which will not be run, so that nobody waits for its result forever
+     */
+    private void cancel(Runnable task) {
+      if (task instanceof Future) {
+        ((Future) task).cancel(false);
+      }
+    }
+
+    @Override public synchronized void shutdown() {
+      isShutdown = true;
+    }
+
+    @Override public synchronized List<Runnable> shutdownNow() {
+      isShutdown = true;
+      List<Runnable> notStarted = new ArrayList<>(waitingQueue);
+      waitingTasks.addAndGet(-waitingQueue.size());
+      waitingQueue.clear();
+      for (Runnable task : notStarted) {
+        cancel(task);
+      }
+      for (Thread thread : runningThreads) {
+        thread.interrupt();
+      }
+      return notStarted;
+    }
+
+    @Override public synchronized boolean isShutdown() {
+      return isShutdown;
+    }
+
+    @Override public synchronized boolean isTerminated() {
+      return isShutdown && dispatchedTasks == 0;
+    }
+
+    @Override public synchronized boolean awaitTermination(long timeout, TimeUnit unit)
+        throws InterruptedException {
+      long remaining = unit.toMillis(timeout);
+      long deadline = System.currentTimeMillis() + remaining;
+      while (!isTerminated()) {
+        if (remaining <= 0) {
+          return false;
+        }
+        wait(remaining);
+        remaining = deadline - System.currentTimeMillis();
+      }
+      return true;
+    }
+  }
+}
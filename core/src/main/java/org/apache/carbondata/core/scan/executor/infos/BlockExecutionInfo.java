@@ -26,6 +26,7 @@ import org.apache.carbondata.core.scan.filter.GenericQueryType;
 import org.apache.carbondata.core.scan.filter.executer.FilterExecuter;
 import org.apache.carbondata.core.scan.model.ProjectionDimension;
 import org.apache.carbondata.core.scan.model.ProjectionMeasure;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
 
 /**
  * Below class will have all the properties which needed during query execution
@@ -210,6 +211,12 @@ public class BlockExecutionInfo {
 
   private Map<String, DeleteDeltaVo> deletedRecordsMap;
 
+  /**
+   * column id to the dictionary set to the vectors of the projection dictionary columns, it is
+   * shared by all the blocks of the query
+   */
+  private Map<String, CarbonDictionary> columnIdToVectorDictionaryMapping;
+
   /**
    * @param blockIndex the tableBlock to set
    */
@@ -618,4 +625,13 @@ public class BlockExecutionInfo {
   public void setPrefetchBlocklet(boolean prefetchBlocklet) {
     this.prefetchBlocklet = prefetchBlocklet;
   }
+
+  public Map<String, CarbonDictionary> getColumnIdToVectorDictionaryMapping() {
+    return columnIdToVectorDictionaryMapping;
+  }
+
+  public void setColumnIdToVectorDictionaryMapping(
+      Map<String, CarbonDictionary> columnIdToVectorDictionaryMapping) {
+    this.columnIdToVectorDictionaryMapping = columnIdToVectorDictionaryMapping;
+  }
 }
@@ -272,13 +272,15 @@ public class QueryUtil {
    * @param queryDimensions         query dimension present in the query this will be used to
    *                                convert the result from surrogate key to actual data
    * @param absoluteTableIdentifier absolute table identifier
+   * @param isDictionaryVector      whether to get the dictionary of the projection dictionary
+   *                                columns which are set to their vectors
    * @return dimension unique id to its dictionary map
    * @throws IOException
    */
   public static Map<String, Dictionary> getDimensionDictionaryDetail(
       List<ProjectionDimension> queryDimensions, Set<CarbonDimension> filterComplexDimensions,
-      AbsoluteTableIdentifier absoluteTableIdentifier, TableProvider tableProvider)
-      throws IOException {
+      AbsoluteTableIdentifier absoluteTableIdentifier, TableProvider tableProvider,
+      boolean isDictionaryVector) throws IOException {
     // to store complex dimension and its child id unique column id list, this is required as
     // dimension can be present in  projection and filter
     // so we need to get only one instance of dictionary
@@ -294,6 +296,9 @@ public class QueryUtil {
           && queryDimensions.get(i).getDimension().getNumberOfChild() > 0) {
         getChildDimensionDictionaryDetail(queryDimensions.get(i).getDimension(),
             dictionaryDimensionFromQuery);
+      } else if (isDictionaryVector
+          && isVectorDictionaryColumn(queryDimensions.get(i).getDimension())) {
+        dictionaryDimensionFromQuery.add(queryDimensions.get(i).getDimension().getColumnId());
       }
     }
     Iterator<CarbonDimension> iterator = filterComplexDimensions.iterator();
@@ -312,6 +317,17 @@ public class QueryUtil {
     return getDictionaryMap(dictionaryColumnIdList, absoluteTableIdentifier, tableProvider);
   }
 
+  /**
+   * @return true if the vector of the dimension keeps the dictionary ids of a global
+   * dictionary, that is a dictionary dimension which is not direct dictionary or complex
+   */
+  public static boolean isVectorDictionaryColumn(CarbonDimension dimension) {
+    return dimension.hasEncoding(Encoding.DICTIONARY)
+        && !dimension.hasEncoding(Encoding.DIRECT_DICTIONARY)
+        && !dimension.hasEncoding(Encoding.IMPLICIT)
+        && !dimension.isComplex();
+  }
+
   /**
    * Below method will be used to fill the children dimension column id
    *
@@ -22,6 +22,7 @@ import java.util.BitSet;
 import org.apache.carbondata.core.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.impl.DimensionRawColumnChunk;
+import org.apache.carbondata.core.datastore.chunk.impl.LocalDictDimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.impl.MeasureRawColumnChunk;
 import org.apache.carbondata.core.datastore.page.ColumnPage;
 import org.apache.carbondata.core.metadata.datatype.DataType;
@@ -48,6 +49,10 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
   private boolean isDimensionPresentInCurrentBlock = false;
   private boolean isMeasurePresentInCurrentBlock = false;
   private SerializableComparator comparator;
+  /**
+   * matcher of the measure filter keys, null if the rows are compared one by one
+   */
+  private MeasureFilterValueMatcher filterValueMatcher;
   /**
    * is dimension column data is natural sorted
    */
@@ -77,6 +82,8 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
 
       DataType msrType = getMeasureDataType(msrColumnEvaluatorInfo);
       comparator = Comparator.getComparatorByDataTypeForMeasure(msrType);
+      filterValueMatcher = MeasureFilterValueMatcher.newInstance(
+          msrColumnExecutorInfo.getFilterKeys(), msrType, msrColumnEvaluatorInfo.getMeasure());
     }
 
   }
@@ -186,6 +193,10 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
     // the filter values. The one that matches sets it Bitset.
     BitSet bitSet = new BitSet(numerOfRows);
     bitSet.flip(0, numerOfRows);
+    if (filterValueMatcher != null) {
+      bitSet.andNot(filterValueMatcher.getMatchedRows(columnPage, numerOfRows));
+      return bitSet;
+    }
     Object[] filterValues = msrColumnExecutorInfo.getFilterKeys();
     SerializableComparator comparator = Comparator.getComparatorByDataTypeForMeasure(msrType);
     for (int i = 0; i < filterValues.length; i++) {
@@ -247,6 +258,11 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
       BitSetGroup prvBitSetGroup, int pageNumber, int numberOfRows, DataType msrDataType) {
     BitSet bitSet = new BitSet(numberOfRows);
     bitSet.flip(0, numberOfRows);
+    if (filterValueMatcher != null) {
+      bitSet.andNot(filterValueMatcher.getMatchedRows(measureColumnPage, numberOfRows,
+          prvBitSetGroup.getBitSet(pageNumber)));
+      return bitSet;
+    }
     Object[] filterValues = msrColumnExecutorInfo.getFilterKeys();
     BitSet nullBitSet = measureColumnPage.getNullBits();
     BitSet prvPageBitSet = prvBitSetGroup.getBitSet(pageNumber);
@@ -298,6 +314,13 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
 
   private BitSet getFilteredIndexes(DimensionColumnPage dimensionColumnPage,
       int numberOfRows) {
+    if (dimensionColumnPage instanceof LocalDictDimensionColumnPage) {
+      BitSet bitSet = new BitSet(numberOfRows);
+      bitSet.flip(0, numberOfRows);
+      bitSet.andNot(((LocalDictDimensionColumnPage) dimensionColumnPage)
+          .getRowsMatchingFilter(dimColumnExecuterInfo.getExcludeFilterKeys(), null));
+      return bitSet;
+    }
     if (dimensionColumnPage.isExplicitSorted()) {
       return setFilterdIndexToBitSetWithColumnIndex(dimensionColumnPage, numberOfRows);
     }
@@ -319,6 +342,11 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
     }
     BitSet bitSet = new BitSet();
     bitSet.or(prvPageBitSet);
+    if (dimensionColumnPage instanceof LocalDictDimensionColumnPage) {
+      bitSet.andNot(((LocalDictDimensionColumnPage) dimensionColumnPage)
+          .getRowsMatchingFilter(dimColumnExecuterInfo.getExcludeFilterKeys(), prvPageBitSet));
+      return bitSet;
+    }
     byte[][] filterKeys = dimColumnExecuterInfo.getExcludeFilterKeys();
     int compareResult = 0;
     // if dimension data was natural sorted then get the index from previous bitset
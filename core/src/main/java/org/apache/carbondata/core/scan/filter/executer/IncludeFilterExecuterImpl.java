@@ -22,6 +22,7 @@ import java.util.BitSet;
 import org.apache.carbondata.core.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.impl.DimensionRawColumnChunk;
+import org.apache.carbondata.core.datastore.chunk.impl.LocalDictDimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.impl.MeasureRawColumnChunk;
 import org.apache.carbondata.core.datastore.page.ColumnPage;
 import org.apache.carbondata.core.metadata.datatype.DataType;
@@ -48,6 +49,10 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
   private boolean isDimensionPresentInCurrentBlock = false;
   private boolean isMeasurePresentInCurrentBlock = false;
   protected SerializableComparator comparator;
+  /**
+   * matcher of the measure filter keys, null if the rows are compared one by one
+   */
+  private MeasureFilterValueMatcher filterValueMatcher;
   /**
    * is dimension column data is natural sorted
    */
@@ -81,6 +86,8 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
 
       DataType msrType = getMeasureDataType(msrColumnEvaluatorInfo);
       comparator = Comparator.getComparatorByDataTypeForMeasure(msrType);
+      filterValueMatcher = MeasureFilterValueMatcher.newInstance(
+          msrColumnExecutorInfo.getFilterKeys(), msrType, msrColumnEvaluatorInfo.getMeasure());
     }
 
   }
@@ -198,6 +205,9 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
 
   private BitSet getFilteredIndexesForMeasures(ColumnPage columnPage,
       int rowsInPage, DataType msrType) {
+    if (filterValueMatcher != null) {
+      return filterValueMatcher.getMatchedRows(columnPage, rowsInPage);
+    }
     // Here the algorithm is
     // Get the measure values from the chunk. compare sequentially with the
     // the filter values. The one that matches sets it Bitset.
@@ -263,6 +273,10 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
    */
   private BitSet getFilteredIndexesForMsrUsingPrvBitSet(ColumnPage measureColumnPage,
       BitSetGroup prvBitSetGroup, int pageNumber, int numberOfRows, DataType msrDataType) {
+    if (filterValueMatcher != null) {
+      return filterValueMatcher.getMatchedRows(measureColumnPage, numberOfRows,
+          prvBitSetGroup.getBitSet(pageNumber));
+    }
     BitSet bitSet = new BitSet(numberOfRows);
     Object[] filterValues = msrColumnExecutorInfo.getFilterKeys();
     BitSet nullBitSet = measureColumnPage.getNullBits();
@@ -316,6 +330,10 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
 
   private BitSet getFilteredIndexes(DimensionColumnPage dimensionColumnPage,
       int numberOfRows) {
+    if (dimensionColumnPage instanceof LocalDictDimensionColumnPage) {
+      return ((LocalDictDimensionColumnPage) dimensionColumnPage)
+          .getRowsMatchingFilter(dimColumnExecuterInfo.getFilterKeys(), null);
+    }
     if (dimensionColumnPage.isExplicitSorted()) {
       return setFilterdIndexToBitSetWithColumnIndex(dimensionColumnPage, numberOfRows);
     }
@@ -337,6 +355,10 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
     if (prvPageBitSet == null || prvPageBitSet.isEmpty()) {
       return prvPageBitSet;
     }
+    if (dimensionColumnPage instanceof LocalDictDimensionColumnPage) {
+      return ((LocalDictDimensionColumnPage) dimensionColumnPage)
+          .getRowsMatchingFilter(dimColumnExecuterInfo.getFilterKeys(), prvPageBitSet);
+    }
     BitSet bitSet = new BitSet(numberOfRows);
     byte[][] filterKeys = dimColumnExecuterInfo.getFilterKeys();
     int compareResult = 0;
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.scan.filter.executer;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonMeasure;
+import org.apache.carbondata.core.util.DataTypeUtil;
+import org.apache.carbondata.core.util.LongOpenHashSet;
+
+/**
+ * Finds the rows of a measure page whose value is one of the filter keys of an IN or equal
+ * filter. The keys are kept in a hash set of the measure type, so each row is probed once
+ * instead of being compared with every filter key.
+ */
+public abstract class MeasureFilterValueMatcher {
+
+  /**
+   * true if one of the filter keys is null, then the null rows are matched
+   */
+  private boolean matchNull;
+
+  /**
+   * Creates the matcher for the given filter keys, or returns null if the data type is not
+   * supported and the rows have to be compared one by one
+   *
+   * @param filterKeys filter keys converted to the measure type, may contain null
+   * @param msrType data type used to read the measure page
+   * @param measure filtered measure
+   */
+  public static MeasureFilterValueMatcher newInstance(Object[] filterKeys, DataType msrType,
+      CarbonMeasure measure) {
+    MeasureFilterValueMatcher matcher;
+    if (msrType == DataTypes.SHORT || msrType == DataTypes.INT || msrType == DataTypes.LONG) {
+      matcher = new LongValueMatcher(msrType, filterKeys.length);
+    } else if (msrType == DataTypes.DOUBLE) {
+      matcher = new DoubleValueMatcher(filterKeys.length);
+    } else if (DataTypes.isDecimal(msrType)) {
+      matcher = new DecimalValueMatcher(msrType, measure, filterKeys.length);
+    } else {
+      return null;
+    }
+    for (Object filterKey : filterKeys) {
+      if (filterKey == null) {
+        matcher.matchNull = true;
+      } else if (!matcher.addFilterKey(filterKey)) {
+        return null;
+      }
+    }
+    return matcher;
+  }
+
+  /**
+   * Adds a non null filter key
+   *
+   * @return false if the key is not of the expected type
+   */
+  abstract boolean addFilterKey(Object filterKey);
+
+  /**
+   * Returns true if the non null value at the row is one of the filter keys
+   */
+  abstract boolean matches(ColumnPage page, int rowId);
+
+  /**
+   * Returns the rows of the page matching one of the filter keys
+   */
+  public BitSet getMatchedRows(ColumnPage page, int numberOfRows) {
+    BitSet bitSet = new BitSet(numberOfRows);
+    BitSet nullBitSet = page.getNullBits();
+    if (nullBitSet.isEmpty()) {
+      for (int i = 0; i < numberOfRows; i++) {
+        if (matches(page, i)) {
+          bitSet.set(i);
+        }
+      }
+    } else {
+      for (int i = 0; i < numberOfRows; i++) {
+        if (nullBitSet.get(i)) {
+          if (matchNull) {
+            bitSet.set(i);
+          }
+        } else if (matches(page, i)) {
+          bitSet.set(i);
+        }
+      }
+    }
+    return bitSet;
+  }
+
+  /**
+   * Returns the rows of the page matching one of the filter keys. Only the rows set in
+   * `candidateRows` are checked for a match, except the null rows which are always checked.
+   */
+  public BitSet getMatchedRows(ColumnPage page, int numberOfRows, BitSet candidateRows) {
+    BitSet bitSet = new BitSet(numberOfRows);
+    BitSet nullBitSet = page.getNullBits();
+    if (matchNull) {
+      bitSet.or(nullBitSet);
+    }
+    for (int i = candidateRows.nextSetBit(0); i >= 0; i = candidateRows.nextSetBit(i + 1)) {
+      if (!nullBitSet.get(i) && matches(page, i)) {
+        bitSet.set(i);
+      }
+    }
+    return bitSet;
+  }
+
+  /**
+   * Matcher for SHORT, INT and LONG measures
+   */
+  private static class LongValueMatcher extends MeasureFilterValueMatcher {
+
+    private DataType msrType;
+
+    private LongOpenHashSet filterKeys;
+
+    LongValueMatcher(DataType msrType, int numberOfKeys) {
+      this.msrType = msrType;
+      this.filterKeys = new LongOpenHashSet(numberOfKeys);
+    }
+
+    @Override boolean addFilterKey(Object filterKey) {
+      if (!(filterKey instanceof Number)) {
+        return false;
+      }
+      // truncate the key in the same way the row values are read
+      filterKeys.add(narrow(((Number) filterKey).longValue()));
+      return true;
+    }
+
+    @Override boolean matches(ColumnPage page, int rowId) {
+      return filterKeys.contains(narrow(page.getLong(rowId)));
+    }
+
+    private long narrow(long value) {
+      if (msrType == DataTypes.SHORT) {
+        return (short) value;
+      } else if (msrType == DataTypes.INT) {
+        return (int) value;
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Matcher for DOUBLE measures. The values are compared on their bits, which gives the same
+   * result as Double.compareTo used by the measure comparator.
+   */
+  private static class DoubleValueMatcher extends MeasureFilterValueMatcher {
+
+    private LongOpenHashSet filterKeys;
+
+    DoubleValueMatcher(int numberOfKeys) {
+      this.filterKeys = new LongOpenHashSet(numberOfKeys);
+    }
+
+    @Override boolean addFilterKey(Object filterKey) {
+      if (!(filterKey instanceof Double)) {
+        return false;
+      }
+      filterKeys.add(Double.doubleToLongBits((Double) filterKey));
+      return true;
+    }
+
+    @Override boolean matches(ColumnPage page, int rowId) {
+      return filterKeys.contains(Double.doubleToLongBits(page.getDouble(rowId)));
+    }
+  }
+
+  /**
+   * Matcher for DECIMAL measures. The values are compared ignoring the scale, as
+   * BigDecimal.compareTo does.
+   */
+  private static class DecimalValueMatcher extends MeasureFilterValueMatcher {
+
+    private DataType msrType;
+
+    private CarbonMeasure measure;
+
+    private Set<BigDecimal> filterKeys;
+
+    DecimalValueMatcher(DataType msrType, CarbonMeasure measure, int numberOfKeys) {
+      this.msrType = msrType;
+      this.measure = measure;
+      this.filterKeys = new HashSet<>(numberOfKeys * 2);
+    }
+
+    @Override boolean addFilterKey(Object filterKey) {
+      if (!(filterKey instanceof BigDecimal)) {
+        return false;
+      }
+      filterKeys.add(normalize((BigDecimal) filterKey));
+      return true;
+    }
+
+    @Override boolean matches(ColumnPage page, int rowId) {
+      // read as the row based filter does, values exceeding the precision are read as null
+      BigDecimal value =
+          (BigDecimal) DataTypeUtil.getMeasureObjectBasedOnDataType(page, rowId, msrType, measure);
+      return value != null && filterKeys.contains(normalize(value));
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+      if (value.signum() == 0) {
+        return BigDecimal.ZERO;
+      }
+      return value.stripTrailingZeros();
+    }
+  }
+}
@@ -104,6 +104,12 @@ public class QueryModel {
    */
   private boolean readPageByPage;
 
+  /**
+   * Set the global dictionary of each projection dictionary column to its vectors, so that the
+   * engine decodes the dictionary ids late.
+   */
+  private boolean dictionaryVector;
+
   private QueryModel(CarbonTable carbonTable) {
     tableBlockInfos = new ArrayList<TableBlockInfo>();
     invalidSegmentIds = new ArrayList<>();
@@ -356,4 +362,12 @@ public class QueryModel {
   public void setReadPageByPage(boolean readPageByPage) {
     this.readPageByPage = readPageByPage;
   }
+
+  public boolean isDictionaryVector() {
+    return dictionaryVector;
+  }
+
+  public void setDictionaryVector(boolean dictionaryVector) {
+    this.dictionaryVector = dictionaryVector;
+  }
 }
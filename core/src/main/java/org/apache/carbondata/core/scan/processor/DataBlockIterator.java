@@ -17,19 +17,25 @@
 package org.apache.carbondata.core.scan.processor;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.carbondata.common.CarbonIterator;
 import org.apache.carbondata.core.datastore.DataRefNode;
 import org.apache.carbondata.core.datastore.FileReader;
+import org.apache.carbondata.core.datastore.chunk.AbstractRawColumnChunk;
+import org.apache.carbondata.core.memory.UnsafeMemoryManager;
 import org.apache.carbondata.core.scan.collector.ResultCollectorFactory;
 import org.apache.carbondata.core.scan.collector.ScannedResultCollector;
+import org.apache.carbondata.core.scan.executor.impl.QueryScanScheduler;
 import org.apache.carbondata.core.scan.executor.infos.BlockExecutionInfo;
 import org.apache.carbondata.core.scan.result.BlockletScannedResult;
 import org.apache.carbondata.core.scan.result.vector.CarbonColumnarBatch;
@@ -37,6 +43,7 @@ import org.apache.carbondata.core.scan.scanner.BlockletScanner;
 import org.apache.carbondata.core.scan.scanner.impl.BlockletFilterScanner;
 import org.apache.carbondata.core.scan.scanner.impl.BlockletFullScanner;
 import org.apache.carbondata.core.stats.QueryStatisticsModel;
+import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.TaskMetricsMap;
 
 /**
@@ -70,7 +77,30 @@ public class DataBlockIterator extends CarbonIterator<List<Object[]>> {
 
   private Future<BlockletScannedResult> future;
 
-  private Future<RawBlockletColumnChunks> futureIo;
+  /**
+   * reads of the blocklets after the one being scanned, in blocklet order
+   */
+  private Deque<ReadAhead> readAheadQueue;
+
+  /**
+   * max number of blocklets read ahead
+   */
+  private int readAheadBlockletCount;
+
+  /**
+   * max size of the blocklets read ahead and not yet scanned
+   */
+  private long readAheadMaxSize;
+
+  /**
+   * estimated size of the blocklets submitted for read ahead and not yet scanned
+   */
+  private AtomicLong readAheadSize;
+
+  /**
+   * raw size of the last scanned blocklet, used as the size estimate of the next reads
+   */
+  private long lastBlockletSize;
 
   private BlockletScannedResult scannedResult;
 
@@ -99,6 +129,10 @@ public class DataBlockIterator extends CarbonIterator<List<Object[]>> {
     this.executorService = executorService;
     this.nextBlock = new AtomicBoolean(false);
     this.nextRead = new AtomicBoolean(false);
+    this.readAheadQueue = new ArrayDeque<>();
+    this.readAheadBlockletCount = CarbonProperties.getInstance().getQueryPrefetchBlockletCount();
+    this.readAheadMaxSize = CarbonProperties.getInstance().getQueryPrefetchMaxSizeInBytes();
+    this.readAheadSize = new AtomicLong();
   }
 
   @Override
@@ -189,54 +223,91 @@ public class DataBlockIterator extends CarbonIterator<List<Object[]>> {
 
   private RawBlockletColumnChunks getNextBlockletColumnChunks() {
     RawBlockletColumnChunks rawBlockletColumnChunks = null;
-    do {
+    while (rawBlockletColumnChunks == null && blockletIterator.hasNext()) {
       DataRefNode dataBlock = blockletIterator.next();
       if (dataBlock.getColumnsMaxValue() == null || blockletScanner.isScanRequired(dataBlock)) {
         rawBlockletColumnChunks =  RawBlockletColumnChunks.newInstance(
             blockExecutionInfo.getTotalNumberDimensionToRead(),
             blockExecutionInfo.getTotalNumberOfMeasureToRead(), fileReader, dataBlock);
       }
-    } while (rawBlockletColumnChunks == null && blockletIterator.hasNext());
+    }
     return rawBlockletColumnChunks;
   }
 
   private Future<BlockletScannedResult> scanNextBlockletAsync() {
     return executorService.submit(new Callable<BlockletScannedResult>() {
       @Override public BlockletScannedResult call() throws Exception {
-        if (futureIo == null) {
-          futureIo = readNextBlockletAsync();
+        fillReadAheadQueue();
+        ReadAhead readAhead = readAheadQueue.poll();
+        if (readAhead == null) {
+          nextRead.set(false);
+          return null;
         }
-        RawBlockletColumnChunks rawBlockletColumnChunks = futureIo.get();
-        futureIo = null;
-        nextRead.set(false);
-        if (rawBlockletColumnChunks != null) {
-          if (blockletIterator.hasNext()) {
-            nextRead.set(true);
-            futureIo = readNextBlockletAsync();
-          }
-          return blockletScanner.scanBlocklet(rawBlockletColumnChunks);
-        }
-        return null;
+        RawBlockletColumnChunks rawBlockletColumnChunks = readAhead.future.get();
+        readAheadSize.addAndGet(-readAhead.estimatedSize);
+        lastBlockletSize = getRawDataSize(rawBlockletColumnChunks);
+        // read the next blocklets while this one is scanned
+        fillReadAheadQueue();
+        return blockletScanner.scanBlocklet(rawBlockletColumnChunks);
       }
     });
   }
 
-  private Future<RawBlockletColumnChunks> readNextBlockletAsync() {
-    return executorService.submit(new Callable<RawBlockletColumnChunks>() {
+  /**
+   * Start the reads of the next blocklets till carbon.query.prefetch.blocklet.count blocklets
+   * are read ahead, or the estimated size of the blocklets read ahead reaches the limit. The
+   * size of a read is counted when it is submitted, so the reads in flight are limited too.
+   * Blocklets to be read are taken from the blocklet iterator here, so the reads can run in
+   * parallel.
+   */
+  private void fillReadAheadQueue() {
+    while (readAheadQueue.size() < readAheadBlockletCount
+        && (readAheadQueue.isEmpty() || readAheadSize.get() < getReadAheadMaxSize())) {
+      RawBlockletColumnChunks rawBlockletColumnChunks = getNextBlockletColumnChunks();
+      if (rawBlockletColumnChunks == null) {
+        break;
+      }
+      // the blocklets of a block have similar sizes, so the last scanned one is the estimate
+      readAheadSize.addAndGet(lastBlockletSize);
+      readAheadQueue.add(
+          new ReadAhead(readBlockletAsync(rawBlockletColumnChunks), lastBlockletSize));
+    }
+    nextRead.set(!readAheadQueue.isEmpty());
+  }
+
+  /**
+   * The raw chunks read ahead are decoded into unsafe working memory, so read less ahead when
+   * the free working memory is short
+   */
+  private long getReadAheadMaxSize() {
+    return Math.min(readAheadMaxSize, UnsafeMemoryManager.INSTANCE.getAvailableMemory() / 2);
+  }
+
+  private static long getRawDataSize(RawBlockletColumnChunks rawBlockletColumnChunks) {
+    return AbstractRawColumnChunk.getRawDataSize(
+        rawBlockletColumnChunks.getDimensionRawColumnChunks(),
+        rawBlockletColumnChunks.getMeasureRawColumnChunks());
+  }
+
+  private Future<RawBlockletColumnChunks> readBlockletAsync(
+      final RawBlockletColumnChunks rawBlockletColumnChunks) {
+    Callable<RawBlockletColumnChunks> readTask = new Callable<RawBlockletColumnChunks>() {
       @Override public RawBlockletColumnChunks call() throws Exception {
         try {
           TaskMetricsMap.getInstance().registerThreadCallback();
-          if (blockletIterator.hasNext()) {
-            return readNextBlockletColumnChunks();
-          } else {
-            return null;
-          }
+          blockletScanner.readBlocklet(rawBlockletColumnChunks);
+          return rawBlockletColumnChunks;
         } finally {
           // update read bytes metrics for this thread
           TaskMetricsMap.getInstance().updateReadBytes(Thread.currentThread().getId());
         }
       }
-    });
+    };
+    // the scan task waits for this read, so submit it to the io pool of the scheduler if present
+    if (executorService instanceof QueryScanScheduler.QueryExecutorService) {
+      return ((QueryScanScheduler.QueryExecutorService) executorService).submitIO(readTask);
+    }
+    return executorService.submit(readTask);
   }
 
   public void processNextBatch(CarbonColumnarBatch columnarBatch) {
@@ -265,5 +336,27 @@ public class DataBlockIterator extends CarbonIterator<List<Object[]>> {
         throw new RuntimeException(e);
       }
     }
+    // wait for the blocklets read ahead, the file reader is closed after this
+    ReadAhead readAhead;
+    while ((readAhead = readAheadQueue.poll()) != null) {
+      try {
+        readAhead.future.get();
+      } catch (InterruptedException | ExecutionException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  /**
+   * Read of a blocklet ahead of the scan, with the size it was counted with on submit
+   */
+  private static final class ReadAhead {
+    private final Future<RawBlockletColumnChunks> future;
+    private final long estimatedSize;
+
+    private ReadAhead(Future<RawBlockletColumnChunks> future, long estimatedSize) {
+      this.future = future;
+      this.estimatedSize = estimatedSize;
+    }
   }
-}
\ No newline at end of file
+}
@@ -294,6 +294,16 @@ public abstract class AbstractDetailQueryResultIterator<E> extends CarbonIterato
     queryStatisticsModel.getStatisticsTypeAndObjMap()
         .put(QueryStatisticsConstants.READ_BLOCKlET_TIME, readTime);
     queryStatisticsModel.getRecorder().recordStatistics(readTime);
+
+    QueryStatistic readBytes = new QueryStatistic();
+    queryStatisticsModel.getStatisticsTypeAndObjMap()
+        .put(QueryStatisticsConstants.READ_BYTES, readBytes);
+    queryStatisticsModel.getRecorder().recordStatistics(readBytes);
+
+    QueryStatistic usedBytes = new QueryStatistic();
+    queryStatisticsModel.getStatisticsTypeAndObjMap()
+        .put(QueryStatisticsConstants.USED_BYTES, usedBytes);
+    queryStatisticsModel.getRecorder().recordStatistics(usedBytes);
   }
 
   public void processNextBatch(CarbonColumnarBatch columnarBatch) {
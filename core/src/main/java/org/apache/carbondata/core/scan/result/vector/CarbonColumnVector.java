@@ -18,6 +18,7 @@
 package org.apache.carbondata.core.scan.result.vector;
 
 import java.math.BigDecimal;
+import java.util.BitSet;
 
 import org.apache.carbondata.core.metadata.datatype.DataType;
 
@@ -31,14 +32,29 @@ public interface CarbonColumnVector {
 
   void putShorts(int rowId, int count, short value);
 
+  /**
+   * Put the values `src[srcIndex, srcIndex + count)` to the rows [rowId, rowId + count)
+   */
+  void putShorts(int rowId, int count, short[] src, int srcIndex);
+
   void putInt(int rowId, int value);
 
   void putInts(int rowId, int count, int value);
 
+  /**
+   * Put the values `src[srcIndex, srcIndex + count)` to the rows [rowId, rowId + count)
+   */
+  void putInts(int rowId, int count, int[] src, int srcIndex);
+
   void putLong(int rowId, long value);
 
   void putLongs(int rowId, int count, long value);
 
+  /**
+   * Put the values `src[srcIndex, srcIndex + count)` to the rows [rowId, rowId + count)
+   */
+  void putLongs(int rowId, int count, long[] src, int srcIndex);
+
   void putDecimal(int rowId, BigDecimal value, int precision);
 
   void putDecimals(int rowId, int count, BigDecimal value, int precision);
@@ -47,16 +63,34 @@ public interface CarbonColumnVector {
 
   void putDoubles(int rowId, int count, double value);
 
+  /**
+   * Put the values `src[srcIndex, srcIndex + count)` to the rows [rowId, rowId + count)
+   */
+  void putDoubles(int rowId, int count, double[] src, int srcIndex);
+
   void putBytes(int rowId, byte[] value);
 
   void putBytes(int rowId, int count, byte[] value);
 
   void putBytes(int rowId, int offset, int length, byte[] value);
 
+  /**
+   * Put `count` byte arrays to the rows [rowId, rowId + count), the byte array of row
+   * `rowId + i` is at `offsets[srcIndex + i]` of `value` with length `lengths[srcIndex + i]`
+   */
+  void putBytes(int rowId, int count, int[] offsets, int[] lengths, int srcIndex, byte[] value);
+
   void putNull(int rowId);
 
   void putNulls(int rowId, int count);
 
+  /**
+   * Set the rows of [rowId, rowId + count) to null for which the bit `nullBits[nullBitsIndex + i]`
+   * is set. It must be called right after the values of these rows are put, the values of the
+   * null rows are ignored.
+   */
+  void putNulls(int rowId, int count, BitSet nullBits, int nullBitsIndex);
+
   boolean isNull(int rowId);
 
   void putObject(int rowId, Object obj);
@@ -83,4 +117,21 @@ public interface CarbonColumnVector {
 
   void setFilteredRowsExist(boolean filteredRowsExist);
 
+  /**
+   * Set the dictionary of the vector. The rows of a vector with dictionary keep the int
+   * dictionary ids, which are put by {@link #putInt(int, int)} and the other int puts, and the
+   * values are looked up from the dictionary by the engine when it needs them.
+   *
+   * @param dictionary dictionary shared by the vectors of the column, null if the vector keeps
+   *                   the values
+   */
+  void setDictionary(CarbonDictionary dictionary);
+
+  /**
+   * @return dictionary of the vector, null if the vector keeps the values
+   */
+  CarbonDictionary getDictionary();
+
+  boolean hasDictionary();
+
 }
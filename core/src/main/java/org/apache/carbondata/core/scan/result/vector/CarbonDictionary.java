@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.scan.result.vector;
+
+/**
+ * Dictionary shared by the vectors of a dictionary column. Such a vector keeps the int
+ * dictionary id of each row, the engine can group and filter on the ids and look up the
+ * values only for the rows it outputs.
+ */
+public interface CarbonDictionary {
+
+  /**
+   * @return number of ids in the dictionary, the ids are in [0, size)
+   */
+  int getDictionarySize();
+
+  /**
+   * @param dictionaryId id kept by the vector
+   * @return value of the id, null if the id has no value
+   */
+  byte[] getDictionaryValue(int dictionaryId);
+}
@@ -32,6 +32,7 @@ public class ColumnVectorInfo implements Comparable<ColumnVectorInfo> {
   public DirectDictionaryGenerator directDictionaryGenerator;
   public MeasureDataVectorProcessor.MeasureVectorFiller measureVectorFiller;
   public GenericQueryType genericQueryType;
+  public CarbonDictionary dictionary;
 
   @Override public int compareTo(ColumnVectorInfo o) {
     return ordinal - o.ordinal;
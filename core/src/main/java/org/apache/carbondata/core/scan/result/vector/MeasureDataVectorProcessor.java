@@ -33,10 +33,107 @@ public class MeasureDataVectorProcessor {
         ColumnVectorInfo info);
   }
 
-  public static class IntegralMeasureVectorFiller implements MeasureVectorFiller {
+  /**
+   * Base of the fillers which decode the page in bulk if the page supports it: the values of the
+   * rows are decoded into a buffer by the codec of the page, and then put into the vector, so
+   * that each step is a tight loop for the data type of the page and of the vector instead of
+   * decoding every row through the lazy column page. The values are put to the vector with one
+   * array copy and the null rows are set afterwards.
+   */
+  abstract static class BulkMeasureVectorFiller implements MeasureVectorFiller {
+
+    private long[] longBuffer = new long[0];
+
+    private double[] doubleBuffer = new double[0];
+
+    private int[] intBuffer = new int[0];
+
+    private short[] shortBuffer = new short[0];
+
+    private BitSet nullBitsBuffer = new BitSet();
+
+    long[] getLongBuffer(int size) {
+      if (longBuffer.length < size) {
+        longBuffer = new long[size];
+      }
+      return longBuffer;
+    }
+
+    double[] getDoubleBuffer(int size) {
+      if (doubleBuffer.length < size) {
+        doubleBuffer = new double[size];
+      }
+      return doubleBuffer;
+    }
+
+    int[] getIntBuffer(int size) {
+      if (intBuffer.length < size) {
+        intBuffer = new int[size];
+      }
+      return intBuffer;
+    }
+
+    short[] getShortBuffer(int size) {
+      if (shortBuffer.length < size) {
+        shortBuffer = new short[size];
+      }
+      return shortBuffer;
+    }
+
+    /**
+     * set the null rows of the page to the vector, after the values of the rows are put
+     */
+    void putNullsInBulk(int[] filteredRowId, BitSet nullBitSet, ColumnVectorInfo info) {
+      if (nullBitSet.isEmpty()) {
+        return;
+      }
+      if (null == filteredRowId) {
+        info.vector.putNulls(info.vectorOffset, info.size, nullBitSet, info.offset);
+      } else {
+        BitSet nullBits = nullBitsBuffer;
+        nullBits.clear();
+        for (int i = 0; i < info.size; i++) {
+          if (nullBitSet.get(filteredRowId[info.offset + i])) {
+            nullBits.set(i);
+          }
+        }
+        info.vector.putNulls(info.vectorOffset, info.size, nullBits, 0);
+      }
+    }
+
+    /**
+     * decode the rows of the page into the vector, `filteredRowId` is null if the rows
+     * [info.offset, info.offset + info.size) are filled
+     */
+    abstract void fillMeasureVectorInBulk(int[] filteredRowId, ColumnPage dataChunk,
+        ColumnVectorInfo info);
+  }
+
+  public static class IntegralMeasureVectorFiller extends BulkMeasureVectorFiller {
+
+    @Override
+    void fillMeasureVectorInBulk(int[] filteredRowId, ColumnPage dataChunk,
+        ColumnVectorInfo info) {
+      int offset = info.offset;
+      int size = info.size;
+      int vectorOffset = info.vectorOffset;
+      CarbonColumnVector vector = info.vector;
+      long[] values = getLongBuffer(size);
+      dataChunk.getLongs(filteredRowId, offset, size, values);
+      int[] intValues = getIntBuffer(size);
+      for (int i = 0; i < size; i++) {
+        intValues[i] = (int) values[i];
+      }
+      vector.putInts(vectorOffset, size, intValues, 0);
+      putNullsInBulk(filteredRowId, dataChunk.getNullBits(), info);
+    }
 
     @Override
     public void fillMeasureVector(ColumnPage dataChunk, ColumnVectorInfo info) {
+      if (dataChunk.isBulkDecodeSupported()) {
+        fillMeasureVectorInBulk(null, dataChunk, info);
+        return;
+      }
       int offset = info.offset;
       int len = offset + info.size;
       int vectorOffset = info.vectorOffset;
@@ -62,6 +159,10 @@ public class MeasureDataVectorProcessor {
     @Override
     public void fillMeasureVector(int[] filteredRowId, ColumnPage dataChunk,
         ColumnVectorInfo info) {
+      if (dataChunk.isBulkDecodeSupported()) {
+        fillMeasureVectorInBulk(filteredRowId, dataChunk, info);
+        return;
+      }
       int offset = info.offset;
       int len = offset + info.size;
       int vectorOffset = info.vectorOffset;
@@ -144,10 +245,31 @@ public class MeasureDataVectorProcessor {
     }
   }
 
-  public static class ShortMeasureVectorFiller implements MeasureVectorFiller {
+  public static class ShortMeasureVectorFiller extends BulkMeasureVectorFiller {
+
+    @Override
+    void fillMeasureVectorInBulk(int[] filteredRowId, ColumnPage dataChunk,
+        ColumnVectorInfo info) {
+      int offset = info.offset;
+      int size = info.size;
+      int vectorOffset = info.vectorOffset;
+      CarbonColumnVector vector = info.vector;
+      long[] values = getLongBuffer(size);
+      dataChunk.getLongs(filteredRowId, offset, size, values);
+      short[] shortValues = getShortBuffer(size);
+      for (int i = 0; i < size; i++) {
+        shortValues[i] = (short) values[i];
+      }
+      vector.putShorts(vectorOffset, size, shortValues, 0);
+      putNullsInBulk(filteredRowId, dataChunk.getNullBits(), info);
+    }
 
     @Override
     public void fillMeasureVector(ColumnPage dataChunk, ColumnVectorInfo info) {
+      if (dataChunk.isBulkDecodeSupported()) {
+        fillMeasureVectorInBulk(null, dataChunk, info);
+        return;
+      }
       int offset = info.offset;
       int len = offset + info.size;
       int vectorOffset = info.vectorOffset;
@@ -173,6 +295,10 @@ public class MeasureDataVectorProcessor {
     @Override
     public void fillMeasureVector(int[] filteredRowId, ColumnPage dataChunk,
         ColumnVectorInfo info) {
+      if (dataChunk.isBulkDecodeSupported()) {
+        fillMeasureVectorInBulk(filteredRowId, dataChunk, info);
+        return;
+      }
       int offset = info.offset;
       int len = offset + info.size;
       int vectorOffset = info.vectorOffset;
@@ -198,10 +324,27 @@ public class MeasureDataVectorProcessor {
     }
   }
 
-  public static class LongMeasureVectorFiller implements MeasureVectorFiller {
+  public static class LongMeasureVectorFiller extends BulkMeasureVectorFiller {
+
+    @Override
+    void fillMeasureVectorInBulk(int[] filteredRowId, ColumnPage dataChunk,
+        ColumnVectorInfo info) {
+      int offset = info.offset;
+      int size = info.size;
+      int vectorOffset = info.vectorOffset;
+      CarbonColumnVector vector = info.vector;
+      long[] values = getLongBuffer(size);
+      dataChunk.getLongs(filteredRowId, offset, size, values);
+      vector.putLongs(vectorOffset, size, values, 0);
+      putNullsInBulk(filteredRowId, dataChunk.getNullBits(), info);
+    }
 
     @Override
     public void fillMeasureVector(ColumnPage dataChunk, ColumnVectorInfo info) {
+      if (dataChunk.isBulkDecodeSupported()) {
+        fillMeasureVectorInBulk(null, dataChunk, info);
+        return;
+      }
       int offset = info.offset;
       int len = offset + info.size;
       int vectorOffset = info.vectorOffset;
@@ -227,6 +370,10 @@ public class MeasureDataVectorProcessor {
     @Override
     public void fillMeasureVector(int[] filteredRowId, ColumnPage dataChunk,
         ColumnVectorInfo info) {
+      if (dataChunk.isBulkDecodeSupported()) {
+        fillMeasureVectorInBulk(filteredRowId, dataChunk, info);
+        return;
+      }
       int offset = info.offset;
       int len = offset + info.size;
       int vectorOffset = info.vectorOffset;
@@ -303,10 +450,27 @@ public class MeasureDataVectorProcessor {
     }
   }
 
-  public static class DefaultMeasureVectorFiller implements MeasureVectorFiller {
+  public static class DefaultMeasureVectorFiller extends BulkMeasureVectorFiller {
+
+    @Override
+    void fillMeasureVectorInBulk(int[] filteredRowId, ColumnPage dataChunk,
+        ColumnVectorInfo info) {
+      int offset = info.offset;
+      int size = info.size;
+      int vectorOffset = info.vectorOffset;
+      CarbonColumnVector vector = info.vector;
+      double[] values = getDoubleBuffer(size);
+      dataChunk.getDoubles(filteredRowId, offset, size, getLongBuffer(size), values);
+      vector.putDoubles(vectorOffset, size, values, 0);
+      putNullsInBulk(filteredRowId, dataChunk.getNullBits(), info);
+    }
 
     @Override
     public void fillMeasureVector(ColumnPage dataChunk, ColumnVectorInfo info) {
+      if (dataChunk.isBulkDecodeSupported()) {
+        fillMeasureVectorInBulk(null, dataChunk, info);
+        return;
+      }
       int offset = info.offset;
       int len = offset + info.size;
       int vectorOffset = info.vectorOffset;
@@ -332,6 +496,10 @@ public class MeasureDataVectorProcessor {
     @Override
     public void fillMeasureVector(int[] filteredRowId, ColumnPage dataChunk,
         ColumnVectorInfo info) {
+      if (dataChunk.isBulkDecodeSupported()) {
+        fillMeasureVectorInBulk(filteredRowId, dataChunk, info);
+        return;
+      }
       int offset = info.offset;
       int len = offset + info.size;
       int vectorOffset = info.vectorOffset;
@@ -24,6 +24,7 @@ import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.datatype.DataTypes;
 import org.apache.carbondata.core.metadata.datatype.DecimalType;
 import org.apache.carbondata.core.scan.result.vector.CarbonColumnVector;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
 
 
 
@@ -53,6 +54,8 @@ public class CarbonColumnVectorImpl implements CarbonColumnVector {
 
   private DataType blockDataType;
 
+  private CarbonDictionary dictionary;
+
   /**
    * True if there is at least one NULL byte set. This is an optimization for the writer, to skip
    * having to clear NULL bits.
@@ -103,6 +106,10 @@ public class CarbonColumnVectorImpl implements CarbonColumnVector {
     }
   }
 
+  @Override public void putShorts(int rowId, int count, short[] src, int srcIndex) {
+    System.arraycopy(src, srcIndex, shorts, rowId, count);
+  }
+
   @Override public void putInt(int rowId, int value) {
     ints[rowId] = value;
   }
@@ -113,6 +120,10 @@ public class CarbonColumnVectorImpl implements CarbonColumnVector {
     }
   }
 
+  @Override public void putInts(int rowId, int count, int[] src, int srcIndex) {
+    System.arraycopy(src, srcIndex, ints, rowId, count);
+  }
+
   @Override public void putLong(int rowId, long value) {
     longs[rowId] = value;
   }
@@ -123,6 +134,10 @@ public class CarbonColumnVectorImpl implements CarbonColumnVector {
     }
   }
 
+  @Override public void putLongs(int rowId, int count, long[] src, int srcIndex) {
+    System.arraycopy(src, srcIndex, longs, rowId, count);
+  }
+
   @Override public void putDecimal(int rowId, BigDecimal  value, int precision) {
     decimals[rowId] = value;
   }
@@ -143,6 +158,10 @@ public class CarbonColumnVectorImpl implements CarbonColumnVector {
     }
   }
 
+  @Override public void putDoubles(int rowId, int count, double[] src, int srcIndex) {
+    System.arraycopy(src, srcIndex, doubles, rowId, count);
+  }
+
   @Override public void putBytes(int rowId, byte[] value) {
     bytes[rowId] = value;
   }
@@ -158,6 +177,14 @@ public class CarbonColumnVectorImpl implements CarbonColumnVector {
     System.arraycopy(value, offset, bytes[rowId], 0, length);
   }
 
+  @Override public void putBytes(int rowId, int count, int[] offsets, int[] lengths,
+      int srcIndex, byte[] value) {
+    for (int i = 0; i < count; ++i) {
+      int offset = offsets[srcIndex + i];
+      bytes[rowId + i] = Arrays.copyOfRange(value, offset, offset + lengths[srcIndex + i]);
+    }
+  }
+
   @Override public void putNull(int rowId) {
     nullBytes.set(rowId);
     anyNullsSet = true;
@@ -170,6 +197,14 @@ public class CarbonColumnVectorImpl implements CarbonColumnVector {
     anyNullsSet = true;
   }
 
+  @Override public void putNulls(int rowId, int count, BitSet nullBits, int nullBitsIndex) {
+    int end = nullBitsIndex + count;
+    for (int i = nullBits.nextSetBit(nullBitsIndex); i >= 0 && i < end;
+         i = nullBits.nextSetBit(i + 1)) {
+      nullBytes.set(rowId + i - nullBitsIndex);
+      anyNullsSet = true;
+    }
+  }
 
   public boolean isNullAt(int rowId) {
     return nullBytes.get(rowId);
@@ -251,6 +286,34 @@ public class CarbonColumnVectorImpl implements CarbonColumnVector {
 
   }
 
+  @Override public void setDictionary(CarbonDictionary dictionary) {
+    if (null != dictionary && null == ints) {
+      throw new UnsupportedOperationException(
+          "Dictionary is supported only for INT vector, but the vector is " + dataType.getName());
+    }
+    this.dictionary = dictionary;
+  }
+
+  @Override public CarbonDictionary getDictionary() {
+    return dictionary;
+  }
+
+  @Override public boolean hasDictionary() {
+    return null != dictionary;
+  }
+
+  /**
+   * Copy the dictionary ids of the rows [rowId, rowId + count) to `ids[idsIndex, idsIndex +
+   * count)` without boxing them. The ids of the null rows are undefined.
+   */
+  public void getDictionaryIds(int rowId, int count, int[] ids, int idsIndex) {
+    if (null == ints) {
+      throw new UnsupportedOperationException(
+          "Dictionary ids are kept only by INT vector, but the vector is " + dataType.getName());
+    }
+    System.arraycopy(ints, rowId, ids, idsIndex, count);
+  }
+
   /**
    * Returns true if any of the nulls indicator are set for this column. This can be used
    * as an optimization to prevent setting nulls.
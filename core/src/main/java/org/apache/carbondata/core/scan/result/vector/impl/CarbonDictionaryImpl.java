@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.scan.result.vector.impl;
+
+import org.apache.carbondata.core.cache.dictionary.Dictionary;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
+
+/**
+ * Dictionary of the vectors backed by the global dictionary of the column loaded in the
+ * dictionary cache, the dictionary id is the surrogate key.
+ */
+public class CarbonDictionaryImpl implements CarbonDictionary {
+
+  private Dictionary dictionary;
+
+  private int dictionarySize;
+
+  public CarbonDictionaryImpl(Dictionary dictionary) {
+    this.dictionary = dictionary;
+    // surrogate keys start from 1
+    this.dictionarySize = dictionary.getDictionaryChunks().getSize() + 1;
+  }
+
+  @Override public int getDictionarySize() {
+    return dictionarySize;
+  }
+
+  @Override public byte[] getDictionaryValue(int dictionaryId) {
+    return dictionary.getDictionaryValueForKeyInBytes(dictionaryId);
+  }
+}
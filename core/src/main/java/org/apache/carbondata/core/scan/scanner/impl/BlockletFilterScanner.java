@@ -133,11 +133,16 @@ public class BlockletFilterScanner extends BlockletFullScanner {
   public void readBlocklet(RawBlockletColumnChunks rawBlockletColumnChunks) throws IOException {
     long startTime = System.currentTimeMillis();
     this.filterExecuter.readColumnChunks(rawBlockletColumnChunks);
+    addReadBytesStatistic(rawBlockletColumnChunks.getDimensionRawColumnChunks(),
+        rawBlockletColumnChunks.getMeasureRawColumnChunks());
     // adding statistics for carbon read time
     QueryStatistic readTime = queryStatisticsModel.getStatisticsTypeAndObjMap()
         .get(QueryStatisticsConstants.READ_BLOCKlET_TIME);
-    readTime.addCountStatistic(QueryStatisticsConstants.READ_BLOCKlET_TIME,
-        readTime.getCount() + (System.currentTimeMillis() - startTime));
+    // blocklets can be read ahead by several threads of the query
+    synchronized (readTime) {
+      readTime.addCountStatistic(QueryStatisticsConstants.READ_BLOCKlET_TIME,
+          readTime.getCount() + (System.currentTimeMillis() - startTime));
+    }
   }
 
   /**
@@ -255,8 +260,11 @@ public class BlockletFilterScanner extends BlockletFullScanner {
         dimensionRawColumnChunks[projectionListDimensionIndex] =
             rawBlockletColumnChunks.getDataBlock().readDimensionChunk(
                 fileReader, projectionListDimensionIndex);
+        addReadBytesStatistic(new DimensionRawColumnChunk[] {
+            dimensionRawColumnChunks[projectionListDimensionIndex] });
       }
     }
+    addReadBytesStatistic(projectionListDimensionChunk);
 
     DimensionColumnPage[][] dimensionColumnPages =
         new DimensionColumnPage[numDimensionChunks][numPages];
@@ -289,8 +297,11 @@ public class BlockletFilterScanner extends BlockletFullScanner {
       if (null == measureRawColumnChunks[projectionListMeasureIndex]) {
         measureRawColumnChunks[projectionListMeasureIndex] = rawBlockletColumnChunks.getDataBlock()
             .readMeasureChunk(fileReader, projectionListMeasureIndex);
+        addReadBytesStatistic(new MeasureRawColumnChunk[] {
+            measureRawColumnChunks[projectionListMeasureIndex] });
       }
     }
+    addReadBytesStatistic(projectionListMeasureChunk);
     ColumnPage[][] measureColumnPages = new ColumnPage[numMeasureChunks][numPages];
     scannedResult.setDimensionColumnPages(dimensionColumnPages);
     scannedResult.setPageFilteredRowId(pageFilteredRowId);
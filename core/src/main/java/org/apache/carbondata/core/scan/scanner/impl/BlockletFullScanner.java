@@ -21,6 +21,7 @@ import java.io.IOException;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.constants.CarbonV3DataFormatConstants;
 import org.apache.carbondata.core.datastore.DataRefNode;
+import org.apache.carbondata.core.datastore.chunk.AbstractRawColumnChunk;
 import org.apache.carbondata.core.datastore.chunk.DimensionColumnPage;
 import org.apache.carbondata.core.datastore.chunk.impl.DimensionRawColumnChunk;
 import org.apache.carbondata.core.datastore.chunk.impl.MeasureRawColumnChunk;
@@ -154,11 +155,45 @@ public class BlockletFullScanner implements BlockletScanner {
         .readMeasureChunks(rawBlockletColumnChunks.getFileReader(),
             blockExecutionInfo.getAllSelectedMeasureIndexRange());
     rawBlockletColumnChunks.setMeasureRawColumnChunks(measureRawColumnChunks);
+    addReadBytesStatistic(dimensionRawColumnChunks, measureRawColumnChunks);
     // adding statistics for carbon read time
     QueryStatistic readTime = queryStatisticsModel.getStatisticsTypeAndObjMap()
         .get(QueryStatisticsConstants.READ_BLOCKlET_TIME);
-    readTime.addCountStatistic(QueryStatisticsConstants.READ_BLOCKlET_TIME,
-        readTime.getCount() + (System.currentTimeMillis() - startTime));
+    synchronized (readTime) {
+      readTime.addCountStatistic(QueryStatisticsConstants.READ_BLOCKlET_TIME,
+          readTime.getCount() + (System.currentTimeMillis() - startTime));
+    }
+  }
+
+  /**
+   * Add the bytes read for the raw chunks and the bytes of the chunks themselves to the query
+   * statistics. Chunks read in one read share the buffer, so the difference of the two is what
+   * was read only to merge the reads.
+   */
+  protected void addReadBytesStatistic(AbstractRawColumnChunk[]... rawColumnChunksList) {
+    long usedBytes = 0;
+    for (AbstractRawColumnChunk[] rawColumnChunks : rawColumnChunksList) {
+      for (AbstractRawColumnChunk rawColumnChunk : rawColumnChunks) {
+        // raw data is not present when the pages are read page by page
+        if (null != rawColumnChunk && null != rawColumnChunk.getRawData()) {
+          usedBytes += rawColumnChunk.getLength();
+        }
+      }
+    }
+    long readBytes = AbstractRawColumnChunk.getRawDataSize(rawColumnChunksList);
+    // blocklets can be read ahead by several threads of the query
+    QueryStatistic readBytesStatistic = queryStatisticsModel.getStatisticsTypeAndObjMap()
+        .get(QueryStatisticsConstants.READ_BYTES);
+    synchronized (readBytesStatistic) {
+      readBytesStatistic.addCountStatistic(QueryStatisticsConstants.READ_BYTES,
+          readBytesStatistic.getCount() + readBytes);
+    }
+    QueryStatistic usedBytesStatistic = queryStatisticsModel.getStatisticsTypeAndObjMap()
+        .get(QueryStatisticsConstants.USED_BYTES);
+    synchronized (usedBytesStatistic) {
+      usedBytesStatistic.addCountStatistic(QueryStatisticsConstants.USED_BYTES,
+          usedBytesStatistic.getCount() + usedBytes);
+    }
   }
 
   BlockletScannedResult createEmptyResult() {
@@ -59,8 +59,17 @@ public class DriverQueryStatisticsRecorderImpl implements QueryStatisticsRecorde
     return carbonLoadStatisticsImplInstance;
   }
 
+  /**
+   * Only the time taken to prune the segments of a query is logged here, other statistics are
+   * recorded per query through recordStatisticsForDriver
+   *
+   * @param statistic
+   */
   public void recordStatistics(QueryStatistic statistic) {
-
+    String message = statistic.getMessage();
+    if (message != null && message.startsWith(QueryStatisticsConstants.PRUNE_SEGMENT)) {
+      LOGGER.statistic(statistic.getStatistics(""));
+    }
   }
 
   public void logStatistics() {
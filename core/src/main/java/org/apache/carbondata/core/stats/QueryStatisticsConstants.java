@@ -31,6 +31,8 @@ public interface QueryStatisticsConstants {
 
   String BLOCK_IDENTIFICATION = "Time taken to identify Block(s) to scan";
 
+  String PRUNE_SEGMENT = "Time taken to prune the datamaps of ";
+
   // executor side
   String EXECUTOR_PART = "Total Time taken to execute the query in executor Side";
 
@@ -58,6 +60,10 @@ public interface QueryStatisticsConstants {
 
   String PAGE_SCANNED = "The number of page scanned";
 
+  String READ_BYTES = "The number of bytes read from carbondata files";
+
+  String USED_BYTES = "The number of bytes of the column chunks in the read bytes";
+
   // clear no-use statistics timeout
   long CLEAR_STATISTICS_TIMEOUT = 60 * 1000 * 1000000L;
 
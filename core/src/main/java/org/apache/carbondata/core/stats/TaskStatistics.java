@@ -45,6 +45,8 @@ public class TaskStatistics implements Serializable {
       new Column("total_pages", QueryStatisticsConstants.TOTAL_PAGE_SCANNED),
       new Column("scanned_pages", QueryStatisticsConstants.PAGE_SCANNED),
       new Column("valid_pages", QueryStatisticsConstants.VALID_PAGE_SCANNED),
+      new Column("read_bytes", QueryStatisticsConstants.READ_BYTES),
+      new Column("used_bytes", QueryStatisticsConstants.USED_BYTES),
       new Column("result_size", QueryStatisticsConstants.RESULT_SIZE)
   };
 
@@ -49,7 +49,7 @@ import org.apache.carbondata.core.constants.CarbonCommonConstants;
  | "loadStartTime":"1513336827593","visibility":"true","fileFormat":"COLUMNAR_V3"}]          |
  |-------------------------------------------------------------------------------------------|
  */
-public class LoadMetadataDetails implements Serializable {
+public class LoadMetadataDetails implements Serializable, Cloneable {
 
   private static final long serialVersionUID = 1106104914918491724L;
   private String timestamp;
@@ -423,6 +423,17 @@ public class LoadMetadataDetails implements Serializable {
     this.segmentFile = segmentFile;
   }
 
+  /**
+   * Return a copy of this details, all the fields are immutable so a shallow copy is enough
+   */
+  public LoadMetadataDetails copy() {
+    try {
+      return (LoadMetadataDetails) clone();
+    } catch (CloneNotSupportedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
   @Override public String toString() {
     return "LoadMetadataDetails{" + "loadStatus=" + loadStatus + ", loadName='" + loadName + '\''
         + ", loadStartTime='" + loadStartTime + '\'' + ", segmentFile='" + segmentFile + '\'' + '}';
@@ -25,15 +25,18 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datamap.Segment;
+import org.apache.carbondata.core.datastore.filesystem.CarbonFile;
 import org.apache.carbondata.core.datastore.impl.FileFactory;
 import org.apache.carbondata.core.fileoperations.AtomicFileOperations;
 import org.apache.carbondata.core.fileoperations.AtomicFileOperationsImpl;
@@ -62,6 +65,9 @@ public class SegmentStatusManager {
   private static final LogService LOG =
       LogServiceFactory.getLogService(SegmentStatusManager.class.getName());
 
+  // Gson is thread safe, share it to avoid building its type adapters on every read
+  private static final Gson GSON = new Gson();
+
   private AbsoluteTableIdentifier identifier;
 
   public SegmentStatusManager(AbsoluteTableIdentifier identifier) {
@@ -78,15 +84,21 @@ public class SegmentStatusManager {
   }
 
   /**
-   * This method will return last modified time of tablestatus file
+   * This method will return last modified time of tablestatus file. When the table status log
+   * is enabled a commit only appends to the log file, so the later of the two files is returned
    */
   public static long getTableStatusLastModifiedTime(AbsoluteTableIdentifier identifier)
       throws IOException {
     String tableStatusPath = CarbonTablePath.getTableStatusFilePath(identifier.getTablePath());
-    if (!FileFactory.isFileExist(tableStatusPath, FileFactory.getFileType(tableStatusPath))) {
+    return Math.max(getLastModifiedTime(tableStatusPath),
+        getLastModifiedTime(TableStatusLog.getLogPath(tableStatusPath)));
+  }
+
+  private static long getLastModifiedTime(String filePath) throws IOException {
+    if (!FileFactory.isFileExist(filePath, FileFactory.getFileType(filePath))) {
       return 0L;
     } else {
-      return FileFactory.getCarbonFile(tableStatusPath, FileFactory.getFileType(tableStatusPath))
+      return FileFactory.getCarbonFile(filePath, FileFactory.getFileType(filePath))
           .getLastModifiedTime();
     }
   }
@@ -220,39 +232,74 @@ public class SegmentStatusManager {
 
   public static LoadMetadataDetails[] readTableStatusFile(String tableStatusPath)
       throws IOException {
-    Gson gsonObjectToRead = new Gson();
+    CarbonFile tableStatusFile =
+        FileFactory.getCarbonFile(tableStatusPath, FileFactory.getFileType(tableStatusPath));
+    if (!tableStatusFile.exists()) {
+      TableStatusCache.getInstance().invalidate(tableStatusPath);
+      return new LoadMetadataDetails[0];
+    }
+    long lastModifiedTime = tableStatusFile.getLastModifiedTime();
+    long size = tableStatusFile.getSize();
+    LoadMetadataDetails[] details =
+        readTableStatusCheckpoint(tableStatusPath, lastModifiedTime, size);
+    // apply the changes appended to the table status log after this checkpoint
+    return TableStatusLog.apply(tableStatusPath, details, tableStatusFile);
+  }
+
+  /**
+   * Read the table status file itself, without the changes in its table status log
+   */
+  private static LoadMetadataDetails[] readTableStatusCheckpoint(String tableStatusPath,
+      long lastModifiedTime, long size) throws IOException {
+    boolean useCache = CarbonProperties.getInstance().isTableStatusCacheEnabled();
+    TableStatusCache cache = TableStatusCache.getInstance();
+    if (useCache) {
+      // a hit does not read the file, the cache compares its last modified time and size
+      LoadMetadataDetails[] details = cache.get(tableStatusPath, lastModifiedTime, size);
+      if (null != details) {
+        return details;
+      }
+    }
+    long readTime = System.currentTimeMillis();
     DataInputStream dataInputStream = null;
     BufferedReader buffReader = null;
     InputStreamReader inStream = null;
     LoadMetadataDetails[] listOfLoadFolderDetailsArray;
+    FileFactory.FileType fileType = FileFactory.getFileType(tableStatusPath);
     AtomicFileOperations fileOperation =
-        new AtomicFileOperationsImpl(tableStatusPath, FileFactory.getFileType(tableStatusPath));
+        new AtomicFileOperationsImpl(tableStatusPath, fileType);
 
     try {
-      if (!FileFactory.isFileExist(tableStatusPath, FileFactory.getFileType(tableStatusPath))) {
+      if (!FileFactory.isFileExist(tableStatusPath, fileType)) {
         return new LoadMetadataDetails[0];
       }
       dataInputStream = fileOperation.openForRead();
       inStream = new InputStreamReader(dataInputStream,
           Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET));
       buffReader = new BufferedReader(inStream);
-      listOfLoadFolderDetailsArray =
-          gsonObjectToRead.fromJson(buffReader, LoadMetadataDetails[].class);
+      // Gson parses the reader as a stream, the file content is not loaded as a whole
+      listOfLoadFolderDetailsArray = parseTableStatus(buffReader);
     } catch (IOException e) {
       LOG.error(e, "Failed to read metadata of load");
       throw e;
     } finally {
       closeStreams(buffReader, inStream, dataInputStream);
     }
-
-    // if listOfLoadFolderDetailsArray is null, return empty array
-    if (null == listOfLoadFolderDetailsArray) {
-      return new LoadMetadataDetails[0];
+    if (useCache) {
+      cache.put(tableStatusPath, lastModifiedTime, size, readTime, listOfLoadFolderDetailsArray);
     }
-
     return listOfLoadFolderDetailsArray;
   }
 
+  private static LoadMetadataDetails[] parseTableStatus(Reader reader) {
+    LoadMetadataDetails[] details = GSON.fromJson(reader, LoadMetadataDetails[].class);
+    // if details is null, return empty array
+    if (null == details) {
+      details = new LoadMetadataDetails[0];
+    }
+    return details;
+  }
+
   /**
    * This method will get the max segment id
    *
@@ -473,6 +520,25 @@ public class SegmentStatusManager {
     return invalidLoadTimestamps;
   }
 
+  /**
+   * writes load details into a given file at @param dataLoadLocation. When the table status log
+   * is enabled only the changed segments are appended to the log.
+   *
+   * @param dataLoadLocation
+   * @param listOfLoadFolderDetailsArray all the details, a new segment is after the others
+   * @param changedLoadNames names of the segments added, updated or removed by the caller
+   * @throws IOException
+   */
+  public static void writeLoadDetailsIntoFile(String dataLoadLocation,
+      LoadMetadataDetails[] listOfLoadFolderDetailsArray, Set<String> changedLoadNames)
+      throws IOException {
+    if (TableStatusLog.isEnabled(dataLoadLocation) && TableStatusLog
+        .append(dataLoadLocation, listOfLoadFolderDetailsArray, changedLoadNames)) {
+      return;
+    }
+    writeLoadDetailsIntoFile(dataLoadLocation, listOfLoadFolderDetailsArray);
+  }
+
   /**
    * writes load details into a given file at @param dataLoadLocation
    *
@@ -488,13 +554,13 @@ public class SegmentStatusManager {
     DataOutputStream dataOutputStream = null;
     Gson gsonObjectToWrite = new Gson();
     // write the updated data into the metadata file.
+    String metadataInstance = gsonObjectToWrite.toJson(listOfLoadFolderDetailsArray);
 
     try {
       dataOutputStream = fileWrite.openForWrite(FileWriteOperation.OVERWRITE);
       brWriter = new BufferedWriter(new OutputStreamWriter(dataOutputStream,
               Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET)));
 
-      String metadataInstance = gsonObjectToWrite.toJson(listOfLoadFolderDetailsArray);
       brWriter.write(metadataInstance);
     } catch (IOException ioe) {
       LOG.error("Error message: " + ioe.getLocalizedMessage());
@@ -505,8 +571,11 @@ public class SegmentStatusManager {
       }
       CarbonUtil.closeStreams(brWriter);
       fileWrite.close();
+      TableStatusCache.getInstance().invalidate(dataLoadLocation);
     }
-
+    // the table status file is a new checkpoint with all the details
+    TableStatusLog.startLog(dataLoadLocation,
+        metadataInstance.getBytes(Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET)));
   }
 
   /**
@@ -838,6 +907,7 @@ public class SegmentStatusManager {
 
     AtomicFileOperations writeOperation =
         new AtomicFileOperationsImpl(dataLoadLocation, FileFactory.getFileType(dataLoadLocation));
+    String metadataInstance = gsonObjectToWrite.toJson(listOfLoadFolderDetails.toArray());
 
     try {
 
@@ -845,7 +915,6 @@ public class SegmentStatusManager {
       brWriter = new BufferedWriter(new OutputStreamWriter(dataOutputStream,
           Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET)));
 
-      String metadataInstance = gsonObjectToWrite.toJson(listOfLoadFolderDetails.toArray());
       brWriter.write(metadataInstance);
     } finally {
       try {
@@ -858,7 +927,10 @@ public class SegmentStatusManager {
       }
       CarbonUtil.closeStreams(brWriter);
       writeOperation.close();
+      TableStatusCache.getInstance().invalidate(dataLoadLocation);
     }
+    TableStatusLog.startLog(dataLoadLocation,
+        metadataInstance.getBytes(Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET)));
   }
 
   private static class ReturnTuple {
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.statusmanager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide cache of the parsed table status files, keyed by the file path.
+ * An entry is used only if the last modified time and the size of the file are the same as
+ * when it was parsed, so a cache hit does not read the file and a table status written by
+ * another process is parsed again. As the last modified time of some file systems has a
+ * resolution of a second, a file rewritten with the same size may keep its modified time, so a
+ * file is cached only if it was read some seconds after it was modified.
+ * The cached details are never given out, every caller gets its own copy because the
+ * callers update the details before writing them back.
+ */
+public final class TableStatusCache {
+
+  /**
+   * A file modified less than this before it was read may be rewritten without changing its
+   * last modified time, covers the one second resolution and a small clock skew between the
+   * process and the file system
+   */
+  static final long MODIFIED_TIME_GUARD_MILLIS = 3000L;
+
+  private static final TableStatusCache INSTANCE = new TableStatusCache();
+
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  private TableStatusCache() {
+  }
+
+  public static TableStatusCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Return a copy of the cached details of the table status file, or null if it is not cached
+   * or the file is changed since it was cached
+   */
+  public LoadMetadataDetails[] get(String tableStatusPath, long lastModifiedTime, long size) {
+    Snapshot snapshot = snapshots.get(tableStatusPath);
+    if (null == snapshot || snapshot.lastModifiedTime != lastModifiedTime
+        || snapshot.size != size) {
+      return null;
+    }
+    return copyOf(snapshot.details);
+  }
+
+  /**
+   * Cache a copy of the details parsed from the table status file. The details are not cached
+   * if the file was modified within {@link #MODIFIED_TIME_GUARD_MILLIS} before it was read, as
+   * a rewrite in the same second could not be told from the last modified time.
+   *
+   * @param readTime time of the process before the file was opened for read
+   */
+  public void put(String tableStatusPath, long lastModifiedTime, long size, long readTime,
+      LoadMetadataDetails[] details) {
+    if (readTime - lastModifiedTime < MODIFIED_TIME_GUARD_MILLIS) {
+      snapshots.remove(tableStatusPath);
+      return;
+    }
+    snapshots.put(tableStatusPath, new Snapshot(lastModifiedTime, size, copyOf(details)));
+  }
+
+  /**
+   * Remove the cached details, called when the table status file is written or not found
+   */
+  public void invalidate(String tableStatusPath) {
+    snapshots.remove(tableStatusPath);
+  }
+
+  private static LoadMetadataDetails[] copyOf(LoadMetadataDetails[] details) {
+    LoadMetadataDetails[] copy = new LoadMetadataDetails[details.length];
+    for (int i = 0; i < details.length; i++) {
+      copy[i] = details[i].copy();
+    }
+    return copy;
+  }
+
+  private static final class Snapshot {
+    private final long lastModifiedTime;
+    private final long size;
+    private final LoadMetadataDetails[] details;
+
+    private Snapshot(long lastModifiedTime, long size, LoadMetadataDetails[] details) {
+      this.lastModifiedTime = lastModifiedTime;
+      this.size = size;
+      this.details = details;
+    }
+  }
+}
@@ -0,0 +1,374 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.statusmanager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.filesystem.CarbonFile;
+import org.apache.carbondata.core.datastore.impl.FileFactory;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.util.path.CarbonTablePath;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Append only log of the changes to a table status file.
+ *
+ * The table status file is the checkpoint which has all the details. When the whole table
+ * status file is written as a new checkpoint, the log next to it is started again with only
+ * the MD5 digest of the checkpoint content as its first line. A write under the table status
+ * lock which knows the segments it changed only appends those details and the removed segment
+ * names as one line to the log, until the log has the configured number of entries, then the
+ * next write is a checkpoint. The log of another checkpoint, left if the writer failed after
+ * writing the checkpoint, is ignored by the readers and replaced by the next write. It would be
+ * applied only if the new checkpoint has exactly the content of the older one.
+ *
+ * The table status files of a data map table with a UUID suffix are renamed onto the table
+ * status file when they are committed, which would orphan their log, so they never use a log
+ * and are always written as checkpoints. The log of the replaced table status file is then
+ * bound to a different digest and ignored.
+ */
+final class TableStatusLog {
+
+  private static final LogService LOG =
+      LogServiceFactory.getLogService(TableStatusLog.class.getName());
+
+  static final String LOG_FILE_EXTENSION = ".log";
+
+  private static final Gson GSON = new Gson();
+
+  private static final Charset CHARSET = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+
+  /**
+   * Digests of the checkpoints known by the process, so an append does not read the checkpoint
+   */
+  private static final Map<String, CheckpointDigest> CHECKPOINT_DIGESTS =
+      new ConcurrentHashMap<>();
+
+  private TableStatusLog() {
+  }
+
+  /**
+   * The first line of the log identifies its checkpoint, the following lines are the changes
+   */
+  private static class LogEntry {
+    private String checkpointDigest;
+    private LoadMetadataDetails[] updated;
+    private String[] removed;
+  }
+
+  /**
+   * Entries of a log file, null if the log does not exist
+   */
+  private static class LogContent {
+    private String checkpointDigest;
+    private List<LogEntry> entries = new ArrayList<>();
+    // whether the last line is not complete, the writer failed in the middle of an append
+    private boolean isTruncated;
+  }
+
+  /**
+   * Digest of a checkpoint with the last modified time and size it was computed for
+   */
+  private static final class CheckpointDigest {
+    private final long lastModifiedTime;
+    private final long size;
+    // time of the process before the checkpoint was read or after it was written
+    private final long recordTime;
+    private final String digest;
+
+    private CheckpointDigest(long lastModifiedTime, long size, long recordTime,
+        String digest) {
+      this.lastModifiedTime = lastModifiedTime;
+      this.size = size;
+      this.recordTime = recordTime;
+      this.digest = digest;
+    }
+  }
+
+  static String getLogPath(String tableStatusPath) {
+    return tableStatusPath + LOG_FILE_EXTENSION;
+  }
+
+  /**
+   * The log needs append, which is not supported by S3
+   */
+  static boolean isEnabled(String tableStatusPath) {
+    return CarbonProperties.getInstance().isTableStatusLogEnabled()
+        && FileFactory.getFileType(tableStatusPath) != FileFactory.FileType.S3
+        && !isRenamedOnCommit(tableStatusPath);
+  }
+
+  /**
+   * Whether it is the table status file of a data map table with a UUID suffix
+   */
+  private static boolean isRenamedOnCommit(String tableStatusPath) {
+    String fileName = tableStatusPath.substring(
+        tableStatusPath.lastIndexOf(CarbonCommonConstants.FILE_SEPARATOR) + 1);
+    return fileName.startsWith(
+        CarbonTablePath.TABLE_STATUS_FILE + CarbonCommonConstants.UNDERSCORE);
+  }
+
+  /**
+   * Apply the log of the checkpoint to its details
+   */
+  static LoadMetadataDetails[] apply(String tableStatusPath, LoadMetadataDetails[] checkpoint,
+      CarbonFile checkpointFile) throws IOException {
+    LogContent content = read(tableStatusPath);
+    if (null == content || content.entries.isEmpty()
+        || !getCheckpointDigest(tableStatusPath, checkpointFile)
+        .equals(content.checkpointDigest)) {
+      return checkpoint;
+    }
+    Map<String, LoadMetadataDetails> details = toMap(checkpoint);
+    if (null == details) {
+      LOG.warn("Ignored the table status log of " + tableStatusPath
+          + " as the segment names are not unique");
+      return checkpoint;
+    }
+    for (LogEntry entry : content.entries) {
+      if (null != entry.removed) {
+        for (String loadName : entry.removed) {
+          details.remove(loadName);
+        }
+      }
+      if (null != entry.updated) {
+        // an updated detail keeps its position, a new one is added at the end
+        for (LoadMetadataDetails detail : entry.updated) {
+          details.put(detail.getLoadName(), detail);
+        }
+      }
+    }
+    return details.values().toArray(new LoadMetadataDetails[details.size()]);
+  }
+
+  /**
+   * Append the changed segments of the new details to the log. A changed segment which is not in
+   * the new details is removed, a new segment is added after the existing ones.
+   *
+   * @param changedLoadNames names of the segments added, updated or removed by the caller
+   * @return false if the whole table status file should be written as a new checkpoint
+   */
+  static boolean append(String tableStatusPath, LoadMetadataDetails[] newDetails,
+      Set<String> changedLoadNames) throws IOException {
+    CarbonFile checkpointFile =
+        FileFactory.getCarbonFile(tableStatusPath, FileFactory.getFileType(tableStatusPath));
+    if (!checkpointFile.exists()) {
+      return false;
+    }
+    LogContent content = read(tableStatusPath);
+    if (null == content || content.isTruncated || content.entries.size()
+        >= CarbonProperties.getInstance().getTableStatusLogCheckpointInterval()
+        || !getCheckpointDigest(tableStatusPath, checkpointFile)
+        .equals(content.checkpointDigest)) {
+      return false;
+    }
+    List<LoadMetadataDetails> updated = new ArrayList<>(changedLoadNames.size());
+    List<String> removed = new ArrayList<>(changedLoadNames);
+    for (LoadMetadataDetails detail : newDetails) {
+      if (changedLoadNames.contains(detail.getLoadName())) {
+        updated.add(detail);
+        removed.remove(detail.getLoadName());
+      }
+    }
+    if (updated.isEmpty() && removed.isEmpty()) {
+      // nothing is changed
+      return true;
+    }
+    LogEntry entry = new LogEntry();
+    if (!updated.isEmpty()) {
+      entry.updated = updated.toArray(new LoadMetadataDetails[updated.size()]);
+    }
+    if (!removed.isEmpty()) {
+      entry.removed = removed.toArray(new String[removed.size()]);
+    }
+
+    String logPath = getLogPath(tableStatusPath);
+    DataOutputStream outputStream =
+        FileFactory.getDataOutputStreamUsingAppend(logPath, FileFactory.getFileType(logPath));
+    try {
+      outputStream.write((GSON.toJson(entry) + '\n').getBytes(CHARSET));
+    } finally {
+      CarbonUtil.closeStreams(outputStream);
+    }
+    return true;
+  }
+
+  /**
+   * Start the log of a new checkpoint, or delete the log when it is not enabled
+   *
+   * @param checkpointContent content written to the table status file
+   */
+  static void startLog(String tableStatusPath, byte[] checkpointContent) {
+    String digest = DigestUtils.md5Hex(checkpointContent);
+    if (!isEnabled(tableStatusPath)) {
+      delete(tableStatusPath);
+      return;
+    }
+    String logPath = getLogPath(tableStatusPath);
+    FileFactory.FileType fileType = FileFactory.getFileType(logPath);
+    try {
+      CarbonFile checkpointFile = FileFactory.getCarbonFile(tableStatusPath,
+          FileFactory.getFileType(tableStatusPath));
+      CHECKPOINT_DIGESTS.put(tableStatusPath, new CheckpointDigest(
+          checkpointFile.getLastModifiedTime(), checkpointFile.getSize(),
+          System.currentTimeMillis(), digest));
+      LogEntry header = new LogEntry();
+      header.checkpointDigest = digest;
+      DataOutputStream outputStream = FileFactory.getDataOutputStream(logPath, fileType);
+      try {
+        outputStream.write((GSON.toJson(header) + '\n').getBytes(CHARSET));
+      } finally {
+        CarbonUtil.closeStreams(outputStream);
+      }
+    } catch (IOException e) {
+      // the log of an older checkpoint is ignored and the next write is a checkpoint
+      LOG.warn("Failed to start the table status log " + logPath + ": " + e.getMessage());
+      delete(tableStatusPath);
+    }
+  }
+
+  /**
+   * Delete the log, it is not needed after a new checkpoint is written
+   */
+  static void delete(String tableStatusPath) {
+    String logPath = getLogPath(tableStatusPath);
+    FileFactory.FileType fileType = FileFactory.getFileType(logPath);
+    try {
+      if (FileFactory.isFileExist(logPath, fileType)) {
+        FileFactory.getCarbonFile(logPath, fileType).delete();
+      }
+    } catch (IOException e) {
+      // the log of an older checkpoint is ignored by the reader
+      LOG.warn("Failed to delete the table status log " + logPath + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * MD5 digest of the checkpoint content. A known digest is used if the last modified time and
+   * size of the checkpoint are not changed and it was recorded some seconds after the
+   * checkpoint was modified, see {@link TableStatusCache#MODIFIED_TIME_GUARD_MILLIS}, otherwise
+   * the checkpoint is read to compute it.
+   */
+  private static String getCheckpointDigest(String tableStatusPath, CarbonFile checkpointFile)
+      throws IOException {
+    long lastModifiedTime = checkpointFile.getLastModifiedTime();
+    long size = checkpointFile.getSize();
+    CheckpointDigest known = CHECKPOINT_DIGESTS.get(tableStatusPath);
+    if (null != known && known.lastModifiedTime == lastModifiedTime && known.size == size
+        && known.recordTime - lastModifiedTime >= TableStatusCache.MODIFIED_TIME_GUARD_MILLIS) {
+      return known.digest;
+    }
+    long recordTime = System.currentTimeMillis();
+    String digest;
+    DataInputStream inputStream = FileFactory
+        .getDataInputStream(tableStatusPath, FileFactory.getFileType(tableStatusPath));
+    try {
+      digest = DigestUtils.md5Hex(inputStream);
+    } finally {
+      CarbonUtil.closeStreams(inputStream);
+    }
+    CHECKPOINT_DIGESTS.put(tableStatusPath,
+        new CheckpointDigest(lastModifiedTime, size, recordTime, digest));
+    return digest;
+  }
+
+  /**
+   * Read the complete entries of the log, null if there is no log
+   */
+  private static LogContent read(String tableStatusPath) throws IOException {
+    String logPath = getLogPath(tableStatusPath);
+    FileFactory.FileType fileType = FileFactory.getFileType(logPath);
+    if (!FileFactory.isFileExist(logPath, fileType)) {
+      return null;
+    }
+    String text;
+    DataInputStream inputStream = FileFactory.getDataInputStream(logPath, fileType);
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int len;
+      while ((len = inputStream.read(buffer)) != -1) {
+        bytes.write(buffer, 0, len);
+      }
+      text = new String(bytes.toByteArray(), CHARSET);
+    } finally {
+      CarbonUtil.closeStreams(inputStream);
+    }
+
+    LogContent content = new LogContent();
+    int start = 0;
+    int end;
+    boolean isHeader = true;
+    while ((end = text.indexOf('\n', start)) != -1) {
+      LogEntry entry;
+      try {
+        entry = GSON.fromJson(text.substring(start, end), LogEntry.class);
+      } catch (JsonParseException e) {
+        throw new IOException("Invalid table status log " + logPath, e);
+      }
+      if (isHeader) {
+        if (null == entry || null == entry.checkpointDigest) {
+          // not a log of this version
+          return null;
+        }
+        content.checkpointDigest = entry.checkpointDigest;
+        isHeader = false;
+      } else if (null != entry) {
+        content.entries.add(entry);
+      }
+      start = end + 1;
+    }
+    if (isHeader) {
+      return null;
+    }
+    content.isTruncated = start < text.length();
+    return content;
+  }
+
+  /**
+   * Details by segment name in their order, null if the segment names are not unique
+   */
+  private static LinkedHashMap<String, LoadMetadataDetails> toMap(
+      LoadMetadataDetails[] details) {
+    LinkedHashMap<String, LoadMetadataDetails> map = new LinkedHashMap<>(details.length * 2);
+    for (LoadMetadataDetails detail : details) {
+      if (null == detail.getLoadName()
+          || null != map.put(detail.getLoadName(), detail)) {
+        return null;
+      }
+    }
+    return map;
+  }
+}
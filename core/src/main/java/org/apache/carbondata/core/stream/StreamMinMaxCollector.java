@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.stream;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.page.encoding.bool.BooleanConvert;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.encoder.Encoding;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
+import org.apache.carbondata.core.util.ByteUtil;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.util.DataTypeUtil;
+import org.apache.carbondata.core.util.comparator.Comparator;
+import org.apache.carbondata.core.util.comparator.SerializableComparator;
+import org.apache.carbondata.format.BlockletMinMaxIndex;
+
+/**
+ * Collects the min and max value of each column of the rows written to a stream blocklet or
+ * a stream file. The values are kept in the stream storage order of the columns
+ * (see CarbonTable.getStreamStorageOrderColumn), complex columns do not have min/max and are
+ * written as empty values.
+ *
+ * Null values are folded into the min/max in the same way as the columnar pages:
+ * a null measure counts as zero, a null no dictionary dimension as the default member and a
+ * null dictionary dimension as the default surrogate key.
+ */
+public class StreamMinMaxCollector {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private int columnCount;
+
+  private boolean[] isDictionary;
+
+  private boolean[] isComplex;
+
+  private DataType[] dataTypes;
+
+  private SerializableComparator[] comparators;
+
+  /**
+   * min/max surrogate key of dictionary dimensions
+   */
+  private int[] minSurrogate;
+
+  private int[] maxSurrogate;
+
+  /**
+   * min/max of no dictionary dimensions (byte[]) and measures (value of the data type)
+   */
+  private Object[] minValues;
+
+  private Object[] maxValues;
+
+  private boolean isEmpty = true;
+
+  public StreamMinMaxCollector(CarbonColumn[] storageColumns) {
+    columnCount = storageColumns.length;
+    isDictionary = new boolean[columnCount];
+    isComplex = new boolean[columnCount];
+    dataTypes = new DataType[columnCount];
+    comparators = new SerializableComparator[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      CarbonColumn column = storageColumns[i];
+      if (column.isDimension()) {
+        isComplex[i] = column.isComplex();
+        isDictionary[i] = !isComplex[i] && column.hasEncoding(Encoding.DICTIONARY);
+      } else {
+        dataTypes[i] = column.getDataType();
+        comparators[i] = Comparator.getComparatorByDataTypeForMeasure(dataTypes[i]);
+      }
+    }
+    minSurrogate = new int[columnCount];
+    maxSurrogate = new int[columnCount];
+    minValues = new Object[columnCount];
+    maxValues = new Object[columnCount];
+  }
+
+  /**
+   * update the min/max of a dictionary dimension
+   */
+  public void updateSurrogate(int index, int surrogate) {
+    if (isEmpty) {
+      start();
+    }
+    if (surrogate < minSurrogate[index]) {
+      minSurrogate[index] = surrogate;
+    }
+    if (surrogate > maxSurrogate[index]) {
+      maxSurrogate[index] = surrogate;
+    }
+  }
+
+  /**
+   * update the min/max of a no dictionary dimension
+   */
+  public void updateBytes(int index, byte[] value) {
+    if (isEmpty) {
+      start();
+    }
+    if (null == minValues[index]) {
+      minValues[index] = value;
+      maxValues[index] = value;
+    } else if (ByteUtil.UnsafeComparer.INSTANCE.compareTo((byte[]) minValues[index], value) > 0) {
+      minValues[index] = value;
+    } else if (ByteUtil.UnsafeComparer.INSTANCE.compareTo((byte[]) maxValues[index], value) < 0) {
+      maxValues[index] = value;
+    }
+  }
+
+  /**
+   * update the min/max of a measure
+   */
+  public void updateMeasure(int index, Object value) {
+    if (isEmpty) {
+      start();
+    }
+    if (null == minValues[index]) {
+      minValues[index] = value;
+      maxValues[index] = value;
+    } else if (comparators[index].compare(minValues[index], value) > 0) {
+      minValues[index] = value;
+    } else if (comparators[index].compare(maxValues[index], value) < 0) {
+      maxValues[index] = value;
+    }
+  }
+
+  /**
+   * update the min/max of a column for a null value
+   */
+  public void updateNull(int index) {
+    if (isComplex[index]) {
+      return;
+    }
+    if (isDictionary[index]) {
+      updateSurrogate(index, CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY);
+    } else if (null == dataTypes[index]) {
+      updateBytes(index, CarbonCommonConstants.MEMBER_DEFAULT_VAL_ARRAY);
+    } else {
+      updateMeasure(index, getZero(dataTypes[index]));
+    }
+  }
+
+  /**
+   * merge the min/max written by another collector
+   *
+   * @return false if the index does not match the columns of this collector
+   */
+  public boolean merge(BlockletMinMaxIndex index) {
+    if (index.getMin_valuesSize() != columnCount || index.getMax_valuesSize() != columnCount) {
+      return false;
+    }
+    for (int i = 0; i < columnCount; i++) {
+      if (isComplex[i]) {
+        continue;
+      }
+      byte[] min = index.getMin_values().get(i).array();
+      byte[] max = index.getMax_values().get(i).array();
+      if (isDictionary[i]) {
+        updateSurrogate(i, ByteBuffer.wrap(min).getInt());
+        updateSurrogate(i, ByteBuffer.wrap(max).getInt());
+      } else if (null == dataTypes[i]) {
+        updateBytes(i, min);
+        updateBytes(i, max);
+      } else {
+        updateMeasure(i, DataTypeUtil.getMeasureObjectFromDataType(min, dataTypes[i]));
+        updateMeasure(i, DataTypeUtil.getMeasureObjectFromDataType(max, dataTypes[i]));
+      }
+    }
+    return true;
+  }
+
+  public boolean isEmpty() {
+    return isEmpty;
+  }
+
+  /**
+   * @return the min/max of all the values updated since the last reset
+   */
+  public BlockletMinMaxIndex build() {
+    List<ByteBuffer> min = new ArrayList<>(columnCount);
+    List<ByteBuffer> max = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      min.add(ByteBuffer.wrap(toBytes(i, minSurrogate[i], minValues[i])));
+      max.add(ByteBuffer.wrap(toBytes(i, maxSurrogate[i], maxValues[i])));
+    }
+    return new BlockletMinMaxIndex(min, max);
+  }
+
+  public void reset() {
+    isEmpty = true;
+  }
+
+  private void start() {
+    for (int i = 0; i < columnCount; i++) {
+      minSurrogate[i] = Integer.MAX_VALUE;
+      maxSurrogate[i] = Integer.MIN_VALUE;
+      minValues[i] = null;
+      maxValues[i] = null;
+    }
+    isEmpty = false;
+  }
+
+  private byte[] toBytes(int index, int surrogate, Object value) {
+    if (isComplex[index]) {
+      return EMPTY;
+    } else if (isDictionary[index]) {
+      return ByteBuffer.allocate(4).putInt(surrogate).array();
+    } else if (null == value) {
+      return EMPTY;
+    } else if (null == dataTypes[index]) {
+      return (byte[]) value;
+    } else if (dataTypes[index] == DataTypes.BOOLEAN) {
+      return new byte[] { BooleanConvert.boolean2Byte((boolean) value) };
+    } else {
+      return CarbonUtil.getValueAsBytes(dataTypes[index], value);
+    }
+  }
+
+  private static Object getZero(DataType dataType) {
+    if (dataType == DataTypes.BOOLEAN) {
+      return false;
+    } else if (dataType == DataTypes.SHORT) {
+      return (short) 0;
+    } else if (dataType == DataTypes.INT) {
+      return 0;
+    } else if (dataType == DataTypes.LONG) {
+      return 0L;
+    } else if (dataType == DataTypes.DOUBLE) {
+      return 0d;
+    } else if (DataTypes.isDecimal(dataType)) {
+      return BigDecimal.ZERO;
+    } else {
+      throw new UnsupportedOperationException("unsupported data type: " + dataType.getName());
+    }
+  }
+}
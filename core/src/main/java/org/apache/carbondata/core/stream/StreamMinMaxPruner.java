@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.stream;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.carbondata.core.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
+import org.apache.carbondata.core.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.core.scan.filter.executer.FilterExecuter;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.format.BlockletIndex;
+import org.apache.carbondata.format.BlockletMinMaxIndex;
+
+/**
+ * Uses the min/max written by StreamMinMaxCollector to check whether a stream blocklet or a
+ * stream file needs to be scanned for a filter
+ */
+public class StreamMinMaxPruner {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private FilterExecuter filter;
+
+  /**
+   * chunk index of each column in stream storage order, -1 for complex columns
+   */
+  private int[] chunkIndexes;
+
+  private int chunkCount;
+
+  public StreamMinMaxPruner(CarbonColumn[] storageColumns, SegmentProperties segmentProperties,
+      FilterExecuter filter) {
+    this.filter = filter;
+    chunkCount =
+        segmentProperties.getLastDimensionColOrdinal() + segmentProperties.getMeasures().size();
+    chunkIndexes = new int[storageColumns.length];
+    for (int i = 0; i < storageColumns.length; i++) {
+      CarbonColumn column = storageColumns[i];
+      if (column.isComplex()) {
+        chunkIndexes[i] = -1;
+      } else if (column.isDimension()) {
+        chunkIndexes[i] =
+            segmentProperties.getDimensionOrdinalToChunkMapping().get(column.getOrdinal());
+      } else {
+        chunkIndexes[i] =
+            segmentProperties.getMeasuresOrdinalToChunkMapping().get(column.getOrdinal())
+                + segmentProperties.getLastDimensionColOrdinal();
+      }
+    }
+  }
+
+  /**
+   * @return false only if the min/max in the index proves that no row can match the filter
+   */
+  public boolean isScanRequired(BlockletIndex index) {
+    if (null == index || !index.isSetMin_max_index()) {
+      return true;
+    }
+    BlockletMinMaxIndex minMaxIndex = index.getMin_max_index();
+    if (minMaxIndex.getMin_valuesSize() != chunkIndexes.length
+        || minMaxIndex.getMax_valuesSize() != chunkIndexes.length) {
+      // written with another schema
+      return true;
+    }
+    byte[][] min = new byte[chunkCount][];
+    byte[][] max = new byte[chunkCount][];
+    Arrays.fill(min, EMPTY);
+    Arrays.fill(max, EMPTY);
+    for (int i = 0; i < chunkIndexes.length; i++) {
+      if (chunkIndexes[i] >= 0) {
+        min[chunkIndexes[i]] = minMaxIndex.getMin_values().get(i).array();
+        max[chunkIndexes[i]] = minMaxIndex.getMax_values().get(i).array();
+      }
+    }
+    return filter.isScanRequired(max, min).get(0);
+  }
+
+  /**
+   * stream files do not have a dictionary cardinality, so dictionary columns use the full
+   * integer range as the cardinality
+   */
+  public static SegmentProperties getSegmentProperties(CarbonTable carbonTable) {
+    List<ColumnSchema> wrapperColumnSchemaList = CarbonUtil
+        .getColumnSchemaList(carbonTable.getDimensionByTableName(carbonTable.getTableName()),
+            carbonTable.getMeasureByTableName(carbonTable.getTableName()));
+    int[] dimLensWithComplex = new int[wrapperColumnSchemaList.size()];
+    for (int i = 0; i < dimLensWithComplex.length; i++) {
+      dimLensWithComplex[i] = Integer.MAX_VALUE;
+    }
+    int[] dictionaryColumnCardinality =
+        CarbonUtil.getFormattedCardinality(dimLensWithComplex, wrapperColumnSchemaList);
+    return new SegmentProperties(wrapperColumnSchemaList, dictionaryColumnCardinality);
+  }
+}
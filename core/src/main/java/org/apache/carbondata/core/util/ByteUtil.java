@@ -255,6 +255,46 @@ public final class ByteUtil {
       return len1 - len2;
     }
 
+    /**
+     * Lexicographically compare two byte sequences given by their base object and address,
+     * so values in off heap or on heap memory can be compared without copying them out.
+     *
+     * @param baseObject1 base object of the left operand, null for off heap memory
+     * @param address1 address of the left operand
+     * @param length1 length of the left operand
+     * @param baseObject2 base object of the right operand, null for off heap memory
+     * @param address2 address of the right operand
+     * @param length2 length of the right operand
+     * @return 0 if equal, < 0 if left is less than right, etc.
+     */
+    public int compareTo(Object baseObject1, long address1, int length1, Object baseObject2,
+        long address2, int length2) {
+      int minLength = Math.min(length1, length2);
+      int i = 0;
+      // compare 8 bytes at a time, swapping to big endian so that the word compares in the
+      // same order as its bytes
+      for (; i + SIZEOF_LONG <= minLength; i += SIZEOF_LONG) {
+        long lw = CarbonUnsafe.getUnsafe().getLong(baseObject1, address1 + i);
+        long rw = CarbonUnsafe.getUnsafe().getLong(baseObject2, address2 + i);
+        if (lw != rw) {
+          if (CarbonUnsafe.ISLITTLEENDIAN) {
+            lw = Long.reverseBytes(lw);
+            rw = Long.reverseBytes(rw);
+          }
+          return lessThanUnsigned(lw, rw) ? -1 : 1;
+        }
+      }
+      // The epilogue to cover the last (minLength % 8) elements.
+      for (; i < minLength; i++) {
+        int a = CarbonUnsafe.getUnsafe().getByte(baseObject1, address1 + i) & 0xff;
+        int b = CarbonUnsafe.getUnsafe().getByte(baseObject2, address2 + i) & 0xff;
+        if (a != b) {
+          return a - b;
+        }
+      }
+      return length1 - length2;
+    }
+
     public boolean equals(byte[] buffer1, byte[] buffer2) {
       if (buffer1.length != buffer2.length) {
         return false;
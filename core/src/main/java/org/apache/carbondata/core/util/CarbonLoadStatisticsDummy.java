@@ -87,6 +87,16 @@ public class CarbonLoadStatisticsDummy implements LoadStatistics {
 
   }
 
+  @Override
+  public void recordDataWriterWaitTime(long waitForWriterTimeInMs, long waitForPageTimeInMs) {
+
+  }
+
+  @Override
+  public void recordColumnEncodeTime(String columnName, long encodeTimeInMs) {
+
+  }
+
   @Override
   public void recordHostBlockMap(String host, Integer numBlocks) {
 
@@ -17,7 +17,13 @@
 
 package org.apache.carbondata.core.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
@@ -71,6 +77,17 @@ public class CarbonLoadStatisticsImpl implements LoadStatistics {
   private ConcurrentHashMap<String, Long[]> parDictionaryValue2MdkAdd2FileTime =
           new ConcurrentHashMap<String, Long[]>();
 
+  //Wait time of the fact data handlers, summed up over all the handlers:
+  private AtomicLong waitForWriterTime = new AtomicLong();
+  private AtomicLong waitForPageTime = new AtomicLong();
+
+  //Encode time of each column, summed up over all the pages:
+  private ConcurrentHashMap<String, AtomicLong> columnEncodeTimeMap =
+          new ConcurrentHashMap<String, AtomicLong>();
+
+  //Number of the most expensive columns printed with their encode time
+  private static final int NUM_PRINTED_COLUMN_ENCODE_TIME = 10;
+
   //Node block process information
   private ConcurrentHashMap<String, Integer> hostBlockMap =
           new ConcurrentHashMap<String, Integer>();
@@ -219,6 +236,23 @@ public class CarbonLoadStatisticsImpl implements LoadStatistics {
     }
   }
 
+  public void recordDataWriterWaitTime(long waitForWriterTimeInMs, long waitForPageTimeInMs) {
+    waitForWriterTime.addAndGet(waitForWriterTimeInMs);
+    waitForPageTime.addAndGet(waitForPageTimeInMs);
+  }
+
+  public void recordColumnEncodeTime(String columnName, long encodeTimeInMs) {
+    AtomicLong columnEncodeTime = columnEncodeTimeMap.get(columnName);
+    if (null == columnEncodeTime) {
+      AtomicLong newColumnEncodeTime = new AtomicLong();
+      columnEncodeTime = columnEncodeTimeMap.putIfAbsent(columnName, newColumnEncodeTime);
+      if (null == columnEncodeTime) {
+        columnEncodeTime = newColumnEncodeTime;
+      }
+    }
+    columnEncodeTime.addAndGet(encodeTimeInMs);
+  }
+
   //Record the node blocks information map
   public void recordHostBlockMap(String host, Integer numBlocks) {
     hostBlockMap.put(host, numBlocks);
@@ -343,6 +377,35 @@ public class CarbonLoadStatisticsImpl implements LoadStatistics {
     double dictionaryValue2MdkAdd2FileTime = getDictionaryValue2MdkAdd2FileTime(partitionID);
     LOGGER.info("STAGE 5 ->Transform to MDK, compress and write fact files: "
             + dictionaryValue2MdkAdd2FileTime + "(s)");
+    LOGGER.info("STAGE 5.1 ->  |_wait for fact file writer: "
+            + waitForWriterTime.get() / 1000.0 + "(s)");
+    LOGGER.info("STAGE 5.2 ->  |_fact file writer wait for encoded pages: "
+            + waitForPageTime.get() / 1000.0 + "(s)");
+    printColumnEncodeStatisticsInfo();
+  }
+
+  private void printColumnEncodeStatisticsInfo() {
+    List<Map.Entry<String, AtomicLong>> columnEncodeTimes =
+        new ArrayList<Map.Entry<String, AtomicLong>>(columnEncodeTimeMap.entrySet());
+    if (columnEncodeTimes.isEmpty()) {
+      return;
+    }
+    long totalEncodeTime = 0;
+    for (Map.Entry<String, AtomicLong> columnEncodeTime : columnEncodeTimes) {
+      totalEncodeTime += columnEncodeTime.getValue().get();
+    }
+    LOGGER.info("STAGE 5.3 ->  |_encode column pages: " + totalEncodeTime / 1000.0 + "(s)");
+    Collections.sort(columnEncodeTimes, new Comparator<Map.Entry<String, AtomicLong>>() {
+      @Override
+      public int compare(Map.Entry<String, AtomicLong> o1, Map.Entry<String, AtomicLong> o2) {
+        return Long.compare(o2.getValue().get(), o1.getValue().get());
+      }
+    });
+    int numPrinted = Math.min(columnEncodeTimes.size(), NUM_PRINTED_COLUMN_ENCODE_TIME);
+    for (int i = 0; i < numPrinted; i++) {
+      LOGGER.info("STAGE 5.3 ->    |_encode column " + columnEncodeTimes.get(i).getKey() + ": "
+          + columnEncodeTimes.get(i).getValue().get() / 1000.0 + "(s)");
+    }
   }
 
   //Print the node blocks information
@@ -408,6 +471,9 @@ public class CarbonLoadStatisticsImpl implements LoadStatistics {
     parGeneratingDictionaryValuesTimeMap.clear();
     parMdkGenerateTotalTimeMap.clear();
     parDictionaryValue2MdkAdd2FileTime.clear();
+    waitForWriterTime.set(0);
+    waitForPageTime.set(0);
+    columnEncodeTimeMap.clear();
   }
 
 }
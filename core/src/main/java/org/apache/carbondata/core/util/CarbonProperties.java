@@ -1406,6 +1406,177 @@ public final class CarbonProperties {
     return thresholdSize;
   }
 
+  /**
+   * Get the int value configured for the given key. The default value is used when the
+   * configured value is not a number or is not in the range minValue to maxValue
+   *
+   * @param key
+   * @param defaultValue default value for the given key
+   * @param minValue Minimum value for the given key
+   * @param maxValue Max value for the given key
+   * @return value for the given key
+   */
+  private int getIntPropertyInRange(String key, String defaultValue, int minValue,
+      int maxValue) {
+    String value = getProperty(key, defaultValue);
+    try {
+      int intValue = Integer.parseInt(value);
+      if (intValue >= minValue && intValue <= maxValue) {
+        return intValue;
+      }
+      LOGGER.warn("The value \"" + value + "\" configured for key " + key
+          + " is not in range. Valid range is " + minValue + " to " + maxValue
+          + ". Using the default value " + defaultValue);
+    } catch (NumberFormatException e) {
+      LOGGER.warn("The value \"" + value + "\" configured for key " + key
+          + " is invalid. Using the default value " + defaultValue);
+    }
+    return Integer.parseInt(defaultValue);
+  }
+
+  /**
+   * Whether local files are read through memory mapped buffers
+   */
+  public boolean isLocalFileReaderMmapEnabled() {
+    String mmapEnable = getProperty(CarbonCommonConstants.CARBON_LOCAL_FILE_READER_MMAP_ENABLE,
+        CarbonCommonConstants.CARBON_LOCAL_FILE_READER_MMAP_ENABLE_DEFAULT);
+    return mmapEnable.equalsIgnoreCase("true");
+  }
+
+  /**
+   * Get the size in bytes of each region mapped by the memory mapped file reader
+   */
+  public int getMmapWindowSizeInBytes() {
+    int windowSizeInMB =
+        getIntPropertyInRange(CarbonCommonConstants.CARBON_MMAP_WINDOW_SIZE_IN_MB,
+            CarbonCommonConstants.CARBON_MMAP_WINDOW_SIZE_IN_MB_DEFAULT,
+            CarbonCommonConstants.CARBON_MMAP_WINDOW_SIZE_IN_MB_MIN,
+            CarbonCommonConstants.CARBON_MMAP_WINDOW_SIZE_IN_MB_MAX);
+    return windowSizeInMB * 1024 * 1024;
+  }
+
+  /**
+   * Get the max gap in bytes between two column chunks which are read in one read
+   */
+  public long getColumnReadMaxGapInBytes() {
+    int maxGapInKB =
+        getIntPropertyInRange(CarbonCommonConstants.CARBON_COLUMN_READ_MAX_GAP_IN_KB,
+            CarbonCommonConstants.CARBON_COLUMN_READ_MAX_GAP_IN_KB_DEFAULT, 0,
+            Integer.MAX_VALUE);
+    return maxGapInKB * 1024L;
+  }
+
+  /**
+   * Get the max size in bytes of one read of column chunks
+   */
+  public long getColumnReadMaxSizeInBytes() {
+    int maxSizeInMB =
+        getIntPropertyInRange(CarbonCommonConstants.CARBON_COLUMN_READ_MAX_SIZE_IN_MB,
+            CarbonCommonConstants.CARBON_COLUMN_READ_MAX_SIZE_IN_MB_DEFAULT, 1,
+            CarbonCommonConstants.CARBON_COLUMN_READ_MAX_SIZE_IN_MB_MAX);
+    return maxSizeInMB * 1024L * 1024L;
+  }
+
+  /**
+   * Get the number of blocklets a query reads ahead of the blocklet it is scanning
+   */
+  public int getQueryPrefetchBlockletCount() {
+    return getIntPropertyInRange(CarbonCommonConstants.CARBON_QUERY_PREFETCH_BLOCKLET_COUNT,
+        CarbonCommonConstants.CARBON_QUERY_PREFETCH_BLOCKLET_COUNT_DEFAULT, 1,
+        CarbonCommonConstants.CARBON_QUERY_PREFETCH_BLOCKLET_COUNT_MAX);
+  }
+
+  /**
+   * Get the number of key ranges the final merge of the unsafe local sort is split into
+   */
+  public int getSortFinalMergeParallelism() {
+    return getIntPropertyInRange(CarbonCommonConstants.CARBON_LOAD_SORT_FINAL_MERGE_PARALLELISM,
+        CarbonCommonConstants.CARBON_LOAD_SORT_FINAL_MERGE_PARALLELISM_DEFAULT, 1,
+        CarbonCommonConstants.CARBON_LOAD_SORT_FINAL_MERGE_PARALLELISM_MAX);
+  }
+
+  /**
+   * Get the max size in bytes of the blocklets a query has read ahead and not yet scanned
+   */
+  public long getQueryPrefetchMaxSizeInBytes() {
+    int maxSizeInMB =
+        getIntPropertyInRange(CarbonCommonConstants.CARBON_QUERY_PREFETCH_MAX_SIZE_IN_MB,
+            CarbonCommonConstants.CARBON_QUERY_PREFETCH_MAX_SIZE_IN_MB_DEFAULT, 1,
+            Integer.MAX_VALUE);
+    return maxSizeInMB * 1024L * 1024L;
+  }
+
+  /**
+   * Get the max size in bytes of the encoded pages of a load which wait to be written
+   */
+  public long getLoadPageQueueMaxSizeInBytes() {
+    int maxSizeInMB =
+        getIntPropertyInRange(CarbonCommonConstants.CARBON_LOAD_PAGE_QUEUE_MAX_SIZE_IN_MB,
+            CarbonCommonConstants.CARBON_LOAD_PAGE_QUEUE_MAX_SIZE_IN_MB_DEFAULT, 1,
+            Integer.MAX_VALUE);
+    return maxSizeInMB * 1024L * 1024L;
+  }
+
+  /**
+   * Get the min number of columns from which the columns of a page are encoded in parallel
+   */
+  public int getLoadPageEncodeParallelMinColumns() {
+    return getIntPropertyInRange(
+        CarbonCommonConstants.CARBON_LOAD_PAGE_ENCODE_PARALLEL_MIN_COLUMNS,
+        CarbonCommonConstants.CARBON_LOAD_PAGE_ENCODE_PARALLEL_MIN_COLUMNS_DEFAULT, 0,
+        Integer.MAX_VALUE);
+  }
+
+  /**
+   * Get the max number of distinct values of a no dictionary string column page up to which
+   * the page is encoded with a page local dictionary
+   */
+  public int getLoadPageLocalDictionaryThreshold() {
+    return getIntPropertyInRange(
+        CarbonCommonConstants.CARBON_LOAD_PAGE_LOCAL_DICTIONARY_THRESHOLD,
+        CarbonCommonConstants.CARBON_LOAD_PAGE_LOCAL_DICTIONARY_THRESHOLD_DEFAULT, 0,
+        CarbonCommonConstants.CARBON_LOAD_PAGE_LOCAL_DICTIONARY_THRESHOLD_MAX);
+  }
+
+  /**
+   * Get the size in bytes of the parts in which fact data files are written to the store
+   */
+  public int getLoadPipelinedWriteStorePartSizeInBytes() {
+    int partSizeInMB = getIntPropertyInRange(
+        CarbonLoadOptionConstants.CARBON_LOAD_PIPELINED_WRITE_STORE_PART_SIZE_IN_MB,
+        CarbonLoadOptionConstants.CARBON_LOAD_PIPELINED_WRITE_STORE_PART_SIZE_IN_MB_DEFAULT, 1,
+        512);
+    return partSizeInMB * 1024 * 1024;
+  }
+
+  /**
+   * Whether the parsed table status files are cached in the process
+   */
+  public boolean isTableStatusCacheEnabled() {
+    String cacheEnable = getProperty(CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_CACHE,
+        CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_CACHE_DEFAULT);
+    return cacheEnable.equalsIgnoreCase("true");
+  }
+
+  /**
+   * Whether changes of the table status are appended to the table status log
+   */
+  public boolean isTableStatusLogEnabled() {
+    String logEnable = getProperty(CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_LOG,
+        CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_LOG_DEFAULT);
+    return logEnable.equalsIgnoreCase("true");
+  }
+
+  /**
+   * Get the number of entries in the table status log after which a new checkpoint is written
+   */
+  public int getTableStatusLogCheckpointInterval() {
+    return getIntPropertyInRange(
+        CarbonCommonConstants.CARBON_TABLE_STATUS_LOG_CHECKPOINT_INTERVAL,
+        CarbonCommonConstants.CARBON_TABLE_STATUS_LOG_CHECKPOINT_INTERVAL_DEFAULT, 1,
+        Integer.MAX_VALUE);
+  }
+
   /**
    * Get the number of hours the segment lock files will be preserved.
    * It will be converted to microseconds to return.
@@ -1447,6 +1618,17 @@ public final class CarbonProperties {
     }
     return preserveCnt;
   }
+  /**
+   * Returns the number of threads to be used in driver for pruning the segments
+   * @return int
+   */
+  public int getNumberOfThreadsForSegmentPruning() {
+    return getIntPropertyInRange(
+        CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING,
+        CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING_DEFAULT, 1,
+        CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING_MAX);
+  }
+
   /**
    * Get the configured system folder location.
    * @return
@@ -34,14 +34,25 @@ public class CarbonThreadFactory implements ThreadFactory {
    */
   private String name;
 
+  /**
+   * whether to create daemon threads
+   */
+  private boolean daemon;
+
   public CarbonThreadFactory(String name) {
+    this(name, false);
+  }
+
+  public CarbonThreadFactory(String name, boolean daemon) {
     this.defaultFactory = Executors.defaultThreadFactory();
     this.name = name;
+    this.daemon = daemon;
   }
 
   @Override public Thread newThread(Runnable r) {
     final Thread thread = defaultFactory.newThread(r);
     thread.setName(name);
+    thread.setDaemon(daemon);
     return thread;
   }
 }
@@ -1600,8 +1600,7 @@ public final class CarbonUtil {
 
   public static DataChunk3 readDataChunk3(ByteBuffer dataChunkBuffer, int offset, int length)
       throws IOException {
-    byte[] data = dataChunkBuffer.array();
-    return (DataChunk3) read(data, new ThriftReader.TBaseCreator() {
+    return (DataChunk3) read(dataChunkBuffer, new ThriftReader.TBaseCreator() {
       @Override public TBase create() {
         return new DataChunk3();
       }
@@ -1626,14 +1625,38 @@ public final class CarbonUtil {
 
   public static DataChunk2 readDataChunk(ByteBuffer dataChunkBuffer, int offset, int length)
       throws IOException {
-    byte[] data = dataChunkBuffer.array();
-    return (DataChunk2) read(data, new ThriftReader.TBaseCreator() {
+    return (DataChunk2) read(dataChunkBuffer, new ThriftReader.TBaseCreator() {
       @Override public TBase create() {
         return new DataChunk2();
       }
     }, offset, length);
   }
 
+  /**
+   * Below method will be used to convert the thrift bytes in a buffer to thrift object for
+   * data chunk. A heap buffer is read through its backing array, the bytes of a direct or
+   * memory mapped buffer are copied to heap first.
+   *
+   * @param data    buffer with the thrift bytes, its position and limit are not changed
+   * @param creator type of thrift
+   * @param offset  index of the thrift bytes in the buffer
+   * @param length  number of thrift bytes
+   * @return thrift object
+   * @throws IOException any problem while converting the object
+   */
+  private static TBase read(ByteBuffer data, TBaseCreator creator, int offset, int length)
+      throws IOException {
+    if (data.hasArray()) {
+      return read(data.array(), creator, data.arrayOffset() + offset, length);
+    }
+    // direct or memory mapped buffer, only the thrift header is copied to heap
+    byte[] header = new byte[length];
+    ByteBuffer duplicate = data.duplicate();
+    duplicate.position(offset);
+    duplicate.get(header);
+    return read(header, creator, 0, length);
+  }
+
   /**
    * Below method will be used to convert the byte array value to thrift object for
    * data chunk
@@ -46,6 +46,13 @@ public interface LoadStatistics {
   void recordDictionaryValue2MdkAdd2FileTime(String partitionID,
       Long dictionaryValue2MdkAdd2FileTimePoint);
 
+  //Record the time the input and encoding waited for the file writer, and the time the file
+  //writer waited for the next encoded page
+  void recordDataWriterWaitTime(long waitForWriterTimeInMs, long waitForPageTimeInMs);
+
+  //Record the time spent to encode the pages of one column
+  void recordColumnEncodeTime(String columnName, long encodeTimeInMs);
+
   //Record the node blocks information map
   void recordHostBlockMap(String host, Integer numBlocks);
 
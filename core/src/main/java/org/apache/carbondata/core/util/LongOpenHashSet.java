@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.util;
+
+/**
+ * Set of primitive long values using open addressing with linear probing. It is meant for
+ * lookups in hot loops, so it does not box the values and is not thread safe for writes.
+ */
+public final class LongOpenHashSet {
+
+  /**
+   * golden ratio constant used to spread the bits of the keys
+   */
+  private static final long MIX = 0x9E3779B97F4A7C15L;
+
+  /**
+   * slots of the table, 0 means the slot is free
+   */
+  private long[] keys;
+
+  private int mask;
+
+  private int size;
+
+  /**
+   * 0 is used to mark free slots, so it is tracked separately
+   */
+  private boolean containsZero;
+
+  /**
+   * @param expectedSize number of values expected to be added
+   */
+  public LongOpenHashSet(int expectedSize) {
+    // keep the load factor at most 0.5 so that probe sequences stay short
+    int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+    keys = new long[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Adds the value to the set
+   *
+   * @return true if the value was not present
+   */
+  public boolean add(long value) {
+    if (value == 0) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+      size++;
+      return true;
+    }
+    int slot = slot(value);
+    while (keys[slot] != 0) {
+      if (keys[slot] == value) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = value;
+    size++;
+    if (size * 2 > keys.length) {
+      rehash(keys.length << 1);
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the value is present in the set
+   */
+  public boolean contains(long value) {
+    if (value == 0) {
+      return containsZero;
+    }
+    int slot = slot(value);
+    long key;
+    while ((key = keys[slot]) != 0) {
+      if (key == value) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private int slot(long value) {
+    long hash = value * MIX;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private void rehash(int newCapacity) {
+    long[] oldKeys = keys;
+    keys = new long[newCapacity];
+    mask = newCapacity - 1;
+    for (long key : oldKeys) {
+      if (key != 0) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+      }
+    }
+  }
+}
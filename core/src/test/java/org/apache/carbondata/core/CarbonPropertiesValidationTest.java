@@ -247,4 +247,23 @@ public class CarbonPropertiesValidationTest extends TestCase {
     assertTrue(valueAfterValidation.equals("0.1"));
   }
 
+  @Test public void testGetNumberOfThreadsForSegmentPruning() {
+    int defaultValue = Integer.parseInt(
+        CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING_DEFAULT);
+    try {
+      carbonProperties
+          .addProperty(CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING, "0");
+      assertTrue(carbonProperties.getNumberOfThreadsForSegmentPruning() == defaultValue);
+      carbonProperties
+          .addProperty(CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING, "xyz");
+      assertTrue(carbonProperties.getNumberOfThreadsForSegmentPruning() == defaultValue);
+      carbonProperties
+          .addProperty(CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING, "3");
+      assertTrue(carbonProperties.getNumberOfThreadsForSegmentPruning() == 3);
+    } finally {
+      carbonProperties.addProperty(
+          CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING,
+          CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING_DEFAULT);
+    }
+  }
 }
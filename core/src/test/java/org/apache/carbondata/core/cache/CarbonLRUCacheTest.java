@@ -16,12 +16,16 @@
  */
 package org.apache.carbondata.core.cache;
 
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.CarbonProperties;
+
 import mockit.Mock;
 import mockit.MockUp;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -60,6 +64,99 @@ public class CarbonLRUCacheTest {
     assertNull(carbonLRUCache.get("Column2"));
   }
 
+  @Test public void testSegmentedCachePutGetAndEvict() {
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL, "4");
+    try {
+      Cacheable entry = new MockUp<Cacheable>() {
+        @SuppressWarnings("unused") @Mock long getMemorySize() {
+          return 100L * 1024;
+        }
+      }.getMockInstance();
+      CarbonLRUCache segmentedCache = new CarbonLRUCache("prop2", "1");
+      for (int i = 0; i < 8; i++) {
+        assertTrue(segmentedCache.put("Key" + i, entry, 100L * 1024));
+      }
+      for (int i = 0; i < 8; i++) {
+        assertTrue(segmentedCache.get("Key" + i) == entry);
+      }
+      // cache is of 1 MB, adding this entry needs some of the existing entries to be evicted
+      assertTrue(segmentedCache.put("BigKey", entry, 512L * 1024));
+      assertTrue(segmentedCache.get("BigKey") == entry);
+      int remaining = 0;
+      for (int i = 0; i < 8; i++) {
+        if (segmentedCache.get("Key" + i) != null) {
+          remaining++;
+        }
+      }
+      assertTrue(remaining < 8);
+      segmentedCache.remove("BigKey");
+      assertNull(segmentedCache.get("BigKey"));
+      segmentedCache.clear();
+      assertNull(segmentedCache.get("Key0"));
+    } finally {
+      CarbonProperties.getInstance()
+          .addProperty(CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL,
+              CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL_DEFAULT);
+    }
+  }
+
+  /**
+   * Eviction walks the segments in turn without copying their entries. Its cost against the
+   * number of entries is not measured here, that benchmark is deferred to the JMH benchmarks
+   * module.
+   */
+  @Test public void testSegmentedCacheEvictsOnlyUnusedEntries() {
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL, "4");
+    try {
+      Cacheable unused = new MockUp<Cacheable>() {
+        @SuppressWarnings("unused") @Mock long getMemorySize() {
+          return 100L * 1024;
+        }
+      }.getMockInstance();
+      Cacheable inUse = new MockUp<Cacheable>() {
+        @SuppressWarnings("unused") @Mock long getMemorySize() {
+          return 100L * 1024;
+        }
+
+        @SuppressWarnings("unused") @Mock int getAccessCount() {
+          return 1;
+        }
+      }.getMockInstance();
+      CarbonLRUCache segmentedCache = new CarbonLRUCache("prop3", "1");
+      for (int i = 0; i < 8; i++) {
+        assertTrue(segmentedCache.put("Key" + i, i % 2 == 0 ? inUse : unused, 100L * 1024));
+      }
+      // 3 of the 4 unused entries have to be evicted, the entries in use stay
+      assertTrue(segmentedCache.put("BigKey", inUse, 500L * 1024));
+      int remainingUnused = 0;
+      for (int i = 0; i < 8; i++) {
+        if (i % 2 == 0) {
+          assertTrue(segmentedCache.get("Key" + i) == inUse);
+        } else if (segmentedCache.get("Key" + i) != null) {
+          remainingUnused++;
+        }
+      }
+      assertTrue(remainingUnused <= 1);
+      // not enough unused entries for this one, so nothing is evicted
+      assertFalse(segmentedCache.put("HugeKey", unused, 600L * 1024));
+      assertTrue(segmentedCache.get("BigKey") == inUse);
+      int stillUnused = 0;
+      for (int i = 1; i < 8; i += 2) {
+        if (segmentedCache.get("Key" + i) != null) {
+          stillUnused++;
+        }
+      }
+      assertEquals(remainingUnused, stillUnused);
+      segmentedCache.clear();
+    } finally {
+      CarbonProperties.getInstance()
+          .addProperty(CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL,
+              CarbonCommonConstants.CARBON_LRU_CACHE_CONCURRENCY_LEVEL_DEFAULT);
+    }
+  }
+
   @AfterClass public static void cleanUp() {
     carbonLRUCache.clear();
     assertNull(carbonLRUCache.get("Column1"));
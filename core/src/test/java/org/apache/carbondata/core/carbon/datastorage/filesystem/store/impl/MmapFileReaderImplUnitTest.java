@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.carbon.datastorage.filesystem.store.impl;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.carbondata.core.datastore.impl.MmapFileReaderImpl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MmapFileReaderImplUnitTest {
+
+  private static File file;
+
+  private static String fileName;
+
+  @BeforeClass public static void setup() throws IOException {
+    file = new File("TestMmap.carbondata");
+    DataOutputStream stream = new DataOutputStream(new FileOutputStream(file));
+    try {
+      // 100 ints with value index
+      for (int i = 0; i < 100; i++) {
+        stream.writeInt(i);
+      }
+    } finally {
+      stream.close();
+    }
+    fileName = file.getAbsolutePath();
+  }
+
+  @AfterClass public static void tearDown() {
+    file.delete();
+  }
+
+  @Test public void testReadWithinAndAcrossRegions() throws IOException {
+    // 16 byte regions, so that the reads below need several regions
+    MmapFileReaderImpl reader = new MmapFileReaderImpl(16);
+    try {
+      assertEquals(0, reader.readInt(fileName, 0L));
+      assertEquals(3, reader.readInt(fileName, 12L));
+      assertEquals(50, reader.readInt(fileName, 200L));
+      // crosses the end of the region mapped at offset 200
+      assertEquals(((long) 53 << 32) | 54, reader.readLong(fileName, 212L));
+
+      ByteBuffer buffer = reader.readByteBuffer(fileName, 40L, 80);
+      assertEquals(0, buffer.position());
+      assertEquals(80, buffer.remaining());
+      for (int i = 0; i < 20; i++) {
+        assertEquals(10 + i, buffer.getInt(i * 4));
+      }
+
+      byte[] bytes = reader.readByteArray(fileName, 396L, 4);
+      assertArrayEquals(new byte[] { 0, 0, 0, 99 }, bytes);
+    } finally {
+      reader.finish();
+    }
+  }
+
+  @Test public void testSequentialRead() throws IOException {
+    MmapFileReaderImpl reader = new MmapFileReaderImpl(16);
+    try {
+      assertEquals(0, reader.readInt(fileName));
+      assertEquals(1, reader.readInt(fileName));
+      assertArrayEquals(new byte[] { 0, 0, 0, 2 }, reader.readByteArray(fileName, 4));
+      assertEquals(3, reader.readInt(fileName));
+    } finally {
+      reader.finish();
+    }
+  }
+
+  @Test public void testReadBeyondFileSize() throws IOException {
+    MmapFileReaderImpl reader = new MmapFileReaderImpl(16);
+    try {
+      reader.readInt(fileName, 398L);
+      assertTrue("read beyond the file size should fail", false);
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains("file size is 400"));
+    } finally {
+      reader.finish();
+    }
+  }
+
+  @Test public void testBufferIsValidAfterFinish() throws IOException {
+    MmapFileReaderImpl reader = new MmapFileReaderImpl(16);
+    ByteBuffer buffer;
+    try {
+      buffer = reader.readByteBuffer(fileName, 80L, 8);
+    } finally {
+      reader.finish();
+    }
+    // a page decoded later can still refer to the mapped region
+    assertEquals(20, buffer.getInt(0));
+    assertEquals(21, buffer.getInt(4));
+  }
+}
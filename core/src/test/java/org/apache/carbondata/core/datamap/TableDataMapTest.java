@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datamap;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datamap.dev.DataMap;
+import org.apache.carbondata.core.datamap.dev.DataMapFactory;
+import org.apache.carbondata.core.datamap.dev.DataMapModel;
+import org.apache.carbondata.core.datamap.dev.cgdatamap.CoarseGrainDataMap;
+import org.apache.carbondata.core.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.indexstore.Blocklet;
+import org.apache.carbondata.core.indexstore.BlockletDetailsFetcher;
+import org.apache.carbondata.core.indexstore.ExtendedBlocklet;
+import org.apache.carbondata.core.indexstore.PartitionSpec;
+import org.apache.carbondata.core.indexstore.SegmentPropertiesFetcher;
+import org.apache.carbondata.core.indexstore.blockletindex.BlockletDataMapFactory;
+import org.apache.carbondata.core.readcommitter.ReadCommittedScope;
+import org.apache.carbondata.core.scan.filter.resolver.FilterResolverIntf;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TableDataMapTest {
+
+  private static final int NUMBER_OF_SEGMENTS = 8;
+
+  private static final int NUMBER_OF_DATAMAPS = 3;
+
+  private static final String FAILED_SEGMENT = "failed";
+
+  @After public void tearDown() {
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING,
+            CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING_DEFAULT);
+  }
+
+  /**
+   * datamap which returns one blocklet for its segment, the later datamaps of a segment are
+   * slower so that the segments finish in a different order than they are submitted
+   */
+  private static CoarseGrainDataMap createDataMap(final String segmentNo, final int index) {
+    return new CoarseGrainDataMap() {
+      @Override public void init(DataMapModel dataMapModel) {
+      }
+
+      @Override public List<Blocklet> prune(FilterResolverIntf filterExp,
+          SegmentProperties segmentProperties, List<PartitionSpec> partitions)
+          throws IOException {
+        if (FAILED_SEGMENT.equals(segmentNo)) {
+          throw new IOException("failed to prune segment " + segmentNo);
+        }
+        try {
+          Thread.sleep((NUMBER_OF_SEGMENTS - Integer.parseInt(segmentNo)) * 2L);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        List<Blocklet> blocklets = new ArrayList<>();
+        blocklets.add(new Blocklet("part-" + segmentNo, String.valueOf(index)));
+        return blocklets;
+      }
+
+      @Override public boolean isScanRequired(FilterResolverIntf filterExp) {
+        return true;
+      }
+
+      @Override public void clear() {
+      }
+    };
+  }
+
+  private static TableDataMap createTableDataMap(boolean isBlockletDataMap,
+      final Set<Thread> pruningThreads) {
+    DataMapFactory dataMapFactory;
+    if (isBlockletDataMap) {
+      dataMapFactory = new BlockletDataMapFactory() {
+        @Override public List<CoarseGrainDataMap> getDataMaps(Segment segment,
+            ReadCommittedScope readCommittedScope) {
+          pruningThreads.add(Thread.currentThread());
+          List<CoarseGrainDataMap> dataMaps = new ArrayList<>();
+          for (int i = 0; i < NUMBER_OF_DATAMAPS; i++) {
+            dataMaps.add(createDataMap(segment.getSegmentNo(), i));
+          }
+          return dataMaps;
+        }
+      };
+    } else {
+      dataMapFactory = new MockUp<DataMapFactory>() {
+        @SuppressWarnings("unused") @Mock List<DataMap> getDataMaps(Segment segment,
+            ReadCommittedScope readCommittedScope) {
+          pruningThreads.add(Thread.currentThread());
+          List<DataMap> dataMaps = new ArrayList<>();
+          for (int i = 0; i < NUMBER_OF_DATAMAPS; i++) {
+            dataMaps.add(createDataMap(segment.getSegmentNo(), i));
+          }
+          return dataMaps;
+        }
+      }.getMockInstance();
+    }
+    BlockletDetailsFetcher blockletDetailsFetcher = new BlockletDetailsFetcher() {
+      @Override public List<ExtendedBlocklet> getExtendedBlocklets(List<Blocklet> blocklets,
+          Segment segment, ReadCommittedScope readCommittedScope) {
+        List<ExtendedBlocklet> extendedBlocklets = new ArrayList<>();
+        for (Blocklet blocklet : blocklets) {
+          extendedBlocklets.add(getExtendedBlocklet(blocklet, segment, readCommittedScope));
+        }
+        return extendedBlocklets;
+      }
+
+      @Override public ExtendedBlocklet getExtendedBlocklet(Blocklet blocklet, Segment segment,
+          ReadCommittedScope readCommittedScope) {
+        return new ExtendedBlocklet(blocklet.getBlockId(), blocklet.getBlockletId());
+      }
+
+      @Override public List<Blocklet> getAllBlocklets(Segment segment,
+          List<PartitionSpec> partitions, ReadCommittedScope readCommittedScope) {
+        return new ArrayList<>();
+      }
+    };
+    SegmentPropertiesFetcher segmentPropertiesFetcher = new SegmentPropertiesFetcher() {
+      @Override public SegmentProperties getSegmentProperties(Segment segment,
+          ReadCommittedScope readCommittedScope) {
+        return null;
+      }
+    };
+    return new TableDataMap(null, null, dataMapFactory, blockletDetailsFetcher,
+        segmentPropertiesFetcher);
+  }
+
+  private static List<ExtendedBlocklet> prune(List<Segment> segments, String numOfThreads)
+      throws IOException {
+    return prune(segments, numOfThreads, true,
+        Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>()));
+  }
+
+  private static List<ExtendedBlocklet> prune(List<Segment> segments, String numOfThreads,
+      boolean isBlockletDataMap, Set<Thread> pruningThreads) throws IOException {
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_MAX_DRIVER_THREADS_FOR_SEGMENT_PRUNING,
+            numOfThreads);
+    FilterResolverIntf filter = new MockUp<FilterResolverIntf>() {
+    }.getMockInstance();
+    return createTableDataMap(isBlockletDataMap, pruningThreads)
+        .prune(segments, filter, null, null);
+  }
+
+  @Test public void testMultiThreadPruneIsSameAsSingleThreadPrune() throws IOException {
+    List<Segment> segments = new ArrayList<>();
+    for (int i = 0; i < NUMBER_OF_SEGMENTS; i++) {
+      segments.add(new Segment(String.valueOf(i), null));
+    }
+    List<ExtendedBlocklet> expected = prune(segments, "1");
+    assertEquals(NUMBER_OF_SEGMENTS * NUMBER_OF_DATAMAPS, expected.size());
+    for (int i = 0; i < 3; i++) {
+      List<ExtendedBlocklet> actual = prune(segments, "4");
+      assertEquals(expected, actual);
+      for (int j = 0; j < expected.size(); j++) {
+        assertEquals(expected.get(j).getSegmentId(), actual.get(j).getSegmentId());
+      }
+    }
+  }
+
+  @Test public void testMultiThreadPruneThrowsFailureOfSegment() {
+    List<Segment> segments = new ArrayList<>();
+    segments.add(new Segment("0", null));
+    segments.add(new Segment(FAILED_SEGMENT, null));
+    segments.add(new Segment("1", null));
+    try {
+      prune(segments, "4");
+      fail("prune should fail when a segment fails");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains(FAILED_SEGMENT));
+    }
+  }
+
+  @Test public void testOtherDataMapIsPrunedInCallerThread() throws IOException {
+    List<Segment> segments = new ArrayList<>();
+    for (int i = 0; i < NUMBER_OF_SEGMENTS; i++) {
+      segments.add(new Segment(String.valueOf(i), null));
+    }
+    Set<Thread> pruningThreads =
+        Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+    List<ExtendedBlocklet> blocklets = prune(segments, "4", false, pruningThreads);
+    assertEquals(NUMBER_OF_SEGMENTS * NUMBER_OF_DATAMAPS, blocklets.size());
+    assertEquals(Collections.singleton(Thread.currentThread()), pruningThreads);
+  }
+}
@@ -21,7 +21,10 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
 
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
 import org.apache.carbondata.core.scan.executor.infos.KeyStructureInfo;
+import org.apache.carbondata.core.scan.result.vector.ColumnVectorInfo;
+import org.apache.carbondata.core.scan.result.vector.impl.CarbonColumnVectorImpl;
 
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -66,6 +69,24 @@ public class FixedLengthDimensionDataChunkTest {
     int expectedResult = 1;
     assertEquals(res, expectedResult);
   }
-}
-
 
+  @Test public void fillVectorTest() {
+    FixedLengthDimensionColumnPage page =
+        new FixedLengthDimensionColumnPage(new byte[] { 3, 5, 7, 9 }, null, null, 4, 1);
+    CarbonColumnVectorImpl vector = new CarbonColumnVectorImpl(4, DataTypes.INT);
+    ColumnVectorInfo info = new ColumnVectorInfo();
+    info.vector = vector;
+    info.offset = 1;
+    info.size = 2;
+    info.vectorOffset = 0;
+    page.fillVector(new ColumnVectorInfo[] { info }, 0, new KeyStructureInfo());
+    info.offset = 0;
+    info.size = 2;
+    info.vectorOffset = 2;
+    page.fillVector(new int[] { 0, 3 }, new ColumnVectorInfo[] { info }, 0,
+        new KeyStructureInfo());
+    int[] ids = new int[4];
+    vector.getDictionaryIds(0, 4, ids, 0);
+    Assert.assertArrayEquals(new int[] { 5, 7, 3, 9 }, ids);
+  }
+}
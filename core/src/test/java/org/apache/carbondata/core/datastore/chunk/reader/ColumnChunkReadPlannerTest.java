@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.chunk.reader;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ColumnChunkReadPlannerTest {
+
+  @Test public void testAdjacentChunksAreReadTogether() {
+    ColumnChunkReadPlanner planner = new ColumnChunkReadPlanner(0, 1000);
+    List<ColumnChunkReadPlanner.CoalescedRead> reads =
+        planner.plan(new long[] { 100, 150, 300 }, new int[] { 50, 150, 20 });
+    assertEquals(1, reads.size());
+    assertRead(reads.get(0), 100, 220, 0, 2);
+  }
+
+  @Test public void testChunksWithinMaxGapAreReadTogether() {
+    ColumnChunkReadPlanner planner = new ColumnChunkReadPlanner(100, 1000);
+    List<ColumnChunkReadPlanner.CoalescedRead> reads =
+        planner.plan(new long[] { 0, 150, 400 }, new int[] { 50, 50, 50 });
+    assertEquals(2, reads.size());
+    assertRead(reads.get(0), 0, 200, 0, 1);
+    assertRead(reads.get(1), 400, 50, 2, 2);
+  }
+
+  @Test public void testReadIsLimitedToMaxReadSize() {
+    ColumnChunkReadPlanner planner = new ColumnChunkReadPlanner(100, 120);
+    List<ColumnChunkReadPlanner.CoalescedRead> reads =
+        planner.plan(new long[] { 0, 50, 100, 150 }, new int[] { 50, 50, 50, 500 });
+    assertEquals(3, reads.size());
+    assertRead(reads.get(0), 0, 100, 0, 1);
+    assertRead(reads.get(1), 100, 50, 2, 2);
+    // bigger than max read size, read alone
+    assertRead(reads.get(2), 150, 500, 3, 3);
+  }
+
+  @Test public void testGetColumnIndexes() {
+    assertArrayEquals(new int[] { 0, 1, 2, 5, 7, 8 },
+        ColumnChunkReadPlanner.getColumnIndexes(new int[][] { { 0, 2 }, { 5, 5 }, { 7, 8 } }));
+    assertEquals(0, ColumnChunkReadPlanner.getColumnIndexes(new int[0][]).length);
+  }
+
+  private static void assertRead(ColumnChunkReadPlanner.CoalescedRead read, long offset,
+      int length, int startIndex, int endIndex) {
+    assertEquals(offset, read.getOffset());
+    assertEquals(length, read.getLength());
+    assertEquals(startIndex, read.getStartIndex());
+    assertEquals(endIndex, read.getEndIndex());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.columnar;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.apache.carbondata.core.util.ByteUtil.UnsafeComparer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Test the row ids sorted by RowIdSorter against a stable sort of the row ids by their keys
+ */
+public class RowIdSorterTest {
+
+  private static final int NUM_ROWS = 2000;
+
+  private final Random random = new Random(7);
+
+  private byte[][] generateKeys(int keyLength, int cardinality) {
+    byte[][] keys = new byte[NUM_ROWS][];
+    for (int i = 0; i < NUM_ROWS; i++) {
+      int key = cardinality > 0 ? random.nextInt(cardinality) : random.nextInt();
+      keys[i] = new byte[keyLength];
+      for (int j = keyLength - 1; j >= 0; j--) {
+        keys[i][j] = (byte) key;
+        key >>>= 8;
+      }
+    }
+    return keys;
+  }
+
+  private void assertSorted(final byte[][] keys, boolean isNoDictionary) {
+    final int offset = isNoDictionary ? 2 : 0;
+    Integer[] expected = new Integer[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      expected[i] = i;
+    }
+    Arrays.sort(expected, new Comparator<Integer>() {
+      @Override public int compare(Integer o1, Integer o2) {
+        byte[] key1 = keys[o1];
+        byte[] key2 = keys[o2];
+        return UnsafeComparer.INSTANCE
+            .compareTo(key1, offset, key1.length - offset, key2, offset, key2.length - offset);
+      }
+    });
+    int[] expectedRowIds = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      expectedRowIds[i] = expected[i];
+    }
+    assertArrayEquals(expectedRowIds, RowIdSorter.sort(keys, isNoDictionary));
+  }
+
+  @Test public void testLowCardinalityDictionaryKeys() {
+    assertSorted(generateKeys(1, 50), false);
+    assertSorted(generateKeys(2, 300), false);
+  }
+
+  @Test public void testHighCardinalityDictionaryKeys() {
+    assertSorted(generateKeys(3, 1 << 20), false);
+    // negative as int, must be sorted as unsigned bytes
+    assertSorted(generateKeys(4, 0), false);
+  }
+
+  @Test public void testNoDictionaryKeys() {
+    byte[][] keys = new byte[NUM_ROWS][];
+    for (int i = 0; i < NUM_ROWS; i++) {
+      keys[i] = new byte[2 + random.nextInt(4)];
+      for (int j = 2; j < keys[i].length; j++) {
+        keys[i][j] = (byte) random.nextInt(4);
+      }
+      // the length prefix is not compared
+      keys[i][0] = (byte) random.nextInt();
+    }
+    assertSorted(keys, true);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.compression;
+
+import java.nio.ByteBuffer;
+
+import org.apache.carbondata.core.datastore.ColumnType;
+import org.apache.carbondata.core.datastore.TableSpec;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageDecoder;
+import org.apache.carbondata.core.datastore.page.encoding.DefaultEncodingFactory;
+import org.apache.carbondata.core.datastore.page.encoding.EncodedColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.compress.DirectCompressCodec;
+import org.apache.carbondata.core.datastore.page.statistics.PrimitivePageStatsCollector;
+import org.apache.carbondata.core.memory.CarbonUnsafe;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.format.CompressionCodec;
+import org.apache.carbondata.format.DataChunk2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompressorFactoryTest {
+
+  private static final String[] COMPRESSORS = { "snappy", "zstd", "lz4" };
+
+  @Test public void testGetCompressorByName() {
+    for (String name : COMPRESSORS) {
+      assertEquals(name, CompressorFactory.getInstance().getCompressor(name).getName());
+      assertEquals(name,
+          CompressorFactory.getInstance().getCompressor(name.toUpperCase()).getName());
+    }
+    assertEquals(CompressionCodec.ZSTD,
+        CompressorFactory.getInstance().getCompressionCodec("zstd"));
+    assertTrue(!CompressorFactory.getInstance().isSupported("gzip"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUnsupportedCompressor() {
+    CompressorFactory.getInstance().getCompressor("gzip");
+  }
+
+  @Test public void testRoundTrip() {
+    byte[] bytes = new byte[1000];
+    int[] ints = new int[1000];
+    double[] doubles = new double[1000];
+    for (int i = 0; i < 1000; i++) {
+      bytes[i] = (byte) (i % 7);
+      ints[i] = i * 31;
+      doubles[i] = i / 3.0;
+    }
+    for (String name : COMPRESSORS) {
+      Compressor compressor = CompressorFactory.getInstance().getCompressor(name);
+      assertArrayEquals(bytes, compressor.unCompressByte(compressor.compressByte(bytes)));
+      assertArrayEquals(ints, compressor.unCompressInt(compressor.compressInt(ints)));
+      assertArrayEquals(doubles, compressor.unCompressDouble(compressor.compressDouble(doubles)),
+          0);
+
+      // uncompress from the middle of a larger buffer, as the chunk readers do
+      byte[] compressed = compressor.compressInt(ints);
+      byte[] padded = new byte[compressed.length + 10];
+      System.arraycopy(compressed, 0, padded, 5, compressed.length);
+      assertArrayEquals(ints, compressor.unCompressInt(padded, 5, compressed.length));
+    }
+  }
+
+  @Test public void testRawUncompressToMemory() throws Exception {
+    long[] longs = new long[500];
+    for (int i = 0; i < longs.length; i++) {
+      longs[i] = i * 1000L;
+    }
+    for (String name : COMPRESSORS) {
+      Compressor compressor = CompressorFactory.getInstance().getCompressor(name);
+      byte[] compressed = compressor.compressLong(longs);
+      ByteBuffer heapInput = ByteBuffer.wrap(compressed);
+      ByteBuffer directInput = ByteBuffer.allocateDirect(compressed.length);
+      directInput.put(compressed);
+      for (ByteBuffer input : new ByteBuffer[] { heapInput, directInput }) {
+        int length = compressor.unCompressedLength(input, 0, compressed.length);
+        assertEquals(longs.length * 8, length);
+
+        // off-heap output
+        long address = CarbonUnsafe.getUnsafe().allocateMemory(length);
+        try {
+          assertEquals(length, compressor.rawUncompress(input, 0, compressed.length, null,
+              address));
+          for (int i = 0; i < longs.length; i++) {
+            assertEquals(longs[i], CarbonUnsafe.getUnsafe().getLong(address + i * 8L));
+          }
+        } finally {
+          CarbonUnsafe.getUnsafe().freeMemory(address);
+        }
+
+        // on-heap output
+        long[] output = new long[longs.length];
+        compressor.rawUncompress(input, 0, compressed.length, output,
+            CarbonUnsafe.LONG_ARRAY_OFFSET);
+        assertArrayEquals(longs, output);
+      }
+    }
+  }
+
+  @Test public void testPageRecordsCompressor() throws Exception {
+    TableSpec.ColumnSpec spec =
+        TableSpec.ColumnSpec.newInstance("test", DataTypes.INT, ColumnType.MEASURE);
+    for (String name : COMPRESSORS) {
+      ColumnPage page = ColumnPage.newPage(spec, DataTypes.INT, 100);
+      page.setStatsCollector(PrimitivePageStatsCollector.newInstance(DataTypes.INT));
+      page.setColumnCompressorName(name);
+      for (int i = 0; i < 100; i++) {
+        page.putData(i, i * 3);
+      }
+      EncodedColumnPage encodedPage =
+          new DirectCompressCodec(DataTypes.INT).createEncoder(null).encode(page);
+      DataChunk2 pageMetadata = encodedPage.getPageMetadata();
+      assertEquals(CompressorFactory.getInstance().getCompressionCodec(name),
+          pageMetadata.getChunk_meta().getCompression_codec());
+
+      ColumnPageDecoder decoder = DefaultEncodingFactory.getInstance()
+          .createDecoder(pageMetadata.getEncoders(), pageMetadata.getEncoder_meta());
+      ByteBuffer encodedData = encodedPage.getEncodedData();
+      ColumnPage decodedPage = decoder.decode(encodedData, 0, encodedData.remaining());
+      for (int i = 0; i < 100; i++) {
+        assertEquals(i * 3, decodedPage.getLong(i));
+      }
+      decodedPage.freeMemory();
+
+      // the same page read from a direct buffer, as with memory mapped files
+      ByteBuffer directData = ByteBuffer.allocateDirect(encodedData.remaining() + 8);
+      directData.position(8);
+      directData.put(encodedData.duplicate());
+      decodedPage = decoder.decode(directData, 8, encodedData.remaining());
+      for (int i = 0; i < 100; i++) {
+        assertEquals(i * 3, decodedPage.getLong(i));
+      }
+      decodedPage.freeMemory();
+      page.freeMemory();
+    }
+  }
+}
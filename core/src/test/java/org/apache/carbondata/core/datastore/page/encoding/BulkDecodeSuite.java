@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.page.encoding;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+import org.apache.carbondata.core.datastore.TableSpec;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.statistics.PrimitivePageStatsCollector;
+import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.scan.result.vector.ColumnVectorInfo;
+import org.apache.carbondata.core.scan.result.vector.MeasureDataVectorProcessor;
+import org.apache.carbondata.core.scan.result.vector.impl.CarbonColumnVectorImpl;
+import org.apache.carbondata.format.DataChunk2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the bulk decoding of the adaptive codecs against decoding row by row
+ */
+public class BulkDecodeSuite {
+
+  private static final int[] FILTERED_ROW_IDS = new int[] { 0, 2, 3, 7, 9 };
+
+  private ColumnPage encodeAndDecode(DataType dataType, Object[] values)
+      throws IOException, MemoryException {
+    TableSpec.MeasureSpec spec = TableSpec.MeasureSpec.newInstance("test", dataType);
+    ColumnPage page = ColumnPage.newPage(spec, dataType, values.length);
+    page.setStatsCollector(PrimitivePageStatsCollector.newInstance(dataType));
+    for (int i = 0; i < values.length; i++) {
+      page.putData(i, values[i]);
+    }
+    EncodedColumnPage encodedPage =
+        DefaultEncodingFactory.getInstance().createEncoder(spec, page).encode(page);
+    DataChunk2 pageMetadata = encodedPage.getPageMetadata();
+    ColumnPageDecoder decoder = DefaultEncodingFactory.getInstance()
+        .createDecoder(pageMetadata.getEncoders(), pageMetadata.getEncoder_meta());
+    ColumnPage decodedPage = decoder.decode(encodedPage.getEncodedData(), 0,
+        pageMetadata.getData_page_length());
+    decodedPage.setNullBits(page.getNullBits());
+    return decodedPage;
+  }
+
+  private void assertLongs(Object[] values) throws IOException, MemoryException {
+    ColumnPage page = encodeAndDecode(DataTypes.LONG, values);
+    assertTrue(page.isBulkDecodeSupported());
+    long[] output = new long[values.length];
+    page.getLongs(null, 0, values.length, output);
+    for (int i = 0; i < values.length; i++) {
+      if (null != values[i]) {
+        assertEquals(values[i], output[i]);
+      }
+    }
+    page.getLongs(FILTERED_ROW_IDS, 1, FILTERED_ROW_IDS.length - 1, output);
+    for (int i = 1; i < FILTERED_ROW_IDS.length; i++) {
+      assertEquals(page.getLong(FILTERED_ROW_IDS[i]), output[i - 1]);
+    }
+
+    CarbonColumnVectorImpl vector = new CarbonColumnVectorImpl(values.length, DataTypes.LONG);
+    ColumnVectorInfo info = new ColumnVectorInfo();
+    info.vector = vector;
+    info.size = values.length;
+    new MeasureDataVectorProcessor.LongMeasureVectorFiller().fillMeasureVector(page, info);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(values[i], vector.getData(i));
+    }
+  }
+
+  private void assertDoubles(Object[] values) throws IOException, MemoryException {
+    ColumnPage page = encodeAndDecode(DataTypes.DOUBLE, values);
+    assertTrue(page.isBulkDecodeSupported());
+    long[] buffer = new long[values.length];
+    double[] output = new double[values.length];
+    page.getDoubles(null, 0, values.length, buffer, output);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(page.getDouble(i), output[i], 0);
+    }
+
+    CarbonColumnVectorImpl vector = new CarbonColumnVectorImpl(values.length, DataTypes.DOUBLE);
+    ColumnVectorInfo info = new ColumnVectorInfo();
+    info.vector = vector;
+    info.size = FILTERED_ROW_IDS.length;
+    new MeasureDataVectorProcessor.DefaultMeasureVectorFiller()
+        .fillMeasureVector(FILTERED_ROW_IDS, page, info);
+    for (int i = 0; i < FILTERED_ROW_IDS.length; i++) {
+      Object expected = values[FILTERED_ROW_IDS[i]];
+      if (null == expected) {
+        assertNull(vector.getData(i));
+      } else {
+        assertEquals((Double) expected, (Double) vector.getData(i), 0.0000001);
+      }
+    }
+  }
+
+  @Test public void testAdaptiveIntegral() throws IOException, MemoryException {
+    assertLongs(new Object[] { 1L, 5L, -3L, 100L, 7L, 0L, 9L, 127L, -128L, 4L });
+    assertLongs(new Object[] { 1L, 50000L, -3L, 100L, null, 0L, 9L, 127L, -30000L, 4L });
+  }
+
+  @Test public void testAdaptiveDeltaIntegral() throws IOException, MemoryException {
+    assertLongs(new Object[] { 1000000000L, 1000000005L, 1000000003L, 1000000100L, 1000000007L,
+        1000000000L, null, 1000000127L, 1000000200L, 1000000004L });
+  }
+
+  @Test public void testAdaptiveFloating() throws IOException, MemoryException {
+    assertDoubles(new Object[] { 1.5, 2.25, -3.75, 100.5, 7.0, 0.25, null, 12.5, -8.5, 4.75 });
+  }
+
+  @Test public void testAdaptiveDeltaFloating() throws IOException, MemoryException {
+    // no null value here, a null is collected as 0 in the stats and the delta no longer fits
+    assertDoubles(new Object[] { 100000000.5, 100000001.25, 100000002.75, 100000000.25,
+        100000003.0, 100000000.5, 100000004.25, 100000003.5, 100000005.5, 100000001.75 });
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.carbondata.core.datastore.page.encoding;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.apache.carbondata.core.datastore.ColumnType;
 import org.apache.carbondata.core.datastore.TableSpec;
@@ -133,7 +134,7 @@ public class RLECodecSuite {
         TableSpec.ColumnSpec.newInstance("test", DataTypes.BYTE, ColumnType.MEASURE),
         DataTypes.BYTE, expectedDecodedBytes.length, null);
     ColumnPageDecoder decoder = codec.createDecoder(meta);
-    ColumnPage page = decoder.decode(inputBytes, 0, inputBytes.length);
+    ColumnPage page = decoder.decode(ByteBuffer.wrap(inputBytes), 0, inputBytes.length);
     byte[] decoded = page.getBytePage();
     assertEquals(expectedDecodedBytes.length, decoded.length);
     for (int i = 0; i < decoded.length; i++) {
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.datastore.page.encoding.dimension.localdict;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.ColumnType;
+import org.apache.carbondata.core.datastore.TableSpec;
+import org.apache.carbondata.core.datastore.chunk.impl.LocalDictDimensionColumnPage;
+import org.apache.carbondata.core.datastore.compression.Compressor;
+import org.apache.carbondata.core.datastore.compression.CompressorFactory;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.EncodedColumnPage;
+import org.apache.carbondata.core.datastore.page.statistics.CardinalityStatsResult;
+import org.apache.carbondata.core.datastore.page.statistics.LVStringStatsCollector;
+import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class LocalDictDimensionCodecSuite {
+
+  private static final Charset CHARSET = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+
+  private static final String[] VALUES = { "", "a", "bb", "ccc", "dddd" };
+
+  private static final int NUMBER_OF_ROWS = 100;
+
+  private static String getValue(int rowId) {
+    return VALUES[(rowId * 7) % VALUES.length];
+  }
+
+  private static byte[] toLV(String value) {
+    byte[] bytes = value.getBytes(CHARSET);
+    ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 2);
+    buffer.putShort((short) bytes.length);
+    buffer.put(bytes);
+    return buffer.array();
+  }
+
+  private static ColumnPage createPage(LVStringStatsCollector statsCollector)
+      throws MemoryException {
+    TableSpec.ColumnSpec spec =
+        TableSpec.ColumnSpec.newInstance("test", DataTypes.STRING, ColumnType.PLAIN_VALUE);
+    ColumnPage page = ColumnPage.newPage(spec, DataTypes.STRING, NUMBER_OF_ROWS);
+    page.setStatsCollector(statsCollector);
+    page.setColumnCompressorName(CompressorFactory.getInstance().getCompressor().getName());
+    for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+      page.putData(i, toLV(getValue(i)));
+    }
+    return page;
+  }
+
+  @Test public void testCardinality() throws MemoryException {
+    ColumnPage page = createPage(LVStringStatsCollector.newInstance(10));
+    assertEquals(VALUES.length, ((CardinalityStatsResult) page.getStatistics()).getCardinality());
+    page = createPage(LVStringStatsCollector.newInstance(VALUES.length - 1));
+    assertEquals(-1, ((CardinalityStatsResult) page.getStatistics()).getCardinality());
+    page = createPage(LVStringStatsCollector.newInstance());
+    assertEquals(-1, ((CardinalityStatsResult) page.getStatistics()).getCardinality());
+  }
+
+  @Test public void testEncodeAndDecode() throws IOException, MemoryException {
+    ColumnPage page = createPage(LVStringStatsCollector.newInstance(10));
+    Compressor compressor = CompressorFactory.getInstance().getCompressor();
+    EncodedColumnPage encodedPage =
+        new LocalDictDimensionCodec(compressor).createEncoder(null).encode(page);
+    byte[] data = compressor.unCompressByte(encodedPage.getEncodedData().array(), 0,
+        encodedPage.getPageMetadata().getData_page_length());
+    LocalDictDimensionColumnPage decodedPage =
+        LocalDictDimensionCodec.decode(data, NUMBER_OF_ROWS);
+    for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+      assertEquals(getValue(i), new String(decodedPage.getChunkData(i), CHARSET));
+      assertEquals(0, decodedPage.compareTo(i, getValue(i).getBytes(CHARSET)));
+    }
+
+    byte[][] filterValues = { "a".getBytes(CHARSET), "ccc".getBytes(CHARSET) };
+    BitSet candidateRows = new BitSet();
+    candidateRows.set(0, NUMBER_OF_ROWS / 2);
+    BitSet allRows = decodedPage.getRowsMatchingFilter(filterValues, null);
+    BitSet filteredRows = decodedPage.getRowsMatchingFilter(filterValues, candidateRows);
+    for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+      boolean isMatching = getValue(i).equals("a") || getValue(i).equals("ccc");
+      assertEquals(isMatching, allRows.get(i));
+      assertEquals(isMatching && i < NUMBER_OF_ROWS / 2, filteredRows.get(i));
+    }
+    decodedPage.freeMemory();
+  }
+
+  @Test public void testPackIds() {
+    Random random = new Random(0);
+    for (int bitWidth = 1; bitWidth <= 17; bitWidth++) {
+      int[] ids = new int[1 + random.nextInt(100)];
+      for (int i = 0; i < ids.length; i++) {
+        ids[i] = random.nextInt(1 << bitWidth);
+      }
+      byte[] packed = LocalDictDimensionCodec.packIds(ids, bitWidth);
+      assertEquals((ids.length * bitWidth + 7) / 8, packed.length);
+      assertArrayEquals(ids, LocalDictDimensionCodec.unpackIds(packed, 0, ids.length, bitWidth));
+    }
+    assertEquals(1, LocalDictDimensionCodec.getBitWidth(1));
+    assertEquals(1, LocalDictDimensionCodec.getBitWidth(2));
+    assertEquals(2, LocalDictDimensionCodec.getBitWidth(3));
+    assertEquals(16, LocalDictDimensionCodec.getBitWidth(65536));
+  }
+}
@@ -1,10 +1,15 @@
 package org.apache.carbondata.core.indexstore.blockletindex;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.BitSet;
 
 import org.apache.carbondata.core.cache.dictionary.AbstractDictionaryCacheTest;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.indexstore.row.DataMapRow;
+import org.apache.carbondata.core.indexstore.row.DataMapRowImpl;
+import org.apache.carbondata.core.indexstore.schema.CarbonRowSchema;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
 import org.apache.carbondata.core.metadata.schema.table.column.CarbonImplicitDimension;
 import org.apache.carbondata.core.scan.filter.executer.FilterExecuter;
 import org.apache.carbondata.core.scan.filter.executer.ImplicitIncludeFilterExecutorImpl;
@@ -45,15 +50,25 @@ public class TestBlockletDataMap extends AbstractDictionaryCacheTest {
     BlockletDataMap blockletDataMap = new BlockletDataMap();
     Method method = BlockletDataMap.class
         .getDeclaredMethod("addBlockBasedOnMinMaxValue", FilterExecuter.class, byte[][].class,
-            byte[][].class, String.class, int.class);
+            byte[][].class, DataMapRow.class, int.class);
     method.setAccessible(true);
+    // the file path is read from the row of the blocklet
+    Field filePathIndexField = BlockletDataMap.class.getDeclaredField("FILE_PATH_INDEX");
+    filePathIndexField.setAccessible(true);
+    int filePathIndex = filePathIndexField.getInt(null);
+    CarbonRowSchema[] schemas = new CarbonRowSchema[filePathIndex + 1];
+    for (int i = 0; i < schemas.length; i++) {
+      schemas[i] = new CarbonRowSchema.VariableCarbonRowSchema(DataTypes.BYTE_ARRAY);
+    }
+    DataMapRow row = new DataMapRowImpl(schemas);
+    row.setByteArray(
+        "/opt/store/default/carbon_table/Fact/Part0/Segment_0/part-0-0_batchno0-0-1514989110586.carbondata"
+            .getBytes(CarbonCommonConstants.DEFAULT_CHARSET_CLASS), filePathIndex);
 
     byte[][] minValue = { ByteUtil.toBytes("sfds") };
     byte[][] maxValue = { ByteUtil.toBytes("resa") };
     Object result = method
-        .invoke(blockletDataMap, implicitIncludeFilterExecutor, minValue, maxValue,
-            "/opt/store/default/carbon_table/Fact/Part0/Segment_0/part-0-0_batchno0-0-1514989110586.carbondata",
-            0);
+        .invoke(blockletDataMap, implicitIncludeFilterExecutor, minValue, maxValue, row, 0);
     assert ((boolean) result);
   }
 }
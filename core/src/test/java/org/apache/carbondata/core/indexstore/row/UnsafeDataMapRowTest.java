@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.carbondata.core.indexstore.row;
+
+import org.apache.carbondata.core.indexstore.UnsafeMemoryDMStore;
+import org.apache.carbondata.core.indexstore.schema.CarbonRowSchema;
+import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class UnsafeDataMapRowTest {
+
+  private UnsafeMemoryDMStore store;
+
+  private CarbonRowSchema[] schemas;
+
+  @Before public void setUp() throws MemoryException {
+    CarbonRowSchema[] minMaxSchemas = new CarbonRowSchema[] {
+        new CarbonRowSchema.FixedCarbonRowSchema(DataTypes.BYTE_ARRAY, 2),
+        new CarbonRowSchema.VariableCarbonRowSchema(DataTypes.BYTE_ARRAY) };
+    schemas = new CarbonRowSchema[] {
+        new CarbonRowSchema.FixedCarbonRowSchema(DataTypes.INT),
+        new CarbonRowSchema.StructCarbonRowSchema(DataTypes.createDefaultStructType(),
+            minMaxSchemas),
+        new CarbonRowSchema.FixedCarbonRowSchema(DataTypes.SHORT) };
+    store = new UnsafeMemoryDMStore(schemas);
+    store.addIndexRowToUnsafe(createRow(minMaxSchemas, 1, new byte[] { 1, 2 }, "abc", (short) 7));
+    store.addIndexRowToUnsafe(createRow(minMaxSchemas, 2, new byte[] { 3, 4 }, "xyz", (short) 8));
+    store.addIndexRowToUnsafe(createRow(minMaxSchemas, 3, new byte[] { 5, 6 }, "lm", (short) 9));
+    store.finishWriting();
+  }
+
+  @After public void tearDown() {
+    store.freeMemory();
+  }
+
+  private DataMapRow createRow(CarbonRowSchema[] minMaxSchemas, int id, byte[] fixed,
+      String variable, short blockletId) {
+    DataMapRow row = new DataMapRowImpl(schemas);
+    row.setInt(id, 0);
+    DataMapRow struct = new DataMapRowImpl(minMaxSchemas);
+    struct.setByteArray(fixed, 0);
+    struct.setByteArray(variable.getBytes(), 1);
+    row.setRow(struct, 1);
+    row.setShort(blockletId, 2);
+    return row;
+  }
+
+  @Test public void testGetStructByteArraysReusesHolder() {
+    UnsafeDataMapRow row = store.getUnsafeRow(0);
+    byte[][] holder = row.getStructByteArrays(1, null);
+    assertArrayEquals(new byte[] { 1, 2 }, holder[0]);
+    assertArrayEquals("abc".getBytes(), holder[1]);
+    byte[] fixed = holder[0];
+    byte[] variable = holder[1];
+
+    store.getUnsafeRow(1, row);
+    byte[][] next = row.getStructByteArrays(1, holder);
+    assertSame(holder, next);
+    assertSame(fixed, next[0]);
+    assertSame(variable, next[1]);
+    assertArrayEquals(new byte[] { 3, 4 }, next[0]);
+    assertArrayEquals("xyz".getBytes(), next[1]);
+    assertEquals(8, row.getShort(2));
+
+    store.getUnsafeRow(2, row);
+    next = row.getStructByteArrays(1, holder);
+    assertArrayEquals(new byte[] { 5, 6 }, next[0]);
+    assertArrayEquals("lm".getBytes(), next[1]);
+    assertEquals(3, row.getInt(0));
+    assertEquals(9, row.getShort(2));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.carbondata.core.scan.executor.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueryScanSchedulerTest {
+
+  @Test public void testScanTaskWaitingForIOTaskCompletes() throws Exception {
+    final QueryScanScheduler.QueryExecutorService executorService =
+        QueryScanScheduler.getInstance().newQueryExecutorService("query1");
+    List<Future<Integer>> futures = new ArrayList<>();
+    for (int i = 0; i < 32; i++) {
+      final int value = i;
+      futures.add(executorService.submit(new Callable<Integer>() {
+        @Override public Integer call() throws Exception {
+          return executorService.submitIO(new Callable<Integer>() {
+            @Override public Integer call() {
+              return value;
+            }
+          }).get();
+        }
+      }));
+    }
+    for (int i = 0; i < futures.size(); i++) {
+      assertEquals(i, futures.get(i).get(10, TimeUnit.SECONDS).intValue());
+    }
+    executorService.shutdown();
+    assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test public void testShutdownNowCancelsOnlyOwnTasks() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicInteger executed = new AtomicInteger();
+    QueryScanScheduler.QueryExecutorService query1 =
+        QueryScanScheduler.getInstance().newQueryExecutorService("query1");
+    QueryScanScheduler.QueryExecutorService query2 =
+        QueryScanScheduler.getInstance().newQueryExecutorService("query2");
+    List<Future<?>> query1Futures = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      query1Futures.add(query1.submit(new Runnable() {
+        @Override public void run() {
+          try {
+            latch.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }));
+    }
+    query1.shutdownNow();
+    Future<?> query2Future = query2.submit(new Runnable() {
+      @Override public void run() {
+        executed.incrementAndGet();
+      }
+    });
+    query2Future.get(10, TimeUnit.SECONDS);
+    assertEquals(1, executed.get());
+    assertTrue(query1.awaitTermination(10, TimeUnit.SECONDS));
+    for (Future<?> future : query1Futures) {
+      assertTrue(future.isDone());
+    }
+    latch.countDown();
+    query2.shutdown();
+  }
+}
@@ -215,6 +215,11 @@ public class QueryUtilTest extends TestCase {
     assertArrayEquals(expectedValue, actualValue);
   }
 
+  @Test public void testIsVectorDictionaryColumn() {
+    assertTrue(QueryUtil.isVectorDictionaryColumn(segmentProperties.getDimensions().get(0)));
+    assertFalse(QueryUtil.isVectorDictionaryColumn(segmentProperties.getDimensions().get(1)));
+  }
+
   @AfterClass public void tearDown() {
     segmentProperties = null;
   }
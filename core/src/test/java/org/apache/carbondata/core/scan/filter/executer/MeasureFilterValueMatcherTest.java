@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.scan.filter.executer;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+
+import org.apache.carbondata.core.datastore.TableSpec;
+import org.apache.carbondata.core.datastore.compression.CompressorFactory;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageDecoder;
+import org.apache.carbondata.core.datastore.page.encoding.DefaultEncodingFactory;
+import org.apache.carbondata.core.datastore.page.encoding.EncodedColumnPage;
+import org.apache.carbondata.core.datastore.page.statistics.PrimitivePageStatsCollector;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonMeasure;
+import org.apache.carbondata.core.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.format.DataChunk2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MeasureFilterValueMatcherTest {
+
+  @Test public void testLongValues() throws Exception {
+    ColumnPage page = newPage(DataTypes.LONG, 10L, null, 1L << 40, -3L, 10L);
+    MeasureFilterValueMatcher matcher = MeasureFilterValueMatcher
+        .newInstance(new Object[] { 10L, 1L << 40, 7L }, DataTypes.LONG, null);
+    assertEquals(bits(0, 2, 4), matcher.getMatchedRows(page, 5));
+    page.freeMemory();
+  }
+
+  @Test public void testIntValuesWithNullKey() throws Exception {
+    ColumnPage page = newPage(DataTypes.INT, 1, null, 2, 3, null);
+    MeasureFilterValueMatcher matcher = MeasureFilterValueMatcher
+        .newInstance(new Object[] { 3, null }, DataTypes.INT, null);
+    assertEquals(bits(1, 3, 4), matcher.getMatchedRows(page, 5));
+    page.freeMemory();
+  }
+
+  @Test public void testDoubleValues() throws Exception {
+    ColumnPage page = newPage(DataTypes.DOUBLE, 0.5d, -3.0d, 0.0d, 1.75d, 2.25d);
+    MeasureFilterValueMatcher matcher = MeasureFilterValueMatcher
+        .newInstance(new Object[] { 0.0d, Double.NaN, 2.25d }, DataTypes.DOUBLE, null);
+    assertEquals(bits(2, 4), matcher.getMatchedRows(page, 5));
+    page.freeMemory();
+  }
+
+  @Test public void testDecimalValues() throws Exception {
+    DataType decimalType = DataTypes.createDecimalType(10, 2);
+    ColumnSchema columnSchema = new ColumnSchema();
+    columnSchema.setColumnName("msr");
+    columnSchema.setDataType(decimalType);
+    columnSchema.setPrecision(10);
+    columnSchema.setScale(2);
+    CarbonMeasure measure = new CarbonMeasure(columnSchema, 0);
+    ColumnPage page = newPage(decimalType, new BigDecimal("1.50"), new BigDecimal("0.00"),
+        null, new BigDecimal("2.25"));
+    MeasureFilterValueMatcher matcher = MeasureFilterValueMatcher.newInstance(
+        new Object[] { new BigDecimal("1.5"), BigDecimal.ZERO }, decimalType, measure);
+    assertEquals(bits(0, 1), matcher.getMatchedRows(page, 4));
+    page.freeMemory();
+  }
+
+  @Test public void testCandidateRows() throws Exception {
+    ColumnPage page = newPage(DataTypes.LONG, 5L, 5L, null, 5L, 6L);
+    MeasureFilterValueMatcher matcher = MeasureFilterValueMatcher
+        .newInstance(new Object[] { 5L, null }, DataTypes.LONG, null);
+    // null rows are matched even if they are not candidates
+    assertEquals(bits(1, 2, 3), matcher.getMatchedRows(page, 5, bits(1, 3, 4)));
+    page.freeMemory();
+  }
+
+  @Test public void testUnsupportedType() {
+    assertNull(MeasureFilterValueMatcher
+        .newInstance(new Object[] { true }, DataTypes.BOOLEAN, null));
+  }
+
+  /**
+   * Create the page the way the scan gets it, encoded and then decoded
+   */
+  private static ColumnPage newPage(DataType dataType, Object... values) throws Exception {
+    TableSpec.MeasureSpec spec = TableSpec.MeasureSpec.newInstance("msr", dataType);
+    ColumnPage page;
+    if (DataTypes.isDecimal(dataType)) {
+      page = ColumnPage.newDecimalPage(spec, dataType, values.length);
+    } else {
+      page = ColumnPage.newPage(spec, dataType, values.length);
+    }
+    page.setStatsCollector(PrimitivePageStatsCollector.newInstance(dataType));
+    page.setColumnCompressorName(CompressorFactory.getInstance().getCompressor().getName());
+    for (int i = 0; i < values.length; i++) {
+      page.putData(i, values[i]);
+    }
+    EncodedColumnPage encodedPage =
+        DefaultEncodingFactory.getInstance().createEncoder(spec, page).encode(page);
+    DataChunk2 pageMetadata = encodedPage.getPageMetadata();
+    ColumnPageDecoder decoder = DefaultEncodingFactory.getInstance()
+        .createDecoder(pageMetadata.getEncoders(), pageMetadata.getEncoder_meta());
+    ColumnPage decodedPage = decoder.decode(encodedPage.getEncodedData(), 0,
+        pageMetadata.getData_page_length());
+    decodedPage.setNullBits(page.getNullBits());
+    page.freeMemory();
+    return decodedPage;
+  }
+
+  private static BitSet bits(int... rows) {
+    BitSet bitSet = new BitSet();
+    for (int row : rows) {
+      bitSet.set(row);
+    }
+    return bitSet;
+  }
+}
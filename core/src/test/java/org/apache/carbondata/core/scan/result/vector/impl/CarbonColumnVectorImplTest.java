@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.scan.result.vector.impl;
+
+import java.util.BitSet;
+
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CarbonColumnVectorImplTest {
+
+  @Test public void testPutArrays() {
+    CarbonColumnVectorImpl intVector = new CarbonColumnVectorImpl(4, DataTypes.INT);
+    intVector.putInt(0, 7);
+    intVector.putInts(1, 3, new int[] { 1, 2, 3, 4 }, 1);
+    assertEquals(7, intVector.getData(0));
+    assertEquals(2, intVector.getData(1));
+    assertEquals(4, intVector.getData(3));
+
+    CarbonColumnVectorImpl shortVector = new CarbonColumnVectorImpl(2, DataTypes.SHORT);
+    shortVector.putShorts(0, 2, new short[] { 5, 6 }, 0);
+    assertEquals((short) 6, shortVector.getData(1));
+
+    CarbonColumnVectorImpl longVector = new CarbonColumnVectorImpl(2, DataTypes.LONG);
+    longVector.putLongs(0, 2, new long[] { Long.MIN_VALUE, Long.MAX_VALUE }, 0);
+    assertEquals(Long.MAX_VALUE, longVector.getData(1));
+
+    CarbonColumnVectorImpl doubleVector = new CarbonColumnVectorImpl(2, DataTypes.DOUBLE);
+    doubleVector.putDoubles(1, 1, new double[] { 1.5, 2.5 }, 1);
+    assertEquals(2.5, doubleVector.getData(1));
+  }
+
+  @Test public void testPutByteArrays() {
+    CarbonColumnVectorImpl vector = new CarbonColumnVectorImpl(3, DataTypes.STRING);
+    byte[] data = new byte[] { 'a', 'b', 'c', 'd', 'e' };
+    vector.putBytes(1, 2, new int[] { 0, 1, 3 }, new int[] { 1, 2, 2 }, 1, data);
+    assertNull(vector.getData(0));
+    assertArrayEquals(new byte[] { 'b', 'c' }, (byte[]) vector.getData(1));
+    assertArrayEquals(new byte[] { 'd', 'e' }, (byte[]) vector.getData(2));
+  }
+
+  @Test public void testPutNullBits() {
+    CarbonColumnVectorImpl vector = new CarbonColumnVectorImpl(4, DataTypes.LONG);
+    vector.putLongs(0, 4, new long[] { 1, 2, 3, 4 }, 0);
+    BitSet nullBits = new BitSet();
+    nullBits.set(2);
+    nullBits.set(4);
+    nullBits.set(7);
+    // rows 1 to 3 take the bits 2 to 4
+    vector.putNulls(1, 3, nullBits, 2);
+    assertEquals(1L, vector.getData(0));
+    assertNull(vector.getData(1));
+    assertEquals(3L, vector.getData(2));
+    assertNull(vector.getData(3));
+  }
+
+  @Test public void testDictionary() {
+    CarbonColumnVectorImpl vector = new CarbonColumnVectorImpl(3, DataTypes.INT);
+    assertFalse(vector.hasDictionary());
+    CarbonDictionary dictionary = new CarbonDictionary() {
+      private final byte[][] values = { null, { 'a' }, { 'b' } };
+
+      @Override public int getDictionarySize() {
+        return values.length;
+      }
+
+      @Override public byte[] getDictionaryValue(int dictionaryId) {
+        return values[dictionaryId];
+      }
+    };
+    vector.setDictionary(dictionary);
+    vector.putInts(0, 3, new int[] { 2, 1, 2 }, 0);
+    assertTrue(vector.hasDictionary());
+    assertSame(dictionary, vector.getDictionary());
+    // the ids are copied, the vector keeps its own
+    int[] ids = new int[] { 9, 9, 9 };
+    vector.getDictionaryIds(1, 2, ids, 1);
+    assertArrayEquals(new int[] { 9, 1, 2 }, ids);
+    ids[1] = 5;
+    assertEquals(1, vector.getData(1));
+    assertArrayEquals(new byte[] { 'b' }, vector.getDictionary().getDictionaryValue(ids[2]));
+    vector.setDictionary(null);
+    assertFalse(vector.hasDictionary());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testDictionaryOnNonIntVector() {
+    new CarbonColumnVectorImpl(2, DataTypes.STRING).setDictionary(new CarbonDictionary() {
+      @Override public int getDictionarySize() {
+        return 0;
+      }
+
+      @Override public byte[] getDictionaryValue(int dictionaryId) {
+        return null;
+      }
+    });
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.statusmanager;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TableStatusCacheTest {
+
+  // read long enough after the modification for the details to be cached
+  private static final long READ_TIME = 100L + TableStatusCache.MODIFIED_TIME_GUARD_MILLIS;
+
+  private String tableStatusPath;
+
+  @Before
+  public void setUp() throws IOException {
+    File file = File.createTempFile("tablestatus", null);
+    file.deleteOnExit();
+    tableStatusPath = file.getAbsolutePath();
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_CACHE, "true");
+  }
+
+  @After
+  public void tearDown() {
+    TableStatusCache.getInstance().invalidate(tableStatusPath);
+    new File(tableStatusPath).delete();
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_CACHE,
+            CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_CACHE_DEFAULT);
+  }
+
+  private static LoadMetadataDetails newDetails(String loadName, SegmentStatus status) {
+    LoadMetadataDetails details = new LoadMetadataDetails();
+    details.setLoadName(loadName);
+    details.setSegmentStatus(status);
+    return details;
+  }
+
+  @Test
+  public void testCacheReturnsCopies() {
+    TableStatusCache cache = TableStatusCache.getInstance();
+    LoadMetadataDetails[] details = { newDetails("0", SegmentStatus.SUCCESS) };
+    cache.put(tableStatusPath, 100L, 10L, READ_TIME, details);
+    details[0].setSegmentStatus(SegmentStatus.MARKED_FOR_DELETE);
+
+    LoadMetadataDetails[] first = cache.get(tableStatusPath, 100L, 10L);
+    assertEquals(SegmentStatus.SUCCESS, first[0].getSegmentStatus());
+    first[0].setSegmentStatus(SegmentStatus.COMPACTED);
+    LoadMetadataDetails[] second = cache.get(tableStatusPath, 100L, 10L);
+    assertNotSame(first[0], second[0]);
+    assertEquals(SegmentStatus.SUCCESS, second[0].getSegmentStatus());
+  }
+
+  @Test
+  public void testCacheMissWhenFileChanged() {
+    TableStatusCache cache = TableStatusCache.getInstance();
+    cache.put(tableStatusPath, 100L, 10L, READ_TIME,
+        new LoadMetadataDetails[] { newDetails("0", SegmentStatus.SUCCESS) });
+    assertNotNull(cache.get(tableStatusPath, 100L, 10L));
+    assertNull(cache.get(tableStatusPath, 101L, 10L));
+    assertNull(cache.get(tableStatusPath, 100L, 11L));
+    cache.invalidate(tableStatusPath);
+    assertNull(cache.get(tableStatusPath, 100L, 10L));
+  }
+
+  @Test
+  public void testNoCacheForRecentlyModifiedFile() {
+    TableStatusCache cache = TableStatusCache.getInstance();
+    cache.put(tableStatusPath, 100L, 10L, READ_TIME,
+        new LoadMetadataDetails[] { newDetails("0", SegmentStatus.SUCCESS) });
+    // the file may be rewritten in the same second without changing its modified time
+    cache.put(tableStatusPath, 100L, 10L, READ_TIME - 1,
+        new LoadMetadataDetails[] { newDetails("1", SegmentStatus.SUCCESS) });
+    assertNull(cache.get(tableStatusPath, 100L, 10L));
+  }
+
+  @Test
+  public void testReadFileRewrittenWithSameTimeAndSize() throws IOException {
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath,
+        new LoadMetadataDetails[] { newDetails("0", SegmentStatus.SUCCESS) });
+    File file = new File(tableStatusPath);
+    long lastModifiedTime = file.lastModified();
+    assertEquals("0", SegmentStatusManager.readTableStatusFile(tableStatusPath)[0].getLoadName());
+
+    // another process rewrites the file within the resolution of the modified time
+    Charset charset = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+    String content = new String(Files.readAllBytes(file.toPath()), charset);
+    String newContent = content.replace("\"loadName\":\"0\"", "\"loadName\":\"1\"");
+    assertNotEquals(content, newContent);
+    OutputStream stream = new FileOutputStream(file);
+    try {
+      stream.write(newContent.getBytes(charset));
+    } finally {
+      stream.close();
+    }
+    assertTrue(file.setLastModified(lastModifiedTime));
+    assertEquals("1", SegmentStatusManager.readTableStatusFile(tableStatusPath)[0].getLoadName());
+  }
+
+  @Test
+  public void testReadTableStatusAfterWrite() throws IOException {
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath,
+        new LoadMetadataDetails[] { newDetails("0", SegmentStatus.SUCCESS) });
+    // a file modified just before the read is not cached
+    File file = new File(tableStatusPath);
+    assertTrue(file.setLastModified(
+        System.currentTimeMillis() - 2 * TableStatusCache.MODIFIED_TIME_GUARD_MILLIS));
+    LoadMetadataDetails[] details = SegmentStatusManager.readTableStatusFile(tableStatusPath);
+    assertEquals(1, details.length);
+    assertNotNull(TableStatusCache.getInstance()
+        .get(tableStatusPath, file.lastModified(), file.length()));
+    // the cached details are not changed by the caller
+    details[0].setSegmentStatus(SegmentStatus.MARKED_FOR_DELETE);
+    assertEquals(SegmentStatus.SUCCESS,
+        SegmentStatusManager.readTableStatusFile(tableStatusPath)[0].getSegmentStatus());
+
+    // the cache is invalidated when the table status is written
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("0", SegmentStatus.COMPACTED), newDetails("1", SegmentStatus.SUCCESS) });
+    details = SegmentStatusManager.readTableStatusFile(tableStatusPath);
+    assertEquals(2, details.length);
+    assertEquals(SegmentStatus.COMPACTED, details[0].getSegmentStatus());
+    assertEquals("1", details[1].getLoadName());
+  }
+}
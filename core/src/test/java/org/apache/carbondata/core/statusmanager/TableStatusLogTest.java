@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.statusmanager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.metadata.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.core.util.path.CarbonTablePath;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TableStatusLogTest {
+
+  private String tableStatusPath;
+
+  @Before
+  public void setUp() throws IOException {
+    File file = File.createTempFile("tablestatus", null);
+    file.delete();
+    tableStatusPath = file.getAbsolutePath();
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_LOG, "true");
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_TABLE_STATUS_LOG_CHECKPOINT_INTERVAL, "2");
+  }
+
+  @After
+  public void tearDown() {
+    CarbonProperties.getInstance().addProperty(
+        CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_LOG,
+        CarbonCommonConstants.CARBON_ENABLE_TABLE_STATUS_LOG_DEFAULT);
+    CarbonProperties.getInstance().addProperty(
+        CarbonCommonConstants.CARBON_TABLE_STATUS_LOG_CHECKPOINT_INTERVAL,
+        CarbonCommonConstants.CARBON_TABLE_STATUS_LOG_CHECKPOINT_INTERVAL_DEFAULT);
+    TableStatusCache.getInstance().invalidate(tableStatusPath);
+    new File(tableStatusPath).delete();
+    new File(TableStatusLog.getLogPath(tableStatusPath)).delete();
+  }
+
+  private static LoadMetadataDetails newDetails(String loadName, SegmentStatus status) {
+    LoadMetadataDetails details = new LoadMetadataDetails();
+    details.setLoadName(loadName);
+    details.setSegmentStatus(status);
+    return details;
+  }
+
+  private static Set<String> names(String... loadNames) {
+    return new HashSet<>(Arrays.asList(loadNames));
+  }
+
+  private int countLogEntries() throws IOException {
+    String content = new String(
+        Files.readAllBytes(new File(TableStatusLog.getLogPath(tableStatusPath)).toPath()),
+        Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET));
+    // the first line is the digest of the checkpoint
+    return content.split("\n").length - 1;
+  }
+
+  private void assertDetails(String expected) throws IOException {
+    StringBuilder actual = new StringBuilder();
+    for (LoadMetadataDetails details : SegmentStatusManager.readTableStatusFile(tableStatusPath)) {
+      actual.append(details.getLoadName()).append(':')
+          .append(details.getSegmentStatus().getMessage()).append(' ');
+    }
+    assertEquals(expected, actual.toString().trim());
+  }
+
+  @Test
+  public void testAppendAndCheckpoint() throws IOException {
+    File tableStatusFile = new File(tableStatusPath);
+    // the first write is a checkpoint, which starts an empty log
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("0", SegmentStatus.SUCCESS), newDetails("1", SegmentStatus.SUCCESS) },
+        names("0", "1"));
+    long checkpointLength = tableStatusFile.length();
+    assertEquals(0, countLogEntries());
+
+    // a new segment and an updated segment are appended to the log
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("0", SegmentStatus.MARKED_FOR_DELETE), newDetails("1", SegmentStatus.SUCCESS),
+        newDetails("2", SegmentStatus.INSERT_IN_PROGRESS) }, names("0", "2"));
+    assertEquals(1, countLogEntries());
+    assertEquals(checkpointLength, tableStatusFile.length());
+    assertDetails("0:Marked for Delete 1:Success 2:Insert In Progress");
+
+    // a removed segment is appended to the log, an unchanged segment is not written
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("1", SegmentStatus.COMPACTED), newDetails("2", SegmentStatus.SUCCESS) },
+        names("0", "2"));
+    assertEquals(2, countLogEntries());
+    assertEquals(checkpointLength, tableStatusFile.length());
+    assertDetails("1:Success 2:Success");
+
+    // the log reaches the checkpoint interval, so the next write is a checkpoint
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("1", SegmentStatus.SUCCESS), newDetails("2", SegmentStatus.SUCCESS),
+        newDetails("3", SegmentStatus.SUCCESS) }, names("3"));
+    assertEquals(0, countLogEntries());
+    assertDetails("1:Success 2:Success 3:Success");
+  }
+
+  @Test
+  public void testWriteWithoutChangesIsCheckpoint() throws IOException {
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("0", SegmentStatus.SUCCESS) });
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("0", SegmentStatus.SUCCESS), newDetails("1", SegmentStatus.SUCCESS) });
+    assertEquals(0, countLogEntries());
+    assertDetails("0:Success 1:Success");
+  }
+
+  @Test
+  public void testNoLogForTableStatusWithUUID() throws IOException {
+    File directory = new File(tableStatusPath + "_dir");
+    assertTrue(directory.mkdirs());
+    String statusPath = new File(directory,
+        CarbonTablePath.TABLE_STATUS_FILE + CarbonCommonConstants.UNDERSCORE + "uuid")
+        .getAbsolutePath();
+    File logFile = new File(TableStatusLog.getLogPath(statusPath));
+    try {
+      // the file is renamed onto the table status file on commit, a log would be orphaned
+      SegmentStatusManager.writeLoadDetailsIntoFile(statusPath, new LoadMetadataDetails[] {
+          newDetails("0", SegmentStatus.SUCCESS) }, names("0"));
+      SegmentStatusManager.writeLoadDetailsIntoFile(statusPath, new LoadMetadataDetails[] {
+          newDetails("0", SegmentStatus.SUCCESS), newDetails("1", SegmentStatus.SUCCESS) },
+          names("1"));
+      assertFalse(logFile.exists());
+      assertEquals(2, SegmentStatusManager.readTableStatusFile(statusPath).length);
+    } finally {
+      new File(statusPath).delete();
+      logFile.delete();
+      directory.delete();
+    }
+  }
+
+  @Test
+  public void testLastModifiedTimeIncludesLog() throws IOException {
+    File tablePath = File.createTempFile("table", null);
+    tablePath.delete();
+    AbsoluteTableIdentifier identifier =
+        AbsoluteTableIdentifier.from(tablePath.getAbsolutePath(), "db", "table");
+    String statusPath = CarbonTablePath.getTableStatusFilePath(tablePath.getAbsolutePath());
+    File tableStatusFile = new File(statusPath);
+    File logFile = new File(TableStatusLog.getLogPath(statusPath));
+    try {
+      assertTrue(tableStatusFile.getParentFile().mkdirs());
+      assertEquals(0L, SegmentStatusManager.getTableStatusLastModifiedTime(identifier));
+      SegmentStatusManager.writeLoadDetailsIntoFile(statusPath, new LoadMetadataDetails[] {
+          newDetails("0", SegmentStatus.SUCCESS) });
+      long checkpointModifiedTime = System.currentTimeMillis() - 60000L;
+      assertTrue(tableStatusFile.setLastModified(checkpointModifiedTime));
+      // the checkpoint started an empty log
+      assertTrue(logFile.setLastModified(checkpointModifiedTime));
+      assertEquals(tableStatusFile.lastModified(),
+          SegmentStatusManager.getTableStatusLastModifiedTime(identifier));
+
+      // the commit is only appended to the log, the time of the log is returned
+      SegmentStatusManager.writeLoadDetailsIntoFile(statusPath, new LoadMetadataDetails[] {
+          newDetails("0", SegmentStatus.SUCCESS), newDetails("1", SegmentStatus.SUCCESS) },
+          names("1"));
+      assertTrue(logFile.exists());
+      assertEquals(checkpointModifiedTime / 1000, tableStatusFile.lastModified() / 1000);
+      assertEquals(logFile.lastModified(),
+          SegmentStatusManager.getTableStatusLastModifiedTime(identifier));
+      assertTrue(logFile.lastModified() > tableStatusFile.lastModified());
+    } finally {
+      TableStatusCache.getInstance().invalidate(statusPath);
+      logFile.delete();
+      tableStatusFile.delete();
+      tableStatusFile.getParentFile().delete();
+      tablePath.delete();
+    }
+  }
+
+  @Test
+  public void testLogOfOlderCheckpointIsIgnored() throws IOException {
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("0", SegmentStatus.SUCCESS) });
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("0", SegmentStatus.COMPACTED) }, names("0"));
+    File logFile = new File(TableStatusLog.getLogPath(tableStatusPath));
+    File oldLogFile = new File(tableStatusPath + ".old");
+    assertTrue(logFile.renameTo(oldLogFile));
+
+    // a checkpoint written with the same size, then the log of the older checkpoint is back
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("1", SegmentStatus.SUCCESS) });
+    assertTrue(logFile.delete());
+    assertTrue(oldLogFile.renameTo(logFile));
+    assertDetails("1:Success");
+
+    // the next write does not append to the log of the older checkpoint
+    SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, new LoadMetadataDetails[] {
+        newDetails("1", SegmentStatus.SUCCESS), newDetails("2", SegmentStatus.SUCCESS) },
+        names("2"));
+    assertEquals(0, countLogEntries());
+    assertDetails("1:Success 2:Success");
+  }
+}
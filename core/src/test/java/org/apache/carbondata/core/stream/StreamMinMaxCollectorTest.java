@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.stream;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.encoder.Encoding;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonDimension;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonMeasure;
+import org.apache.carbondata.core.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.core.util.DataTypeUtil;
+import org.apache.carbondata.format.BlockletMinMaxIndex;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StreamMinMaxCollectorTest {
+
+  private static CarbonColumn[] columns = new CarbonColumn[] {
+      new CarbonDimension(getSchema("dict", DataTypes.STRING, true, true), 0, 0, -1, -1),
+      new CarbonDimension(getSchema("name", DataTypes.STRING, true, false), 1, -1, -1, -1),
+      new CarbonMeasure(getSchema("id", DataTypes.INT, false, false), 0),
+      new CarbonMeasure(getSchema("price", DataTypes.createDefaultDecimalType(), false, false), 1)
+  };
+
+  private static ColumnSchema getSchema(String name, DataType dataType, boolean isDimension,
+      boolean isDictionary) {
+    ColumnSchema columnSchema = new ColumnSchema();
+    columnSchema.setColumnName(name);
+    columnSchema.setDataType(dataType);
+    columnSchema.setDimensionColumn(isDimension);
+    List<Encoding> encodings = new ArrayList<>();
+    if (isDictionary) {
+      encodings.add(Encoding.DICTIONARY);
+    }
+    columnSchema.setEncodingList(encodings);
+    return columnSchema;
+  }
+
+  private static byte[] get(List<ByteBuffer> values, int index) {
+    return values.get(index).array();
+  }
+
+  @Test public void testCollectMinMax() {
+    StreamMinMaxCollector collector = new StreamMinMaxCollector(columns);
+    assertTrue(collector.isEmpty());
+    addRow(collector, 5, "b", -3, "1.5");
+    addRow(collector, 2, "c", 7, "-2.25");
+    addRow(collector, 9, "a", 0, "10");
+    assertFalse(collector.isEmpty());
+
+    BlockletMinMaxIndex index = collector.build();
+    assertEquals(2, ByteBuffer.wrap(get(index.getMin_values(), 0)).getInt());
+    assertEquals(9, ByteBuffer.wrap(get(index.getMax_values(), 0)).getInt());
+    assertArrayEquals("a".getBytes(), get(index.getMin_values(), 1));
+    assertArrayEquals("c".getBytes(), get(index.getMax_values(), 1));
+    assertEquals(-3,
+        DataTypeUtil.getMeasureObjectFromDataType(get(index.getMin_values(), 2), DataTypes.INT));
+    assertEquals(7,
+        DataTypeUtil.getMeasureObjectFromDataType(get(index.getMax_values(), 2), DataTypes.INT));
+    assertEquals(0, new BigDecimal("-2.25").compareTo((BigDecimal) DataTypeUtil
+        .getMeasureObjectFromDataType(get(index.getMin_values(), 3), columns[3].getDataType())));
+    assertEquals(0, new BigDecimal("10").compareTo((BigDecimal) DataTypeUtil
+        .getMeasureObjectFromDataType(get(index.getMax_values(), 3), columns[3].getDataType())));
+  }
+
+  @Test public void testNullIsFoldedIntoMinMax() {
+    StreamMinMaxCollector collector = new StreamMinMaxCollector(columns);
+    addRow(collector, 5, "b", 3, "1.5");
+    for (int i = 0; i < columns.length; i++) {
+      collector.updateNull(i);
+    }
+    BlockletMinMaxIndex index = collector.build();
+    assertEquals(CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY,
+        ByteBuffer.wrap(get(index.getMin_values(), 0)).getInt());
+    assertArrayEquals(CarbonCommonConstants.MEMBER_DEFAULT_VAL_ARRAY,
+        get(index.getMin_values(), 1));
+    assertEquals(0,
+        DataTypeUtil.getMeasureObjectFromDataType(get(index.getMin_values(), 2), DataTypes.INT));
+  }
+
+  @Test public void testMergeAndReset() {
+    StreamMinMaxCollector first = new StreamMinMaxCollector(columns);
+    addRow(first, 5, "b", 3, "1.5");
+    StreamMinMaxCollector second = new StreamMinMaxCollector(columns);
+    addRow(second, 7, "a", 4, "0.5");
+
+    StreamMinMaxCollector merged = new StreamMinMaxCollector(columns);
+    assertTrue(merged.merge(first.build()));
+    assertTrue(merged.merge(second.build()));
+    StreamMinMaxCollector expected = new StreamMinMaxCollector(columns);
+    addRow(expected, 5, "b", 3, "1.5");
+    addRow(expected, 7, "a", 4, "0.5");
+    assertIndexEquals(expected.build(), merged.build());
+
+    // the values before reset are not kept
+    merged.reset();
+    assertTrue(merged.isEmpty());
+    addRow(merged, 7, "a", 4, "0.5");
+    assertIndexEquals(second.build(), merged.build());
+
+    BlockletMinMaxIndex other = new BlockletMinMaxIndex(
+        Arrays.asList(ByteBuffer.wrap(new byte[0])), Arrays.asList(ByteBuffer.wrap(new byte[0])));
+    assertFalse(merged.merge(other));
+  }
+
+  private static void addRow(StreamMinMaxCollector collector, int surrogate, String name, int id,
+      String price) {
+    collector.updateSurrogate(0, surrogate);
+    collector.updateBytes(1, name.getBytes());
+    collector.updateMeasure(2, id);
+    collector.updateMeasure(3, new BigDecimal(price));
+  }
+
+  private static void assertIndexEquals(BlockletMinMaxIndex expected, BlockletMinMaxIndex actual) {
+    for (int i = 0; i < columns.length; i++) {
+      assertArrayEquals(get(expected.getMin_values(), i), get(actual.getMin_values(), i));
+      assertArrayEquals(get(expected.getMax_values(), i), get(actual.getMax_values(), i));
+    }
+  }
+}
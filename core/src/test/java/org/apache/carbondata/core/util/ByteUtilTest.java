@@ -18,6 +18,7 @@ package org.apache.carbondata.core.util;
 
 import junit.framework.TestCase;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.memory.CarbonUnsafe;
 import org.apache.carbondata.core.util.ByteUtil.UnsafeComparer;
 import org.junit.Before;
 import org.junit.Test;
@@ -132,6 +133,23 @@ public class ByteUtilTest extends TestCase {
         assertTrue(UnsafeComparer.INSTANCE.compareTo(buff1, buff2) < 0);
     }
 
+    @Test
+    public void testCompareByAddress() {
+        String[] values = { "", "a", "aaaaaaaa", "aaaaaaaa1234", "aaaaaaaa1235", "aaaaaaab",
+            "aaaaaaaa\u00ff", "\u00ff", "aaaaaaaa12341" };
+        for (String value1 : values) {
+            for (String value2 : values) {
+                byte[] bytes1 = value1.getBytes(Charset.forName("ISO-8859-1"));
+                byte[] bytes2 = value2.getBytes(Charset.forName("ISO-8859-1"));
+                int expected = Integer.signum(UnsafeComparer.INSTANCE.compareTo(bytes1, bytes2));
+                long offset = CarbonUnsafe.BYTE_ARRAY_OFFSET;
+                int actual = Integer.signum(UnsafeComparer.INSTANCE
+                    .compareTo(bytes1, offset, bytes1.length, bytes2, offset, bytes2.length));
+                assertEquals(value1 + " vs " + value2, expected, actual);
+            }
+        }
+    }
+
     /**
      * This will prepare the byte buffers in the required format for comparision.
      */
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.core.util;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongOpenHashSetTest {
+
+  @Test public void testAddAndContains() {
+    LongOpenHashSet set = new LongOpenHashSet(3);
+    assertTrue(set.add(0));
+    assertTrue(set.add(-1));
+    assertTrue(set.add(Long.MIN_VALUE));
+    assertFalse(set.add(0));
+    assertFalse(set.add(-1));
+    assertEquals(3, set.size());
+    assertTrue(set.contains(0));
+    assertTrue(set.contains(-1));
+    assertTrue(set.contains(Long.MIN_VALUE));
+    assertFalse(set.contains(1));
+    assertFalse(set.contains(Long.MAX_VALUE));
+  }
+
+  @Test public void testGrowBeyondExpectedSize() {
+    LongOpenHashSet set = new LongOpenHashSet(1);
+    Set<Long> expected = new HashSet<>();
+    Random random = new Random(1);
+    for (int i = 0; i < 10000; i++) {
+      long value = random.nextInt(5000) * 1024L;
+      assertEquals(expected.add(value), set.add(value));
+    }
+    assertEquals(expected.size(), set.size());
+    for (long value = -1024; value < 5001 * 1024L; value += 512) {
+      assertEquals(expected.contains(value), set.contains(value));
+    }
+  }
+}
@@ -69,12 +69,13 @@ enum SortState{
  */
 enum CompressionCodec{
     SNAPPY = 0;
+    ZSTD = 1;
+    LZ4 = 2;
 }
 
 /**
  * Represents the data of one column page or one column page group inside blocklet.
- * Currently CarbonData using snappy for compression directly , user can specify the different compression by ChunkCompressionMeta.
- * Currently not using it , keep it as for future extend ability.
+ * compression_codec records the compressor used for the pages of this chunk, readers use it to pick the decompressor.
  */
 struct ChunkCompressionMeta{
     1: required CompressionCodec compression_codec; // The compressor used
@@ -230,4 +231,5 @@ struct BlockletHeader{
 	3: optional BlockletIndex blocklet_index;  // Index for the following blocklet
 	4: required BlockletInfo blocklet_info;  // Info for the following blocklet
 	5: optional dictionary.ColumnDictionaryChunk dictionary; // Blocklet local dictionary
+	6: optional list<DataChunk2> column_pages; // Page of each column, only set when the blocklet data is in columnar layout
 }
\ No newline at end of file
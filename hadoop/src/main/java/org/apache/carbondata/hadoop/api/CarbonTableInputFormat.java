@@ -31,6 +31,7 @@ import java.util.Map;
 import org.apache.carbondata.core.datamap.DataMapStoreManager;
 import org.apache.carbondata.core.datamap.Segment;
 import org.apache.carbondata.core.datamap.TableDataMap;
+import org.apache.carbondata.core.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.datastore.filesystem.CarbonFile;
 import org.apache.carbondata.core.datastore.impl.FileFactory;
 import org.apache.carbondata.core.indexstore.ExtendedBlocklet;
@@ -41,6 +42,7 @@ import org.apache.carbondata.core.metadata.schema.SchemaReader;
 import org.apache.carbondata.core.metadata.schema.partition.PartitionType;
 import org.apache.carbondata.core.metadata.schema.table.CarbonTable;
 import org.apache.carbondata.core.metadata.schema.table.TableInfo;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
 import org.apache.carbondata.core.mutate.CarbonUpdateUtil;
 import org.apache.carbondata.core.mutate.SegmentUpdateDetails;
 import org.apache.carbondata.core.mutate.UpdateVO;
@@ -51,13 +53,17 @@ import org.apache.carbondata.core.readcommitter.TableStatusReadCommittedScope;
 import org.apache.carbondata.core.reader.CarbonIndexFileReader;
 import org.apache.carbondata.core.scan.expression.Expression;
 import org.apache.carbondata.core.scan.filter.FilterExpressionProcessor;
+import org.apache.carbondata.core.scan.filter.FilterUtil;
+import org.apache.carbondata.core.scan.filter.GenericQueryType;
 import org.apache.carbondata.core.scan.filter.SingleTableProvider;
 import org.apache.carbondata.core.scan.filter.TableProvider;
+import org.apache.carbondata.core.scan.filter.executer.FilterExecuter;
 import org.apache.carbondata.core.scan.filter.resolver.FilterResolverIntf;
 import org.apache.carbondata.core.statusmanager.FileFormat;
 import org.apache.carbondata.core.statusmanager.LoadMetadataDetails;
 import org.apache.carbondata.core.statusmanager.SegmentStatusManager;
 import org.apache.carbondata.core.statusmanager.SegmentUpdateStatusManager;
+import org.apache.carbondata.core.stream.StreamMinMaxPruner;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.core.util.path.CarbonTablePath;
 import org.apache.carbondata.format.BlockIndex;
@@ -256,7 +262,8 @@ public class CarbonTableInputFormat<T> extends CarbonInputFormat<T> {
     }
 
     // add all splits of streaming
-    List<InputSplit> splitsOfStreaming = getSplitsOfStreaming(job, identifier, streamSegments);
+    List<InputSplit> splitsOfStreaming =
+        getSplitsOfStreaming(job, identifier, streamSegments, filterInterface);
     if (!splitsOfStreaming.isEmpty()) {
       splits.addAll(splitsOfStreaming);
     }
@@ -333,9 +340,29 @@ public class CarbonTableInputFormat<T> extends CarbonInputFormat<T> {
    */
   public List<InputSplit> getSplitsOfStreaming(JobContext job, AbsoluteTableIdentifier identifier,
       List<Segment> streamSegments) throws IOException {
+    return getSplitsOfStreaming(job, identifier, streamSegments, null);
+  }
+
+  /**
+   * use file level min/max index to prune the stream files
+   */
+  public List<InputSplit> getSplitsOfStreaming(JobContext job, AbsoluteTableIdentifier identifier,
+      List<Segment> streamSegments, FilterResolverIntf filterResolverIntf) throws IOException {
     List<InputSplit> splits = new ArrayList<InputSplit>();
     if (streamSegments != null && !streamSegments.isEmpty()) {
       numStreamSegments = streamSegments.size();
+      StreamMinMaxPruner pruner = null;
+      if (null != filterResolverIntf) {
+        CarbonTable carbonTable = getOrCreateCarbonTable(job.getConfiguration());
+        List<CarbonColumn> storageColumns =
+            carbonTable.getStreamStorageOrderColumn(carbonTable.getTableName());
+        SegmentProperties segmentProperties = StreamMinMaxPruner.getSegmentProperties(carbonTable);
+        FilterExecuter filterExecuter = FilterUtil.getFilterExecuterTree(filterResolverIntf,
+            segmentProperties, new HashMap<Integer, GenericQueryType>());
+        pruner = new StreamMinMaxPruner(
+            storageColumns.toArray(new CarbonColumn[storageColumns.size()]), segmentProperties,
+            filterExecuter);
+      }
       long minSize = Math.max(getFormatMinSplitSize(), getMinSplitSize(job));
       long maxSize = getMaxSplitSize(job);
       for (Segment segment : streamSegments) {
@@ -355,6 +382,9 @@ public class CarbonTableInputFormat<T> extends CarbonInputFormat<T> {
               indexReader.openThriftReader(indexPath);
               while (indexReader.hasNext()) {
                 BlockIndex blockIndex = indexReader.readBlockIndexInfo();
+                if (null != pruner && !pruner.isScanRequired(blockIndex.getBlock_index())) {
+                  continue;
+                }
                 String filePath = segmentDir + File.separator + blockIndex.getFile_name();
                 Path path = new Path(filePath);
                 long length = blockIndex.getFile_size();
@@ -19,12 +19,14 @@ package org.apache.carbondata.presto;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.datatype.DataTypes;
 import org.apache.carbondata.core.metadata.datatype.StructField;
 import org.apache.carbondata.core.scan.result.vector.CarbonColumnVector;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
 import org.apache.carbondata.core.scan.result.vector.impl.CarbonColumnVectorImpl;
 
 import org.apache.spark.sql.types.ArrayType;
@@ -90,6 +92,20 @@ public class CarbonColumnVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putShorts(int rowId, int count, short[] src, int srcIndex) {
+    if (filteredRowsExist) {
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId]) {
+          columnVector.putShort(counter++, src[srcIndex + i]);
+        }
+        rowId++;
+      }
+    } else {
+      columnVector.putShorts(counter, count, src, srcIndex);
+      counter += count;
+    }
+  }
+
   @Override public void putInt(int rowId, int value) {
     if (!filteredRows[rowId]) {
       columnVector.putInt(counter++, value);
@@ -109,6 +125,20 @@ public class CarbonColumnVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putInts(int rowId, int count, int[] src, int srcIndex) {
+    if (filteredRowsExist) {
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId]) {
+          columnVector.putInt(counter++, src[srcIndex + i]);
+        }
+        rowId++;
+      }
+    } else {
+      columnVector.putInts(counter, count, src, srcIndex);
+      counter += count;
+    }
+  }
+
   @Override public void putLong(int rowId, long value) {
     if (!filteredRows[rowId]) {
       columnVector.putLong(counter++, value);
@@ -128,6 +158,20 @@ public class CarbonColumnVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putLongs(int rowId, int count, long[] src, int srcIndex) {
+    if (filteredRowsExist) {
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId]) {
+          columnVector.putLong(counter++, src[srcIndex + i]);
+        }
+        rowId++;
+      }
+    } else {
+      columnVector.putLongs(counter, count, src, srcIndex);
+      counter += count;
+    }
+  }
+
   @Override public void putDecimal(int rowId, BigDecimal value, int precision) {
     if (!filteredRows[rowId]) {
       columnVector.putDecimal(counter++, value, precision);
@@ -162,6 +206,20 @@ public class CarbonColumnVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putDoubles(int rowId, int count, double[] src, int srcIndex) {
+    if (filteredRowsExist) {
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId]) {
+          columnVector.putDouble(counter++, src[srcIndex + i]);
+        }
+        rowId++;
+      }
+    } else {
+      columnVector.putDoubles(counter, count, src, srcIndex);
+      counter += count;
+    }
+  }
+
   @Override public void putBytes(int rowId, byte[] value) {
     if (!filteredRows[rowId]) {
       columnVector.putBytes(counter++, value);
@@ -183,6 +241,16 @@ public class CarbonColumnVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putBytes(int rowId, int count, int[] offsets, int[] lengths,
+      int srcIndex, byte[] value) {
+    for (int i = 0; i < count; i++) {
+      if (!filteredRows[rowId]) {
+        columnVector.putBytes(counter++, offsets[srcIndex + i], lengths[srcIndex + i], value);
+      }
+      rowId++;
+    }
+  }
+
   @Override public void putNull(int rowId) {
     if (!filteredRows[rowId]) {
       columnVector.putNull(counter++);
@@ -202,6 +270,32 @@ public class CarbonColumnVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putNulls(int rowId, int count, BitSet nullBits, int nullBitsIndex) {
+    // values of these rows are just put, so they end at the current counter
+    if (filteredRowsExist) {
+      int position = counter;
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId + i]) {
+          position--;
+        }
+      }
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId + i]) {
+          if (nullBits.get(nullBitsIndex + i)) {
+            columnVector.putNull(position);
+          }
+          position++;
+        }
+      }
+    } else {
+      int end = nullBitsIndex + count;
+      for (int i = nullBits.nextSetBit(nullBitsIndex); i >= 0 && i < end;
+           i = nullBits.nextSetBit(i + 1)) {
+        columnVector.putNull(counter - end + i);
+      }
+    }
+  }
+
   @Override public boolean isNull(int rowId) {
     return columnVector.isNullAt(rowId);
   }
@@ -238,6 +332,18 @@ public class CarbonColumnVectorWrapper implements CarbonColumnVector {
     this.filteredRowsExist = filteredRowsExist;
   }
 
+  @Override public void setDictionary(CarbonDictionary dictionary) {
+    columnVector.setDictionary(dictionary);
+  }
+
+  @Override public CarbonDictionary getDictionary() {
+    return columnVector.getDictionary();
+  }
+
+  @Override public boolean hasDictionary() {
+    return columnVector.hasDictionary();
+  }
+
   // TODO: this is copied from carbondata-spark-common module, use presto type instead of this
   private org.apache.carbondata.core.metadata.datatype.DataType
   convertSparkToCarbonDataType(org.apache.spark.sql.types.DataType dataType) {
@@ -218,8 +218,8 @@ class CarbondataPageSource implements ConnectorPageSource {
     requireNonNull(types);
     StreamReader[] readers = new StreamReader[types.size()];
     for (int i = 0; i < types.size(); i++) {
-      readers[i] = StreamReaders.createStreamReader(types.get(i), readSupport
-          .getSliceArrayBlock(i),readSupport.getDictionaries()[i]);
+      readers[i] = StreamReaders.createStreamReader(types.get(i),
+          readSupport.getDictionaries()[i]);
     }
     return readers;
   }
@@ -19,8 +19,7 @@ package org.apache.carbondata.presto.readers;
 
 import java.io.IOException;
 
-import org.apache.carbondata.core.metadata.datatype.DataTypes;
-import org.apache.carbondata.core.util.DataTypeUtil;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
 
 import com.facebook.presto.spi.block.Block;
 import com.facebook.presto.spi.block.BlockBuilder;
@@ -28,6 +27,8 @@ import com.facebook.presto.spi.block.BlockBuilderStatus;
 import com.facebook.presto.spi.block.DictionaryBlock;
 import com.facebook.presto.spi.block.SliceArrayBlock;
 import com.facebook.presto.spi.type.Type;
+import io.airlift.slice.Slice;
+import io.airlift.slice.Slices;
 
 import static io.airlift.slice.Slices.utf8Slice;
 import static io.airlift.slice.Slices.wrappedBuffer;
@@ -37,18 +38,16 @@ import static io.airlift.slice.Slices.wrappedBuffer;
  */
 public class SliceStreamReader extends AbstractStreamReader {
 
-  private boolean isDictionary;
+  /**
+   * dictionary of the vector from which the dictionarySliceArrayBlock is created
+   */
+  private CarbonDictionary dictionary;
 
   private SliceArrayBlock dictionarySliceArrayBlock;
 
   public SliceStreamReader() {
   }
 
-  public SliceStreamReader(boolean isDictionary, SliceArrayBlock dictionarySliceArrayBlock) {
-    this.isDictionary = isDictionary;
-    this.dictionarySliceArrayBlock = dictionarySliceArrayBlock;
-  }
-
   /**
    * Function to create the Slice Block
    *
@@ -63,14 +62,19 @@ public class SliceStreamReader extends AbstractStreamReader {
       numberOfRows = batchSize;
       builder = type.createBlockBuilder(new BlockBuilderStatus(), numberOfRows);
       if (columnVector != null) {
-        if (isDictionary) {
+        if (columnVector.hasDictionary()) {
+          // copy the ids as the vector is reused by the next batch
           int[] values = new int[numberOfRows];
-          for (int i = 0; i < numberOfRows; i++) {
-            if (!columnVector.isNullAt(i)) {
-              values[i] = (Integer) columnVector.getData(i);
+          columnVector.getDictionaryIds(0, numberOfRows, values, 0);
+          if (columnVector.anyNullsSet()) {
+            for (int i = 0; i < numberOfRows; i++) {
+              if (columnVector.isNullAt(i)) {
+                values[i] = 0;
+              }
             }
           }
-          return new DictionaryBlock(batchSize, dictionarySliceArrayBlock, values);
+          return new DictionaryBlock(batchSize,
+              getDictionarySliceArrayBlock(columnVector.getDictionary()), values);
         } else {
           if(columnVector.anyNullsSet()) {
             handleNullInVector(type, numberOfRows, builder);
@@ -92,6 +96,25 @@ public class SliceStreamReader extends AbstractStreamReader {
     return builder.build();
   }
 
+  /**
+   * The dictionary is shared by the vectors of the column in the query, so the block of its
+   * values is created once and used by all the DictionaryBlocks of the column
+   */
+  private SliceArrayBlock getDictionarySliceArrayBlock(CarbonDictionary dictionary) {
+    if (this.dictionary != dictionary) {
+      Slice[] sliceArray = new Slice[dictionary.getDictionarySize()];
+      // Initialize Slice Array with Empty Slice as per Presto's code, id 1 is the null value
+      sliceArray[0] = Slices.EMPTY_SLICE;
+      for (int i = 2; i < sliceArray.length; i++) {
+        byte[] value = dictionary.getDictionaryValue(i);
+        sliceArray[i] = wrappedBuffer(value, 0, value.length);
+      }
+      dictionarySliceArrayBlock = new SliceArrayBlock(sliceArray.length, sliceArray, true);
+      this.dictionary = dictionary;
+    }
+    return dictionarySliceArrayBlock;
+  }
+
   private void handleNullInVector(Type type, int numberOfRows, BlockBuilder builder) {
     for (int i = 0; i < numberOfRows; i++) {
       if (columnVector.isNullAt(i)) {
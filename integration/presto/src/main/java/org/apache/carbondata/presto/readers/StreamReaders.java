@@ -18,7 +18,6 @@ package org.apache.carbondata.presto.readers;
 
 import org.apache.carbondata.core.cache.dictionary.Dictionary;
 
-import com.facebook.presto.spi.block.SliceArrayBlock;
 import com.facebook.presto.spi.type.DateType;
 import com.facebook.presto.spi.type.DecimalType;
 import com.facebook.presto.spi.type.IntegerType;
@@ -36,11 +35,10 @@ public final class StreamReaders {
    * This function select Stream readers based on Type and use it.
    *
    * @param type
-   * @param dictionarySliceArrayBlock
+   * @param dictionary
    * @return StreamReader
    */
-  public static StreamReader createStreamReader(Type type,
-      SliceArrayBlock dictionarySliceArrayBlock, Dictionary dictionary) {
+  public static StreamReader createStreamReader(Type type, Dictionary dictionary) {
     Class<?> javaType = type.getJavaType();
     if (dictionary != null) {
       if (javaType == long.class) {
@@ -59,7 +57,8 @@ public final class StreamReaders {
         if (type instanceof DecimalType) {
           return new DecimalSliceStreamReader(true, dictionary);
         } else {
-          return new SliceStreamReader(true, dictionarySliceArrayBlock);
+          // the ids are decoded by the dictionary of the vector
+          return new SliceStreamReader();
         }
       }else if (javaType == boolean.class) {
               return new BooleanStreamReader(true,dictionary);
@@ -16,14 +16,10 @@
  */
 package org.apache.carbondata.presto
 
-import com.facebook.presto.spi.block.SliceArrayBlock
-import io.airlift.slice.{Slice, Slices}
-import io.airlift.slice.Slices._
-
 import org.apache.carbondata.core.cache.{Cache, CacheProvider, CacheType}
-import org.apache.carbondata.core.cache.dictionary.{Dictionary, DictionaryChunksWrapper, DictionaryColumnUniqueIdentifier}
+import org.apache.carbondata.core.cache.dictionary.{Dictionary, DictionaryColumnUniqueIdentifier}
 import org.apache.carbondata.core.constants.CarbonCommonConstants
-import org.apache.carbondata.core.metadata.datatype.{DataType, DataTypes}
+import org.apache.carbondata.core.metadata.datatype.DataType
 import org.apache.carbondata.core.metadata.encoder.Encoding
 import org.apache.carbondata.core.metadata.schema.table.CarbonTable
 import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn
@@ -36,7 +32,6 @@ import org.apache.carbondata.hadoop.readsupport.CarbonReadSupport
 class CarbonDictionaryDecodeReadSupport[T] extends CarbonReadSupport[T] {
   private var dictionaries: Array[Dictionary] = _
   private var dataTypes: Array[DataType] = _
-  private var dictionarySliceArray: Array[SliceArrayBlock] = _
 
   /**
    * This initialization is done inside executor task
@@ -49,7 +44,6 @@ class CarbonDictionaryDecodeReadSupport[T] extends CarbonReadSupport[T] {
 
     dictionaries = new Array[Dictionary](carbonColumns.length)
     dataTypes = new Array[DataType](carbonColumns.length)
-    dictionarySliceArray = new Array[SliceArrayBlock](carbonColumns.length)
 
     carbonColumns.zipWithIndex.foreach {
       case (carbonColumn, index) => if (carbonColumn.hasEncoding(Encoding.DICTIONARY) &&
@@ -65,10 +59,6 @@ class CarbonDictionaryDecodeReadSupport[T] extends CarbonReadSupport[T] {
         dictionaries(index) = forwardDictionaryCache
           .get(new DictionaryColumnUniqueIdentifier(carbonTable.getAbsoluteTableIdentifier,
             carbonColumn.getColumnIdentifier, dataTypes(index), dictionaryPath))
-        // in case of string data type create dictionarySliceArray same as that of presto code
-        if (dataTypes(index).equals(DataTypes.STRING)) {
-          dictionarySliceArray(index) = createSliceArrayBlock(dictionaries(index))
-        }
       }
 
       else {
@@ -78,47 +68,10 @@ class CarbonDictionaryDecodeReadSupport[T] extends CarbonReadSupport[T] {
 
   }
 
-  /**
-   * Function to create the SliceArrayBlock with dictionary Data
-   *
-   * @param dictionaryData
-   * @return
-   */
-  private def createSliceArrayBlock(dictionaryData: Dictionary): SliceArrayBlock = {
-    val chunks: DictionaryChunksWrapper = dictionaryData.getDictionaryChunks
-    val sliceArray = new Array[Slice](chunks.getSize + 1)
-    // Initialize Slice Array with Empty Slice as per Presto's code
-    sliceArray(0) = Slices.EMPTY_SLICE
-    var count = 1
-    while (chunks.hasNext) {
-      {
-        val value: Array[Byte] = chunks.next
-        if(count ==1) {
-          sliceArray(count) = null
-        }
-        else {
-          sliceArray(count) = wrappedBuffer(value, 0, value.length)
-        }
-        count += 1
-      }
-    }
-    new SliceArrayBlock(sliceArray.length, sliceArray, true)
-  }
-
   override def readRow(data: Array[AnyRef]): T = {
     throw new RuntimeException("UnSupported Method")
   }
 
-  /**
-   * Function to get the SliceArrayBlock with dictionary Data
-   *
-   * @param columnNo
-   * @return
-   */
-  def getSliceArrayBlock(columnNo: Int): SliceArrayBlock = {
-    dictionarySliceArray(columnNo)
-  }
-
   def getDictionaries: Array[Dictionary] = {
     dictionaries
   }
@@ -40,6 +40,7 @@ import org.apache.spark.util.FileUtils
 import org.apache.carbondata.common.exceptions.sql.MalformedCarbonCommandException
 import org.apache.carbondata.common.logging.LogServiceFactory
 import org.apache.carbondata.core.constants.CarbonCommonConstants
+import org.apache.carbondata.core.datastore.compression.CompressorFactory
 import org.apache.carbondata.core.datastore.impl.FileFactory
 import org.apache.carbondata.core.memory.{UnsafeMemoryManager, UnsafeSortMemoryManager}
 import org.apache.carbondata.core.metadata.{AbsoluteTableIdentifier, CarbonMetadata}
@@ -616,6 +617,24 @@ object CommonUtil {
     }
   }
 
+  /**
+   * This method will validate the column compressor specified by the user
+   *
+   * @param tableProperties
+   */
+  def validateTableColumnCompressor(tableProperties: Map[String, String]): Unit = {
+    val compressorName = tableProperties.get(CarbonCommonConstants.TABLE_COLUMN_COMPRESSOR)
+    if (compressorName.isDefined) {
+      if (!CompressorFactory.getInstance().isSupported(compressorName.get)) {
+        throw new MalformedCarbonCommandException("Invalid column_compressor value found: " +
+                                                  s"${compressorName.get}, only snappy, zstd " +
+                                                  s"and lz4 are supported.")
+      }
+      tableProperties.put(CarbonCommonConstants.TABLE_COLUMN_COMPRESSOR,
+        compressorName.get.trim.toLowerCase)
+    }
+  }
+
   /**
    * This method will parse the configure string from 'XX MB/M' to 'XX'
    *
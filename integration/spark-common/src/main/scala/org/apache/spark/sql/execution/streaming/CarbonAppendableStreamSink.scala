@@ -279,7 +279,7 @@ object CarbonAppendableStreamSink {
         }
 
         // update data file info in index file
-        StreamSegment.updateIndexFile(
+        StreamSegment.updateIndexFile(carbonTable,
           CarbonTablePath.getSegmentPath(carbonTable.getTablePath, segmentId))
 
       } catch {
@@ -18,9 +18,11 @@
 package org.apache.carbondata.spark.vectorreader;
 
 import java.math.BigDecimal;
+import java.util.BitSet;
 
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.scan.result.vector.CarbonColumnVector;
+import org.apache.carbondata.core.scan.result.vector.CarbonDictionary;
 import org.apache.carbondata.spark.util.CarbonScalaUtil;
 
 import org.apache.spark.sql.execution.vectorized.ColumnVector;
@@ -38,6 +40,8 @@ class ColumnarVectorWrapper implements CarbonColumnVector {
 
   private DataType blockDataType;
 
+  private CarbonDictionary dictionary;
+
   ColumnarVectorWrapper(ColumnVector columnVector, boolean[] filteredRows) {
     this.columnVector = columnVector;
     this.filteredRows = filteredRows;
@@ -74,6 +78,20 @@ class ColumnarVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putShorts(int rowId, int count, short[] src, int srcIndex) {
+    if (filteredRowsExist) {
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId]) {
+          columnVector.putShort(counter++, src[srcIndex + i]);
+        }
+        rowId++;
+      }
+    } else {
+      columnVector.putShorts(counter, count, src, srcIndex);
+      counter += count;
+    }
+  }
+
   @Override public void putInt(int rowId, int value) {
     if (!filteredRows[rowId]) {
       columnVector.putInt(counter++, value);
@@ -93,6 +111,20 @@ class ColumnarVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putInts(int rowId, int count, int[] src, int srcIndex) {
+    if (filteredRowsExist) {
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId]) {
+          columnVector.putInt(counter++, src[srcIndex + i]);
+        }
+        rowId++;
+      }
+    } else {
+      columnVector.putInts(counter, count, src, srcIndex);
+      counter += count;
+    }
+  }
+
   @Override public void putLong(int rowId, long value) {
     if (!filteredRows[rowId]) {
       columnVector.putLong(counter++, value);
@@ -112,6 +144,20 @@ class ColumnarVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putLongs(int rowId, int count, long[] src, int srcIndex) {
+    if (filteredRowsExist) {
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId]) {
+          columnVector.putLong(counter++, src[srcIndex + i]);
+        }
+        rowId++;
+      }
+    } else {
+      columnVector.putLongs(counter, count, src, srcIndex);
+      counter += count;
+    }
+  }
+
   @Override public void putDecimal(int rowId, BigDecimal value, int precision) {
     if (!filteredRows[rowId]) {
       Decimal toDecimal = Decimal.apply(value);
@@ -148,6 +194,20 @@ class ColumnarVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putDoubles(int rowId, int count, double[] src, int srcIndex) {
+    if (filteredRowsExist) {
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId]) {
+          columnVector.putDouble(counter++, src[srcIndex + i]);
+        }
+        rowId++;
+      }
+    } else {
+      columnVector.putDoubles(counter, count, src, srcIndex);
+      counter += count;
+    }
+  }
+
   @Override public void putBytes(int rowId, byte[] value) {
     if (!filteredRows[rowId]) {
       columnVector.putByteArray(counter++, value);
@@ -169,6 +229,16 @@ class ColumnarVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putBytes(int rowId, int count, int[] offsets, int[] lengths,
+      int srcIndex, byte[] value) {
+    for (int i = 0; i < count; i++) {
+      if (!filteredRows[rowId]) {
+        columnVector.putByteArray(counter++, value, offsets[srcIndex + i], lengths[srcIndex + i]);
+      }
+      rowId++;
+    }
+  }
+
   @Override public void putNull(int rowId) {
     if (!filteredRows[rowId]) {
       columnVector.putNull(counter++);
@@ -188,6 +258,32 @@ class ColumnarVectorWrapper implements CarbonColumnVector {
     }
   }
 
+  @Override public void putNulls(int rowId, int count, BitSet nullBits, int nullBitsIndex) {
+    // values of these rows are just put, so they end at the current counter
+    if (filteredRowsExist) {
+      int position = counter;
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId + i]) {
+          position--;
+        }
+      }
+      for (int i = 0; i < count; i++) {
+        if (!filteredRows[rowId + i]) {
+          if (nullBits.get(nullBitsIndex + i)) {
+            columnVector.putNull(position);
+          }
+          position++;
+        }
+      }
+    } else {
+      int end = nullBitsIndex + count;
+      for (int i = nullBits.nextSetBit(nullBitsIndex); i >= 0 && i < end;
+           i = nullBits.nextSetBit(i + 1)) {
+        columnVector.putNull(counter - end + i);
+      }
+    }
+  }
+
   @Override public boolean isNull(int rowId) {
     return columnVector.isNullAt(rowId);
   }
@@ -223,4 +319,20 @@ class ColumnarVectorWrapper implements CarbonColumnVector {
   @Override public void setFilteredRowsExist(boolean filteredRowsExist) {
     this.filteredRowsExist = filteredRowsExist;
   }
+
+  /**
+   * The ids are put to the integer vector of spark, which are decoded late by the dictionary
+   * decoder of carbon, so the dictionary is only kept here.
+   */
+  @Override public void setDictionary(CarbonDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  @Override public CarbonDictionary getDictionary() {
+    return dictionary;
+  }
+
+  @Override public boolean hasDictionary() {
+    return null != dictionary;
+  }
 }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.loading.sort;
+
+/**
+ * Tournament tree of losers used to merge k sorted sources. Every internal node keeps the
+ * source which lost the match played there and the overall winner is kept on top, so
+ * replacing the winner with the next element of its source needs only log(k) comparisons on
+ * the path from its leaf to the root, half of what a binary heap needs to sift down.
+ *
+ * A source without elements left is represented by null, which loses against any element.
+ */
+public class LoserTree<T extends Comparable<? super T>> {
+
+  /**
+   * current element of every source
+   */
+  private final Object[] leaves;
+
+  /**
+   * tree[0] is the index of the winner source, tree[1..k-1] the loser of each internal node
+   */
+  private final int[] tree;
+
+  public LoserTree(T[] elements) {
+    int k = elements.length;
+    this.leaves = new Object[k];
+    System.arraycopy(elements, 0, leaves, 0, k);
+    this.tree = new int[Math.max(k, 1)];
+    if (k <= 1) {
+      return;
+    }
+    // leaf of source i is at position k + i, parent of position n is n / 2
+    int[] winners = new int[2 * k];
+    for (int i = 0; i < k; i++) {
+      winners[k + i] = i;
+    }
+    for (int node = k - 1; node > 0; node--) {
+      int left = winners[2 * node];
+      int right = winners[2 * node + 1];
+      if (beats(left, right)) {
+        winners[node] = left;
+        tree[node] = right;
+      } else {
+        winners[node] = right;
+        tree[node] = left;
+      }
+    }
+    tree[0] = winners[1];
+  }
+
+  /**
+   * Returns the smallest current element, or null if all sources are exhausted
+   */
+  @SuppressWarnings("unchecked")
+  public T peek() {
+    if (leaves.length == 0) {
+      return null;
+    }
+    return (T) leaves[tree[0]];
+  }
+
+  /**
+   * Returns the index of the source of the smallest current element
+   */
+  public int peekIndex() {
+    return tree[0];
+  }
+
+  /**
+   * Replaces the smallest current element with the next element of its source, or with null
+   * if the source is exhausted, and replays the matches on the path of its leaf.
+   */
+  public void replaceTop(T element) {
+    int winner = tree[0];
+    leaves[winner] = element;
+    for (int node = (leaves.length + winner) >> 1; node > 0; node >>= 1) {
+      if (beats(tree[node], winner)) {
+        int loser = winner;
+        winner = tree[node];
+        tree[node] = loser;
+      }
+    }
+    tree[0] = winner;
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean beats(int source1, int source2) {
+    T element1 = (T) leaves[source1];
+    T element2 = (T) leaves[source2];
+    if (element1 == null) {
+      return false;
+    }
+    if (element2 == null) {
+      return true;
+    }
+    int compare = element1.compareTo(element2);
+    // break ties on the source index to keep the merge stable
+    return compare < 0 || (compare == 0 && source1 < source2);
+  }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.carbondata.processing.loading.sort.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -33,18 +35,24 @@ import org.apache.carbondata.core.util.CarbonThreadFactory;
 import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory;
 import org.apache.carbondata.processing.loading.exception.CarbonDataLoadingException;
 import org.apache.carbondata.processing.loading.row.CarbonRowBatch;
+import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
 import org.apache.carbondata.processing.loading.sort.AbstractMergeSorter;
 import org.apache.carbondata.processing.loading.sort.unsafe.UnsafeCarbonRowPage;
 import org.apache.carbondata.processing.loading.sort.unsafe.UnsafeSortDataRows;
+import org.apache.carbondata.processing.loading.sort.unsafe.merger.UnsafeInMemoryIntermediateDataMerger;
 import org.apache.carbondata.processing.loading.sort.unsafe.merger.UnsafeIntermediateMerger;
 import org.apache.carbondata.processing.loading.sort.unsafe.merger.UnsafeSingleThreadFinalSortFilesMerger;
 import org.apache.carbondata.processing.sort.exception.CarbonSortKeyAndGroupByException;
+import org.apache.carbondata.processing.sort.sortdata.IntermediateSortTempRowComparator;
 import org.apache.carbondata.processing.sort.sortdata.SortParameters;
 
 /**
  * It parallely reads data from array of iterates and do merge sort.
  * First it sorts the data and write to temp files. These temp files will be merge sorted to get
  * final merge sort result.
+ * If the final merge parallelism is more than 1, the key space is split in ranges using rows
+ * sampled while sorting, and every range is merged by its own merger and returned as its own
+ * iterator, so that the ranges are merged and written in parallel.
  */
 public class UnsafeParallelReadMergeSorterImpl extends AbstractMergeSorter {
 
@@ -55,7 +63,21 @@ public class UnsafeParallelReadMergeSorterImpl extends AbstractMergeSorter {
 
   private UnsafeIntermediateMerger unsafeIntermediateFileMerger;
 
-  private UnsafeSingleThreadFinalSortFilesMerger finalMerger;
+  /**
+   * number of rows sampled from every sorted page for every range of the final merge
+   */
+  private static final int SAMPLES_PER_PAGE_PER_RANGE = 16;
+
+  private UnsafeSingleThreadFinalSortFilesMerger[] finalMergers;
+
+  private int finalMergeParallelism;
+
+  /**
+   * pages merged by several range mergers, freed in close once all ranges are merged
+   */
+  private List<UnsafeCarbonRowPage> sharedRowPages;
+
+  private List<UnsafeInMemoryIntermediateDataMerger> sharedMerges;
 
   private AtomicLong rowCounter;
 
@@ -68,9 +90,7 @@ public class UnsafeParallelReadMergeSorterImpl extends AbstractMergeSorter {
   @Override public void initialize(SortParameters sortParameters) {
     this.sortParameters = sortParameters;
     unsafeIntermediateFileMerger = new UnsafeIntermediateMerger(sortParameters);
-
-    finalMerger = new UnsafeSingleThreadFinalSortFilesMerger(sortParameters,
-        sortParameters.getTempFileLocation());
+    finalMergeParallelism = CarbonProperties.getInstance().getSortFinalMergeParallelism();
   }
 
   @Override public Iterator<CarbonRowBatch>[] sort(Iterator<CarbonRowBatch>[] iterators)
@@ -79,6 +99,9 @@ public class UnsafeParallelReadMergeSorterImpl extends AbstractMergeSorter {
     UnsafeSortDataRows sortDataRow =
         new UnsafeSortDataRows(sortParameters, unsafeIntermediateFileMerger, inMemoryChunkSizeInMB);
     final int batchSize = CarbonProperties.getInstance().getBatchSize();
+    if (finalMergeParallelism > 1) {
+      sortDataRow.setSamplesPerPage(finalMergeParallelism * SAMPLES_PER_PAGE_PER_RANGE);
+    }
     try {
       sortDataRow.initialize();
     } catch (Exception e) {
@@ -105,16 +128,74 @@ public class UnsafeParallelReadMergeSorterImpl extends AbstractMergeSorter {
     try {
       unsafeIntermediateFileMerger.finish();
       List<UnsafeCarbonRowPage> rowPages = unsafeIntermediateFileMerger.getRowPages();
-      finalMerger.startFinalMerge(rowPages.toArray(new UnsafeCarbonRowPage[rowPages.size()]),
-          unsafeIntermediateFileMerger.getMergedPages());
+      List<UnsafeInMemoryIntermediateDataMerger> merges =
+          unsafeIntermediateFileMerger.getMergedPages();
+      createFinalMergers(getSplitters(sortDataRow.getSampledRows()), rowPages, merges);
+      for (UnsafeSingleThreadFinalSortFilesMerger finalMerger : finalMergers) {
+        finalMerger.startFinalMerge(rowPages.toArray(new UnsafeCarbonRowPage[rowPages.size()]),
+            merges);
+      }
     } catch (CarbonDataWriterException e) {
       throw new CarbonDataLoadingException(e);
     } catch (CarbonSortKeyAndGroupByException e) {
       throw new CarbonDataLoadingException(e);
     }
 
-    // Creates the iterator to read from merge sorter.
-    Iterator<CarbonRowBatch> batchIterator = new CarbonIterator<CarbonRowBatch>() {
+    // Creates the iterators to read from merge sorters.
+    Iterator<CarbonRowBatch>[] batchIterators = new Iterator[finalMergers.length];
+    for (int i = 0; i < finalMergers.length; i++) {
+      batchIterators[i] = createBatchIterator(finalMergers[i], batchSize);
+    }
+    return batchIterators;
+  }
+
+  /**
+   * Picks the boundaries of the ranges of the final merge from the sampled rows, so that every
+   * range holds about the same number of rows
+   */
+  private IntermediateSortTempRow[] getSplitters(List<IntermediateSortTempRow> sampledRows) {
+    List<IntermediateSortTempRow> splitters = new ArrayList<>();
+    if (finalMergeParallelism > 1 && sortParameters.getNumberOfSortColumns() > 0
+        && !sampledRows.isEmpty()) {
+      IntermediateSortTempRowComparator comparator =
+          new IntermediateSortTempRowComparator(sortParameters.getNoDictionarySortColumn());
+      Collections.sort(sampledRows, comparator);
+      for (int i = 1; i < finalMergeParallelism; i++) {
+        IntermediateSortTempRow splitter =
+            sampledRows.get(i * sampledRows.size() / finalMergeParallelism);
+        // skip duplicate boundaries, which would give empty ranges
+        if (splitters.isEmpty()
+            || comparator.compare(splitters.get(splitters.size() - 1), splitter) < 0) {
+          splitters.add(splitter);
+        }
+      }
+    }
+    return splitters.toArray(new IntermediateSortTempRow[splitters.size()]);
+  }
+
+  private void createFinalMergers(IntermediateSortTempRow[] splitters,
+      List<UnsafeCarbonRowPage> rowPages, List<UnsafeInMemoryIntermediateDataMerger> merges) {
+    if (splitters.length == 0) {
+      finalMergers = new UnsafeSingleThreadFinalSortFilesMerger[] {
+          new UnsafeSingleThreadFinalSortFilesMerger(sortParameters,
+              sortParameters.getTempFileLocation()) };
+      return;
+    }
+    LOGGER.info("Final merge is split in " + (splitters.length + 1) + " ranges");
+    sharedRowPages = rowPages;
+    sharedMerges = merges;
+    finalMergers = new UnsafeSingleThreadFinalSortFilesMerger[splitters.length + 1];
+    for (int i = 0; i < finalMergers.length; i++) {
+      IntermediateSortTempRow lowerBound = i == 0 ? null : splitters[i - 1];
+      IntermediateSortTempRow upperBound = i == splitters.length ? null : splitters[i];
+      finalMergers[i] = new UnsafeSingleThreadFinalSortFilesMerger(sortParameters,
+          sortParameters.getTempFileLocation(), lowerBound, upperBound, false);
+    }
+  }
+
+  private Iterator<CarbonRowBatch> createBatchIterator(
+      final UnsafeSingleThreadFinalSortFilesMerger finalMerger, final int batchSize) {
+    return new CarbonIterator<CarbonRowBatch>() {
 
       @Override public boolean hasNext() {
         return finalMerger.hasNext();
@@ -130,15 +211,32 @@ public class UnsafeParallelReadMergeSorterImpl extends AbstractMergeSorter {
         return rowBatch;
       }
     };
-    return new Iterator[] { batchIterator };
   }
 
   @Override public void close() {
     if (null != executorService && !executorService.isShutdown()) {
       executorService.shutdownNow();
     }
+    if (null != finalMergers) {
+      for (UnsafeSingleThreadFinalSortFilesMerger finalMerger : finalMergers) {
+        finalMerger.clear();
+      }
+    }
+    if (null != sharedRowPages) {
+      for (UnsafeCarbonRowPage rowPage : sharedRowPages) {
+        rowPage.freeMemory();
+      }
+      sharedRowPages = null;
+    }
+    if (null != sharedMerges) {
+      for (UnsafeInMemoryIntermediateDataMerger merger : sharedMerges) {
+        for (UnsafeCarbonRowPage rowPage : merger.getUnsafeCarbonRowPages()) {
+          rowPage.freeMemory();
+        }
+      }
+      sharedMerges = null;
+    }
     unsafeIntermediateFileMerger.close();
-    finalMerger.clear();
   }
 
   /**
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.loading.sort.unsafe;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+
+import org.apache.carbondata.core.datastore.impl.FileFactory;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
+import org.apache.carbondata.processing.loading.sort.SortStepRowHandler;
+
+/**
+ * Sparse index of the rows of a sort temp file, written by SortTempFileOutputStream at the end
+ * of the file after the rows. The first row of every block of ROWS_PER_BLOCK rows is indexed
+ * with its offset in the file, so a reader which needs only the rows from a lower bound on, like
+ * a range merger of the final merge, seeks to the block of the bound instead of reading all the
+ * rows before it.
+ *
+ * Layout of the index: [number of blocks: int]([block offset: long][first row of block])*
+ * [offset of the index: long]
+ *
+ * Only the files written without compressor are indexed, a row in a compressed file can not be
+ * read from its offset.
+ */
+public final class SortTempFileIndex {
+
+  /**
+   * number of rows in a block of the index
+   */
+  static final int ROWS_PER_BLOCK = 4096;
+
+  private final long[] blockOffsets;
+
+  private final IntermediateSortTempRow[] blockFirstRows;
+
+  private SortTempFileIndex(long[] blockOffsets, IntermediateSortTempRow[] blockFirstRows) {
+    this.blockOffsets = blockOffsets;
+    this.blockFirstRows = blockFirstRows;
+  }
+
+  /**
+   * @return true if the sort temp files written with the compressor have an index
+   */
+  public static boolean isIndexed(String compressorName) {
+    return null == compressorName || compressorName.isEmpty();
+  }
+
+  /**
+   * Read the index at the end of the sort temp file
+   */
+  public static SortTempFileIndex read(File file, SortStepRowHandler sortStepRowHandler)
+      throws IOException {
+    DataInputStream stream = FileFactory.getDataInputStream(file.getPath(),
+        FileFactory.FileType.LOCAL, 0, file.length() - 8);
+    long indexOffset;
+    try {
+      indexOffset = stream.readLong();
+    } finally {
+      CarbonUtil.closeStreams(stream);
+    }
+    stream = FileFactory.getDataInputStream(file.getPath(), FileFactory.FileType.LOCAL, 0,
+        indexOffset);
+    try {
+      int numberOfBlocks = stream.readInt();
+      long[] blockOffsets = new long[numberOfBlocks];
+      IntermediateSortTempRow[] blockFirstRows = new IntermediateSortTempRow[numberOfBlocks];
+      for (int i = 0; i < numberOfBlocks; i++) {
+        blockOffsets[i] = stream.readLong();
+        blockFirstRows[i] = sortStepRowHandler.readIntermediateSortTempRowFromInputStream(stream);
+      }
+      return new SortTempFileIndex(blockOffsets, blockFirstRows);
+    } finally {
+      CarbonUtil.closeStreams(stream);
+    }
+  }
+
+  /**
+   * Find the block to start reading the rows not less than the lower bound, that is the last
+   * block whose first row is less than the bound. All the rows of the blocks before it are less
+   * than the bound.
+   *
+   * @return index of the block, -1 if the first row of the file is not less than the bound
+   */
+  public int findBlock(IntermediateSortTempRow lowerBound,
+      Comparator<IntermediateSortTempRow> comparator) {
+    int low = 0;
+    int high = blockFirstRows.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (comparator.compare(blockFirstRows[mid], lowerBound) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return high;
+  }
+
+  /**
+   * @return offset in the file of the first row of the block
+   */
+  public long getBlockOffset(int block) {
+    return blockOffsets[block];
+  }
+
+  /**
+   * @return number of rows in the file before the block
+   */
+  public int getRowsBeforeBlock(int block) {
+    return block * ROWS_PER_BLOCK;
+  }
+
+  public int getNumberOfBlocks() {
+    return blockOffsets.length;
+  }
+}
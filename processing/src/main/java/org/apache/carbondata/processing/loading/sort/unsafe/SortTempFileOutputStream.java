@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.loading.sort.unsafe;
+
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
+import org.apache.carbondata.processing.loading.sort.SortStepRowHandler;
+
+/**
+ * Output stream of a sort temp file which writes the SortTempFileIndex of the rows after them.
+ * The writer calls startRow before writing each row, and adds the row to the index by addBlock
+ * if it is the first row of a block. The index is written by finish.
+ */
+public class SortTempFileOutputStream extends DataOutputStream {
+
+  private final boolean isIndexed;
+
+  private final SortStepRowHandler sortStepRowHandler;
+
+  private int rowCount;
+
+  private List<Long> blockOffsets = new ArrayList<>();
+
+  private List<IntermediateSortTempRow> blockFirstRows = new ArrayList<>();
+
+  public SortTempFileOutputStream(OutputStream out, String compressorName,
+      SortStepRowHandler sortStepRowHandler) {
+    super(SortTempFileIndex.isIndexed(compressorName) ? new PositionOutputStream(out) : out);
+    this.isIndexed = SortTempFileIndex.isIndexed(compressorName);
+    this.sortStepRowHandler = sortStepRowHandler;
+  }
+
+  /**
+   * Start writing the next row
+   *
+   * @return true if the row is the first of a block, it should be added by addBlock
+   */
+  public boolean startRow() {
+    return isIndexed && rowCount++ % SortTempFileIndex.ROWS_PER_BLOCK == 0;
+  }
+
+  /**
+   * Add the block starting with the row to be written now
+   */
+  public void addBlock(IntermediateSortTempRow firstRow) {
+    blockOffsets.add(((PositionOutputStream) out).position);
+    blockFirstRows.add(firstRow);
+  }
+
+  /**
+   * Write the index after all the rows are written
+   */
+  public void finish() throws IOException {
+    if (!isIndexed) {
+      return;
+    }
+    long indexOffset = ((PositionOutputStream) out).position;
+    writeInt(blockOffsets.size());
+    for (int i = 0; i < blockOffsets.size(); i++) {
+      writeLong(blockOffsets.get(i));
+      sortStepRowHandler.writeIntermediateSortTempRowToOutputStream(blockFirstRows.get(i), this);
+    }
+    writeLong(indexOffset);
+    blockOffsets = null;
+    blockFirstRows = null;
+  }
+
+  /**
+   * Stream which counts the bytes written to it, DataOutputStream.size is an int
+   */
+  private static final class PositionOutputStream extends FilterOutputStream {
+
+    private long position;
+
+    private PositionOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override public void write(int b) throws IOException {
+      out.write(b);
+      position++;
+    }
+
+    @Override public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      position += len;
+    }
+  }
+}
@@ -21,6 +21,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
+import org.apache.carbondata.core.memory.CarbonUnsafe;
 import org.apache.carbondata.core.memory.IntPointerBuffer;
 import org.apache.carbondata.core.memory.MemoryBlock;
 import org.apache.carbondata.core.memory.UnsafeMemoryManager;
@@ -64,12 +65,58 @@ public class UnsafeCarbonRowPage {
   }
 
   public int addRow(Object[] row, ByteBuffer rowBuffer) {
-    int size = addRow(row, dataBlock.getBaseOffset() + lastSize, rowBuffer);
-    buffer.set(lastSize);
+    long address = dataBlock.getBaseOffset() + lastSize;
+    int size = addRow(row, address, rowBuffer);
+    buffer.set(lastSize, getSortKeyPrefix(address));
     lastSize = lastSize + size;
     return size;
   }
 
+  /**
+   * Returns the first 8 bytes of the sort key of the row at given address as a big endian
+   * long, padded with 0. Dictionary columns contribute their 4 byte surrogate and no
+   * dictionary columns their bytes, in sort column order, so comparing the prefixes as
+   * unsigned longs gives the same order as the row comparators whenever they differ.
+   */
+  private long getSortKeyPrefix(long address) {
+    Object baseObject = dataBlock.getBaseObject();
+    long prefix = 0;
+    int remaining = 8;
+    int sizeInDictPart = 0;
+    int sizeInNonDictPart = tableFieldStat.getDictSortDimCnt() * 4;
+    for (boolean isNoDictionary : tableFieldStat.getIsSortColNoDictFlags()) {
+      if (remaining == 0) {
+        break;
+      }
+      if (isNoDictionary) {
+        short length = CarbonUnsafe.getUnsafe().getShort(baseObject, address + sizeInNonDictPart);
+        long valueAddress = address + sizeInNonDictPart + 2;
+        int bytesToCopy = Math.min(length, remaining);
+        for (int i = 0; i < bytesToCopy; i++) {
+          prefix = (prefix << 8)
+              | (CarbonUnsafe.getUnsafe().getByte(baseObject, valueAddress + i) & 0xFF);
+        }
+        if (bytesToCopy < remaining) {
+          // a shorter value does not fill the prefix, so the next column can not start at a
+          // fixed position
+          remaining -= bytesToCopy;
+          break;
+        }
+        remaining -= bytesToCopy;
+        sizeInNonDictPart += 2 + length;
+      } else {
+        int surrogate = CarbonUnsafe.getUnsafe().getInt(baseObject, address + sizeInDictPart);
+        sizeInDictPart += 4;
+        int bytesToCopy = Math.min(4, remaining);
+        for (int i = 0; i < bytesToCopy; i++) {
+          prefix = (prefix << 8) | ((surrogate >>> (24 - i * 8)) & 0xFF);
+        }
+        remaining -= bytesToCopy;
+      }
+    }
+    return remaining == 8 ? 0 : prefix << (remaining * 8);
+  }
+
   /**
    * add raw row as intermidiate sort temp row to page
    *
@@ -107,6 +154,7 @@ public class UnsafeCarbonRowPage {
     switch (managerType) {
       case UNSAFE_MEMORY_MANAGER:
         UnsafeMemoryManager.INSTANCE.freeMemory(taskId, dataBlock);
+        buffer.freePrefixes();
         break;
       default:
         UnsafeSortMemoryManager.INSTANCE.freeMemory(taskId, dataBlock);
@@ -17,10 +17,11 @@
 
 package org.apache.carbondata.processing.loading.sort.unsafe;
 
-import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -41,6 +42,8 @@ import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonThreadFactory;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.core.util.ThreadLocalTaskInfo;
+import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
+import org.apache.carbondata.processing.loading.sort.SortStepRowHandler;
 import org.apache.carbondata.processing.loading.sort.unsafe.comparator.UnsafeRowComparator;
 import org.apache.carbondata.processing.loading.sort.unsafe.comparator.UnsafeRowComparatorForNormalDims;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeCarbonRow;
@@ -94,6 +97,17 @@ public class UnsafeSortDataRows {
 
   private final long taskId;
 
+  /**
+   * number of rows sampled from every sorted page, 0 if sampling is off
+   */
+  private int samplesPerPage;
+
+  /**
+   * rows sampled evenly from all the sorted pages
+   */
+  private final List<IntermediateSortTempRow> sampledRows =
+      new ArrayList<IntermediateSortTempRow>();
+
   public UnsafeSortDataRows(SortParameters parameters,
       UnsafeIntermediateMerger unsafeInMemoryIntermediateFileMerger, int inMemoryChunkSize) {
     this.parameters = parameters;
@@ -125,6 +139,21 @@ public class UnsafeSortDataRows {
     }
   }
 
+  /**
+   * Enables sampling of the sorted rows, so that the key space can be split in ranges
+   * holding about the same number of rows for a parallel final merge
+   */
+  public void setSamplesPerPage(int samplesPerPage) {
+    this.samplesPerPage = samplesPerPage;
+  }
+
+  /**
+   * Returns the rows sampled from all the sorted pages, valid after sorting is finished
+   */
+  public List<IntermediateSortTempRow> getSampledRows() {
+    return sampledRows;
+  }
+
   /**
    * This method will be used to initialize
    */
@@ -270,18 +299,24 @@ public class UnsafeSortDataRows {
    */
   private void writeDataToFile(UnsafeCarbonRowPage rowPage, File file)
       throws CarbonSortKeyAndGroupByException {
-    DataOutputStream stream = null;
+    SortTempFileOutputStream stream = null;
     try {
       // open stream
-      stream = FileFactory.getDataOutputStream(file.getPath(), FileFactory.FileType.LOCAL,
-          parameters.getFileWriteBufferSize(), parameters.getSortTempCompressorName());
+      stream = new SortTempFileOutputStream(
+          FileFactory.getDataOutputStream(file.getPath(), FileFactory.FileType.LOCAL,
+              parameters.getFileWriteBufferSize(), parameters.getSortTempCompressorName()),
+          parameters.getSortTempCompressorName(), new SortStepRowHandler(parameters));
       int actualSize = rowPage.getBuffer().getActualSize();
       // write number of entries to the file
       stream.writeInt(actualSize);
       for (int i = 0; i < actualSize; i++) {
-        rowPage.writeRow(
-            rowPage.getBuffer().get(i) + rowPage.getDataBlock().getBaseOffset(), stream);
+        long address = rowPage.getBuffer().get(i) + rowPage.getDataBlock().getBaseOffset();
+        if (stream.startRow()) {
+          stream.addBlock(rowPage.getRow(address));
+        }
+        rowPage.writeRow(address, stream);
       }
+      stream.finish();
     } catch (IOException e) {
       throw new CarbonSortKeyAndGroupByException("Problem while writing the file", e);
     } finally {
@@ -327,6 +362,24 @@ public class UnsafeSortDataRows {
     }
   }
 
+  /**
+   * Samples evenly spaced rows of a sorted page
+   */
+  private void sampleRows(UnsafeCarbonRowPage page) {
+    int rowCount = page.getBuffer().getActualSize();
+    if (samplesPerPage <= 0 || rowCount == 0) {
+      return;
+    }
+    int step = Math.max(1, rowCount / samplesPerPage);
+    List<IntermediateSortTempRow> rows = new ArrayList<>(Math.min(rowCount, samplesPerPage));
+    for (int i = step / 2; i < rowCount; i += step) {
+      rows.add(page.getRow(page.getBuffer().get(i) + page.getDataBlock().getBaseOffset()));
+    }
+    synchronized (sampledRows) {
+      sampledRows.addAll(rows);
+    }
+  }
+
   /**
    * This class is responsible for sorting and writing the object
    * array which holds the records equal to given array size
@@ -352,6 +405,7 @@ public class UnsafeSortDataRows {
           timSort.sort(page.getBuffer(), 0, page.getBuffer().getActualSize(),
               new UnsafeRowComparatorForNormalDims(page));
         }
+        sampleRows(page);
         if (page.isSaveToDisk()) {
           // create a new file every time
           // create a new file and pick a temp directory randomly every time
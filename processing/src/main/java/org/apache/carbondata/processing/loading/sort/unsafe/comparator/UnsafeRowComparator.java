@@ -37,12 +37,23 @@ public class UnsafeRowComparator implements Comparator<UnsafeCarbonRow> {
   }
 
   /**
-   * Below method will be used to compare two mdkey
+   * Below method will be used to compare two mdkey, the sort key prefixes of the rows are
+   * compared first and the rows are read only if they are same
    */
   public int compare(UnsafeCarbonRow rowL, UnsafeCarbonRow rowR) {
+    if (rowL.prefix != rowR.prefix) {
+      return comparePrefix(rowL.prefix, rowR.prefix);
+    }
     return compare(rowL, baseObject, rowR, baseObject);
   }
 
+  /**
+   * Compares two sort key prefixes as unsigned values
+   */
+  static int comparePrefix(long prefixL, long prefixR) {
+    return (prefixL + Long.MIN_VALUE) < (prefixR + Long.MIN_VALUE) ? -1 : 1;
+  }
+
   /**
    * Below method will be used to compare two mdkey
    */
@@ -60,23 +71,19 @@ public class UnsafeRowComparator implements Comparator<UnsafeCarbonRow> {
       if (isNoDictionary) {
         short lengthA = CarbonUnsafe.getUnsafe().getShort(baseObjectL,
             rowA + dictSizeInMemory + sizeInNonDictPartA);
-        byte[] byteArr1 = new byte[lengthA];
         sizeInNonDictPartA += 2;
-        CarbonUnsafe.getUnsafe()
-            .copyMemory(baseObjectL, rowA + dictSizeInMemory + sizeInNonDictPartA,
-                byteArr1, CarbonUnsafe.BYTE_ARRAY_OFFSET, lengthA);
+        long addressA = rowA + dictSizeInMemory + sizeInNonDictPartA;
         sizeInNonDictPartA += lengthA;
 
         short lengthB = CarbonUnsafe.getUnsafe().getShort(baseObjectR,
             rowB + dictSizeInMemory + sizeInNonDictPartB);
-        byte[] byteArr2 = new byte[lengthB];
         sizeInNonDictPartB += 2;
-        CarbonUnsafe.getUnsafe()
-            .copyMemory(baseObjectR, rowB + dictSizeInMemory + sizeInNonDictPartB,
-                byteArr2, CarbonUnsafe.BYTE_ARRAY_OFFSET, lengthB);
+        long addressB = rowB + dictSizeInMemory + sizeInNonDictPartB;
         sizeInNonDictPartB += lengthB;
 
-        int difference = UnsafeComparer.INSTANCE.compareTo(byteArr1, byteArr2);
+        // compare in place, without copying the values out of the row page
+        int difference = UnsafeComparer.INSTANCE
+            .compareTo(baseObjectL, addressA, lengthA, baseObjectR, addressB, lengthB);
         if (difference != 0) {
           return difference;
         }
@@ -38,6 +38,9 @@ public class UnsafeRowComparatorForNormalDims implements Comparator<UnsafeCarbon
    * Below method will be used to compare two mdkey
    */
   public int compare(UnsafeCarbonRow rowL, UnsafeCarbonRow rowR) {
+    if (rowL.prefix != rowR.prefix) {
+      return UnsafeRowComparator.comparePrefix(rowL.prefix, rowR.prefix);
+    }
     int diff = 0;
     long rowA = rowL.address;
     long rowB = rowR.address;
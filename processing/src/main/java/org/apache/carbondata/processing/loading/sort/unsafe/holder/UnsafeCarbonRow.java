@@ -21,4 +21,9 @@ public class UnsafeCarbonRow {
 
   public long address;
 
+  /**
+   * sort key prefix of the row, only filled while sorting a row page
+   */
+  public long prefix;
+
 }
@@ -35,6 +35,7 @@ import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
 import org.apache.carbondata.processing.loading.sort.SortStepRowHandler;
+import org.apache.carbondata.processing.loading.sort.unsafe.SortTempFileIndex;
 import org.apache.carbondata.processing.sort.exception.CarbonSortKeyAndGroupByException;
 import org.apache.carbondata.processing.sort.sortdata.IntermediateSortTempRowComparator;
 import org.apache.carbondata.processing.sort.sortdata.SortParameters;
@@ -96,12 +97,29 @@ public class UnsafeSortTempFileChunkHolder implements SortTempChunkHolder {
   private TableFieldStat tableFieldStat;
   private SortStepRowHandler sortStepRowHandler;
   private Comparator<IntermediateSortTempRow> comparator;
+
+  /**
+   * the rows before it are not needed by the reader, null if all rows are needed
+   */
+  private IntermediateSortTempRow lowerBound;
+
   /**
    * Constructor to initialize
    */
   public UnsafeSortTempFileChunkHolder(File tempFile, SortParameters parameters) {
+    this(tempFile, parameters, null);
+  }
+
+  /**
+   * Creates a holder which may skip the rows less than lowerBound, the rows are read from the
+   * block of the lower bound if the file has a SortTempFileIndex. The reader still needs to
+   * skip the rows before the bound in that block.
+   */
+  public UnsafeSortTempFileChunkHolder(File tempFile, SortParameters parameters,
+      IntermediateSortTempRow lowerBound) {
     // set temp file
     this.tempFile = tempFile;
+    this.lowerBound = lowerBound;
     this.readBufferSize = parameters.getBufferSize();
     this.compressorName = parameters.getSortTempCompressorName();
     this.tableFieldStat = new TableFieldStat(parameters);
@@ -132,6 +150,9 @@ public class UnsafeSortTempFileChunkHolder implements SortTempChunkHolder {
           readBufferSize, compressorName);
       this.entryCount = stream.readInt();
       LOGGER.info("Processing unsafe mode file rows with size : " + entryCount);
+      if (null != lowerBound && SortTempFileIndex.isIndexed(compressorName)) {
+        skipToBlockOfLowerBound();
+      }
       if (prefetch) {
         new DataFetcher(false).call();
         totalRecordFetch += currentBuffer.length;
@@ -151,6 +172,24 @@ public class UnsafeSortTempFileChunkHolder implements SortTempChunkHolder {
     }
   }
 
+  /**
+   * Reopen the stream at the block of the lower bound in the index of the file
+   */
+  private void skipToBlockOfLowerBound() throws IOException {
+    SortTempFileIndex index = SortTempFileIndex.read(tempFile, sortStepRowHandler);
+    int block = index.findBlock(lowerBound, comparator);
+    if (block <= 0) {
+      return;
+    }
+    CarbonUtil.closeStreams(stream);
+    stream = FileFactory.getDataInputStream(tempFile.getPath(), FileFactory.FileType.LOCAL,
+        readBufferSize, index.getBlockOffset(block));
+    int skippedRows = index.getRowsBeforeBlock(block);
+    numberOfObjectRead = skippedRows;
+    totalRecordFetch = skippedRows;
+    prefetchRecordsProceesed = skippedRows;
+  }
+
   /**
    * This method will be used to read new row from file
    *
@@ -17,7 +17,6 @@
 
 package org.apache.carbondata.processing.loading.sort.unsafe.merger;
 
-import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.AbstractQueue;
@@ -32,6 +31,7 @@ import org.apache.carbondata.core.datastore.impl.FileFactory;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
 import org.apache.carbondata.processing.loading.sort.SortStepRowHandler;
+import org.apache.carbondata.processing.loading.sort.unsafe.SortTempFileOutputStream;
 import org.apache.carbondata.processing.loading.sort.unsafe.UnsafeCarbonRowPage;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeCarbonRowForMerge;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeInmemoryMergeHolder;
@@ -70,7 +70,7 @@ public class UnsafeInMemoryIntermediateDataMerger implements Callable<Void> {
   private SortStepRowHandler sortStepRowHandler;
   private boolean spillDisk;
   private File outputFile;
-  private DataOutputStream outputStream;
+  private SortTempFileOutputStream outputStream;
 
   /**
    * IntermediateFileMerger Constructor
@@ -99,6 +99,7 @@ public class UnsafeInMemoryIntermediateDataMerger implements Callable<Void> {
         while (hasNext()) {
           writeDataToFile(next());
         }
+        outputStream.finish();
       } else {
         while (hasNext()) {
           writeDataToMemory(next());
@@ -244,14 +245,18 @@ public class UnsafeInMemoryIntermediateDataMerger implements Callable<Void> {
         + sortParameters.getTableName() + '_'
         + sortParameters.getRangeId() + '_' + System.nanoTime()
         + CarbonCommonConstants.SORT_TEMP_FILE_EXT);
-    outputStream = FileFactory.getDataOutputStream(outputFile.getPath(),
-        FileFactory.FileType.LOCAL, sortParameters.getFileWriteBufferSize(),
-        sortParameters.getSortTempCompressorName());
+    outputStream = new SortTempFileOutputStream(
+        FileFactory.getDataOutputStream(outputFile.getPath(), FileFactory.FileType.LOCAL,
+            sortParameters.getFileWriteBufferSize(), sortParameters.getSortTempCompressorName()),
+        sortParameters.getSortTempCompressorName(), sortStepRowHandler);
     outputStream.writeInt(totalSize);
   }
 
   private void writeDataToFile(UnsafeCarbonRowForMerge row) throws IOException {
     IntermediateSortTempRow sortTempRow = unsafeCarbonRowPages[row.index].getRow(row.address);
+    if (outputStream.startRow()) {
+      outputStream.addBlock(sortTempRow);
+    }
     sortStepRowHandler.writeIntermediateSortTempRowToOutputStream(sortTempRow, outputStream);
   }
 
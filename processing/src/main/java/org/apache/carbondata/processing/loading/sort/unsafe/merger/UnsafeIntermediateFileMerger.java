@@ -17,7 +17,6 @@
 
 package org.apache.carbondata.processing.loading.sort.unsafe.merger;
 
-import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -31,6 +30,7 @@ import org.apache.carbondata.core.datastore.impl.FileFactory;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
 import org.apache.carbondata.processing.loading.sort.SortStepRowHandler;
+import org.apache.carbondata.processing.loading.sort.unsafe.SortTempFileOutputStream;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.SortTempChunkHolder;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeSortTempFileChunkHolder;
 import org.apache.carbondata.processing.sort.exception.CarbonSortKeyAndGroupByException;
@@ -57,7 +57,7 @@ public class UnsafeIntermediateFileMerger implements Callable<Void> {
   /**
    * stream
    */
-  private DataOutputStream stream;
+  private SortTempFileOutputStream stream;
 
   /**
    * totalNumberOfRecords
@@ -99,6 +99,7 @@ public class UnsafeIntermediateFileMerger implements Callable<Void> {
       while (hasNext()) {
         writeDataToFile(next());
       }
+      stream.finish();
       double intermediateMergeCostTime =
           (System.currentTimeMillis() - intermediateMergeStartTime) / 1000.0;
       LOGGER.info("============================== Intermediate Merge of " + fileConterConst
@@ -135,8 +136,9 @@ public class UnsafeIntermediateFileMerger implements Callable<Void> {
    */
   private void initialize() throws CarbonSortKeyAndGroupByException {
     try {
-      stream = FileFactory.getDataOutputStream(outPutFile.getPath(), FileFactory.FileType.LOCAL,
-          writeBufferSize, compressorName);
+      stream = new SortTempFileOutputStream(
+          FileFactory.getDataOutputStream(outPutFile.getPath(), FileFactory.FileType.LOCAL,
+              writeBufferSize, compressorName), compressorName, sortStepRowHandler);
       this.stream.writeInt(this.totalNumberOfRecords);
     } catch (FileNotFoundException e) {
       throw new CarbonSortKeyAndGroupByException("Problem while getting the file", e);
@@ -257,6 +259,9 @@ public class UnsafeIntermediateFileMerger implements Callable<Void> {
    * @throws IOException problem while writing
    */
   private void writeDataToFile(IntermediateSortTempRow row) throws IOException {
+    if (stream.startRow()) {
+      stream.addBlock(row);
+    }
     sortStepRowHandler.writeIntermediateSortTempRowToOutputStream(row, stream);
   }
 
@@ -19,24 +19,25 @@ package org.apache.carbondata.processing.loading.sort.unsafe.merger;
 
 import java.io.File;
 import java.io.FileFilter;
-import java.util.AbstractQueue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.PriorityQueue;
 
 import org.apache.carbondata.common.CarbonIterator;
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.datastore.exception.CarbonDataWriterException;
 import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
+import org.apache.carbondata.processing.loading.sort.LoserTree;
 import org.apache.carbondata.processing.loading.sort.SortStepRowHandler;
 import org.apache.carbondata.processing.loading.sort.unsafe.UnsafeCarbonRowPage;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.SortTempChunkHolder;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeFinalMergePageHolder;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeInmemoryHolder;
 import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeSortTempFileChunkHolder;
+import org.apache.carbondata.processing.sort.exception.CarbonSortKeyAndGroupByException;
+import org.apache.carbondata.processing.sort.sortdata.IntermediateSortTempRowComparator;
 import org.apache.carbondata.processing.sort.sortdata.SortParameters;
 
 public class UnsafeSingleThreadFinalSortFilesMerger extends CarbonIterator<Object[]> {
@@ -52,9 +53,14 @@ public class UnsafeSingleThreadFinalSortFilesMerger extends CarbonIterator<Objec
   private int fileCounter;
 
   /**
-   * recordHolderHeap
+   * loser tree of the record holders, merging their rows
    */
-  private AbstractQueue<SortTempChunkHolder> recordHolderHeapLocal;
+  private LoserTree<SortTempChunkHolder> recordHolderTree;
+
+  /**
+   * all record holders of the tree, to close the ones not finished yet in clear
+   */
+  private List<SortTempChunkHolder> recordHolders;
 
   private SortParameters parameters;
   private SortStepRowHandler sortStepRowHandler;
@@ -67,12 +73,45 @@ public class UnsafeSingleThreadFinalSortFilesMerger extends CarbonIterator<Objec
 
   private boolean isStopProcess;
 
+  /**
+   * inclusive lower bound of the rows merged by this merger, null if not bounded
+   */
+  private IntermediateSortTempRow lowerBound;
+
+  /**
+   * exclusive upper bound of the rows merged by this merger, null if not bounded
+   */
+  private IntermediateSortTempRow upperBound;
+
+  private IntermediateSortTempRowComparator comparator;
+
+  /**
+   * whether in memory pages are freed once merged. When several mergers merge different
+   * ranges of the same pages, the pages are freed by the owner of the mergers instead
+   */
+  private boolean freeInMemoryPages;
+
   public UnsafeSingleThreadFinalSortFilesMerger(SortParameters parameters,
       String[] tempFileLocation) {
+    this(parameters, tempFileLocation, null, null, true);
+  }
+
+  /**
+   * Creates a merger which merges only the rows in range [lowerBound, upperBound) of the
+   * sort temp files and in memory pages
+   */
+  public UnsafeSingleThreadFinalSortFilesMerger(SortParameters parameters,
+      String[] tempFileLocation, IntermediateSortTempRow lowerBound,
+      IntermediateSortTempRow upperBound, boolean freeInMemoryPages) {
     this.parameters = parameters;
     this.sortStepRowHandler = new SortStepRowHandler(parameters);
     this.tempFileLocation = tempFileLocation;
     this.tableName = parameters.getTableName();
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.freeInMemoryPages = freeInMemoryPages;
+    this.comparator =
+        new IntermediateSortTempRowComparator(parameters.getNoDictionarySortColumn());
   }
 
   /**
@@ -95,62 +134,43 @@ public class UnsafeSingleThreadFinalSortFilesMerger extends CarbonIterator<Objec
 
   /**
    * Below method will be used to start storing process This method will get
-   * all the temp files present in sort temp folder then it will create the
-   * record holder heap and then it will read first record from each file and
-   * initialize the heap
+   * all the temp files present in sort temp folder then it will read first
+   * record from each file and build the record holder tree
    *
    */
   private void startSorting(UnsafeCarbonRowPage[] rowPages,
       List<UnsafeInMemoryIntermediateDataMerger> merges) throws CarbonDataWriterException {
     try {
       List<File> filesToMergeSort = getFilesToMergeSort();
-      this.fileCounter = rowPages.length + filesToMergeSort.size() + merges.size();
-      if (fileCounter == 0) {
+      int pageCount = rowPages.length + filesToMergeSort.size() + merges.size();
+      if (pageCount == 0) {
         LOGGER.info("No files to merge sort");
         return;
       }
       LOGGER.info(String.format("Starting final merge of %d pages, including row pages: %d"
           + ", sort temp files: %d, intermediate merges: %d",
-          this.fileCounter, rowPages.length, filesToMergeSort.size(), merges.size()));
-
-      // create record holder heap
-      createRecordHolderQueue();
+          pageCount, rowPages.length, filesToMergeSort.size(), merges.size()));
 
-      // iterate over file list and create chunk holder and add to heap
+      // iterate over file list and create chunk holder and add to tree
       LOGGER.info("Started adding first record from each page");
+      this.recordHolders = new ArrayList<>(pageCount);
       for (final UnsafeCarbonRowPage rowPage : rowPages) {
-
-        SortTempChunkHolder sortTempFileChunkHolder = new UnsafeInmemoryHolder(rowPage);
-
-        // initialize
-        sortTempFileChunkHolder.readRow();
-
-        recordHolderHeapLocal.add(sortTempFileChunkHolder);
+        addRecordHolder(new UnsafeInmemoryHolder(rowPage));
       }
 
       for (final UnsafeInMemoryIntermediateDataMerger merger : merges) {
-
-        SortTempChunkHolder sortTempFileChunkHolder =
-            new UnsafeFinalMergePageHolder(merger, parameters.getNoDictionarySortColumn());
-
-        // initialize
-        sortTempFileChunkHolder.readRow();
-
-        recordHolderHeapLocal.add(sortTempFileChunkHolder);
+        addRecordHolder(
+            new UnsafeFinalMergePageHolder(merger, parameters.getNoDictionarySortColumn()));
       }
 
       for (final File file : filesToMergeSort) {
-
-        SortTempChunkHolder sortTempFileChunkHolder =
-            new UnsafeSortTempFileChunkHolder(file, parameters);
-
-        // initialize
-        sortTempFileChunkHolder.readRow();
-
-        recordHolderHeapLocal.add(sortTempFileChunkHolder);
+        addRecordHolder(new UnsafeSortTempFileChunkHolder(file, parameters, lowerBound));
       }
 
-      LOGGER.info("Heap Size: " + this.recordHolderHeapLocal.size());
+      this.fileCounter = recordHolders.size();
+      this.recordHolderTree = new LoserTree<>(
+          recordHolders.toArray(new SortTempChunkHolder[recordHolders.size()]));
+      LOGGER.info("Tree Size: " + this.fileCounter);
     } catch (Exception e) {
       LOGGER.error(e);
       throw new CarbonDataWriterException(e);
@@ -180,12 +200,37 @@ public class UnsafeSingleThreadFinalSortFilesMerger extends CarbonIterator<Objec
   }
 
   /**
-   * This method will be used to create the heap which will be used to hold
-   * the chunk of data
+   * Reads the first record of the holder in range of this merger and adds the holder to the
+   * merge, the holder is closed if it has no record in range
    */
-  private void createRecordHolderQueue() {
-    // creating record holder heap
-    this.recordHolderHeapLocal = new PriorityQueue<SortTempChunkHolder>(fileCounter);
+  private void addRecordHolder(SortTempChunkHolder holder)
+      throws CarbonSortKeyAndGroupByException {
+    // initialize
+    holder.readRow();
+    if (null != lowerBound) {
+      while (comparator.compare(holder.getRow(), lowerBound) < 0) {
+        if (!holder.hasNext()) {
+          closeRecordHolder(holder);
+          return;
+        }
+        holder.readRow();
+      }
+    }
+    if (isAfterRange(holder.getRow())) {
+      closeRecordHolder(holder);
+      return;
+    }
+    recordHolders.add(holder);
+  }
+
+  private boolean isAfterRange(IntermediateSortTempRow row) {
+    return null != upperBound && comparator.compare(row, upperBound) >= 0;
+  }
+
+  private void closeRecordHolder(SortTempChunkHolder holder) {
+    if (freeInMemoryPages || holder instanceof UnsafeSortTempFileChunkHolder) {
+      holder.close();
+    }
   }
 
   /**
@@ -207,25 +252,17 @@ public class UnsafeSingleThreadFinalSortFilesMerger extends CarbonIterator<Objec
   private IntermediateSortTempRow getSortedRecordFromFile() throws CarbonDataWriterException {
     IntermediateSortTempRow row = null;
 
-    // poll the top object from heap
-    // heap maintains binary tree which is based on heap condition that will
-    // be based on comparator we are passing the heap
-    // when will call poll it will always delete root of the tree and then
-    // it does trickel down operation complexity is log(n)
-    SortTempChunkHolder poll = this.recordHolderHeapLocal.poll();
+    // the top of the tree is the holder with the smallest row, once it is read
+    // the next row of the holder replays the matches from its leaf to the root,
+    // complexity is log(n)
+    SortTempChunkHolder poll = this.recordHolderTree.peek();
 
     // get the row from chunk
     row = poll.getRow();
 
     // check if there no entry present
     if (!poll.hasNext()) {
-      // if chunk is empty then close the stream
-      poll.close();
-
-      // change the file counter
-      --this.fileCounter;
-
-      // reaturn row
+      finishRecordHolder(poll);
       return row;
     }
 
@@ -235,14 +272,28 @@ public class UnsafeSingleThreadFinalSortFilesMerger extends CarbonIterator<Objec
     } catch (Exception e) {
       throw new CarbonDataWriterException(e.getMessage(), e);
     }
+    if (isAfterRange(poll.getRow())) {
+      finishRecordHolder(poll);
+      return row;
+    }
 
-    // add to heap
-    this.recordHolderHeapLocal.add(poll);
+    // replay the tree with the new row
+    this.recordHolderTree.replaceTop(poll);
 
     // return row
     return row;
   }
 
+  private void finishRecordHolder(SortTempChunkHolder holder) {
+    // if chunk is empty then close the stream
+    closeRecordHolder(holder);
+    this.recordHolders.set(this.recordHolderTree.peekIndex(), null);
+    this.recordHolderTree.replaceTop(null);
+
+    // change the file counter
+    --this.fileCounter;
+  }
+
   /**
    * This method will be used to check whether any more element is present or
    * not
@@ -254,11 +305,14 @@ public class UnsafeSingleThreadFinalSortFilesMerger extends CarbonIterator<Objec
   }
 
   public void clear() {
-    if (null != recordHolderHeapLocal) {
-      for (SortTempChunkHolder pageHolder : recordHolderHeapLocal) {
-        pageHolder.close();
+    if (null != recordHolders) {
+      for (SortTempChunkHolder pageHolder : recordHolders) {
+        if (null != pageHolder) {
+          closeRecordHolder(pageHolder);
+        }
       }
-      recordHolderHeapLocal = null;
+      recordHolders = null;
+      recordHolderTree = null;
     }
   }
 
@@ -44,24 +44,32 @@ public class UnsafeIntSortDataFormat
   @Override
   public UnsafeCarbonRow getKey(IntPointerBuffer data, int pos, UnsafeCarbonRow reuse) {
     reuse.address = data.get(pos) + page.getDataBlock().getBaseOffset();
+    reuse.prefix = data.getPrefix(pos);
     return reuse;
   }
 
   @Override public void swap(IntPointerBuffer data, int pos0, int pos1) {
     int tempPointer = data.get(pos0);
+    long tempPrefix = data.getPrefix(pos0);
     data.set(pos0, data.get(pos1));
+    data.setPrefix(pos0, data.getPrefix(pos1));
     data.set(pos1, tempPointer);
+    data.setPrefix(pos1, tempPrefix);
   }
 
   @Override
   public void copyElement(IntPointerBuffer src, int srcPos, IntPointerBuffer dst, int dstPos) {
     dst.set(dstPos, src.get(srcPos));
+    dst.setPrefix(dstPos, src.getPrefix(srcPos));
   }
 
   @Override
   public void copyRange(IntPointerBuffer src, int srcPos, IntPointerBuffer dst, int dstPos,
       int length) {
     System.arraycopy(src.getPointerBlock(), srcPos, dst.getPointerBlock(), dstPos, length);
+    if (src.getPrefixBlock() != null && dst.getPrefixBlock() != null) {
+      System.arraycopy(src.getPrefixBlock(), srcPos, dst.getPrefixBlock(), dstPos, length);
+    }
   }
 
   @Override public IntPointerBuffer allocate(int length) {
@@ -26,6 +26,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
@@ -55,7 +56,10 @@ public class DataWriterProcessorStepImpl extends AbstractDataLoadProcessorStep {
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(DataWriterProcessorStepImpl.class.getName());
 
-  private long readCounter;
+  /**
+   * rows read by all the writer threads, which are added once per batch
+   */
+  private final AtomicLong readCounter = new AtomicLong();
 
   public DataWriterProcessorStepImpl(CarbonDataLoadConfiguration configuration,
       AbstractDataLoadProcessorStep child) {
@@ -105,26 +109,8 @@ public class DataWriterProcessorStepImpl extends AbstractDataLoadProcessorStep {
           new CarbonThreadFactory("WriterForwardPool: " + tableName));
       List<Future<Void>> rangeExecutorServiceSubmitList = new ArrayList<>(iterators.length);
       int i = 0;
-      // do this concurrently
+      // do this concurrently, every range is written by its own data handler
       for (Iterator<CarbonRowBatch> iterator : iterators) {
-        String[] storeLocation = getStoreLocation(tableIdentifier);
-
-        CarbonFactDataHandlerModel model = CarbonFactDataHandlerModel
-            .createCarbonFactDataHandlerModel(configuration, storeLocation, i, 0);
-        CarbonFactHandler dataHandler = null;
-        boolean rowsNotExist = true;
-        while (iterator.hasNext()) {
-          if (rowsNotExist) {
-            rowsNotExist = false;
-            dataHandler = CarbonFactHandlerFactory
-                .createCarbonFactHandler(model, CarbonFactHandlerFactory.FactHandlerType.COLUMNAR);
-            dataHandler.initialise();
-          }
-          processBatch(iterator.next(), dataHandler);
-        }
-        if (!rowsNotExist) {
-          finish(dataHandler);
-        }
         rangeExecutorServiceSubmitList.add(
             rangeExecutorService.submit(new WriterForwarder(iterator, tableIdentifier, i)));
         i++;
@@ -210,7 +196,7 @@ public class DataWriterProcessorStepImpl extends AbstractDataLoadProcessorStep {
     }
     LOGGER.info("Record Processed For table: " + tableName);
     String logMessage =
-        "Finished Carbon DataWriterProcessorStepImpl: Read: " + readCounter + ": Write: "
+        "Finished Carbon DataWriterProcessorStepImpl: Read: " + readCounter.get() + ": Write: "
             + rowCounter.get();
     LOGGER.info(logMessage);
     CarbonTimeStatisticsFactory.getLoadStatisticsInstance().recordTotalRecords(rowCounter.get());
@@ -239,21 +225,24 @@ public class DataWriterProcessorStepImpl extends AbstractDataLoadProcessorStep {
 
   private void processBatch(CarbonRowBatch batch, CarbonFactHandler dataHandler)
       throws CarbonDataLoadingException {
+    long batchReadCounter = 0;
     try {
       while (batch.hasNext()) {
         CarbonRow row = batch.next();
         dataHandler.addDataToStore(row);
-        readCounter++;
+        batchReadCounter++;
       }
     } catch (Exception e) {
       throw new CarbonDataLoadingException(e);
+    } finally {
+      readCounter.getAndAdd(batchReadCounter);
     }
     rowCounter.getAndAdd(batch.getSize());
   }
 
   public void processRow(CarbonRow row, CarbonFactHandler dataHandler) throws KeyGenException {
     try {
-      readCounter++;
+      readCounter.getAndAdd(1);
       dataHandler.addDataToStore(row);
     } catch (Exception e) {
       throw new CarbonDataLoadingException("unable to generate the mdkey", e);
@@ -25,15 +25,15 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.constants.CarbonV3DataFormatConstants;
+import org.apache.carbondata.core.datastore.TableSpec;
 import org.apache.carbondata.core.datastore.columnar.ColumnGroupModel;
 import org.apache.carbondata.core.datastore.exception.CarbonDataWriterException;
 import org.apache.carbondata.core.datastore.row.CarbonRow;
@@ -41,13 +41,16 @@ import org.apache.carbondata.core.keygenerator.KeyGenException;
 import org.apache.carbondata.core.keygenerator.columnar.ColumnarSplitter;
 import org.apache.carbondata.core.keygenerator.columnar.impl.MultiDimKeyVarLengthEquiSplitGenerator;
 import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.memory.UnsafeMemoryManager;
 import org.apache.carbondata.core.metadata.ColumnarFormatVersion;
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.datatype.DataTypes;
 import org.apache.carbondata.core.metadata.schema.table.column.CarbonDimension;
 import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonThreadFactory;
+import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory;
 import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.util.LoadStatistics;
 import org.apache.carbondata.processing.datatypes.GenericDataType;
 import org.apache.carbondata.processing.loading.sort.SortScopeOptions;
 import org.apache.carbondata.processing.store.writer.CarbonFactDataWriter;
@@ -88,18 +91,27 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
   private List<Future<Void>> consumerExecutorServiceTaskList;
   private List<CarbonRow> dataRows;
   private ColumnGroupModel colGrpModel;
-  /**
-   * semaphore which will used for managing node holder objects
-   */
-  private Semaphore semaphore;
   /**
    * counter that incremented for every job submitted to data writer thread
    */
   private int writerTaskSequenceCounter;
   /**
-   * a private class that will hold the data for blocklets
+   * ordered handoff of the encoded pages from the producers to the consumer
+   */
+  private TablePageHandoff tablePageHandoff;
+  /**
+   * executor service that helps the producers to encode the columns of wide tables in parallel,
+   * null if the columns are encoded by the producer only
    */
-  private TablePageList tablePageList;
+  private ExecutorService columnEncoderExecutorService;
+  /**
+   * number of threads of the column encoder executor service
+   */
+  private int numColumnEncoderThreads;
+  /**
+   * time in nanoseconds spent to encode each column, summed up over all pages
+   */
+  private AtomicLongArray columnEncodeTime;
   /**
    * number of cores configured
    */
@@ -112,7 +124,7 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
   /**
    * flag to check whether all blocklets have been finished writing
    */
-  private boolean processingComplete;
+  private volatile boolean processingComplete;
 
   /**
    * current data format version
@@ -176,11 +188,31 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
         .newFixedThreadPool(1, new CarbonThreadFactory("ConsumerPool:" + model.getTableName()
             + ", range: " + model.getBucketId()));
     consumerExecutorServiceTaskList = new ArrayList<>(1);
-    semaphore = new Semaphore(numberOfCores);
-    tablePageList = new TablePageList();
+    // the producer encodes the columns of a page of a wide table together with the threads of
+    // the column encoder pool, the pool is shared by all producers
+    TableSpec tableSpec = model.getTableSpec();
+    int numColumns = tableSpec.getNumDimensions() + tableSpec.getNumMeasures();
+    int minColumnsForParallelEncode =
+        CarbonProperties.getInstance().getLoadPageEncodeParallelMinColumns();
+    if (numberOfCores > 1 && minColumnsForParallelEncode > 0
+        && numColumns >= minColumnsForParallelEncode) {
+      numColumnEncoderThreads = numberOfCores - 1;
+      columnEncoderExecutorService = Executors.newFixedThreadPool(numColumnEncoderThreads,
+          new CarbonThreadFactory("ColumnEncoderPool:" + model.getTableName()
+              + ", range: " + model.getBucketId()));
+      LOGGER.info("Encoding the " + numColumns + " columns of each page with up to "
+          + numberOfCores + " threads");
+    }
+    columnEncodeTime = new AtomicLongArray(numColumns);
+    // the encoded pages waiting for the consumer hold their column pages in the working memory
+    // until they are written, so the budget is further limited by the free working memory
+    long maxBufferedBytes =
+        Math.min(CarbonProperties.getInstance().getLoadPageQueueMaxSizeInBytes(),
+            UnsafeMemoryManager.INSTANCE.getAvailableMemory() / 2);
+    tablePageHandoff = new TablePageHandoff(numberOfCores, maxBufferedBytes);
 
     // Start the consumer which will take each blocklet/page in order and write to a file
-    Consumer consumer = new Consumer(tablePageList);
+    Consumer consumer = new Consumer(tablePageHandoff);
     consumerExecutorServiceTaskList.add(consumerExecutorService.submit(consumer));
   }
 
@@ -223,11 +255,11 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     // this to leaf node file and update the intermediate files
     if (this.entryCount == this.pageSize) {
       try {
-        semaphore.acquire();
+        tablePageHandoff.acquire(++writerTaskSequenceCounter);
 
         producerExecutorServiceTaskList.add(
             producerExecutorService.submit(
-                new Producer(tablePageList, dataRows, ++writerTaskSequenceCounter, false)
+                new Producer(tablePageHandoff, dataRows, writerTaskSequenceCounter, false)
             )
         );
         blockletProcessingCount.incrementAndGet();
@@ -259,7 +291,11 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
       tablePage.addRow(rowId++, row);
     }
 
-    tablePage.encode();
+    tablePage.encode(columnEncoderExecutorService, numColumnEncoderThreads);
+    long[] pageColumnEncodeTime = tablePage.getColumnEncodeTime();
+    for (int i = 0; i < pageColumnEncodeTime.length; i++) {
+      columnEncodeTime.addAndGet(i, pageColumnEncodeTime[i]);
+    }
 
     LOGGER.info("Number Of records processed: " + dataRows.size());
     return tablePage;
@@ -281,9 +317,9 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     }
     LOGGER.info("Started Finish Operation");
     try {
-      semaphore.acquire();
+      tablePageHandoff.acquire(++writerTaskSequenceCounter);
       producerExecutorServiceTaskList.add(producerExecutorService
-          .submit(new Producer(tablePageList, dataRows, ++writerTaskSequenceCounter, true)));
+          .submit(new Producer(tablePageHandoff, dataRows, writerTaskSequenceCounter, true)));
       blockletProcessingCount.incrementAndGet();
       processedDataCount += entryCount;
       LOGGER.info("Total Number Of records added to store: " + processedDataCount);
@@ -293,6 +329,38 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     } catch (InterruptedException e) {
       LOGGER.error(e, e.getMessage());
       throw new CarbonDataWriterException(e.getMessage(), e);
+    } finally {
+      // all the producers are done or failed, so no page is encoded any more
+      shutdownColumnEncoderExecutorService();
+    }
+  }
+
+  /**
+   * stop the threads of the column encoder pool, it is called on success and on failure so
+   * that a failed load does not leave the threads behind
+   */
+  private void shutdownColumnEncoderExecutorService() {
+    if (null != columnEncoderExecutorService) {
+      columnEncoderExecutorService.shutdownNow();
+    }
+  }
+
+  /**
+   * record the time spent to encode each column in the load statistics
+   */
+  private void recordColumnEncodeTime() {
+    LoadStatistics loadStatistics = CarbonTimeStatisticsFactory.getLoadStatisticsInstance();
+    TableSpec tableSpec = model.getTableSpec();
+    int numDimensions = tableSpec.getNumDimensions();
+    for (int i = 0; i < columnEncodeTime.length(); i++) {
+      String columnName;
+      if (i < numDimensions) {
+        columnName = tableSpec.getDimensionSpec(i).getFieldName();
+      } else {
+        columnName = tableSpec.getMeasureSpec(i - numDimensions).getFieldName();
+      }
+      loadStatistics.recordColumnEncodeTime(columnName,
+          TimeUnit.NANOSECONDS.toMillis(columnEncodeTime.get(i)));
     }
   }
 
@@ -342,6 +410,8 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
    * below method will be used to close the handler
    */
   public void closeHandler() throws CarbonDataWriterException {
+    // finish is not called when the load fails before it
+    shutdownColumnEncoderExecutorService();
     if (null != this.dataWriter) {
       // wait until all blocklets have been finished writing
       while (blockletProcessingCount.get() > 0) {
@@ -352,8 +422,25 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
         }
       }
       consumerExecutorService.shutdownNow();
-      processWriteTaskSubmitList(consumerExecutorServiceTaskList);
-      this.dataWriter.writeFooterToFile();
+      try {
+        processWriteTaskSubmitList(consumerExecutorServiceTaskList);
+        long waitForWriterTime = tablePageHandoff.getWaitForWriterTime();
+        long waitForPageTime = tablePageHandoff.getWaitForPageTime();
+        LOGGER.info("Time waited for the writer: " + waitForWriterTime
+            + "ms, time the writer waited for pages: " + waitForPageTime + "ms");
+        CarbonTimeStatisticsFactory.getLoadStatisticsInstance()
+            .recordDataWriterWaitTime(waitForWriterTime, waitForPageTime);
+        recordColumnEncodeTime();
+        this.dataWriter.writeFooterToFile();
+      } catch (RuntimeException e) {
+        // the current file can not be completed, so it must not be left in the store
+        try {
+          this.dataWriter.abortCurrentFile();
+        } catch (CarbonDataWriterException abortException) {
+          LOGGER.error(abortException, abortException.getMessage());
+        }
+        throw e;
+      }
       LOGGER.info("All blocklets have been finished writing");
       // close all the open stream for both the files
       this.dataWriter.closeWriter();
@@ -471,81 +558,19 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     blockletProcessingCount.set(0);
   }
 
-  /**
-   * This class will hold the table page data
-   */
-  private final class TablePageList {
-    /**
-     * array of table page added by Producer and get by Consumer
-     */
-    private TablePage[] tablePages;
-    /**
-     * flag to check whether the producer has completed processing for holder
-     * object which is required to be picked form an index
-     */
-    private AtomicBoolean available;
-    /**
-     * index from which data node holder object needs to be picked for writing
-     */
-    private int currentIndex;
-
-    private TablePageList() {
-      tablePages = new TablePage[numberOfCores];
-      available = new AtomicBoolean(false);
-    }
-
-    /**
-     * @return a node holder object
-     * @throws InterruptedException if consumer thread is interrupted
-     */
-    public synchronized TablePage get() throws InterruptedException {
-      TablePage tablePage = tablePages[currentIndex];
-      // if node holder is null means producer thread processing the data which has to
-      // be inserted at this current index has not completed yet
-      if (null == tablePage && !processingComplete) {
-        available.set(false);
-      }
-      while (!available.get()) {
-        wait();
-      }
-      tablePage = tablePages[currentIndex];
-      tablePages[currentIndex] = null;
-      currentIndex++;
-      // reset current index when it reaches length of node holder array
-      if (currentIndex >= tablePages.length) {
-        currentIndex = 0;
-      }
-      return tablePage;
-    }
-
-    /**
-     * @param tablePage
-     * @param index
-     */
-    public synchronized void put(TablePage tablePage, int index) {
-      tablePages[index] = tablePage;
-      // notify the consumer thread when index at which object is to be inserted
-      // becomes equal to current index from where data has to be picked for writing
-      if (index == currentIndex) {
-        available.set(true);
-        notifyAll();
-      }
-    }
-  }
-
   /**
    * Producer which will process data equivalent to 1 blocklet size
    */
   private final class Producer implements Callable<Void> {
 
-    private TablePageList tablePageList;
+    private TablePageHandoff tablePageHandoff;
     private List<CarbonRow> dataRows;
     private int pageId;
     private boolean isLastPage;
 
-    private Producer(TablePageList tablePageList, List<CarbonRow> dataRows,
+    private Producer(TablePageHandoff tablePageHandoff, List<CarbonRow> dataRows,
         int pageId, boolean isLastPage) {
-      this.tablePageList = tablePageList;
+      this.tablePageHandoff = tablePageHandoff;
       this.dataRows = dataRows;
       this.pageId = pageId;
       this.isLastPage = isLastPage;
@@ -562,13 +587,14 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
         TablePage tablePage = processDataRows(dataRows);
         dataRows = null;
         tablePage.setIsLastPage(isLastPage);
-        // insert the object in array according to sequence number
-        int indexInNodeHolderArray = (pageId - 1) % numberOfCores;
-        tablePageList.put(tablePage, indexInNodeHolderArray);
+        // hand off the page according to sequence number
+        tablePageHandoff.put(pageId, tablePage);
         return null;
       } catch (Throwable throwable) {
         LOGGER.error(throwable, "Error in producer");
+        tablePageHandoff.abort();
         consumerExecutorService.shutdownNow();
+        shutdownColumnEncoderExecutorService();
         resetBlockletProcessingCount();
         throw new CarbonDataWriterException(throwable.getMessage(), throwable);
       }
@@ -580,10 +606,10 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
    */
   private final class Consumer implements Callable<Void> {
 
-    private TablePageList tablePageList;
+    private TablePageHandoff tablePageHandoff;
 
-    private Consumer(TablePageList tablePageList) {
-      this.tablePageList = tablePageList;
+    private Consumer(TablePageHandoff tablePageHandoff) {
+      this.tablePageHandoff = tablePageHandoff;
     }
 
     /**
@@ -596,7 +622,7 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
       while (!processingComplete || blockletProcessingCount.get() > 0) {
         TablePage tablePage = null;
         try {
-          tablePage = tablePageList.get();
+          tablePage = tablePageHandoff.take();
           if (null != tablePage) {
             dataWriter.writeTablePage(tablePage);
             tablePage.freeMemory();
@@ -604,13 +630,13 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
           blockletProcessingCount.decrementAndGet();
         } catch (Throwable throwable) {
           if (!processingComplete || blockletProcessingCount.get() > 0) {
+            tablePageHandoff.abort();
             producerExecutorService.shutdownNow();
+            shutdownColumnEncoderExecutorService();
             resetBlockletProcessingCount();
             LOGGER.error(throwable, "Problem while writing the carbon data file");
             throw new CarbonDataWriterException(throwable.getMessage());
           }
-        } finally {
-          semaphore.release();
         }
       }
       return null;
@@ -26,6 +26,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.carbondata.core.datastore.ColumnType;
 import org.apache.carbondata.core.datastore.TableSpec;
@@ -47,7 +52,10 @@ import org.apache.carbondata.core.keygenerator.KeyGenException;
 import org.apache.carbondata.core.memory.MemoryException;
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.core.util.CarbonTaskInfo;
 import org.apache.carbondata.core.util.DataTypeUtil;
+import org.apache.carbondata.core.util.ThreadLocalTaskInfo;
 import org.apache.carbondata.processing.datatypes.GenericDataType;
 
 
@@ -57,6 +65,10 @@ import org.apache.carbondata.processing.datatypes.GenericDataType;
  */
 public class TablePage {
 
+  // min number of values (rows * columns) to encode by each thread if a page is encoded by
+  // multiple threads
+  private static final long MIN_CELLS_PER_ENCODE_THREAD = 256 * 1024;
+
   // For all dimension and measure columns, we store the column data directly in the page,
   // the length of the page is the number of rows.
 
@@ -78,6 +90,9 @@ public class TablePage {
 
   private EncodingFactory encodingFactory = DefaultEncodingFactory.getInstance();
 
+  // time in nanoseconds spent to encode each column of this page
+  private long[] columnEncodeTime;
+
   // true if it is last page of all input rows
   private boolean isLastPage;
 
@@ -94,13 +109,17 @@ public class TablePage {
       TableSpec.DimensionSpec spec = tableSpec.getDimensionSpec(i);
       ColumnPage page = ColumnPage.newPage(spec, DataTypes.BYTE_ARRAY, pageSize);
       page.setStatsCollector(KeyPageStatsCollector.newInstance(DataTypes.BYTE_ARRAY));
+      page.setColumnCompressorName(tableSpec.getColumnCompressorName());
       dictDimensionPages[i] = page;
     }
     noDictDimensionPages = new ColumnPage[model.getNoDictionaryCount()];
+    int localDictionaryThreshold =
+        CarbonProperties.getInstance().getLoadPageLocalDictionaryThreshold();
     for (int i = 0; i < noDictDimensionPages.length; i++) {
       TableSpec.DimensionSpec spec = tableSpec.getDimensionSpec(i + numDictDimension);
       ColumnPage page = ColumnPage.newPage(spec, DataTypes.STRING, pageSize);
-      page.setStatsCollector(LVStringStatsCollector.newInstance());
+      page.setStatsCollector(LVStringStatsCollector.newInstance(localDictionaryThreshold));
+      page.setColumnCompressorName(tableSpec.getColumnCompressorName());
       noDictDimensionPages[i] = page;
     }
     complexDimensionPages = new ComplexColumnPage[model.getComplexColumnCount()];
@@ -121,6 +140,7 @@ public class TablePage {
       }
       page.setStatsCollector(
           PrimitivePageStatsCollector.newInstance(dataTypes[i]));
+      page.setColumnCompressorName(tableSpec.getColumnCompressorName());
       measurePages[i] = page;
     }
     boolean hasNoDictionary = noDictDimensionPages.length > 0;
@@ -262,10 +282,46 @@ public class TablePage {
     return output;
   }
 
-  void encode() throws KeyGenException, MemoryException, IOException {
-    // encode dimensions and measure
-    EncodedColumnPage[] dimensions = encodeAndCompressDimensions();
-    EncodedColumnPage[] measures = encodeAndCompressMeasures();
+  /**
+   * Encode all the column pages of this page. If `columnEncoderService` is not null and the
+   * page is large enough, the columns are encoded in parallel by the calling thread together
+   * with at most `numColumnEncoderThreads` threads of the service.
+   */
+  void encode(ExecutorService columnEncoderService, int numColumnEncoderThreads)
+      throws KeyGenException, MemoryException, IOException {
+    TableSpec tableSpec = model.getTableSpec();
+    int numDimensions = tableSpec.getNumDimensions();
+    int numColumns = numDimensions + tableSpec.getNumMeasures();
+    ColumnEncoder columnEncoder = new ColumnEncoder(numColumns);
+    int numThreads = 1;
+    if (null != columnEncoderService) {
+      numThreads = getNumEncodeThreads(numColumns, numColumnEncoderThreads + 1);
+    }
+    if (numThreads > 1) {
+      encodeInParallel(columnEncoder, columnEncoderService, numThreads - 1);
+    } else {
+      columnEncoder.encodeColumns();
+    }
+
+    // encoded pages of the complex columns are placed after all the other dimensions
+    EncodedColumnPage[][] encodedColumns = columnEncoder.encodedColumns;
+    List<EncodedColumnPage> encodedDimensions = new ArrayList<>();
+    List<EncodedColumnPage> encodedComplexDimenions = new ArrayList<>();
+    for (int i = 0; i < numDimensions; i++) {
+      if (tableSpec.getDimensionSpec(i).getColumnType() == ColumnType.COMPLEX) {
+        encodedComplexDimenions.addAll(Arrays.asList(encodedColumns[i]));
+      } else {
+        encodedDimensions.add(encodedColumns[i][0]);
+      }
+    }
+    encodedDimensions.addAll(encodedComplexDimenions);
+    EncodedColumnPage[] dimensions =
+        encodedDimensions.toArray(new EncodedColumnPage[encodedDimensions.size()]);
+    EncodedColumnPage[] measures = new EncodedColumnPage[measurePages.length];
+    for (int i = 0; i < measures.length; i++) {
+      measures[i] = encodedColumns[numDimensions + i][0];
+    }
+    this.columnEncodeTime = columnEncoder.encodeTime;
     this.encodedTablePage = EncodedTablePage.newInstance(pageSize, dimensions, measures, key);
   }
 
@@ -273,61 +329,197 @@ public class TablePage {
     return encodedTablePage;
   }
 
-  // apply measure and set encodedData in `encodedData`
-  private EncodedColumnPage[] encodeAndCompressMeasures()
-      throws MemoryException, IOException {
-    EncodedColumnPage[] encodedMeasures = new EncodedColumnPage[measurePages.length];
-    for (int i = 0; i < measurePages.length; i++) {
-      ColumnPageEncoder encoder = encodingFactory.createEncoder(
-          model.getTableSpec().getMeasureSpec(i), measurePages[i]);
-      encodedMeasures[i] = encoder.encode(measurePages[i]);
+  /**
+   * Return the time in nanoseconds spent to encode each column of this page, the dimensions in
+   * the order of the table spec followed by the measures
+   */
+  long[] getColumnEncodeTime() {
+    return columnEncodeTime;
+  }
+
+  /**
+   * Cost model of the parallel encoding: the encode cost of a column is proportional to the
+   * number of rows, so every thread should get at least MIN_CELLS_PER_ENCODE_THREAD cells to
+   * pay off handing the columns over to it. Small pages, like the last page of a load, and
+   * narrow tables are encoded by the calling thread only.
+   */
+  private int getNumEncodeThreads(int numColumns, int maxThreads) {
+    long numCells = (long) pageSize * numColumns;
+    long numThreads = Math.min(numCells / MIN_CELLS_PER_ENCODE_THREAD, Math.min(numColumns,
+        maxThreads));
+    return (int) Math.max(1, numThreads);
+  }
+
+  /**
+   * Encode the columns by the calling thread and `numHelpers` threads of `columnEncoderService`,
+   * the threads take the next column to encode from the shared `columnEncoder` until all columns
+   * are encoded. It returns only after all helpers finished, also in case of failure.
+   */
+  private void encodeInParallel(ColumnEncoder columnEncoder, ExecutorService columnEncoderService,
+      int numHelpers) throws KeyGenException, MemoryException, IOException {
+    List<Future<Void>> helpers = new ArrayList<>(numHelpers);
+    Throwable failure = null;
+    try {
+      for (int i = 0; i < numHelpers; i++) {
+        helpers.add(columnEncoderService.submit(columnEncoder));
+      }
+      columnEncoder.encodeColumns();
+    } catch (Throwable throwable) {
+      failure = throwable;
+      columnEncoder.abort();
     }
-    return encodedMeasures;
+    for (Future<Void> helper : helpers) {
+      try {
+        helper.get();
+      } catch (InterruptedException e) {
+        if (null == failure) {
+          failure = e;
+        }
+        columnEncoder.abort();
+      } catch (ExecutionException e) {
+        if (null == failure) {
+          failure = e.getCause();
+        }
+      }
+    }
+    if (null == failure) {
+      return;
+    }
+    if (failure instanceof KeyGenException) {
+      throw (KeyGenException) failure;
+    } else if (failure instanceof MemoryException) {
+      throw (MemoryException) failure;
+    } else if (failure instanceof IOException) {
+      throw (IOException) failure;
+    } else if (failure instanceof Error) {
+      throw (Error) failure;
+    } else if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    throw new CarbonDataWriterException(failure.getMessage(), failure);
   }
 
-  // apply and compress each dimension, set encoded data in `encodedData`
-  private EncodedColumnPage[] encodeAndCompressDimensions()
+  /**
+   * Encode the column at `columnIndex`, the dimensions in the order of the table spec followed
+   * by the measures. A complex column is encoded into one page for each level.
+   */
+  private EncodedColumnPage[] encodeColumn(int columnIndex, int pageIndex)
       throws KeyGenException, IOException, MemoryException {
-    List<EncodedColumnPage> encodedDimensions = new ArrayList<>();
-    List<EncodedColumnPage> encodedComplexDimenions = new ArrayList<>();
     TableSpec tableSpec = model.getTableSpec();
+    int numDimensions = tableSpec.getNumDimensions();
+    ColumnPageEncoder columnPageEncoder;
+    if (columnIndex >= numDimensions) {
+      columnPageEncoder = encodingFactory.createEncoder(
+          tableSpec.getMeasureSpec(pageIndex), measurePages[pageIndex]);
+      return new EncodedColumnPage[] { columnPageEncoder.encode(measurePages[pageIndex]) };
+    }
+    TableSpec.DimensionSpec spec = tableSpec.getDimensionSpec(columnIndex);
+    switch (spec.getColumnType()) {
+      case GLOBAL_DICTIONARY:
+      case DIRECT_DICTIONARY:
+        columnPageEncoder = encodingFactory.createEncoder(
+            spec,
+            dictDimensionPages[pageIndex]);
+        return new EncodedColumnPage[] {
+            columnPageEncoder.encode(dictDimensionPages[pageIndex]) };
+      case PLAIN_VALUE:
+        columnPageEncoder = encodingFactory.createEncoder(
+            spec,
+            noDictDimensionPages[pageIndex]);
+        return new EncodedColumnPage[] {
+            columnPageEncoder.encode(noDictDimensionPages[pageIndex]) };
+      case COMPLEX:
+        return ColumnPageEncoder.encodeComplexColumn(
+            complexDimensionPages[pageIndex], tableSpec.getColumnCompressorName());
+      default:
+        throw new IllegalArgumentException("unsupported dimension type:" + spec
+            .getColumnType());
+    }
+  }
+
+  /**
+   * Index of each column in the page array of its column type, the dimensions in the order of
+   * the table spec followed by the measures
+   */
+  private int[] getPageIndexes(int numColumns) {
+    TableSpec tableSpec = model.getTableSpec();
+    int numDimensions = tableSpec.getNumDimensions();
+    int[] pageIndexes = new int[numColumns];
     int dictIndex = 0;
     int noDictIndex = 0;
     int complexDimIndex = 0;
-    int numDimensions = tableSpec.getNumDimensions();
     for (int i = 0; i < numDimensions; i++) {
-      ColumnPageEncoder columnPageEncoder;
-      EncodedColumnPage encodedPage;
-      TableSpec.DimensionSpec spec = tableSpec.getDimensionSpec(i);
-      switch (spec.getColumnType()) {
+      switch (tableSpec.getDimensionSpec(i).getColumnType()) {
         case GLOBAL_DICTIONARY:
         case DIRECT_DICTIONARY:
-          columnPageEncoder = encodingFactory.createEncoder(
-              spec,
-              dictDimensionPages[dictIndex]);
-          encodedPage = columnPageEncoder.encode(dictDimensionPages[dictIndex++]);
-          encodedDimensions.add(encodedPage);
+          pageIndexes[i] = dictIndex++;
           break;
         case PLAIN_VALUE:
-          columnPageEncoder = encodingFactory.createEncoder(
-              spec,
-              noDictDimensionPages[noDictIndex]);
-          encodedPage = columnPageEncoder.encode(noDictDimensionPages[noDictIndex++]);
-          encodedDimensions.add(encodedPage);
-          break;
-        case COMPLEX:
-          EncodedColumnPage[] encodedPages = ColumnPageEncoder.encodeComplexColumn(
-              complexDimensionPages[complexDimIndex++]);
-          encodedComplexDimenions.addAll(Arrays.asList(encodedPages));
+          pageIndexes[i] = noDictIndex++;
           break;
         default:
-          throw new IllegalArgumentException("unsupported dimension type:" + spec
-              .getColumnType());
+          pageIndexes[i] = complexDimIndex++;
       }
     }
+    for (int i = numDimensions; i < numColumns; i++) {
+      pageIndexes[i] = i - numDimensions;
+    }
+    return pageIndexes;
+  }
 
-    encodedDimensions.addAll(encodedComplexDimenions);
-    return encodedDimensions.toArray(new EncodedColumnPage[encodedDimensions.size()]);
+  /**
+   * Encodes the columns of this page, shared by all the threads encoding the page. Every
+   * thread takes the next column which is not taken yet, so that columns of different encode
+   * cost are balanced over the threads.
+   */
+  private final class ColumnEncoder implements Callable<Void> {
+
+    private final int[] pageIndexes;
+
+    private final EncodedColumnPage[][] encodedColumns;
+
+    private final long[] encodeTime;
+
+    private final AtomicInteger nextColumn = new AtomicInteger();
+
+    // the column pages are allocated in the working memory of the task of the calling thread
+    private final CarbonTaskInfo carbonTaskInfo = ThreadLocalTaskInfo.getCarbonTaskInfo();
+
+    private volatile boolean aborted;
+
+    private ColumnEncoder(int numColumns) {
+      this.pageIndexes = getPageIndexes(numColumns);
+      this.encodedColumns = new EncodedColumnPage[numColumns][];
+      this.encodeTime = new long[numColumns];
+    }
+
+    @Override
+    public Void call() throws Exception {
+      ThreadLocalTaskInfo.setCarbonTaskInfo(carbonTaskInfo);
+      encodeColumns();
+      return null;
+    }
+
+    private void encodeColumns() throws KeyGenException, IOException, MemoryException {
+      while (!aborted) {
+        int columnIndex = nextColumn.getAndIncrement();
+        if (columnIndex >= encodedColumns.length) {
+          return;
+        }
+        long startTime = System.nanoTime();
+        try {
+          encodedColumns[columnIndex] = encodeColumn(columnIndex, pageIndexes[columnIndex]);
+        } catch (KeyGenException | IOException | MemoryException | RuntimeException e) {
+          abort();
+          throw e;
+        }
+        encodeTime[columnIndex] = System.nanoTime() - startTime;
+      }
+    }
+
+    private void abort() {
+      aborted = true;
+    }
   }
 
   /**
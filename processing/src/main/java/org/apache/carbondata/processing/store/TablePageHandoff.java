@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.store;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.carbondata.core.datastore.exception.CarbonDataWriterException;
+
+/**
+ * Ordered handoff of the encoded table pages from the producers to the single consumer which
+ * writes them to the file.
+ *
+ * A page is kept in the slot of its sequence number until all the pages before it are taken,
+ * so the consumer gets the pages in the order of their sequence. The number of pages in
+ * process is limited by the number of slots, and the encoded bytes of the pages waiting for
+ * the consumer are limited by the byte budget. The next page of the consumer is always
+ * accepted, even if it is beyond the budget, so a large page can not block the handoff.
+ */
+final class TablePageHandoff {
+
+  private final TablePage[] slots;
+
+  private final long[] slotBytes;
+
+  private final long maxBufferedBytes;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  // signalled when the next page of the consumer is put
+  private final Condition pageReady = lock.newCondition();
+
+  // signalled when a page is taken, which frees a slot and part of the budget
+  private final Condition pageTaken = lock.newCondition();
+
+  // sequence number of the next page to take, sequence starts from 1
+  private int nextSequence = 1;
+
+  private long bufferedBytes;
+
+  private boolean isAborted;
+
+  private long waitForWriterNanos;
+
+  private long waitForPageNanos;
+
+  TablePageHandoff(int numberOfSlots, long maxBufferedBytes) {
+    this.slots = new TablePage[numberOfSlots];
+    this.slotBytes = new long[numberOfSlots];
+    this.maxBufferedBytes = maxBufferedBytes;
+  }
+
+  private int slotOf(int sequence) {
+    return (sequence - 1) % slots.length;
+  }
+
+  /**
+   * Wait until the page of the sequence can be processed, that is the pages at least one
+   * number of slots before it are taken
+   */
+  void acquire(int sequence) throws InterruptedException, CarbonDataWriterException {
+    lock.lockInterruptibly();
+    try {
+      long startTime = System.nanoTime();
+      while (!isAborted && sequence - nextSequence >= slots.length) {
+        pageTaken.await();
+      }
+      waitForWriterNanos += System.nanoTime() - startTime;
+      checkAborted();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Put the encoded page of the sequence, wait if the budget is used by the pages before it
+   */
+  void put(int sequence, TablePage tablePage)
+      throws InterruptedException, CarbonDataWriterException {
+    // the page of no rows is not encoded
+    long size = null == tablePage.getEncodedTablePage() ? 0 :
+        tablePage.getEncodedTablePage().getEncodedSize();
+    lock.lockInterruptibly();
+    try {
+      long startTime = System.nanoTime();
+      while (!isAborted && sequence != nextSequence
+          && bufferedBytes + size > maxBufferedBytes) {
+        pageTaken.await();
+      }
+      waitForWriterNanos += System.nanoTime() - startTime;
+      checkAborted();
+      int slot = slotOf(sequence);
+      slots[slot] = tablePage;
+      slotBytes[slot] = size;
+      bufferedBytes += size;
+      if (sequence == nextSequence) {
+        pageReady.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Take the next page in sequence, wait until it is put
+   */
+  TablePage take() throws InterruptedException, CarbonDataWriterException {
+    lock.lockInterruptibly();
+    try {
+      int slot = slotOf(nextSequence);
+      long startTime = System.nanoTime();
+      while (!isAborted && null == slots[slot]) {
+        pageReady.await();
+      }
+      waitForPageNanos += System.nanoTime() - startTime;
+      checkAborted();
+      TablePage tablePage = slots[slot];
+      slots[slot] = null;
+      bufferedBytes -= slotBytes[slot];
+      slotBytes[slot] = 0;
+      nextSequence++;
+      pageTaken.signalAll();
+      if (null != slots[slotOf(nextSequence)]) {
+        pageReady.signal();
+      }
+      return tablePage;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Wake up all the waiting threads when the producer or consumer failed
+   */
+  void abort() {
+    lock.lock();
+    try {
+      isAborted = true;
+      pageReady.signalAll();
+      pageTaken.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void checkAborted() throws CarbonDataWriterException {
+    if (isAborted) {
+      throw new CarbonDataWriterException("Writing of the table pages is aborted");
+    }
+  }
+
+  /**
+   * Time in milliseconds the input and producers waited for the consumer
+   */
+  long getWaitForWriterTime() {
+    lock.lock();
+    try {
+      return TimeUnit.NANOSECONDS.toMillis(waitForWriterNanos);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Time in milliseconds the consumer waited for the next page
+   */
+  long getWaitForPageTime() {
+    lock.lock();
+    try {
+      return TimeUnit.NANOSECONDS.toMillis(waitForPageNanos);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
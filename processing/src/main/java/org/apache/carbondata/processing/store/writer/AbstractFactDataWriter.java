@@ -152,6 +152,16 @@ public abstract class AbstractFactDataWriter implements CarbonFactDataWriter {
    */
   private boolean enableDirectlyWriteData2Hdfs = false;
 
+  /**
+   * Whether to write fact data to the store while it is written, see PipelinedStoreOutputStream
+   */
+  private boolean enablePipelinedWrite2Store = false;
+
+  /**
+   * stream of the current fact data file if it is written to the store while it is written
+   */
+  private PipelinedStoreOutputStream pipelinedStoreOutputStream;
+
   public AbstractFactDataWriter(CarbonFactDataHandlerModel model) {
     this.model = model;
     blockIndexInfoList = new ArrayList<>();
@@ -176,8 +186,13 @@ public abstract class AbstractFactDataWriter implements CarbonFactDataWriter {
         CarbonLoadOptionConstants.ENABLE_CARBON_LOAD_DIRECT_WRITE_HDFS,
         CarbonLoadOptionConstants.ENABLE_CARBON_LOAD_DIRECT_WRITE_HDFS_DEFAULT);
     this.enableDirectlyWriteData2Hdfs = "TRUE".equalsIgnoreCase(directlyWriteData2Hdfs);
+    this.enablePipelinedWrite2Store = !enableDirectlyWriteData2Hdfs && "TRUE".equalsIgnoreCase(
+        propInstance.getProperty(CarbonLoadOptionConstants.ENABLE_CARBON_LOAD_PIPELINED_WRITE_STORE,
+            CarbonLoadOptionConstants.ENABLE_CARBON_LOAD_PIPELINED_WRITE_STORE_DEFAULT));
     if (enableDirectlyWriteData2Hdfs) {
       LOGGER.info("Carbondata will directly write fact data to HDFS.");
+    } else if (enablePipelinedWrite2Store) {
+      LOGGER.info("Carbondata will write fact data to the store while it is written.");
     } else {
       LOGGER.info("Carbondata will write temporary fact data to local disk.");
     }
@@ -229,8 +244,8 @@ public abstract class AbstractFactDataWriter implements CarbonFactDataWriter {
       throws CarbonDataWriterException {
     if ((currentFileSize + blockletSizeToBeAdded) >= blockSizeThreshold && currentFileSize != 0) {
       // set the current file size to zero
-      String activeFile =
-          enableDirectlyWriteData2Hdfs ? carbonDataFileHdfsPath : carbonDataFileTempPath;
+      String activeFile = enableDirectlyWriteData2Hdfs || enablePipelinedWrite2Store ?
+          carbonDataFileHdfsPath : carbonDataFileTempPath;
       LOGGER.info("Writing data to file as max file size reached for file: "
           + activeFile + ". Data block size: " + currentFileSize);
       // write meta data to end of the existing file
@@ -275,6 +290,25 @@ public abstract class AbstractFactDataWriter implements CarbonFactDataWriter {
    */
   protected void commitCurrentFile(boolean copyInCurrentThread) {
     notifyDataMapBlockEnd();
+    if (enablePipelinedWrite2Store) {
+      // the stream completes the file in the store in the background, the remaining parts are
+      // written before the parts of the next file as they share the single thread executor
+      // the stream deletes the file from the store if it fails
+      try {
+        Future<Void> future = pipelinedStoreOutputStream.closeInBackground();
+        if (copyInCurrentThread) {
+          future.get();
+        } else {
+          executorServiceSubmitList.add(future);
+        }
+      } catch (IOException | InterruptedException | ExecutionException e) {
+        throw new CarbonDataWriterException(
+            "Problem while writing fact data file " + carbonDataFileHdfsPath + " to the store", e);
+      } finally {
+        pipelinedStoreOutputStream = null;
+      }
+      return;
+    }
     CarbonUtil.closeStreams(this.fileOutputStream, this.fileChannel);
     if (enableDirectlyWriteData2Hdfs) {
       if (copyInCurrentThread) {
@@ -296,6 +330,28 @@ public abstract class AbstractFactDataWriter implements CarbonFactDataWriter {
     }
   }
 
+  /**
+   * This method will be used to delete the current file from the store when it is written to
+   * the store while it is written and can not be completed
+   *
+   * @throws CarbonDataWriterException
+   */
+  public void abortCurrentFile() throws CarbonDataWriterException {
+    if (null == pipelinedStoreOutputStream) {
+      return;
+    }
+    LOGGER.info("Deleting the incomplete fact data file " + carbonDataFileHdfsPath);
+    try {
+      pipelinedStoreOutputStream.abort();
+    } catch (IOException e) {
+      throw new CarbonDataWriterException(
+          "Problem while deleting fact data file " + carbonDataFileHdfsPath + " from the store",
+          e);
+    } finally {
+      pipelinedStoreOutputStream = null;
+    }
+  }
+
   /**
    * This method will be used to initialize the channel
    *
@@ -316,6 +372,16 @@ public abstract class AbstractFactDataWriter implements CarbonFactDataWriter {
         fileOutputStream = FileFactory.getDataOutputStream(carbonDataFileHdfsPath,
             FileFactory.FileType.HDFS, CarbonCommonConstants.BYTEBUFFER_SIZE, fileSizeInBytes * 2,
             (short) 1);
+      } else if (enablePipelinedWrite2Store) {
+        // as for the direct write, the block size is twice the block_size specified by user so
+        // that one carbondata file only consists of exactly one HDFS block
+        DataOutputStream storeOutputStream = FileFactory.getDataOutputStream(
+            carbonDataFileHdfsPath, FileFactory.getFileType(carbonDataFileHdfsPath),
+            CarbonCommonConstants.BYTEBUFFER_SIZE, fileSizeInBytes * 2);
+        pipelinedStoreOutputStream = new PipelinedStoreOutputStream(carbonDataFileHdfsPath,
+            storeOutputStream, executorService,
+            CarbonProperties.getInstance().getLoadPipelinedWriteStorePartSizeInBytes());
+        fileOutputStream = new DataOutputStream(pipelinedStoreOutputStream);
       } else {
         //each time we initialize writer, we choose a local temp location randomly
         String[] tempFileLocations = model.getStoreLocation();
@@ -397,6 +463,12 @@ public abstract class AbstractFactDataWriter implements CarbonFactDataWriter {
               model.getBucketId(), model.getTaskExtension(),
               "" + model.getCarbonDataFileAttributes().getFactTimeStamp());
       indexFileName = FileFactory.getUpdatedFilePath(rawFileName, FileFactory.FileType.HDFS);
+    } else if (enablePipelinedWrite2Store) {
+      // the index file is small, it is written to the store directly
+      indexFileName = model.getCarbonDataDirectoryPath() + File.separator + CarbonTablePath
+          .getCarbonIndexFileName(model.getCarbonDataFileAttributes().getTaskId(),
+              model.getBucketId(), model.getTaskExtension(),
+              "" + model.getCarbonDataFileAttributes().getFactTimeStamp());
     } else {
       // randomly choose a temp location for index file
       String[] tempLocations = model.getStoreLocation();
@@ -421,7 +493,7 @@ public abstract class AbstractFactDataWriter implements CarbonFactDataWriter {
     if (enableDirectlyWriteData2Hdfs) {
       executorServiceSubmitList.add(executorService.submit(
           new CompleteHdfsBackendThread(indexFileName, FileFactory.FileType.HDFS)));
-    } else {
+    } else if (!enablePipelinedWrite2Store) {
       CarbonUtil.copyCarbonDataFileToCarbonStorePath(indexFileName,
           model.getCarbonDataDirectoryPath(),
           fileSizeInBytes);
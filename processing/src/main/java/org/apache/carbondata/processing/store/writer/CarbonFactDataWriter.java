@@ -47,4 +47,10 @@ public interface CarbonFactDataWriter {
    */
   void closeWriter() throws CarbonDataWriterException;
 
+  /**
+   * Below method will be used to stop writing the current file when it can not be completed,
+   * a file which is written to the store while it is written is deleted from the store
+   */
+  void abortCurrentFile() throws CarbonDataWriterException;
+
 }
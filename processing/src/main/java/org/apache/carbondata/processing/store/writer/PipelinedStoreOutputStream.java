@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.store.writer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.datastore.impl.FileFactory;
+import org.apache.carbondata.core.util.CarbonUtil;
+
+/**
+ * Output stream which writes a fact data file to its final location in the store while the
+ * data writer is still producing the file, instead of writing it to the local disk first and
+ * copying it after it is complete.
+ *
+ * The data is collected in parts of a fixed size. Every full part is handed over to the store
+ * writer thread, which appends the parts to the store file in order, so the data writer does not
+ * wait for the latency of the store. At most MAX_NUM_PARTS parts are in memory, after that the
+ * data writer waits until the store writer has written a part. For object stores the store
+ * output stream uploads the parts as a multipart upload, so the file is also not staged as a
+ * whole on the local disk.
+ *
+ * A file which can not be completed is deleted from the store, either by the store writer
+ * thread when writing one of its parts failed, or by abort when the data writer fails.
+ */
+class PipelinedStoreOutputStream extends OutputStream {
+
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(PipelinedStoreOutputStream.class.getName());
+
+  /**
+   * max number of parts in memory, the part being filled included
+   */
+  private static final int MAX_NUM_PARTS = 3;
+
+  private String filePath;
+
+  private DataOutputStream storeOutputStream;
+
+  /**
+   * single thread executor writing the parts to the store output stream in order
+   */
+  private ExecutorService storeWriterService;
+
+  private int partSize;
+
+  /**
+   * parts already written to the store which can be filled again
+   */
+  private BlockingQueue<byte[]> freeParts = new ArrayBlockingQueue<>(MAX_NUM_PARTS);
+
+  private int numAllocatedParts;
+
+  private byte[] currentPart;
+
+  private int currentPartLength;
+
+  private volatile Throwable failure;
+
+  private boolean closed;
+
+  /**
+   * @param filePath           path of the file in the store
+   * @param storeOutputStream  output stream of the file in the store
+   * @param storeWriterService single thread executor, the parts of all files written by it are
+   *                           written in the order they are submitted
+   * @param partSize           size in bytes of each part
+   */
+  PipelinedStoreOutputStream(String filePath, DataOutputStream storeOutputStream,
+      ExecutorService storeWriterService, int partSize) {
+    this.filePath = filePath;
+    this.storeOutputStream = storeOutputStream;
+    this.storeWriterService = storeWriterService;
+    this.partSize = partSize;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureCurrentPart();
+    currentPart[currentPartLength++] = (byte) b;
+    if (currentPartLength == partSize) {
+      submitCurrentPart();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      ensureCurrentPart();
+      int length = Math.min(len, partSize - currentPartLength);
+      System.arraycopy(b, off, currentPart, currentPartLength, length);
+      currentPartLength += length;
+      off += length;
+      len -= length;
+      if (currentPartLength == partSize) {
+        submitCurrentPart();
+      }
+    }
+  }
+
+  /**
+   * Hand over the remaining data and close the store file in the store writer thread. The
+   * returned future completes when the whole file is written and closed in the store, and fails
+   * if any part could not be written, the file is deleted from the store then.
+   */
+  Future<Void> closeInBackground() throws IOException {
+    if (closed) {
+      throw new IOException("Stream of file " + filePath + " is already closed");
+    }
+    if (null != failure) {
+      abort();
+      checkFailure();
+    }
+    closed = true;
+    if (currentPartLength > 0) {
+      submitCurrentPart();
+    }
+    return storeWriterService.submit(new Callable<Void>() {
+      @Override
+      public Void call() throws Exception {
+        try {
+          CarbonUtil.closeStream(storeOutputStream);
+        } catch (IOException e) {
+          if (null == failure) {
+            failure = e;
+          }
+        }
+        freeParts.clear();
+        if (null != failure) {
+          deleteFile();
+        }
+        checkFailure();
+        return null;
+      }
+    });
+  }
+
+  /**
+   * Stop writing the file and delete it from the store, the data which is not written yet is
+   * dropped. It returns when the file is deleted, it does nothing if the stream is already
+   * closed.
+   */
+  void abort() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (null == failure) {
+      // the parts which wait to be written are skipped
+      failure = new IOException("Writing file " + filePath + " is aborted");
+    }
+    currentPart = null;
+    currentPartLength = 0;
+    waitFor(storeWriterService.submit(new Callable<Void>() {
+      @Override
+      public Void call() throws Exception {
+        try {
+          CarbonUtil.closeStream(storeOutputStream);
+        } catch (IOException e) {
+          LOGGER.error(e, "Problem while closing the aborted file " + filePath);
+        }
+        freeParts.clear();
+        deleteFile();
+        return null;
+      }
+    }));
+  }
+
+  /**
+   * Write the remaining data and close the store file, it returns when the file is complete in
+   * the store
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    waitFor(closeInBackground());
+  }
+
+  private void ensureCurrentPart() throws IOException {
+    if (closed) {
+      throw new IOException("Stream of file " + filePath + " is already closed");
+    }
+    checkFailure();
+    if (null != currentPart) {
+      return;
+    }
+    currentPart = freeParts.poll();
+    if (null == currentPart && numAllocatedParts < MAX_NUM_PARTS) {
+      currentPart = new byte[partSize];
+      numAllocatedParts++;
+    }
+    if (null == currentPart) {
+      // all parts wait to be written, the store is slower than the data writer
+      try {
+        currentPart = freeParts.take();
+      } catch (InterruptedException e) {
+        throw new IOException("Interrupted while writing file " + filePath, e);
+      }
+      checkFailure();
+    }
+  }
+
+  private void submitCurrentPart() {
+    final byte[] part = currentPart;
+    final int length = currentPartLength;
+    currentPart = null;
+    currentPartLength = 0;
+    storeWriterService.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          if (null == failure) {
+            storeOutputStream.write(part, 0, length);
+          }
+        } catch (Throwable e) {
+          LOGGER.error(e, "Problem while writing file " + filePath + " to the store");
+          failure = e;
+        } finally {
+          // always give the part back, a data writer waiting for a part must not block forever.
+          // There are at most MAX_NUM_PARTS parts, so the queue is never full
+          freeParts.add(part);
+        }
+      }
+    });
+  }
+
+  private void deleteFile() {
+    try {
+      FileFactory.deleteFile(filePath, FileFactory.getFileType(filePath));
+    } catch (IOException e) {
+      LOGGER.error(e, "Problem while deleting the incomplete file " + filePath);
+    }
+  }
+
+  private void checkFailure() throws IOException {
+    if (null != failure) {
+      throw new IOException("Problem while writing file " + filePath + " to the store", failure);
+    }
+  }
+
+  private void waitFor(Future<Void> future) throws IOException {
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      throw new IOException("Interrupted while writing file " + filePath, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+}
@@ -222,6 +222,8 @@ public final class CarbonLoaderUtil {
         List<LoadMetadataDetails> listOfLoadFolderDetails =
             new ArrayList<>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
         List<CarbonFile> staleFolders = new ArrayList<>();
+        // only the changed segments are appended when the table status log is enabled
+        Set<String> changedLoadNames = new HashSet<>();
         Collections.addAll(listOfLoadFolderDetails, listOfLoadFolderDetailsArray);
         // create a new segment Id if load has just begun else add the already generated Id
         if (loadStartEntry) {
@@ -273,6 +275,7 @@ public final class CarbonLoaderUtil {
             for (LoadMetadataDetails entry : listOfLoadFolderDetails) {
               if (entry.getSegmentStatus() != SegmentStatus.INSERT_OVERWRITE_IN_PROGRESS) {
                 entry.setSegmentStatus(SegmentStatus.MARKED_FOR_DELETE);
+                changedLoadNames.add(entry.getLoadName());
                 // For insert overwrite, we will delete the old segment folder immediately
                 // So collect the old segments here
                 addToStaleFolders(identifier, staleFolders, entry);
@@ -285,6 +288,7 @@ public final class CarbonLoaderUtil {
           }
           listOfLoadFolderDetails.set(indexToOverwriteNewMetaEntry, newMetaEntry);
         }
+        changedLoadNames.add(newMetaEntry.getLoadName());
         // when no records are inserted then newSegmentEntry will be SegmentStatus.MARKED_FOR_DELETE
         // so empty segment folder should be deleted
         if (newMetaEntry.getSegmentStatus() == SegmentStatus.MARKED_FOR_DELETE) {
@@ -295,15 +299,17 @@ public final class CarbonLoaderUtil {
           // if the segments is in the list of marked for delete then update the status.
           if (segmentsToBeDeleted.contains(new Segment(detail.getLoadName(), null))) {
             detail.setSegmentStatus(SegmentStatus.MARKED_FOR_DELETE);
+            changedLoadNames.add(detail.getLoadName());
           } else if (segmentFilesTobeUpdated.contains(Segment.toSegment(detail.getLoadName()))) {
             detail.setSegmentFile(
                 detail.getLoadName() + "_" + newMetaEntry.getUpdateStatusFileName()
                     + CarbonTablePath.SEGMENT_EXT);
+            changedLoadNames.add(detail.getLoadName());
           }
         }
 
         SegmentStatusManager.writeLoadDetailsIntoFile(tableStatusPath, listOfLoadFolderDetails
-            .toArray(new LoadMetadataDetails[listOfLoadFolderDetails.size()]));
+            .toArray(new LoadMetadataDetails[listOfLoadFolderDetails.size()]), changedLoadNames);
         // Delete all old stale segment folders
         for (CarbonFile staleFolder : staleFolders) {
           // try block is inside for loop because even if there is failure in deletion of 1 stale
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.loading.sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test class to test merging sorted sources by LoserTree
+ */
+public class LoserTreeTest {
+
+  /**
+   * element of a source, compared by its key only
+   */
+  private static final class Element implements Comparable<Element> {
+
+    private final int key;
+
+    private final int source;
+
+    private Element(int key, int source) {
+      this.key = key;
+      this.source = source;
+    }
+
+    @Override public int compareTo(Element other) {
+      return key < other.key ? -1 : (key == other.key ? 0 : 1);
+    }
+  }
+
+  private static List<List<Element>> createSources(Random random, int numberOfSources,
+      int maxKey) {
+    List<List<Element>> sources = new ArrayList<>();
+    for (int i = 0; i < numberOfSources; i++) {
+      // some sources are empty
+      int size = random.nextInt(4) == 0 ? 0 : random.nextInt(100);
+      List<Element> source = new ArrayList<>();
+      for (int j = 0; j < size; j++) {
+        source.add(new Element(random.nextInt(maxKey), i));
+      }
+      Collections.sort(source);
+      sources.add(source);
+    }
+    return sources;
+  }
+
+  /**
+   * merge the sources by the tree, replacing the top by the next element of its source or by
+   * null when its source is exhausted
+   */
+  private static List<Element> merge(List<List<Element>> sources) {
+    Element[] firstElements = new Element[sources.size()];
+    int[] positions = new int[sources.size()];
+    for (int i = 0; i < firstElements.length; i++) {
+      if (!sources.get(i).isEmpty()) {
+        firstElements[i] = sources.get(i).get(0);
+        positions[i] = 1;
+      }
+    }
+    LoserTree<Element> tree = new LoserTree<>(firstElements);
+    List<Element> merged = new ArrayList<>();
+    while (null != tree.peek()) {
+      Element top = tree.peek();
+      int source = tree.peekIndex();
+      assertEquals(source, top.source);
+      merged.add(top);
+      List<Element> elements = sources.get(source);
+      tree.replaceTop(positions[source] < elements.size() ?
+          elements.get(positions[source]++) : null);
+    }
+    return merged;
+  }
+
+  /**
+   * stable sort of all elements, the elements of equal keys are in the order of their source
+   */
+  private static List<Element> sort(List<List<Element>> sources) {
+    List<Element> sorted = new ArrayList<>();
+    for (List<Element> source : sources) {
+      sorted.addAll(source);
+    }
+    Collections.sort(sorted);
+    return sorted;
+  }
+
+  private static void assertMerge(List<List<Element>> sources) {
+    List<Element> expected = sort(sources);
+    List<Element> actual = merge(sources);
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), actual.get(i));
+    }
+  }
+
+  @Test public void testMergeIsSorted() {
+    Random random = new Random(0);
+    // number of sources of full and partial trees
+    for (int numberOfSources = 1; numberOfSources <= 17; numberOfSources++) {
+      assertMerge(createSources(random, numberOfSources, 1000));
+    }
+  }
+
+  @Test public void testTiesAreMergedInOrderOfSource() {
+    Random random = new Random(1);
+    for (int numberOfSources = 2; numberOfSources <= 9; numberOfSources++) {
+      assertMerge(createSources(random, numberOfSources, 3));
+    }
+  }
+
+  @Test public void testExhaustedSources() {
+    // all sources exhausted from the start
+    assertNull(new LoserTree<>(new Element[3]).peek());
+    assertNull(new LoserTree<>(new Element[0]).peek());
+
+    List<List<Element>> sources = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      sources.add(new ArrayList<Element>());
+    }
+    // only the last source has elements, the others are exhausted at once
+    sources.get(4).add(new Element(1, 4));
+    sources.get(4).add(new Element(2, 4));
+    assertMerge(sources);
+    // one source has all the small elements and is exhausted first
+    sources.get(2).add(new Element(0, 2));
+    sources.get(0).add(new Element(3, 0));
+    assertMerge(sources);
+  }
+}
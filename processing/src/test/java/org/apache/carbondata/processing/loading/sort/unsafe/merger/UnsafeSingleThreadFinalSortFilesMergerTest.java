@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.loading.sort.unsafe.merger;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.impl.FileFactory;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.processing.loading.row.IntermediateSortTempRow;
+import org.apache.carbondata.processing.loading.sort.SortStepRowHandler;
+import org.apache.carbondata.processing.loading.sort.unsafe.SortTempFileOutputStream;
+import org.apache.carbondata.processing.loading.sort.unsafe.UnsafeCarbonRowPage;
+import org.apache.carbondata.processing.loading.sort.unsafe.holder.UnsafeSortTempFileChunkHolder;
+import org.apache.carbondata.processing.sort.sortdata.IntermediateSortTempRowComparator;
+import org.apache.carbondata.processing.sort.sortdata.SortParameters;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class to test the final merge of sort temp files by one merger and by range mergers
+ */
+public class UnsafeSingleThreadFinalSortFilesMergerTest {
+
+  private static final Charset CHARSET = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+
+  private static final String TABLE_NAME = "merger_test";
+
+  private static final int[] FILE_SIZES = { 10000, 7000, 20000, 3 };
+
+  private String tempFileLocation;
+
+  private SortParameters parameters;
+
+  private SortStepRowHandler sortStepRowHandler;
+
+  private IntermediateSortTempRowComparator comparator;
+
+  @Before public void setUp() throws Exception {
+    tempFileLocation = new File("target/final_merge").getCanonicalPath();
+    CarbonUtil.deleteFoldersAndFiles(new File(tempFileLocation));
+    assertTrue(new File(tempFileLocation).mkdirs());
+    // a dictionary and a no dictionary sort column, and a measure
+    parameters = new SortParameters();
+    parameters.setTableName(TABLE_NAME);
+    parameters.setRangeId(0);
+    parameters.setTempFileLocation(new String[] { tempFileLocation });
+    parameters.setDimColCount(2);
+    parameters.setNoDictionaryCount(1);
+    parameters.setComplexDimColCount(0);
+    parameters.setMeasureColCount(1);
+    parameters.setMeasureDataType(new DataType[] { DataTypes.LONG });
+    parameters.setNoDictionaryDimnesionColumn(new boolean[] { false, true });
+    parameters.setNoDictionarySortColumn(new boolean[] { false, true });
+    parameters.setNumberOfSortColumns(2);
+    parameters.setNumberOfNoDictSortColumns(1);
+    parameters.setSortTempCompressorName("");
+    sortStepRowHandler = new SortStepRowHandler(parameters);
+    comparator = new IntermediateSortTempRowComparator(parameters.getNoDictionarySortColumn());
+  }
+
+  @After public void tearDown() throws Exception {
+    CarbonUtil.deleteFoldersAndFiles(new File(tempFileLocation));
+  }
+
+  /**
+   * row with sort keys in a small range, so the files have equal keys, and a unique measure
+   */
+  private static IntermediateSortTempRow createRow(Random random, long rowId) {
+    byte[] noDictSortDim = ("v" + random.nextInt(10)).getBytes(CHARSET);
+    byte[] measure = ByteBuffer.allocate(9).put((byte) 1).putLong(rowId).array();
+    return new IntermediateSortTempRow(new int[] { random.nextInt(200) },
+        new byte[][] { noDictSortDim }, measure);
+  }
+
+  private List<IntermediateSortTempRow> writeFile(int fileIndex,
+      List<IntermediateSortTempRow> rows) throws Exception {
+    Collections.sort(rows, comparator);
+    String path = tempFileLocation + File.separator + TABLE_NAME + "_0_" + fileIndex
+        + CarbonCommonConstants.SORT_TEMP_FILE_EXT;
+    SortTempFileOutputStream stream = new SortTempFileOutputStream(
+        FileFactory.getDataOutputStream(path, FileFactory.FileType.LOCAL, 0,
+            parameters.getSortTempCompressorName()),
+        parameters.getSortTempCompressorName(), sortStepRowHandler);
+    try {
+      stream.writeInt(rows.size());
+      for (IntermediateSortTempRow row : rows) {
+        if (stream.startRow()) {
+          stream.addBlock(row);
+        }
+        sortStepRowHandler.writeIntermediateSortTempRowToOutputStream(row, stream);
+      }
+      stream.finish();
+    } finally {
+      CarbonUtil.closeStreams(stream);
+    }
+    return rows;
+  }
+
+  private List<IntermediateSortTempRow> writeFiles() throws Exception {
+    Random random = new Random(0);
+    List<IntermediateSortTempRow> allRows = new ArrayList<>();
+    long rowId = 0;
+    for (int i = 0; i < FILE_SIZES.length; i++) {
+      List<IntermediateSortTempRow> rows = new ArrayList<>();
+      for (int j = 0; j < FILE_SIZES[i]; j++) {
+        rows.add(createRow(random, rowId++));
+      }
+      allRows.addAll(writeFile(i, rows));
+    }
+    Collections.sort(allRows, comparator);
+    return allRows;
+  }
+
+  private List<Object[]> merge(IntermediateSortTempRow lowerBound,
+      IntermediateSortTempRow upperBound) {
+    UnsafeSingleThreadFinalSortFilesMerger merger =
+        new UnsafeSingleThreadFinalSortFilesMerger(parameters, new String[] { tempFileLocation },
+            lowerBound, upperBound, true);
+    merger.startFinalMerge(new UnsafeCarbonRowPage[0],
+        new ArrayList<UnsafeInMemoryIntermediateDataMerger>());
+    List<Object[]> rows = new ArrayList<>();
+    try {
+      while (merger.hasNext()) {
+        rows.add(merger.next());
+      }
+    } finally {
+      merger.clear();
+    }
+    return rows;
+  }
+
+  private void assertRangeMergeIsSameAsMerge(List<IntermediateSortTempRow> allRows) {
+    List<Object[]> expected = merge(null, null);
+    assertEquals(allRows.size(), expected.size());
+    // the bounds are rows of the files, with equal keys before and after them
+    IntermediateSortTempRow[] bounds = { null, allRows.get(allRows.size() / 10),
+        allRows.get(allRows.size() / 2), allRows.get(allRows.size() - 100), null };
+    List<Object[]> actual = new ArrayList<>();
+    for (int i = 0; i < bounds.length - 1; i++) {
+      actual.addAll(merge(bounds[i], bounds[i + 1]));
+    }
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertTrue("row " + i, Arrays.deepEquals(expected.get(i), actual.get(i)));
+    }
+  }
+
+  @Test public void testRangeMergeIsSameAsMerge() throws Exception {
+    assertRangeMergeIsSameAsMerge(writeFiles());
+  }
+
+  @Test public void testRangeMergeOfCompressedFiles() throws Exception {
+    // the compressed files have no index, the range mergers read them from the start
+    parameters.setSortTempCompressorName("GZIP");
+    assertRangeMergeIsSameAsMerge(writeFiles());
+  }
+
+  @Test public void testHolderSeeksToBlockOfLowerBound() throws Exception {
+    // unique keys in order of the rows
+    List<IntermediateSortTempRow> rows = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      rows.add(new IntermediateSortTempRow(new int[] { i }, new byte[][] { new byte[0] },
+          ByteBuffer.allocate(9).put((byte) 1).putLong(i).array()));
+    }
+    writeFile(0, rows);
+    File file = new File(tempFileLocation).listFiles()[0];
+
+    UnsafeSortTempFileChunkHolder holder =
+        new UnsafeSortTempFileChunkHolder(file, parameters, rows.get(10000));
+    try {
+      holder.readRow();
+      // the rows are read from the first row of the third block of 4096 rows
+      assertEquals(8192, holder.getRow().getDictSortDims()[0]);
+      int numberOfRows = 1;
+      while (holder.hasNext()) {
+        holder.readRow();
+        numberOfRows++;
+      }
+      assertEquals(20000 - 8192, numberOfRows);
+      assertEquals(19999, holder.getRow().getDictSortDims()[0]);
+    } finally {
+      holder.close();
+    }
+
+    // the lower bound before the second block reads from the start
+    holder = new UnsafeSortTempFileChunkHolder(file, parameters, rows.get(100));
+    try {
+      holder.readRow();
+      assertEquals(0, holder.getRow().getDictSortDims()[0]);
+    } finally {
+      holder.close();
+    }
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.core.datastore.exception.CarbonDataWriterException;
+import org.apache.carbondata.core.datastore.page.EncodedTablePage;
+
+import mockit.Deencapsulation;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class to test the handoff of the table pages from the producers to the consumer
+ */
+public class TablePageHandoffTest {
+
+  // time to wait before checking that a thread is blocked
+  private static final long BLOCK_MILLIS = 200;
+
+  private ExecutorService executorService;
+
+  @Before public void setUp() {
+    // the handoff uses only the encoded size of a page
+    new MockUp<TablePage>() {
+      @SuppressWarnings("unused") @Mock void $init(CarbonFactDataHandlerModel model,
+          int pageSize) {
+      }
+    };
+    executorService = Executors.newCachedThreadPool();
+  }
+
+  @After public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  private static TablePage createPage(int encodedSize) throws Exception {
+    TablePage tablePage = new TablePage(null, 0);
+    EncodedTablePage encodedTablePage = EncodedTablePage.newEmptyInstance();
+    Deencapsulation.setField(encodedTablePage, "encodedSize", encodedSize);
+    Deencapsulation.setField(tablePage, "encodedTablePage", encodedTablePage);
+    return tablePage;
+  }
+
+  private Future<Void> put(final TablePageHandoff handoff, final int sequence,
+      final TablePage tablePage) {
+    return executorService.submit(new Callable<Void>() {
+      @Override public Void call() throws Exception {
+        handoff.put(sequence, tablePage);
+        return null;
+      }
+    });
+  }
+
+  private static void assertAborted(Future<?> future) throws Exception {
+    try {
+      future.get(10, TimeUnit.SECONDS);
+      fail("the waiting thread should fail when the handoff is aborted");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof CarbonDataWriterException);
+    }
+  }
+
+  @Test public void testTakeInSequenceOfOutOfOrderPut() throws Exception {
+    TablePageHandoff handoff = new TablePageHandoff(4, Long.MAX_VALUE);
+    TablePage[] pages = new TablePage[4];
+    for (int i = 0; i < pages.length; i++) {
+      pages[i] = createPage(10);
+    }
+    handoff.put(3, pages[2]);
+    handoff.put(1, pages[0]);
+    handoff.put(4, pages[3]);
+    handoff.put(2, pages[1]);
+    for (TablePage page : pages) {
+      assertSame(page, handoff.take());
+    }
+  }
+
+  @Test public void testTakeInSequenceOfConcurrentProducers() throws Exception {
+    final int numberOfPages = 50;
+    final TablePageHandoff handoff = new TablePageHandoff(3, 100);
+    final List<TablePage> pages = new ArrayList<>();
+    for (int i = 0; i < numberOfPages; i++) {
+      pages.add(createPage(40));
+    }
+    // each producer acquires its sequence before it encodes and puts the page, the pages are
+    // finished in random order
+    List<Future<Void>> producers = new ArrayList<>();
+    for (int i = 0; i < numberOfPages; i++) {
+      final int sequence = i + 1;
+      producers.add(executorService.submit(new Callable<Void>() {
+        @Override public Void call() throws Exception {
+          handoff.acquire(sequence);
+          Thread.sleep(new Random(sequence).nextInt(10));
+          handoff.put(sequence, pages.get(sequence - 1));
+          return null;
+        }
+      }));
+    }
+    for (int i = 0; i < numberOfPages; i++) {
+      assertSame(pages.get(i), handoff.take());
+    }
+    for (Future<Void> producer : producers) {
+      producer.get(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test public void testByteBudget() throws Exception {
+    TablePageHandoff handoff = new TablePageHandoff(4, 100);
+    TablePage page1 = createPage(200);
+    TablePage page2 = createPage(60);
+    TablePage page3 = createPage(60);
+    handoff.put(2, page2);
+    // the page after the next one does not fit in the budget
+    Future<Void> put3 = put(handoff, 3, page3);
+    Thread.sleep(BLOCK_MILLIS);
+    assertFalse(put3.isDone());
+    // the next page is accepted although it is above the budget
+    put(handoff, 1, page1).get(10, TimeUnit.SECONDS);
+    assertSame(page1, handoff.take());
+    Thread.sleep(BLOCK_MILLIS);
+    assertFalse(put3.isDone());
+    // page 3 is the next page now
+    assertSame(page2, handoff.take());
+    put3.get(10, TimeUnit.SECONDS);
+    assertSame(page3, handoff.take());
+  }
+
+  @Test public void testAbortWakesWaitingThreads() throws Exception {
+    final TablePageHandoff handoff = new TablePageHandoff(2, 100);
+    Future<Void> acquire = executorService.submit(new Callable<Void>() {
+      @Override public Void call() throws Exception {
+        // all the slots are used by the pages 1 and 2
+        handoff.acquire(3);
+        return null;
+      }
+    });
+    // the page after the next one is above the budget
+    Future<Void> put = put(handoff, 2, createPage(150));
+    Future<TablePage> take = executorService.submit(new Callable<TablePage>() {
+      @Override public TablePage call() throws Exception {
+        // page 1 is never put
+        return handoff.take();
+      }
+    });
+    Thread.sleep(BLOCK_MILLIS);
+    assertFalse(acquire.isDone());
+    assertFalse(put.isDone());
+    assertFalse(take.isDone());
+    handoff.abort();
+    assertAborted(acquire);
+    assertAborted(put);
+    assertAborted(take);
+    // no thread waits any more after the abort
+    assertAborted(put(handoff, 1, createPage(10)));
+    try {
+      handoff.take();
+      fail("take should fail when the handoff is aborted");
+    } catch (CarbonDataWriterException e) {
+      assertEquals("Writing of the table pages is aborted", e.getMessage());
+    }
+  }
+}
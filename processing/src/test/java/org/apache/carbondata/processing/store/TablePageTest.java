@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.store;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.TableSpec;
+import org.apache.carbondata.core.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.ComplexColumnPage;
+import org.apache.carbondata.core.datastore.page.EncodedTablePage;
+import org.apache.carbondata.core.datastore.page.encoding.ColumnPageEncoder;
+import org.apache.carbondata.core.datastore.page.encoding.EncodedColumnPage;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.encoder.Encoding;
+import org.apache.carbondata.core.metadata.schema.SchemaEvolution;
+import org.apache.carbondata.core.metadata.schema.SchemaEvolutionEntry;
+import org.apache.carbondata.core.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.metadata.schema.table.TableInfo;
+import org.apache.carbondata.core.metadata.schema.table.TableSchema;
+import org.apache.carbondata.core.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.processing.datatypes.ArrayDataType;
+import org.apache.carbondata.processing.datatypes.GenericDataType;
+import org.apache.carbondata.processing.datatypes.PrimitiveDataType;
+
+import mockit.Deencapsulation;
+import mockit.Invocation;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class to test encoding a TablePage by the calling thread and by multiple threads
+ */
+public class TablePageTest {
+
+  private static final Charset CHARSET = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+
+  private static final int NUM_DICT_DIMENSIONS = 8;
+
+  private static final int NUM_NO_DICT_DIMENSIONS = 4;
+
+  private static final DataType[] MEASURE_DATA_TYPES = {
+      DataTypes.INT, DataTypes.LONG, DataTypes.DOUBLE, DataTypes.SHORT, DataTypes.INT,
+      DataTypes.DOUBLE };
+
+  private static final int DICT_CARDINALITY = 100;
+
+  // large enough to be encoded by 4 threads
+  private static final int PAGE_SIZE = 64000;
+
+  private static final String FAILED_COLUMN = "msr_2";
+
+  private CarbonFactDataHandlerModel model;
+
+  private ExecutorService columnEncoderService;
+
+  @Before public void setUp() {
+    List<ColumnSchema> columnSchemas = new ArrayList<>();
+    List<Integer> cardinality = new ArrayList<>();
+    for (int i = 0; i < NUM_DICT_DIMENSIONS; i++) {
+      columnSchemas.add(createColumnSchema("dict_" + i, DataTypes.STRING, true, true, 0));
+      cardinality.add(DICT_CARDINALITY);
+    }
+    for (int i = 0; i < NUM_NO_DICT_DIMENSIONS; i++) {
+      columnSchemas.add(createColumnSchema("nodict_" + i, DataTypes.STRING, true, false, 0));
+      cardinality.add(-1);
+    }
+    columnSchemas.add(
+        createColumnSchema("arr", DataTypes.createDefaultArrayType(), true, true, 1));
+    cardinality.add(-1);
+    columnSchemas.add(createColumnSchema("arr.val", DataTypes.STRING, true, true, 0));
+    cardinality.add(DICT_CARDINALITY);
+    for (int i = 0; i < MEASURE_DATA_TYPES.length; i++) {
+      columnSchemas.add(createColumnSchema("msr_" + i, MEASURE_DATA_TYPES[i], false, false, 0));
+    }
+    columnSchemas.get(0).setSortColumn(true);
+    columnSchemas.get(0).setUseInvertedIndex(true);
+    int[] columnCardinality = new int[cardinality.size()];
+    for (int i = 0; i < columnCardinality.length; i++) {
+      columnCardinality[i] = cardinality.get(i);
+    }
+
+    model = new CarbonFactDataHandlerModel();
+    model.setSegmentProperties(new SegmentProperties(columnSchemas, columnCardinality));
+    model.setNoDictionaryCount(NUM_NO_DICT_DIMENSIONS);
+    model.setMeasureCount(MEASURE_DATA_TYPES.length);
+    model.setMeasureDataType(MEASURE_DATA_TYPES);
+    model.setPrimitiveDimLens(new int[NUM_DICT_DIMENSIONS]);
+    ArrayDataType arrayDataType = new ArrayDataType("arr", "", "arr");
+    arrayDataType.addChildren(new PrimitiveDataType("val", "arr", "arr.val", 0));
+    Map<Integer, GenericDataType> complexIndexMap = new HashMap<>();
+    complexIndexMap.put(NUM_DICT_DIMENSIONS + NUM_NO_DICT_DIMENSIONS, arrayDataType);
+    model.setComplexIndexMap(complexIndexMap);
+    Deencapsulation.setField(model, "tableSpec", new TableSpec(createTable(columnSchemas)));
+    columnEncoderService = Executors.newFixedThreadPool(3);
+  }
+
+  @After public void tearDown() {
+    columnEncoderService.shutdownNow();
+  }
+
+  private static ColumnSchema createColumnSchema(String name, DataType dataType,
+      boolean isDimension, boolean isDictionary, int numberOfChild) {
+    ColumnSchema columnSchema = new ColumnSchema();
+    columnSchema.setColumnName(name);
+    columnSchema.setColumnar(true);
+    columnSchema.setDataType(dataType);
+    List<Encoding> encodings = new ArrayList<>();
+    if (isDictionary) {
+      encodings.add(Encoding.DICTIONARY);
+    }
+    columnSchema.setEncodingList(encodings);
+    columnSchema.setColumnUniqueId(UUID.randomUUID().toString());
+    columnSchema.setDimensionColumn(isDimension);
+    columnSchema.setNumberOfChild(numberOfChild);
+    columnSchema.setColumnGroup(-1);
+    return columnSchema;
+  }
+
+  private static CarbonTable createTable(List<ColumnSchema> columnSchemas) {
+    TableSchema tableSchema = new TableSchema();
+    tableSchema.setTableName("table_page_test");
+    tableSchema.setTableId(UUID.randomUUID().toString());
+    tableSchema.setListOfColumns(columnSchemas);
+    tableSchema.setTableProperties(new HashMap<String, String>());
+    SchemaEvolution schemaEvolution = new SchemaEvolution();
+    schemaEvolution.setSchemaEvolutionEntryList(new ArrayList<SchemaEvolutionEntry>());
+    tableSchema.setSchemaEvalution(schemaEvolution);
+    TableInfo tableInfo = new TableInfo();
+    tableInfo.setDatabaseName("default");
+    tableInfo.setTableUniqueName("default_table_page_test");
+    tableInfo.setLastUpdatedTime(System.currentTimeMillis());
+    tableInfo.setFactTable(tableSchema);
+    tableInfo.setTablePath("target/table_page_test");
+    return CarbonTable.buildFromTableInfo(tableInfo);
+  }
+
+  private static byte[] toLV(String value) {
+    byte[] bytes = value.getBytes(CHARSET);
+    ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 2);
+    buffer.putShort((short) bytes.length);
+    buffer.put(bytes);
+    return buffer.array();
+  }
+
+  /**
+   * fill every column of the page with the same data for the same seed
+   */
+  private TablePage createPage(long seed) throws Exception {
+    TablePage page = new TablePage(model, PAGE_SIZE);
+    Random random = new Random(seed);
+    for (int i = 0; i < NUM_DICT_DIMENSIONS; i++) {
+      ColumnPage columnPage = page.getColumnPage("dict_" + i);
+      for (int rowId = 0; rowId < PAGE_SIZE; rowId++) {
+        columnPage.putData(rowId, new byte[] { (byte) (1 + random.nextInt(DICT_CARDINALITY)) });
+      }
+    }
+    for (int i = 0; i < NUM_NO_DICT_DIMENSIONS; i++) {
+      ColumnPage columnPage = page.getColumnPage("nodict_" + i);
+      for (int rowId = 0; rowId < PAGE_SIZE; rowId++) {
+        columnPage.putData(rowId, toLV("value" + random.nextInt(1000 << (i * 4))));
+      }
+    }
+    ComplexColumnPage complexPage = new ComplexColumnPage(PAGE_SIZE, 2);
+    for (int rowId = 0; rowId < PAGE_SIZE; rowId++) {
+      int numElements = random.nextInt(3);
+      List<byte[]> arrayInfo = new ArrayList<>();
+      arrayInfo.add(ByteBuffer.allocate(8).putInt(numElements).putInt(rowId).array());
+      complexPage.putComplexData(rowId, 0, arrayInfo);
+      List<byte[]> elements = new ArrayList<>();
+      for (int i = 0; i < numElements; i++) {
+        elements.add(new byte[] { (byte) (1 + random.nextInt(DICT_CARDINALITY)) });
+      }
+      complexPage.putComplexData(rowId, 1, elements);
+    }
+    ComplexColumnPage[] complexDimensionPages =
+        Deencapsulation.getField(page, "complexDimensionPages");
+    complexDimensionPages[0] = complexPage;
+    for (int i = 0; i < MEASURE_DATA_TYPES.length; i++) {
+      ColumnPage columnPage = page.getColumnPage("msr_" + i);
+      DataType dataType = MEASURE_DATA_TYPES[i];
+      for (int rowId = 0; rowId < PAGE_SIZE; rowId++) {
+        Object value;
+        if (rowId % 97 == i) {
+          value = null;
+        } else if (dataType == DataTypes.SHORT) {
+          value = (short) random.nextInt(Short.MAX_VALUE);
+        } else if (dataType == DataTypes.INT) {
+          value = random.nextInt(1 << (i * 4 + 8));
+        } else if (dataType == DataTypes.LONG) {
+          value = random.nextLong();
+        } else {
+          value = random.nextInt(100000) / 100.0;
+        }
+        columnPage.putData(rowId, value);
+      }
+    }
+    return page;
+  }
+
+  private static void assertEncodedColumnEquals(EncodedColumnPage expected,
+      EncodedColumnPage actual) {
+    assertEquals(expected.getPageMetadata(), actual.getPageMetadata());
+    assertEquals(expected.getEncodedData(), actual.getEncodedData());
+  }
+
+  @Test public void testParallelEncodeIsSameAsSingleThreadEncode() throws Exception {
+    TablePage page = createPage(0);
+    page.encode(null, 0);
+    EncodedTablePage expected = page.getEncodedTablePage();
+    page.freeMemory();
+
+    // the dimensions are the simple dimensions in table order and the levels of the complex
+    // column at the end, followed by the measures
+    int numSimpleDimensions = NUM_DICT_DIMENSIONS + NUM_NO_DICT_DIMENSIONS;
+    assertEquals(numSimpleDimensions + 2, expected.getNumDimensions());
+    assertEquals(MEASURE_DATA_TYPES.length, expected.getNumMeasures());
+    TablePage complexPage = createPage(0);
+    ComplexColumnPage[] complexDimensionPages =
+        Deencapsulation.getField(complexPage, "complexDimensionPages");
+    EncodedColumnPage[] encodedComplexColumn = ColumnPageEncoder.encodeComplexColumn(
+        complexDimensionPages[0], model.getTableSpec().getColumnCompressorName());
+    complexPage.freeMemory();
+    for (int i = 0; i < encodedComplexColumn.length; i++) {
+      assertEncodedColumnEquals(encodedComplexColumn[i],
+          expected.getDimension(numSimpleDimensions + i));
+    }
+
+    for (int i = 0; i < 3; i++) {
+      page = createPage(0);
+      page.encode(columnEncoderService, 3);
+      EncodedTablePage actual = page.getEncodedTablePage();
+      page.freeMemory();
+      assertEquals(expected.getPageSize(), actual.getPageSize());
+      assertEquals(expected.getEncodedSize(), actual.getEncodedSize());
+      assertEquals(expected.getNumDimensions(), actual.getNumDimensions());
+      assertEquals(expected.getNumMeasures(), actual.getNumMeasures());
+      for (int j = 0; j < expected.getNumDimensions(); j++) {
+        assertEncodedColumnEquals(expected.getDimension(j), actual.getDimension(j));
+      }
+      for (int j = 0; j < expected.getNumMeasures(); j++) {
+        assertEncodedColumnEquals(expected.getMeasure(j), actual.getMeasure(j));
+      }
+      assertEquals(numSimpleDimensions + 1 + MEASURE_DATA_TYPES.length,
+          page.getColumnEncodeTime().length);
+    }
+  }
+
+  @Test public void testFailureOfColumnFailsThePage() throws Exception {
+    final RuntimeException failure = new IllegalStateException("failed to encode column");
+    MockUp<ColumnPageEncoder> failingEncoder = new MockUp<ColumnPageEncoder>() {
+      @SuppressWarnings("unused") @Mock
+      EncodedColumnPage encode(Invocation invocation, ColumnPage inputPage) {
+        if (FAILED_COLUMN.equals(inputPage.getColumnSpec().getFieldName())) {
+          throw failure;
+        }
+        return invocation.proceed(inputPage);
+      }
+    };
+    for (ExecutorService service : Arrays.asList(null, columnEncoderService)) {
+      TablePage page = createPage(0);
+      try {
+        page.encode(service, 3);
+        fail("encoding the page should fail when a column fails");
+      } catch (IllegalStateException e) {
+        assertSame(failure, e);
+      } finally {
+        page.freeMemory();
+      }
+    }
+    failingEncoder.tearDown();
+    // the threads of the pool are not blocked by the failed page
+    TablePage page = createPage(1);
+    page.encode(columnEncoderService, 3);
+    assertEquals(PAGE_SIZE, page.getEncodedTablePage().getPageSize());
+    page.freeMemory();
+  }
+}
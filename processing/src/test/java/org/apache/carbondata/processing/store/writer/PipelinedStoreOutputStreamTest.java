@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.processing.store.writer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.carbondata.core.datastore.impl.FileFactory;
+import org.apache.carbondata.core.util.CarbonUtil;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class to test writing files to the store through PipelinedStoreOutputStream
+ */
+public class PipelinedStoreOutputStreamTest {
+
+  private static final int PART_SIZE = 64;
+
+  private String storePath;
+
+  private ExecutorService storeWriterService;
+
+  @Before public void setUp() throws Exception {
+    storePath = new File("target/pipelined_store").getCanonicalPath();
+    CarbonUtil.deleteFoldersAndFiles(new File(storePath));
+    assertTrue(new File(storePath).mkdirs());
+    storeWriterService = Executors.newSingleThreadExecutor();
+  }
+
+  @After public void tearDown() throws Exception {
+    storeWriterService.shutdownNow();
+    CarbonUtil.deleteFoldersAndFiles(new File(storePath));
+  }
+
+  private PipelinedStoreOutputStream createStream(String filePath) throws IOException {
+    DataOutputStream storeOutputStream =
+        FileFactory.getDataOutputStream(filePath, FileFactory.getFileType(filePath));
+    return new PipelinedStoreOutputStream(filePath, storeOutputStream, storeWriterService,
+        PART_SIZE);
+  }
+
+  private static byte[] createData(int length, long seed) {
+    byte[] data = new byte[length];
+    new Random(seed).nextBytes(data);
+    return data;
+  }
+
+  /**
+   * write the data in pieces of different sizes, some smaller and some bigger than a part
+   */
+  private static void write(OutputStream stream, byte[] data) throws IOException {
+    Random random = new Random(data.length);
+    int offset = 0;
+    while (offset < data.length) {
+      int length = Math.min(data.length - offset, 1 + random.nextInt(PART_SIZE * 2));
+      if (length == 1) {
+        stream.write(data[offset]);
+      } else {
+        stream.write(data, offset, length);
+      }
+      offset += length;
+    }
+  }
+
+  private static byte[] read(String filePath) throws IOException {
+    byte[] data = new byte[(int) new File(filePath).length()];
+    DataInputStream stream =
+        FileFactory.getDataInputStream(filePath, FileFactory.getFileType(filePath));
+    try {
+      stream.readFully(data);
+    } finally {
+      stream.close();
+    }
+    return data;
+  }
+
+  @Test public void testWriteAcrossPartsAndFiles() throws Exception {
+    // the next file is started before the previous one is complete in the store, as the data
+    // writer does when it rolls over to a new file
+    String[] filePaths = new String[3];
+    byte[][] data = new byte[filePaths.length][];
+    Future[] futures = new Future[filePaths.length];
+    for (int i = 0; i < filePaths.length; i++) {
+      filePaths[i] = storePath + "/part-" + i + ".carbondata";
+      data[i] = createData(PART_SIZE * 10 + i * 7, i);
+      PipelinedStoreOutputStream stream = createStream(filePaths[i]);
+      write(stream, data[i]);
+      futures[i] = stream.closeInBackground();
+    }
+    for (int i = 0; i < filePaths.length; i++) {
+      futures[i].get();
+      assertArrayEquals(data[i], read(filePaths[i]));
+    }
+  }
+
+  @Test public void testDataWriterWaitsForTheStoreAfterMaxParts() throws Exception {
+    final String filePath = storePath + "/part-0.carbondata";
+    final byte[] data = createData(PART_SIZE * 3 + 1, 0);
+    final PipelinedStoreOutputStream stream = createStream(filePath);
+    // block the store writer thread, so none of the parts is written to the store
+    final CountDownLatch storeBlocked = new CountDownLatch(1);
+    storeWriterService.submit(new Callable<Void>() {
+      @Override public Void call() throws Exception {
+        storeBlocked.await();
+        return null;
+      }
+    });
+    final AtomicInteger writtenLength = new AtomicInteger();
+    ExecutorService dataWriterService = Executors.newSingleThreadExecutor();
+    Future<Void> dataWriter = dataWriterService.submit(new Callable<Void>() {
+      @Override public Void call() throws Exception {
+        for (byte b : data) {
+          stream.write(b);
+          writtenLength.incrementAndGet();
+        }
+        stream.close();
+        return null;
+      }
+    });
+    // three parts fit in memory, the first byte of the fourth part waits for a free part
+    long deadline = System.currentTimeMillis() + 10000;
+    while (writtenLength.get() < PART_SIZE * 3 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Thread.sleep(200);
+    assertEquals(PART_SIZE * 3, writtenLength.get());
+    assertFalse(dataWriter.isDone());
+    storeBlocked.countDown();
+    dataWriter.get(10, TimeUnit.SECONDS);
+    dataWriterService.shutdown();
+    assertEquals(data.length, writtenLength.get());
+    assertArrayEquals(data, read(filePath));
+  }
+
+  @Test public void testFailureOfPartIsThrown() throws Exception {
+    final RuntimeException failure = new IllegalStateException("store is not available");
+    DataOutputStream storeOutputStream = new DataOutputStream(new OutputStream() {
+      @Override public void write(int b) {
+        throw failure;
+      }
+
+      @Override public void write(byte[] b, int off, int len) {
+        throw failure;
+      }
+    });
+    String failedFilePath = storePath + "/failed.carbondata";
+    assertTrue(new File(failedFilePath).createNewFile());
+    PipelinedStoreOutputStream stream = new PipelinedStoreOutputStream(failedFilePath,
+        storeOutputStream, storeWriterService, PART_SIZE);
+    try {
+      // the data writer does not wait for the failed part but for the free parts, the failure
+      // is thrown by the next write or at the latest by close
+      write(stream, createData(PART_SIZE * 10, 0));
+      stream.close();
+      fail("the failure of the store should be thrown");
+    } catch (IOException e) {
+      Throwable cause = e;
+      while (null != cause && cause != failure) {
+        cause = cause.getCause();
+      }
+      assertSame(failure, cause);
+    }
+    // the data writer aborts the file when a write fails, the file is not left in the store
+    stream.abort();
+    assertFalse(new File(failedFilePath).exists());
+    // the store writer thread is still usable for the next file
+    String filePath = storePath + "/part-1.carbondata";
+    byte[] data = createData(PART_SIZE * 2, 1);
+    PipelinedStoreOutputStream nextStream = createStream(filePath);
+    write(nextStream, data);
+    nextStream.close();
+    assertArrayEquals(data, read(filePath));
+  }
+
+  @Test public void testAbortDeletesTheFile() throws Exception {
+    String filePath = storePath + "/part-0.carbondata";
+    PipelinedStoreOutputStream stream = createStream(filePath);
+    write(stream, createData(PART_SIZE * 5 + 3, 0));
+    stream.abort();
+    assertFalse(new File(filePath).exists());
+    try {
+      stream.write(0);
+      fail("an aborted stream should not be written");
+    } catch (IOException e) {
+      // expected
+    }
+    // aborting again does nothing, and the store writer thread is usable for the next file
+    stream.abort();
+    String nextFilePath = storePath + "/part-1.carbondata";
+    byte[] data = createData(PART_SIZE * 2, 1);
+    PipelinedStoreOutputStream nextStream = createStream(nextFilePath);
+    write(nextStream, data);
+    nextStream.close();
+    assertArrayEquals(data, read(nextFilePath));
+  }
+}
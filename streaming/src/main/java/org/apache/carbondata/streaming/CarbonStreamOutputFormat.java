@@ -49,6 +49,14 @@ public class CarbonStreamOutputFormat extends FileOutputFormat<Void, Object> {
 
   public static final int CARBON_STREAM_CACHE_SIZE_DEFAULT = 32 * 1024 * 1024;
 
+  /**
+   * whether to write the stream blocklet in columnar layout, each column is encoded into a
+   * column page, so that the reader only decodes the required columns
+   */
+  public static final String CARBON_STREAM_BLOCKLET_COLUMNAR = "carbon.stream.blocklet.columnar";
+
+  public static final boolean CARBON_STREAM_BLOCKLET_COLUMNAR_DEFAULT = false;
+
   private static final String LOAD_Model = "mapreduce.output.carbon.load.model";
 
   private static final String SEGMENT_ID = "carbon.segment.id";
@@ -33,6 +33,7 @@ import org.apache.carbondata.core.cache.dictionary.Dictionary;
 import org.apache.carbondata.core.cache.dictionary.DictionaryColumnUniqueIdentifier;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
 import org.apache.carbondata.core.keygenerator.directdictionary.DirectDictionaryGenerator;
 import org.apache.carbondata.core.keygenerator.directdictionary.DirectDictionaryKeyGeneratorFactory;
 import org.apache.carbondata.core.metadata.datatype.DataType;
@@ -42,7 +43,6 @@ import org.apache.carbondata.core.metadata.schema.table.CarbonTable;
 import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
 import org.apache.carbondata.core.metadata.schema.table.column.CarbonDimension;
 import org.apache.carbondata.core.metadata.schema.table.column.CarbonMeasure;
-import org.apache.carbondata.core.metadata.schema.table.column.ColumnSchema;
 import org.apache.carbondata.core.reader.CarbonHeaderReader;
 import org.apache.carbondata.core.scan.expression.exception.FilterUnsupportedException;
 import org.apache.carbondata.core.scan.filter.FilterUtil;
@@ -52,7 +52,7 @@ import org.apache.carbondata.core.scan.filter.intf.RowImpl;
 import org.apache.carbondata.core.scan.filter.intf.RowIntf;
 import org.apache.carbondata.core.scan.filter.resolver.FilterResolverIntf;
 import org.apache.carbondata.core.scan.model.QueryModel;
-import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.stream.StreamMinMaxPruner;
 import org.apache.carbondata.core.util.DataTypeUtil;
 import org.apache.carbondata.format.BlockletHeader;
 import org.apache.carbondata.format.FileHeader;
@@ -120,6 +120,7 @@ public class CarbonStreamRecordReader extends RecordReader<Void, Object> {
 
   // filter
   private FilterExecuter filter;
+  private StreamMinMaxPruner pruner;
   private boolean[] isFilterRequired;
   private Object[] filterValues;
   private RowIntf filterRow;
@@ -230,23 +231,13 @@ public class CarbonStreamRecordReader extends RecordReader<Void, Object> {
 
   private void initializeFilter() {
 
-    List<ColumnSchema> wrapperColumnSchemaList = CarbonUtil
-        .getColumnSchemaList(carbonTable.getDimensionByTableName(carbonTable.getTableName()),
-            carbonTable.getMeasureByTableName(carbonTable.getTableName()));
-    int[] dimLensWithComplex = new int[wrapperColumnSchemaList.size()];
-    for (int i = 0; i < dimLensWithComplex.length; i++) {
-      dimLensWithComplex[i] = Integer.MAX_VALUE;
-    }
-
-    int[] dictionaryColumnCardinality =
-        CarbonUtil.getFormattedCardinality(dimLensWithComplex, wrapperColumnSchemaList);
-    SegmentProperties segmentProperties =
-        new SegmentProperties(wrapperColumnSchemaList, dictionaryColumnCardinality);
+    SegmentProperties segmentProperties = StreamMinMaxPruner.getSegmentProperties(carbonTable);
     Map<Integer, GenericQueryType> complexDimensionInfoMap = new HashMap<>();
 
     FilterResolverIntf resolverIntf = model.getFilterExpressionResolverTree();
     filter = FilterUtil.getFilterExecuterTree(resolverIntf, segmentProperties,
         complexDimensionInfoMap);
+    pruner = new StreamMinMaxPruner(storageColumns, segmentProperties, filter);
     // for row filter, we need update column index
     FilterUtil.updateIndexOfColumnExpression(resolverIntf.getFilterExpression(),
         carbonTable.getDimensionOrdinalMax());
@@ -288,6 +279,8 @@ public class CarbonStreamRecordReader extends RecordReader<Void, Object> {
     fileIn.seek(fileSplit.getStart());
     input = new StreamBlockletReader(syncMarker, fileIn, fileSplit.getLength(),
         fileSplit.getStart() == 0);
+    // raw row requires all columns
+    input.setRequiredColumns(useRawRow ? null : isRequired);
 
     cacheProvider = CacheProvider.getInstance();
     cache = cacheProvider.createCache(CacheType.FORWARD_DICTIONARY);
@@ -413,11 +406,10 @@ public class CarbonStreamRecordReader extends RecordReader<Void, Object> {
   }
 
   private boolean isScanRequired(BlockletHeader header) {
-    // TODO require to implement min-max index
     if (null == filter) {
       return true;
     }
-    return true;
+    return pruner.isScanRequired(header.getBlocklet_index());
   }
 
   private boolean scanBlockletAndFillVector(BlockletHeader header) throws IOException {
@@ -455,6 +447,10 @@ public class CarbonStreamRecordReader extends RecordReader<Void, Object> {
   }
 
   private void readRowFromStream() {
+    if (input.isColumnar()) {
+      readColumnarRow();
+      return;
+    }
     input.nextRow();
     short nullLen = input.readShort();
     BitSet nullBitSet = allNonNull;
@@ -633,7 +629,147 @@ public class CarbonStreamRecordReader extends RecordReader<Void, Object> {
     }
   }
 
+  /**
+   * fill the row from the decoded column pages, only the required columns are decoded
+   */
+  private void readColumnarRow() {
+    int rowId = input.getRowIndex();
+    input.nextRow();
+    int colCount = 0;
+    // primitive type dimension
+    for (; colCount < isNoDictColumn.length; colCount++) {
+      if (!isRequired[colCount]) {
+        continue;
+      }
+      ColumnPage page = input.getColumnPage(colCount);
+      if (page.getNullBits().get(rowId)) {
+        if (isFilterRequired[colCount]) {
+          filterValues[filterMap[colCount]] = CarbonCommonConstants.MEMBER_DEFAULT_VAL_ARRAY;
+        }
+        if (isProjectionRequired[colCount]) {
+          outputValues[projectionMap[colCount]] = null;
+        }
+      } else if (isNoDictColumn[colCount]) {
+        byte[] b = page.getBytes(rowId);
+        if (isFilterRequired[colCount]) {
+          filterValues[filterMap[colCount]] = b;
+        }
+        if (isProjectionRequired[colCount]) {
+          outputValues[projectionMap[colCount]] = DataTypeUtil
+              .getDataBasedOnDataTypeForNoDictionaryColumn(b,
+                  storageColumns[colCount].getDataType());
+        }
+      } else {
+        int surrogate = (int) page.getLong(rowId);
+        if (isFilterRequired[colCount]) {
+          filterValues[filterMap[colCount]] = ByteBuffer.allocate(4).putInt(surrogate).array();
+        }
+        if (isProjectionRequired[colCount]) {
+          if (null != directDictionaryGenerators[colCount]) {
+            outputValues[projectionMap[colCount]] =
+                directDictionaryGenerators[colCount].getValueFromSurrogate(surrogate);
+          } else {
+            outputValues[projectionMap[colCount]] = surrogate;
+          }
+        }
+      }
+    }
+    // complex type dimension
+    for (; colCount < dimensionCount; colCount++) {
+      if (!isRequired[colCount]) {
+        continue;
+      }
+      ColumnPage page = input.getColumnPage(colCount);
+      byte[] b = null;
+      if (!page.getNullBits().get(rowId)) {
+        b = page.getBytes(rowId);
+      }
+      if (isFilterRequired[colCount]) {
+        filterValues[filterMap[colCount]] = b;
+      }
+      if (isProjectionRequired[colCount]) {
+        outputValues[projectionMap[colCount]] = null == b ? null :
+            queryTypes[colCount].getDataBasedOnDataTypeFromSurrogates(ByteBuffer.wrap(b));
+      }
+    }
+    // measure
+    for (int msrCount = 0; msrCount < measureCount; msrCount++, colCount++) {
+      if (!isRequired[colCount]) {
+        continue;
+      }
+      Object v = getMeasureValue(input.getColumnPage(colCount), rowId, msrCount);
+      if (isFilterRequired[colCount]) {
+        filterValues[filterMap[colCount]] = v;
+      }
+      if (isProjectionRequired[colCount]) {
+        if (null != v && DataTypes.isDecimal(measureDataTypes[msrCount])) {
+          outputValues[projectionMap[colCount]] =
+              DataTypeUtil.getDataTypeConverter().convertFromBigDecimalToDecimal(v);
+        } else {
+          outputValues[projectionMap[colCount]] = v;
+        }
+      }
+    }
+  }
+
+  private Object getMeasureValue(ColumnPage page, int rowId, int msrCount) {
+    if (page.getNullBits().get(rowId)) {
+      return null;
+    }
+    DataType dataType = measureDataTypes[msrCount];
+    if (dataType == DataTypes.BOOLEAN) {
+      return page.getLong(rowId) != 0;
+    } else if (dataType == DataTypes.SHORT) {
+      return (short) page.getLong(rowId);
+    } else if (dataType == DataTypes.INT) {
+      return (int) page.getLong(rowId);
+    } else if (dataType == DataTypes.LONG) {
+      return page.getLong(rowId);
+    } else if (dataType == DataTypes.DOUBLE) {
+      return page.getDouble(rowId);
+    } else {
+      return page.getDecimal(rowId);
+    }
+  }
+
+  /**
+   * fill the raw row from the decoded column pages, all columns are decoded
+   */
+  private void readColumnarRawRow() {
+    int rowId = input.getRowIndex();
+    input.nextRow();
+    int colCount = 0;
+    // primitive type dimension
+    for (; colCount < isNoDictColumn.length; colCount++) {
+      ColumnPage page = input.getColumnPage(colCount);
+      if (page.getNullBits().get(rowId)) {
+        outputValues[colCount] = CarbonCommonConstants.MEMBER_DEFAULT_VAL_ARRAY;
+      } else if (isNoDictColumn[colCount]) {
+        outputValues[colCount] = page.getBytes(rowId);
+      } else {
+        outputValues[colCount] = (int) page.getLong(rowId);
+      }
+    }
+    // complex type dimension
+    for (; colCount < dimensionCount; colCount++) {
+      ColumnPage page = input.getColumnPage(colCount);
+      if (page.getNullBits().get(rowId)) {
+        outputValues[colCount] = null;
+      } else {
+        outputValues[colCount] = page.getBytes(rowId);
+      }
+    }
+    // measure
+    for (int msrCount = 0; msrCount < measureCount; msrCount++, colCount++) {
+      outputValues[colCount] = getMeasureValue(input.getColumnPage(colCount), rowId, msrCount);
+    }
+  }
+
   private void readRawRowFromStream() {
+    if (input.isColumnar()) {
+      readColumnarRawRow();
+      return;
+    }
     input.nextRow();
     short nullLen = input.readShort();
     BitSet nullBitSet = allNonNull;
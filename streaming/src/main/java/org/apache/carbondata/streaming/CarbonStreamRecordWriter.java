@@ -33,7 +33,9 @@ import org.apache.carbondata.core.datastore.row.CarbonRow;
 import org.apache.carbondata.core.metadata.datatype.DataType;
 import org.apache.carbondata.core.metadata.datatype.DataTypes;
 import org.apache.carbondata.core.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
 import org.apache.carbondata.core.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.core.stream.StreamMinMaxCollector;
 import org.apache.carbondata.core.util.CarbonMetadataUtil;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.core.util.DataTypeUtil;
@@ -87,6 +89,7 @@ public class CarbonStreamRecordWriter extends RecordWriter<Void, Object> {
   private int measureCount;
   private DataType[] measureDataTypes;
   private StreamBlockletWriter output = null;
+  private StreamMinMaxCollector minMaxCollector;
 
   // data write
   private String segmentDir;
@@ -156,7 +159,16 @@ public class CarbonStreamRecordWriter extends RecordWriter<Void, Object> {
     nullBitSet = new BitSet(dataFields.length);
     int rowBufferSize = hadoopConf.getInt(CarbonStreamOutputFormat.CARBON_ENCODER_ROW_BUFFER_SIZE,
         CarbonStreamOutputFormat.CARBON_ENCODER_ROW_BUFFER_SIZE_DEFAULT);
-    output = new StreamBlockletWriter(maxCacheSize, maxRowNums, rowBufferSize);
+    CarbonColumn[] storageColumns = new CarbonColumn[dataFields.length];
+    for (int i = 0; i < dataFields.length; i++) {
+      storageColumns[i] = dataFields[i].getColumn();
+    }
+    boolean isColumnar = hadoopConf.getBoolean(
+        CarbonStreamOutputFormat.CARBON_STREAM_BLOCKLET_COLUMNAR,
+        CarbonStreamOutputFormat.CARBON_STREAM_BLOCKLET_COLUMNAR_DEFAULT);
+    output = new StreamBlockletWriter(
+        maxCacheSize, maxRowNums, rowBufferSize, storageColumns, isColumnar);
+    minMaxCollector = output.getMinMaxCollector();
 
     // initialize data writer
     String filePath = segmentDir + File.separator + fileName;
@@ -183,6 +195,21 @@ public class CarbonStreamRecordWriter extends RecordWriter<Void, Object> {
     currentRow.setData(rowParser.parseRow((Object[]) value));
     converter.convert(currentRow);
 
+    if (output.isColumnar()) {
+      putColumnarRow();
+    } else {
+      writeRow();
+    }
+
+    if (output.isFull()) {
+      appendBlockletToDataFile();
+    }
+  }
+
+  /**
+   * serialize the row into the row buffer of the blocklet
+   */
+  private void writeRow() throws IOException {
     // null bit set
     nullBitSet.clear();
     for (int i = 0; i < dataFields.length; i++) {
@@ -207,9 +234,13 @@ public class CarbonStreamRecordWriter extends RecordWriter<Void, Object> {
           byte[] col = (byte[]) columnValue;
           output.writeShort(col.length);
           output.writeBytes(col);
+          minMaxCollector.updateBytes(dimCount, col);
         } else {
           output.writeInt((int) columnValue);
+          minMaxCollector.updateSurrogate(dimCount, (int) columnValue);
         }
+      } else {
+        minMaxCollector.updateNull(dimCount);
       }
     }
     // complex type dimension
@@ -249,11 +280,57 @@ public class CarbonStreamRecordWriter extends RecordWriter<Void, Object> {
           LOGGER.error(msg);
           throw new IOException(msg);
         }
+        minMaxCollector.updateMeasure(dimCount + msrCount, columnValue);
+      } else {
+        minMaxCollector.updateNull(dimCount + msrCount);
       }
     }
+  }
 
-    if (output.isFull()) {
-      appendBlockletToDataFile();
+  /**
+   * keep the values of the row in the column pages of the blocklet
+   */
+  private void putColumnarRow() throws IOException {
+    output.nextRow();
+    int dimCount = 0;
+    Object columnValue;
+
+    // primitive type dimension
+    for (; dimCount < isNoDictionaryDimensionColumn.length; dimCount++) {
+      columnValue = currentRow.getObject(dimCount);
+      output.putValue(dimCount, columnValue);
+      if (null != columnValue) {
+        if (isNoDictionaryDimensionColumn[dimCount]) {
+          minMaxCollector.updateBytes(dimCount, (byte[]) columnValue);
+        } else {
+          minMaxCollector.updateSurrogate(dimCount, (int) columnValue);
+        }
+      } else {
+        minMaxCollector.updateNull(dimCount);
+      }
+    }
+    // complex type dimension
+    for (; dimCount < dimensionWithComplexCount; dimCount++) {
+      output.putValue(dimCount, currentRow.getObject(dimCount));
+    }
+    // measure
+    DataType dataType;
+    for (int msrCount = 0; msrCount < measureCount; msrCount++) {
+      columnValue = currentRow.getObject(dimCount + msrCount);
+      if (null != columnValue) {
+        dataType = measureDataTypes[msrCount];
+        if (dataType != DataTypes.BOOLEAN && dataType != DataTypes.SHORT &&
+            dataType != DataTypes.INT && dataType != DataTypes.LONG &&
+            dataType != DataTypes.DOUBLE && !DataTypes.isDecimal(dataType)) {
+          String msg = "unsupported data type:" + dataType.getName();
+          LOGGER.error(msg);
+          throw new IOException(msg);
+        }
+        minMaxCollector.updateMeasure(dimCount + msrCount, columnValue);
+      } else {
+        minMaxCollector.updateNull(dimCount + msrCount);
+      }
+      output.putValue(dimCount + msrCount, columnValue);
     }
   }
 
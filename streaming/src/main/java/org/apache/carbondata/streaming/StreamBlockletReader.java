@@ -20,11 +20,22 @@ package org.apache.carbondata.streaming;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
 
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastore.compression.Compressor;
 import org.apache.carbondata.core.datastore.compression.CompressorFactory;
+import org.apache.carbondata.core.datastore.impl.FileFactory;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.DefaultEncodingFactory;
+import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.reader.CarbonHeaderReader;
+import org.apache.carbondata.core.stream.StreamMinMaxCollector;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.format.BlockletHeader;
+import org.apache.carbondata.format.DataChunk2;
 
 /**
  * stream blocklet reader
@@ -41,10 +52,17 @@ public class StreamBlockletReader {
   private final long limitStart;
   private final long limitEnd;
   private boolean isAlreadySync = false;
-  private Compressor compressor = CompressorFactory.getInstance().getCompressor();
+  // stream files do not record their compressor and are appended across loads, so they
+  // always use the default snappy compressor
+  private Compressor compressor =
+      CompressorFactory.getInstance().getCompressor(CarbonCommonConstants.DEFAULT_COMPRESSOR);
   private int rowNums = 0;
   private int rowIndex = 0;
   private boolean isHeaderPresent;
+  // columnar layout, only the pages of the required columns are decoded
+  private boolean[] requiredColumns;
+  private ColumnPage[] columnPages;
+  private boolean isColumnar = false;
 
   StreamBlockletReader(byte[] syncMarker, InputStream in, long limit, boolean isHeaderPresent) {
     this.syncMarker = syncMarker;
@@ -108,7 +126,20 @@ public class StreamBlockletReader {
     return header;
   }
 
+  /**
+   * set the columns to decode when the blocklet is in columnar layout, null means all columns
+   */
+  void setRequiredColumns(boolean[] requiredColumns) {
+    this.requiredColumns = requiredColumns;
+  }
+
   void readBlockletData(BlockletHeader header) throws IOException {
+    freeColumnPages();
+    isColumnar = header.isSetColumn_pages();
+    if (isColumnar) {
+      readColumnPages(header.getColumn_pages());
+      return;
+    }
     ensureCapacity(header.getBlocklet_length());
     offset = 0;
     int len = readIntFromStream();
@@ -119,7 +150,64 @@ public class StreamBlockletReader {
     compressor.rawUncompress(b, buffer);
   }
 
+  private void readColumnPages(List<DataChunk2> pageMetas) throws IOException {
+    readIntFromStream();
+    columnPages = new ColumnPage[pageMetas.size()];
+    for (int i = 0; i < columnPages.length; i++) {
+      DataChunk2 pageMeta = pageMetas.get(i);
+      int len = pageMeta.getData_page_length();
+      if (null != requiredColumns && !requiredColumns[i]) {
+        skip(len);
+        pos += len;
+        continue;
+      }
+      byte[] b = new byte[len];
+      if (!readBytesFromStream(b, 0, len)) {
+        throw new EOFException("Failed to read column page");
+      }
+      try {
+        columnPages[i] = DefaultEncodingFactory.getInstance()
+            .createDecoder(pageMeta.getEncoders(), pageMeta.getEncoder_meta())
+            .decode(ByteBuffer.wrap(b), 0, len);
+      } catch (MemoryException e) {
+        throw new IOException(e);
+      }
+      Compressor pageCompressor =
+          CompressorFactory.getInstance().getCompressor(pageMeta.getChunk_meta());
+      BitSet nullBits = BitSet.valueOf(
+          pageCompressor.unCompressByte(pageMeta.getPresence().getPresent_bit_stream()));
+      columnPages[i].setNullBits(nullBits);
+    }
+  }
+
+  private void freeColumnPages() {
+    if (null != columnPages) {
+      for (ColumnPage page : columnPages) {
+        if (null != page) {
+          page.freeMemory();
+        }
+      }
+      columnPages = null;
+    }
+  }
+
+  boolean isColumnar() {
+    return isColumnar;
+  }
+
+  /**
+   * the decoded page of the column, null if the column is not required
+   */
+  ColumnPage getColumnPage(int columnIndex) {
+    return columnPages[columnIndex];
+  }
+
+  int getRowIndex() {
+    return rowIndex;
+  }
+
   void skipBlockletData(boolean reset) throws IOException {
+    freeColumnPages();
     int len = readIntFromStream();
     skip(len);
     pos += len;
@@ -254,6 +342,38 @@ public class StreamBlockletReader {
   }
 
   void close() {
+    freeColumnPages();
     CarbonUtil.closeStreams(in);
   }
+
+  /**
+   * read the headers of the blocklets which start at or after the offset and merge their
+   * min/max into the collector, the blocklet data is skipped.
+   *
+   * @return number of rows of these blocklets, or -1 if some blocklet does not have min/max
+   */
+  public static long readBlockletIndex(String filePath, long offset, long fileSize,
+      StreamMinMaxCollector collector) throws IOException {
+    byte[] syncMarker = new CarbonHeaderReader(filePath).readHeader().getSync_marker();
+    int bufferSize = Integer.parseInt(CarbonStreamInputFormat.READ_BUFFER_SIZE_DEFAULT);
+    InputStream in = FileFactory
+        .getDataInputStream(filePath, FileFactory.getFileType(filePath), bufferSize, offset);
+    StreamBlockletReader reader =
+        new StreamBlockletReader(syncMarker, in, fileSize - offset, offset == 0);
+    long numRows = 0;
+    try {
+      while (reader.nextBlocklet()) {
+        BlockletHeader header = reader.readBlockletHeader();
+        if (!header.isSetBlocklet_index() || !header.getBlocklet_index().isSetMin_max_index()
+            || !collector.merge(header.getBlocklet_index().getMin_max_index())) {
+          return -1;
+        }
+        numRows += header.getBlocklet_info().getNum_rows();
+        reader.skipBlockletData(true);
+      }
+    } finally {
+      reader.close();
+    }
+    return numRows;
+  }
 }
@@ -19,31 +19,90 @@ package org.apache.carbondata.streaming;
 
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.TableSpec;
 import org.apache.carbondata.core.datastore.compression.Compressor;
 import org.apache.carbondata.core.datastore.compression.CompressorFactory;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.datastore.page.encoding.DefaultEncodingFactory;
+import org.apache.carbondata.core.datastore.page.encoding.EncodedColumnPage;
+import org.apache.carbondata.core.datastore.page.statistics.KeyPageStatsCollector;
+import org.apache.carbondata.core.datastore.page.statistics.PrimitivePageStatsCollector;
+import org.apache.carbondata.core.memory.MemoryException;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.encoder.Encoding;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
+import org.apache.carbondata.core.stream.StreamMinMaxCollector;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.format.BlockletHeader;
+import org.apache.carbondata.format.BlockletIndex;
 import org.apache.carbondata.format.BlockletInfo;
+import org.apache.carbondata.format.DataChunk2;
 import org.apache.carbondata.format.MutationType;
 
 /**
  * stream blocklet writer
+ *
+ * In row layout, the rows are serialized into a buffer which is compressed as a whole.
+ * In columnar layout, the values of each column are kept and encoded into a column page
+ * when the blocklet is appended, so that the reader only decodes the required columns.
  */
 public class StreamBlockletWriter {
+  private static final byte[] EMPTY = new byte[0];
   private byte[] buffer;
   private int maxSize;
   private int maxRowNum;
   private int rowSize;
   private int count = 0;
   private int rowIndex = -1;
-  private Compressor compressor = CompressorFactory.getInstance().getCompressor();
+  // stream files do not record their compressor and are appended across loads, so they
+  // always use the default snappy compressor
+  private Compressor compressor =
+      CompressorFactory.getInstance().getCompressor(CarbonCommonConstants.DEFAULT_COMPRESSOR);
+  // min/max of the rows in this blocklet, written to the blocklet header
+  private StreamMinMaxCollector minMaxCollector;
+  // columnar layout
+  private boolean isColumnar;
+  private TableSpec.ColumnSpec[] columnSpecs;
+  private Object[][] columnValues;
 
-  StreamBlockletWriter(int maxSize, int maxRowNum, int rowSize) {
-    buffer = new byte[maxSize];
+  StreamBlockletWriter(int maxSize, int maxRowNum, int rowSize, CarbonColumn[] storageColumns,
+      boolean isColumnar) {
     this.maxSize = maxSize;
     this.maxRowNum = maxRowNum;
     this.rowSize = rowSize;
+    this.minMaxCollector = new StreamMinMaxCollector(storageColumns);
+    this.isColumnar = isColumnar;
+    if (isColumnar) {
+      columnSpecs = new TableSpec.ColumnSpec[storageColumns.length];
+      for (int i = 0; i < storageColumns.length; i++) {
+        columnSpecs[i] = TableSpec.MeasureSpec
+            .newInstance(storageColumns[i].getColName(), getPageDataType(storageColumns[i]));
+      }
+      columnValues = new Object[storageColumns.length][maxRowNum + 1];
+    } else {
+      buffer = new byte[maxSize];
+    }
+  }
+
+  /**
+   * dictionary dimensions are stored as surrogate keys, other dimensions as byte arrays and
+   * measures as their own data type
+   */
+  private static DataType getPageDataType(CarbonColumn column) {
+    if (!column.isDimension()) {
+      return column.getDataType();
+    } else if (!column.isComplex() && column.hasEncoding(Encoding.DICTIONARY)) {
+      return DataTypes.INT;
+    } else {
+      return DataTypes.BYTE_ARRAY;
+    }
   }
 
   private void ensureCapacity(int space) {
@@ -58,6 +117,20 @@ public class StreamBlockletWriter {
   void reset() {
     count = 0;
     rowIndex = -1;
+    minMaxCollector.reset();
+    if (isColumnar) {
+      for (Object[] values : columnValues) {
+        Arrays.fill(values, null);
+      }
+    }
+  }
+
+  boolean isColumnar() {
+    return isColumnar;
+  }
+
+  StreamMinMaxCollector getMinMaxCollector() {
+    return minMaxCollector;
   }
 
   byte[] getBytes() {
@@ -129,6 +202,29 @@ public class StreamBlockletWriter {
     count += len;
   }
 
+  /**
+   * keep the value of a column of the current row, only for columnar layout
+   */
+  void putValue(int columnIndex, Object value) {
+    columnValues[columnIndex][rowIndex] = value;
+    // the count is an estimation of the size before encoding, used to check whether it is full
+    if (null == value) {
+      count += 1;
+    } else if (value instanceof byte[]) {
+      count += ((byte[]) value).length + 2;
+    } else if (value instanceof BigDecimal) {
+      count += ((BigDecimal) value).unscaledValue().bitLength() / 8 + 3;
+    } else if (value instanceof Long || value instanceof Double) {
+      count += 8;
+    } else if (value instanceof Integer) {
+      count += 4;
+    } else if (value instanceof Short) {
+      count += 2;
+    } else {
+      count += 1;
+    }
+  }
+
   void apppendBlocklet(DataOutputStream outputStream) throws IOException {
     outputStream.write(CarbonStreamOutputFormat.CARBON_SYNC_MARKER);
 
@@ -138,6 +234,15 @@ public class StreamBlockletWriter {
     blockletHeader.setBlocklet_length(getCount());
     blockletHeader.setMutation(MutationType.INSERT);
     blockletHeader.setBlocklet_info(blockletInfo);
+    if (!minMaxCollector.isEmpty()) {
+      BlockletIndex blockletIndex = new BlockletIndex();
+      blockletIndex.setMin_max_index(minMaxCollector.build());
+      blockletHeader.setBlocklet_index(blockletIndex);
+    }
+    if (isColumnar) {
+      appendColumnarBlocklet(outputStream, blockletHeader);
+      return;
+    }
     byte[] headerBytes = CarbonUtil.getByteArray(blockletHeader);
     outputStream.writeInt(headerBytes.length);
     outputStream.write(headerBytes);
@@ -147,6 +252,68 @@ public class StreamBlockletWriter {
     outputStream.write(compressed);
   }
 
+  /**
+   * the metadata of each column page is written in the blocklet header, followed by the data
+   * of the column pages, the page data is already compressed by its encoder
+   */
+  private void appendColumnarBlocklet(DataOutputStream outputStream,
+      BlockletHeader blockletHeader) throws IOException {
+    int rowNum = getRowIndex() + 1;
+    List<DataChunk2> columnPages = new ArrayList<>(columnSpecs.length);
+    byte[][] pageData = new byte[columnSpecs.length][];
+    int length = 0;
+    for (int i = 0; i < columnSpecs.length; i++) {
+      EncodedColumnPage encodedPage = encodeColumn(i, rowNum);
+      columnPages.add(encodedPage.getPageMetadata());
+      pageData[i] = encodedPage.getEncodedData().array();
+      length += pageData[i].length;
+    }
+    blockletHeader.setBlocklet_length(length);
+    blockletHeader.setColumn_pages(columnPages);
+    byte[] headerBytes = CarbonUtil.getByteArray(blockletHeader);
+    outputStream.writeInt(headerBytes.length);
+    outputStream.write(headerBytes);
+
+    outputStream.writeInt(length);
+    for (byte[] data : pageData) {
+      outputStream.write(data);
+    }
+  }
+
+  private EncodedColumnPage encodeColumn(int columnIndex, int rowNum) throws IOException {
+    TableSpec.ColumnSpec spec = columnSpecs[columnIndex];
+    DataType dataType = spec.getSchemaDataType();
+    ColumnPage page;
+    try {
+      page = ColumnPage.newPage(spec, dataType, rowNum);
+    } catch (MemoryException e) {
+      throw new IOException(e);
+    }
+    try {
+      page.setColumnCompressorName(compressor.getName());
+      if (dataType == DataTypes.BYTE_ARRAY) {
+        page.setStatsCollector(KeyPageStatsCollector.newInstance(dataType));
+      } else {
+        page.setStatsCollector(PrimitivePageStatsCollector.newInstance(dataType));
+      }
+      Object[] values = columnValues[columnIndex];
+      for (int rowId = 0; rowId < rowNum; rowId++) {
+        if (null == values[rowId] && dataType == DataTypes.BYTE_ARRAY) {
+          // byte array page can not store null, keep an empty value and the null bit
+          page.putData(rowId, EMPTY);
+          page.getNullBits().set(rowId);
+        } else {
+          page.putData(rowId, values[rowId]);
+        }
+      }
+      return DefaultEncodingFactory.getInstance().createEncoder(spec, page).encode(page);
+    } catch (MemoryException e) {
+      throw new IOException(e);
+    } finally {
+      page.freeMemory();
+    }
+  }
+
   void close() {
   }
 }
@@ -20,7 +20,10 @@ package org.apache.carbondata.streaming.segment;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.carbondata.common.CarbonIterator;
 import org.apache.carbondata.common.logging.LogService;
@@ -33,17 +36,20 @@ import org.apache.carbondata.core.locks.CarbonLockFactory;
 import org.apache.carbondata.core.locks.ICarbonLock;
 import org.apache.carbondata.core.locks.LockUsage;
 import org.apache.carbondata.core.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
 import org.apache.carbondata.core.reader.CarbonIndexFileReader;
 import org.apache.carbondata.core.statusmanager.FileFormat;
 import org.apache.carbondata.core.statusmanager.LoadMetadataDetails;
 import org.apache.carbondata.core.statusmanager.SegmentStatus;
 import org.apache.carbondata.core.statusmanager.SegmentStatusManager;
+import org.apache.carbondata.core.stream.StreamMinMaxCollector;
 import org.apache.carbondata.core.util.path.CarbonTablePath;
 import org.apache.carbondata.core.writer.CarbonIndexFileWriter;
 import org.apache.carbondata.format.BlockIndex;
 import org.apache.carbondata.format.BlockletIndex;
 import org.apache.carbondata.processing.loading.model.CarbonLoadModel;
 import org.apache.carbondata.streaming.CarbonStreamRecordWriter;
+import org.apache.carbondata.streaming.StreamBlockletReader;
 
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 
@@ -158,9 +164,13 @@ public class StreamSegment {
           newDetails[i] = details[i];
         }
         newDetails[i] = newDetail;
+        // only the finished segment and the new segment are changed
+        Set<String> changedLoadNames = new HashSet<>();
+        changedLoadNames.add(segmentId);
+        changedLoadNames.add(newDetail.getLoadName());
         SegmentStatusManager
             .writeLoadDetailsIntoFile(CarbonTablePath.getTableStatusFilePath(
-                table.getTablePath()), newDetails);
+                table.getTablePath()), newDetails, changedLoadNames);
         return newDetail.getLoadName();
       } else {
         LOGGER.error(
@@ -358,11 +368,19 @@ public class StreamSegment {
 
   /**
    * update carbonindex file after a stream batch.
+   * The index keeps the number of rows and the min/max of each data file, the blocklets which
+   * were already in the old index are not read again.
    */
-  public static void updateIndexFile(String segmentDir) throws IOException {
+  public static void updateIndexFile(CarbonTable carbonTable, String segmentDir)
+      throws IOException {
     FileFactory.FileType fileType = FileFactory.getFileType(segmentDir);
     String filePath = CarbonTablePath.getCarbonStreamIndexFilePath(segmentDir);
     String tempFilePath = filePath + CarbonCommonConstants.TEMPWRITEFILEEXTENSION;
+    List<CarbonColumn> storageColumnList =
+        carbonTable.getStreamStorageOrderColumn(carbonTable.getTableName());
+    CarbonColumn[] storageColumns =
+        storageColumnList.toArray(new CarbonColumn[storageColumnList.size()]);
+    Map<String, BlockIndex> oldIndexMap = readIndexFile(filePath, fileType);
     CarbonIndexFileWriter writer = new CarbonIndexFileWriter();
     try {
       writer.openThriftWriter(tempFilePath);
@@ -372,10 +390,9 @@ public class StreamSegment {
         blockIndex = new BlockIndex();
         blockIndex.setFile_name(file.getName());
         blockIndex.setFile_size(file.getSize());
-        // TODO need to collect these information
-        blockIndex.setNum_rows(-1);
         blockIndex.setOffset(-1);
-        blockIndex.setBlock_index(new BlockletIndex());
+        updateBlockIndex(blockIndex, oldIndexMap.get(file.getName()),
+            segmentDir + File.separator + file.getName(), storageColumns);
         writer.writeThrift(blockIndex);
       }
       writer.close();
@@ -394,6 +411,61 @@ public class StreamSegment {
     }
   }
 
+  /**
+   * fill the number of rows and the min/max of a data file, starting from the old index of the
+   * file if it is still valid.
+   * If some blocklet does not have min/max (written by an older version), the number of rows is
+   * -1 and the file will not be pruned.
+   */
+  private static void updateBlockIndex(BlockIndex blockIndex, BlockIndex oldBlockIndex,
+      String filePath, CarbonColumn[] storageColumns) throws IOException {
+    StreamMinMaxCollector collector = new StreamMinMaxCollector(storageColumns);
+    long offset = 0;
+    long numRows = 0;
+    if (null != oldBlockIndex && oldBlockIndex.getNum_rows() >= 0
+        && oldBlockIndex.getFile_size() <= blockIndex.getFile_size()) {
+      BlockletIndex oldIndex = oldBlockIndex.getBlock_index();
+      if (oldBlockIndex.getNum_rows() == 0 || (oldIndex.isSetMin_max_index() && collector
+          .merge(oldIndex.getMin_max_index()))) {
+        offset = oldBlockIndex.getFile_size();
+        numRows = oldBlockIndex.getNum_rows();
+      }
+    }
+    if (offset < blockIndex.getFile_size()) {
+      long newRows =
+          StreamBlockletReader.readBlockletIndex(filePath, offset, blockIndex.getFile_size(),
+              collector);
+      numRows = newRows < 0 ? -1 : numRows + newRows;
+    }
+    BlockletIndex blockletIndex = new BlockletIndex();
+    if (numRows > 0 && !collector.isEmpty()) {
+      blockletIndex.setMin_max_index(collector.build());
+    }
+    blockIndex.setNum_rows(numRows);
+    blockIndex.setBlock_index(blockletIndex);
+  }
+
+  /**
+   * read the index of each data file from the carbonindex file
+   */
+  private static Map<String, BlockIndex> readIndexFile(String indexPath,
+      FileFactory.FileType fileType) throws IOException {
+    Map<String, BlockIndex> indexMap = new HashMap<>();
+    if (FileFactory.isFileExist(indexPath, fileType)) {
+      CarbonIndexFileReader indexReader = new CarbonIndexFileReader();
+      try {
+        indexReader.openThriftReader(indexPath);
+        while (indexReader.hasNext()) {
+          BlockIndex blockIndex = indexReader.readBlockIndexInfo();
+          indexMap.put(blockIndex.getFile_name(), blockIndex);
+        }
+      } finally {
+        indexReader.closeThriftReader();
+      }
+    }
+    return indexMap;
+  }
+
   /**
    * calculate the size of the segment by the accumulation of data sizes in index file
    */
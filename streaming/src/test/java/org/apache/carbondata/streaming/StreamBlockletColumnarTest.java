@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.carbondata.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastore.page.ColumnPage;
+import org.apache.carbondata.core.metadata.datatype.DataType;
+import org.apache.carbondata.core.metadata.datatype.DataTypes;
+import org.apache.carbondata.core.metadata.encoder.Encoding;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonColumn;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonDimension;
+import org.apache.carbondata.core.metadata.schema.table.column.CarbonMeasure;
+import org.apache.carbondata.core.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.format.BlockletHeader;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class to test the columnar layout of the stream blocklet written by StreamBlockletWriter
+ * and read by StreamBlockletReader
+ */
+public class StreamBlockletColumnarTest {
+
+  private static final Charset CHARSET = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+
+  private static final DataType DECIMAL_TYPE = DataTypes.createDecimalType(10, 2);
+
+  private static final int MAX_ROW_NUM = 100;
+
+  private CarbonColumn[] storageColumns;
+
+  @Before public void setUp() {
+    // dictionary dimension, no dictionary dimension and a measure of each data type
+    storageColumns = new CarbonColumn[] {
+        new CarbonDimension(createColumnSchema("city", DataTypes.STRING, true, true), 0, 0, -1, -1),
+        new CarbonDimension(createColumnSchema("name", DataTypes.STRING, true, false), 1, -1, -1,
+            -1),
+        new CarbonMeasure(createColumnSchema("flag", DataTypes.BOOLEAN, false, false), 0),
+        new CarbonMeasure(createColumnSchema("age", DataTypes.SHORT, false, false), 1),
+        new CarbonMeasure(createColumnSchema("count", DataTypes.INT, false, false), 2),
+        new CarbonMeasure(createColumnSchema("id", DataTypes.LONG, false, false), 3),
+        new CarbonMeasure(createColumnSchema("score", DataTypes.DOUBLE, false, false), 4),
+        new CarbonMeasure(createColumnSchema("salary", DECIMAL_TYPE, false, false), 5) };
+  }
+
+  private static ColumnSchema createColumnSchema(String name, DataType dataType,
+      boolean isDimension, boolean isDictionary) {
+    ColumnSchema columnSchema = new ColumnSchema();
+    columnSchema.setColumnName(name);
+    columnSchema.setColumnUniqueId(UUID.randomUUID().toString());
+    columnSchema.setDataType(dataType);
+    columnSchema.setDimensionColumn(isDimension);
+    List<Encoding> encodings = new ArrayList<>();
+    if (isDictionary) {
+      encodings.add(Encoding.DICTIONARY);
+    }
+    columnSchema.setEncodingList(encodings);
+    if (DataTypes.isDecimal(dataType)) {
+      columnSchema.setPrecision(10);
+      columnSchema.setScale(2);
+    }
+    return columnSchema;
+  }
+
+  /**
+   * row in the storage order of the columns, each column has nulls at its own rows
+   */
+  private static Object[] createRow(int rowId) {
+    Object[] row = new Object[] {
+        rowId % 20 + 2,
+        ("name" + rowId).getBytes(CHARSET),
+        rowId % 2 == 0,
+        (short) (rowId % 100),
+        rowId * 3,
+        rowId * 100000000L,
+        rowId / 3.0,
+        new BigDecimal(rowId).movePointLeft(2) };
+    for (int i = 0; i < row.length; i++) {
+      if ((rowId + i) % 7 == 0) {
+        row[i] = null;
+      }
+    }
+    return row;
+  }
+
+  private static List<Object[]> createRows(int firstRowId, int numberOfRows) {
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < numberOfRows; i++) {
+      rows.add(createRow(firstRowId + i));
+    }
+    return rows;
+  }
+
+  /**
+   * write the rows into blocklets of the layout, a row blocklet has the values serialized as
+   * a null flag followed by the value
+   */
+  private void writeBlocklets(DataOutputStream outputStream, List<Object[]> rows,
+      boolean isColumnar) throws IOException {
+    StreamBlockletWriter writer =
+        new StreamBlockletWriter(1024 * 1024, MAX_ROW_NUM, 1024, storageColumns, isColumnar);
+    try {
+      for (Object[] row : rows) {
+        writer.nextRow();
+        for (int i = 0; i < row.length; i++) {
+          if (isColumnar) {
+            writer.putValue(i, row[i]);
+          } else {
+            writeValue(writer, i, row[i]);
+          }
+        }
+        if (writer.isFull()) {
+          writer.apppendBlocklet(outputStream);
+          writer.reset();
+        }
+      }
+      if (writer.getRowIndex() >= 0) {
+        writer.apppendBlocklet(outputStream);
+        writer.reset();
+      }
+    } finally {
+      writer.close();
+    }
+  }
+
+  private void writeValue(StreamBlockletWriter writer, int columnIndex, Object value) {
+    writer.writeBoolean(null == value);
+    if (null == value) {
+      return;
+    }
+    DataType dataType = getDataType(columnIndex);
+    if (dataType == DataTypes.INT) {
+      writer.writeInt((int) value);
+    } else if (dataType == DataTypes.BYTE_ARRAY) {
+      writer.writeShort(((byte[]) value).length);
+      writer.writeBytes((byte[]) value);
+    } else if (dataType == DataTypes.BOOLEAN) {
+      writer.writeBoolean((boolean) value);
+    } else if (dataType == DataTypes.SHORT) {
+      writer.writeShort((short) value);
+    } else if (dataType == DataTypes.LONG) {
+      writer.writeLong((long) value);
+    } else if (dataType == DataTypes.DOUBLE) {
+      writer.writeDouble((double) value);
+    } else {
+      byte[] b = value.toString().getBytes(CHARSET);
+      writer.writeShort(b.length);
+      writer.writeBytes(b);
+    }
+  }
+
+  private Object readValue(StreamBlockletReader reader, int columnIndex) {
+    if (reader.readBoolean()) {
+      return null;
+    }
+    DataType dataType = getDataType(columnIndex);
+    if (dataType == DataTypes.INT) {
+      return reader.readInt();
+    } else if (dataType == DataTypes.BYTE_ARRAY) {
+      return reader.readBytes(reader.readShort());
+    } else if (dataType == DataTypes.BOOLEAN) {
+      return reader.readBoolean();
+    } else if (dataType == DataTypes.SHORT) {
+      return reader.readShort();
+    } else if (dataType == DataTypes.LONG) {
+      return reader.readLong();
+    } else if (dataType == DataTypes.DOUBLE) {
+      return reader.readDouble();
+    } else {
+      return new BigDecimal(new String(reader.readBytes(reader.readShort()), CHARSET));
+    }
+  }
+
+  /**
+   * value of the row in the decoded page, in the way of CarbonStreamRecordReader
+   */
+  private Object getPageValue(ColumnPage page, int columnIndex, int rowId) {
+    if (page.getNullBits().get(rowId)) {
+      return null;
+    }
+    DataType dataType = getDataType(columnIndex);
+    if (dataType == DataTypes.INT) {
+      return (int) page.getLong(rowId);
+    } else if (dataType == DataTypes.BYTE_ARRAY) {
+      return page.getBytes(rowId);
+    } else if (dataType == DataTypes.BOOLEAN) {
+      return page.getLong(rowId) != 0;
+    } else if (dataType == DataTypes.SHORT) {
+      return (short) page.getLong(rowId);
+    } else if (dataType == DataTypes.LONG) {
+      return page.getLong(rowId);
+    } else if (dataType == DataTypes.DOUBLE) {
+      return page.getDouble(rowId);
+    } else {
+      return page.getDecimal(rowId);
+    }
+  }
+
+  /**
+   * data type of the column in the blocklet, the dictionary dimension is stored as surrogate
+   */
+  private DataType getDataType(int columnIndex) {
+    CarbonColumn column = storageColumns[columnIndex];
+    if (!column.isDimension()) {
+      return column.getDataType();
+    } else if (column.hasEncoding(Encoding.DICTIONARY)) {
+      return DataTypes.INT;
+    } else {
+      return DataTypes.BYTE_ARRAY;
+    }
+  }
+
+  private static StreamBlockletReader createReader(byte[] data) {
+    return new StreamBlockletReader(CarbonStreamOutputFormat.CARBON_SYNC_MARKER,
+        new ByteArrayInputStream(data), data.length, false);
+  }
+
+  /**
+   * read the rows of all blocklets, the columns which are not required are null
+   *
+   * @param layouts the layout of each blocklet read, true for columnar layout
+   */
+  private List<Object[]> readRows(byte[] data, boolean[] requiredColumns, List<Boolean> layouts)
+      throws IOException {
+    StreamBlockletReader reader = createReader(data);
+    reader.setRequiredColumns(requiredColumns);
+    List<Object[]> rows = new ArrayList<>();
+    try {
+      while (reader.nextBlocklet()) {
+        BlockletHeader header = reader.readBlockletHeader();
+        reader.readBlockletData(header);
+        layouts.add(reader.isColumnar());
+        assertEquals(reader.isColumnar(), header.isSetColumn_pages());
+        while (reader.hasNext()) {
+          int rowId = reader.getRowIndex();
+          reader.nextRow();
+          Object[] row = new Object[storageColumns.length];
+          for (int i = 0; i < row.length; i++) {
+            if (reader.isColumnar()) {
+              ColumnPage page = reader.getColumnPage(i);
+              if (null != requiredColumns && !requiredColumns[i]) {
+                // the page of the column is skipped in the stream
+                assertNull(page);
+              } else {
+                row[i] = getPageValue(page, i, rowId);
+              }
+            } else {
+              row[i] = readValue(reader, i);
+              if (null != requiredColumns && !requiredColumns[i]) {
+                row[i] = null;
+              }
+            }
+          }
+          rows.add(row);
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    return rows;
+  }
+
+  private static void assertRows(List<Object[]> expected, List<Object[]> actual,
+      boolean[] requiredColumns) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      Object[] expectedRow = expected.get(i);
+      Object[] actualRow = actual.get(i);
+      for (int j = 0; j < expectedRow.length; j++) {
+        String message = "row " + i + " column " + j;
+        if (null != requiredColumns && !requiredColumns[j]) {
+          assertNull(message, actualRow[j]);
+        } else if (expectedRow[j] instanceof byte[]) {
+          assertArrayEquals(message, (byte[]) expectedRow[j], (byte[]) actualRow[j]);
+        } else if (expectedRow[j] instanceof BigDecimal) {
+          assertEquals(message, 0,
+              ((BigDecimal) expectedRow[j]).compareTo((BigDecimal) actualRow[j]));
+        } else {
+          assertEquals(message, expectedRow[j], actualRow[j]);
+        }
+      }
+    }
+  }
+
+  @Test public void testColumnarRoundTrip() throws Exception {
+    List<Object[]> rows = createRows(0, 250);
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    DataOutputStream outputStream = new DataOutputStream(data);
+    writeBlocklets(outputStream, rows, true);
+    outputStream.flush();
+
+    List<Boolean> layouts = new ArrayList<>();
+    assertRows(rows, readRows(data.toByteArray(), null, layouts), null);
+    assertEquals(3, layouts.size());
+    assertFalse(layouts.contains(false));
+  }
+
+  @Test public void testColumnarRoundTripOfAllNulls() throws Exception {
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      rows.add(new Object[storageColumns.length]);
+    }
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    DataOutputStream outputStream = new DataOutputStream(data);
+    writeBlocklets(outputStream, rows, true);
+    outputStream.flush();
+
+    assertRows(rows, readRows(data.toByteArray(), null, new ArrayList<Boolean>()), null);
+  }
+
+  @Test public void testSegmentOfRowAndColumnarBlocklets() throws Exception {
+    // the layout is changed between the appends to the same file
+    List<Object[]> rowLayoutRows = createRows(0, 150);
+    List<Object[]> columnarRows = createRows(150, 120);
+    List<Object[]> lastRows = createRows(270, 30);
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    DataOutputStream outputStream = new DataOutputStream(data);
+    writeBlocklets(outputStream, rowLayoutRows, false);
+    writeBlocklets(outputStream, columnarRows, true);
+    writeBlocklets(outputStream, lastRows, false);
+    outputStream.flush();
+
+    List<Object[]> expected = new ArrayList<>();
+    expected.addAll(rowLayoutRows);
+    expected.addAll(columnarRows);
+    expected.addAll(lastRows);
+    List<Boolean> layouts = new ArrayList<>();
+    assertRows(expected, readRows(data.toByteArray(), null, layouts), null);
+    assertEquals(Arrays.asList(false, false, true, true, false), layouts);
+  }
+
+  @Test public void testProjectionSkipsPages() throws Exception {
+    List<Object[]> rows = createRows(0, 250);
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    DataOutputStream outputStream = new DataOutputStream(data);
+    writeBlocklets(outputStream, createRows(1000, 50), false);
+    writeBlocklets(outputStream, rows, true);
+    outputStream.flush();
+
+    List<Object[]> expected = new ArrayList<>();
+    expected.addAll(createRows(1000, 50));
+    expected.addAll(rows);
+    // the first and the last page, and pages in the middle are skipped
+    boolean[] requiredColumns =
+        new boolean[] { false, true, false, false, true, true, false, false };
+    assertRows(expected, readRows(data.toByteArray(), requiredColumns, new ArrayList<Boolean>()),
+        requiredColumns);
+    // only the dictionary dimension
+    requiredColumns = new boolean[storageColumns.length];
+    requiredColumns[0] = true;
+    assertRows(expected, readRows(data.toByteArray(), requiredColumns, new ArrayList<Boolean>()),
+        requiredColumns);
+  }
+
+  @Test public void testSkipColumnarBlocklet() throws Exception {
+    List<Object[]> rows = createRows(0, 150);
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    DataOutputStream outputStream = new DataOutputStream(data);
+    writeBlocklets(outputStream, rows, true);
+    outputStream.flush();
+
+    StreamBlockletReader reader = createReader(data.toByteArray());
+    try {
+      // skip the data of the first blocklet, the next blocklet is still found
+      assertTrue(reader.nextBlocklet());
+      BlockletHeader header = reader.readBlockletHeader();
+      assertTrue(header.isSetColumn_pages());
+      assertEquals(storageColumns.length, header.getColumn_pages().size());
+      int firstBlockletRows = header.getBlocklet_info().getNum_rows();
+      reader.skipBlockletData(true);
+      assertFalse(reader.hasNext());
+
+      assertTrue(reader.nextBlocklet());
+      header = reader.readBlockletHeader();
+      reader.readBlockletData(header);
+      assertTrue(reader.isColumnar());
+      int rowId = 0;
+      while (reader.hasNext()) {
+        reader.nextRow();
+        Object[] expectedRow = rows.get(firstBlockletRows + rowId);
+        assertEquals(expectedRow[4], getPageValue(reader.getColumnPage(4), 4, rowId));
+        rowId++;
+      }
+      assertEquals(rows.size(), firstBlockletRows + rowId);
+      assertFalse(reader.nextBlocklet());
+    } finally {
+      reader.close();
+    }
+  }
+}